@@ -22,6 +22,7 @@ import com.kakao.auth.callback.AccountResponseCallback;
 import com.kakao.network.callback.ResponseCallback;
 import com.kakao.network.tasks.KakaoResultTask;
 import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.network.tasks.TaskPriority;
 
 import java.util.concurrent.Future;
 
@@ -179,6 +180,6 @@ public class AuthService {
             public Integer call() throws Exception {
                 return AuthApi.requestAccessTokenInfo();
             }
-        });
+        }, TaskPriority.BACKGROUND);
     }
 }
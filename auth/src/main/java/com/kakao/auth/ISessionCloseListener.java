@@ -0,0 +1,29 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.auth;
+
+/**
+ * 세션이 닫힐 때(로그아웃, 탈퇴, token 만료 등) 로그인한 사용자의 local data를 함께 지워야 하는 module이 등록한다.
+ * {@link ISessionCallback}과 달리 main thread로 넘기지 않고 세션을 닫는 thread에서 바로 호출된다.
+ */
+public interface ISessionCloseListener {
+    /**
+     * 세션이 닫혔다. 저장해 둔 사용자별 data를 지운다.
+     */
+    void onSessionClosed();
+}
@@ -17,6 +17,9 @@
  */
 package com.kakao.auth;
 
+import com.kakao.network.ResponseCacheConfig;
+import com.kakao.network.tasks.ITaskScheduler;
+
 /**
  * Kakao SDK와 Application을 연결하는 class.
  * @author leoshin, created at 15. 7. 20..
@@ -60,4 +63,22 @@ public abstract class KakaoAdapter {
             }
         };
     }
+
+    /**
+     * SDK의 API 요청을 실행할 scheduler를 받는다.
+     * lane별 동시 실행 수를 조정하고 싶다면 {@link com.kakao.network.tasks.KakaoTaskScheduler}를 원하는 설정으로 생성하여 리턴한다.
+     * @return null이면 SDK 기본 scheduler를 사용한다.
+     */
+    public ITaskScheduler getTaskScheduler() {
+        return null;
+    }
+
+    /**
+     * 조회 API 응답을 저장할 disk cache 설정을 받는다.
+     * 저장된 응답은 ETag/Last-Modified로 재검증되며 session이 닫히면 지워진다.
+     * @return null이면 응답을 저장하지 않는다. 기본값은 {@link ResponseCacheConfig#createDefault()}
+     */
+    public ResponseCacheConfig getResponseCacheConfig() {
+        return ResponseCacheConfig.createDefault();
+    }
 }
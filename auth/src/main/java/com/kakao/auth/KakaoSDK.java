@@ -19,9 +19,15 @@ package com.kakao.auth;
 
 import android.content.Context;
 
+import com.kakao.network.HttpResponseCache;
+import com.kakao.network.ResponseCacheConfig;
+import com.kakao.network.tasks.ITaskScheduler;
+import com.kakao.network.tasks.KakaoTaskQueue;
 import com.kakao.util.exception.KakaoException;
 import com.kakao.util.exception.KakaoException.ErrorType;
 
+import java.io.File;
+
 /**
  * Application에서 구현을 해줘야 하며 Application에서 init method를 {@link KakaoAdapter}와 연결한다.
  * @author leoshin, created at 15. 7. 20..
@@ -40,8 +46,19 @@ public class KakaoSDK {
 
         KakaoSDK.adapter = adapter;
 
+        ITaskScheduler taskScheduler = adapter.getTaskScheduler();
+        if (taskScheduler != null) {
+            KakaoTaskQueue.getInstance().setScheduler(taskScheduler);
+        }
+
         // Sessino initailize.
         Context context = adapter.getApplicationConfig().getApplicationContext();
+
+        ResponseCacheConfig responseCacheConfig = adapter.getResponseCacheConfig();
+        if (responseCacheConfig != null) {
+            HttpResponseCache.install(new File(context.getCacheDir(), HttpResponseCache.DIRECTORY_NAME), responseCacheConfig);
+        }
+
         ApprovalType approvalType = adapter.getSessionConfig().getApprovalType();
         AuthType[] authtypes = adapter.getSessionConfig().getAuthTypes();
         Session.initialize(context, approvalType, authtypes);
@@ -34,25 +34,30 @@ import com.kakao.auth.authorization.authcode.AuthCodeRequest;
 import com.kakao.auth.authorization.authcode.AuthorizationCode;
 import com.kakao.auth.authorization.authcode.GetterAuthCode;
 import com.kakao.network.ErrorResult;
+import com.kakao.network.HttpResponseCache;
 import com.kakao.network.ServerProtocol;
 import com.kakao.network.callback.ResponseCallback;
 import com.kakao.network.exception.ResponseStatusError;
 import com.kakao.util.apicompatibility.APICompatibility;
 import com.kakao.util.exception.KakaoException;
 import com.kakao.util.exception.KakaoException.ErrorType;
+import com.kakao.util.helper.BinaryCacheStorage;
 import com.kakao.util.helper.CommonProtocol;
 import com.kakao.util.helper.SharedPreferencesCache;
 import com.kakao.util.helper.SystemInfo;
 import com.kakao.util.helper.Utility;
 import com.kakao.util.helper.log.Logger;
+import com.kakao.util.helper.metrics.Counter;
+import com.kakao.util.helper.metrics.Histogram;
+import com.kakao.util.helper.metrics.MetricsRegistry;
 
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 로그인 상태를 유지 시켜주는 객체로 access token을 관리한다.
@@ -66,9 +71,16 @@ public class Session implements OnAuthorizationListener {
     public static final String AGEAUTH_REDIRECT_URL_POSTFIX = "://ageauth";
     private static final int DEFAULT_TOKEN_REQUEST_TIME_MILLIS = 3 * 60 * 60 * 1000; // 3 hours
     private static final int RETRY_TOKEN_REQUEST_TIME_MILLIS = 5 * 60 * 1000; // 5 minutes
+    private static final int DEFAULT_TOKEN_REFRESH_WINDOW_MILLIS = 5 * 60 * 1000; // 5 minutes
+    private static final int PROACTIVE_REFRESH_BACKOFF_MILLIS = 60 * 1000; // 1 minute
     public static final int AUTHORIZATION_CODE_REQUEST = 1;
     public static final int ACCESS_TOKEN_REQUEST = 2;
 
+    private static final Counter tokenRefreshCounter = MetricsRegistry.getInstance().counter("session.token_refresh");
+    private static final Counter tokenRefreshFailureCounter = MetricsRegistry.getInstance().counter("session.token_refresh.failed");
+    private static final Histogram tokenRefreshDuration = MetricsRegistry.getInstance().histogram("session.token_refresh_ns");
+    // 세션을 다시 초기화해도 유지되도록 static으로 둔다.
+    private static final List<ISessionCloseListener> sessionCloseListeners = new CopyOnWriteArrayList<ISessionCloseListener>();
 
     private final Object INSTANCE_LOCK = new Object();
 
@@ -82,6 +94,10 @@ public class Session implements OnAuthorizationListener {
     private final Handler sessionCallbackHandler;
     private final AlarmManager tokenAlarmManager;
     private final PendingIntent alarmIntent;
+    private final TokenRefreshCoordinator tokenRefreshCoordinator;
+    private final AtomicInteger proactiveRefreshCount = new AtomicInteger();
+    private final AtomicInteger reactiveRefreshCount = new AtomicInteger();
+    private volatile int tokenRefreshWindowMillis = DEFAULT_TOKEN_REFRESH_WINDOW_MILLIS;
 
     // 아래 값들은 변경되는 값으로 INSTANCE_LOCK의 보호를 받는다.
     private SessionState state;
@@ -89,6 +105,10 @@ public class Session implements OnAuthorizationListener {
     private volatile RequestType requestType;
     private AuthorizationCode authorizationCode;
     private AccessToken accessToken;
+    // 미리 시작한 갱신이 실패하면 이 시각(SystemClock.elapsedRealtime()) 전에는 다시 미리 갱신하지 않는다.
+    private long proactiveRefreshRetryAt;
+    // 서버가 refresh token을 거절했다면 더 이상 미리 갱신하지 않고, 만료 후의 갱신에서 세션이 닫히도록 둔다.
+    private boolean proactiveRefreshRejected;
 
     private GetterAuthCode getterAuthCode;
 
@@ -197,11 +217,41 @@ public class Session implements OnAuthorizationListener {
             deregisterTokenManger();
         } else if (isOpenable()) {
             implicitOpen();
-        } else {
+        } else if (!refreshAccessTokenIfExpiring()) {
             requestAccessTokenInfo();
         }
     }
 
+    /**
+     * access token 만료 전 미리 갱신을 시작할 시간을 설정한다.
+     * 남은 유효 시간이 이 값보다 작아지면 API 요청을 기다리지 않고 background에서 token을 갱신한다.
+     * @param refreshWindowMillis 만료 전 갱신을 시작할 시간(ms). 0이면 미리 갱신하지 않는다.
+     */
+    public void setTokenRefreshWindow(final int refreshWindowMillis) {
+        this.tokenRefreshWindowMillis = Math.max(0, refreshWindowMillis);
+    }
+
+    /**
+     * @return 만료 전 갱신을 시작할 시간(ms)
+     */
+    public int getTokenRefreshWindow() {
+        return tokenRefreshWindowMillis;
+    }
+
+    /**
+     * @return 만료 전에 background에서 미리 갱신을 시작한 횟수
+     */
+    public int getProactiveRefreshCount() {
+        return proactiveRefreshCount.get();
+    }
+
+    /**
+     * @return API 요청이 token 만료 또는 서버의 token 거절로 인해 갱신을 기다린 횟수
+     */
+    public int getReactiveRefreshCount() {
+        return reactiveRefreshCount.get();
+    }
+
     public AuthType[] getAuthTypes() {
         return authTypes;
     }
@@ -220,7 +270,10 @@ public class Session implements OnAuthorizationListener {
             if (state.isOpened() && !accessToken.hasValidAccessToken() && accessToken.hasRefreshToken()) {
                 synchronized (INSTANCE_LOCK) {
                     state = SessionState.OPENABLE;
-                    requestType = null;
+                    // 진행 중인 갱신이 있다면 그 결과가 반영될 수 있도록 requestType을 유지한다.
+                    if (tokenRefreshCoordinator.getInFlight() == null) {
+                        requestType = null;
+                    }
                     authorizationCode = AuthorizationCode.createEmptyCode();
                 }
             }
@@ -415,6 +468,8 @@ public class Session implements OnAuthorizationListener {
                 // refresh 요청에는 refresh token이 내려오지 않을 수 있으므로 accessToken = resultAccessToken을 하면 안된다.
                 updateAccessToken(resultAccessToken);
                 state = SessionState.OPENED;
+                proactiveRefreshRetryAt = 0;
+                proactiveRefreshRejected = false;
             } else {
                 state = SessionState.OPENABLE;
                 if ((requestType != null && requestType.isAccessTokenRequest())) {
@@ -468,11 +523,12 @@ public class Session implements OnAuthorizationListener {
             this.authTypes = authTypes;
         }
 
-        this.appCache = new SharedPreferencesCache(context, appKey);
+        this.appCache = new SharedPreferencesCache(BinaryCacheStorage.open(context, appKey), SharedPreferencesCache.DEFAULT_WRITE_BEHIND_DELAY_MILLIS);
         this.sessionCallbacks = new ArrayList<ISessionCallback>();
         this.sessionCallbackHandler = new Handler(Looper.getMainLooper()); //세션 callback은 main thread에서 호출되도록 한다.
         this.tokenAlarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
         this.alarmIntent = PendingIntent.getBroadcast(context, 0, new Intent(context, TokenAlarmReceiver.class), 0);
+        this.tokenRefreshCoordinator = new TokenRefreshCoordinator();
 
         appCache.reloadAll();
         synchronized (INSTANCE_LOCK) {
@@ -541,11 +597,19 @@ public class Session implements OnAuthorizationListener {
         getterAuthCode.start();
     }
 
-    synchronized  Future<AuthorizationResult> requestAccessToken(final RequestType reqType) {
-        ExecutorService service = Executors.newSingleThreadExecutor();
-        return service.submit(new Callable<AuthorizationResult>() {
+    Future<AuthorizationResult> requestAccessToken(final RequestType reqType) {
+        return requestAccessToken(reqType, false);
+    }
+
+    /**
+     * @param proactive access token이 아직 유효할 때 미리 시작한 갱신이면 true. 실패해도 현재 token과 상태를 유지한다.
+     */
+    private synchronized Future<AuthorizationResult> requestAccessToken(final RequestType reqType, final boolean proactive) {
+        // 같은 종류의 요청이 이미 진행 중이라면 새로 요청하지 않고 그 결과를 함께 기다린다.
+        return tokenRefreshCoordinator.submit(reqType, new Callable<AuthorizationResult>() {
             @Override
             public AuthorizationResult call() throws Exception {
+                final long startedAt = System.nanoTime();
                 AuthorizationResult authResult = null;
                 try {
                     requestType = reqType;
@@ -574,13 +638,149 @@ public class Session implements OnAuthorizationListener {
                 } catch (Exception ee) {
                     authResult = AuthorizationResult.createAccessTokenErrorResult(ee.getMessage());
                 } finally {
-                    onAccessTokenCompleted(authResult);
+                    if (reqType == RequestType.REFRESHING_ACCESS_TOKEN) {
+                        tokenRefreshCounter.increment();
+                        tokenRefreshDuration.recordSince(startedAt);
+                        if (authResult == null || !authResult.isSuccess()) {
+                            tokenRefreshFailureCounter.increment();
+                        }
+                    }
+                    if (proactive && (authResult == null || !authResult.isSuccess())) {
+                        onProactiveRefreshFailed(authResult);
+                    } else {
+                        onAccessTokenCompleted(authResult);
+                    }
                 }
                 return authResult;
             }
         });
     }
 
+    /**
+     * 만료 전에 미리 시작한 갱신이 실패한 경우. 현재 access token은 아직 사용할 수 있으므로 token과 session 상태를 그대로 둔다.
+     * 요청마다 다시 갱신하지 않도록 일정 시간 동안 미리 갱신하지 않으며, 서버가 refresh token을 거절했다면 더 이상 미리 갱신하지 않는다.
+     * 이 경우 access token이 만료된 뒤의 갱신이나 401 응답에서 세션이 닫힌다.
+     */
+    private void onProactiveRefreshFailed(final AuthorizationResult result) {
+        Logger.w("proactive access token refresh failed. keep current access token. result = " + (result == null ? null : result.getResultMessage()));
+        synchronized (INSTANCE_LOCK) {
+            requestType = null;
+            if (result != null && result.isAuthError()) {
+                proactiveRefreshRejected = true;
+            } else {
+                proactiveRefreshRetryAt = SystemClock.elapsedRealtime() + PROACTIVE_REFRESH_BACKOFF_MILLIS;
+            }
+        }
+    }
+
+    /**
+     * 서버에서 거절된 access token을 refresh token으로 갱신한다.
+     * 동시에 여러 요청이 거절되어도 서버에는 한번만 요청하며, 나머지는 진행 중인 갱신 결과를 기다린다.
+     * 이미 다른 요청에 의해 갱신이 끝났다면 다시 요청하지 않는다.
+     * @param rejectedAccessToken 거절된 요청에 사용했던 access token
+     * @return 새로운 access token으로 재요청이 가능하면 true
+     * @throws Exception 갱신 결과를 기다리는 중 발생한 exception
+     */
+    boolean refreshRejectedAccessToken(final String rejectedAccessToken) throws Exception {
+        reactiveRefreshCount.incrementAndGet();
+        Future<AuthorizationResult> refresh;
+        synchronized (INSTANCE_LOCK) {
+            if (accessToken.hasValidAccessToken() && !accessToken.getAccessToken().equals(rejectedAccessToken)) {
+                return true;
+            }
+
+            refresh = tokenRefreshCoordinator.getInFlight(RequestType.REFRESHING_ACCESS_TOKEN);
+            if (refresh == null) {
+                if (!isAvailableOpenByRefreshToken()) {
+                    return false;
+                }
+                removeAccessToken();
+                refresh = requestAccessToken(RequestType.REFRESHING_ACCESS_TOKEN);
+            }
+        }
+        return refresh.get().isSuccess();
+    }
+
+    /**
+     * 만료된 access token을 refresh token으로 갱신하고 결과를 기다린다.
+     * 이미 다른 요청에 의해 갱신이 끝났다면 다시 요청하지 않고, 진행 중이라면 그 결과를 함께 기다린다.
+     * @return 갱신에 성공하면 true
+     * @throws Exception 갱신 결과를 기다리는 중 발생한 exception
+     */
+    boolean refreshExpiredAccessToken() throws Exception {
+        reactiveRefreshCount.incrementAndGet();
+        Future<AuthorizationResult> refresh;
+        synchronized (INSTANCE_LOCK) {
+            if (accessToken.hasValidAccessToken()) {
+                return true;
+            }
+
+            refresh = tokenRefreshCoordinator.getInFlight(RequestType.REFRESHING_ACCESS_TOKEN);
+            if (refresh == null) {
+                refresh = requestAccessToken(RequestType.REFRESHING_ACCESS_TOKEN);
+            }
+        }
+        return refresh.get().isSuccess();
+    }
+
+    /**
+     * access token의 남은 유효 시간이 refresh window 안으로 들어왔다면 background에서 미리 갱신을 시작한다.
+     * 갱신 결과는 기다리지 않으며, 이미 진행 중인 요청이 있다면 새로 요청하지 않는다.
+     * access token이 아직 유효할 때 시작한 갱신은 실패해도 현재 token과 session 상태를 유지한다.
+     * 실패한 뒤 일정 시간 동안과 서버가 refresh token을 거절한 뒤에는 미리 갱신하지 않는다.
+     * @return 갱신을 시작했다면 true
+     */
+    boolean refreshAccessTokenIfExpiring() {
+        synchronized (INSTANCE_LOCK) {
+            if (requestType != null || tokenRefreshCoordinator.getInFlight() != null) {
+                return false;
+            }
+            if (proactiveRefreshRejected || SystemClock.elapsedRealtime() < proactiveRefreshRetryAt) {
+                return false;
+            }
+            if (state == SessionState.CLOSED || !accessToken.hasRefreshToken()) {
+                return false;
+            }
+            if (accessToken.hasValidAccessToken() && accessToken.getRemainedExpiresInAccessTokenTime() > tokenRefreshWindowMillis) {
+                return false;
+            }
+
+            proactiveRefreshCount.incrementAndGet();
+            requestAccessToken(RequestType.REFRESHING_ACCESS_TOKEN, accessToken.hasValidAccessToken());
+            return true;
+        }
+    }
+
+    /**
+     * 진행 중인 access token 요청이 있다면 끝날 때까지 기다린다.
+     */
+    void awaitAccessTokenRequest() {
+        Future<AuthorizationResult> refresh = tokenRefreshCoordinator.getInFlight();
+        if (refresh == null) {
+            return;
+        }
+
+        try {
+            refresh.get();
+        } catch (Exception e) {
+            Logger.w(e);
+        }
+    }
+
+    /**
+     * @return 실제로 서버에 보낸 access token 요청 수
+     */
+    int getAccessTokenRequestCount() {
+        return tokenRefreshCoordinator.getRequestedCount();
+    }
+
+    /**
+     * @return 진행 중인 access token 요청에 합류하여 서버 요청을 생략한 수
+     */
+    int getJoinedAccessTokenRequestCount() {
+        return tokenRefreshCoordinator.getJoinedCount();
+    }
+
     synchronized AuthorizationResult requestAccessTokenByAuthCode(AuthorizationCode authorizationCode) throws Exception {
         this.authorizationCode = authorizationCode;
         this.requestType = RequestType.GETTING_AUTHORIZATION_CODE;
@@ -652,6 +852,25 @@ public class Session implements OnAuthorizationListener {
         }
     }
 
+    /**
+     * 세션이 닫힐 때 사용자별 local data를 지울 listener를 등록한다.
+     * 세션이 다시 초기화되어도 유지된다.
+     * @param listener 추가할 listener
+     */
+    public static void addSessionCloseListener(final ISessionCloseListener listener) {
+        if (listener != null) {
+            sessionCloseListeners.add(listener);
+        }
+    }
+
+    /**
+     * 등록한 session close listener를 삭제한다.
+     * @param listener 삭제할 listener
+     */
+    public static void removeSessionCloseListener(final ISessionCloseListener listener) {
+        sessionCloseListeners.remove(listener);
+    }
+
     private void clearCallbacks() {
         synchronized (sessionCallbacks) {
             sessionCallbacks.clear();
@@ -670,10 +889,26 @@ public class Session implements OnAuthorizationListener {
             requestType = null;
             authorizationCode = AuthorizationCode.createEmptyCode();
             accessToken = AccessToken.createEmptyToken();
+            proactiveRefreshRetryAt = 0;
+            proactiveRefreshRejected = false;
             onStateChange(previous, state, requestType, kakaoException, forced);
         }
         if (this.appCache != null) {
             this.appCache.clearAll();
+            this.appCache.commit();
+        }
+
+        HttpResponseCache responseCache = HttpResponseCache.getInstalled();
+        if (responseCache != null) {
+            responseCache.clear();
+        }
+
+        for (ISessionCloseListener listener : sessionCloseListeners) {
+            try {
+                listener.onSessionClosed();
+            } catch (Throwable e) {
+                Logger.e(e);
+            }
         }
 
         try {
@@ -738,8 +973,7 @@ public class Session implements OnAuthorizationListener {
         Runnable runCallbacks = new Runnable() {
             public void run() {
                 if (newState.isOpened()) {
-                    final int interval = Math.min(DEFAULT_TOKEN_REQUEST_TIME_MILLIS, accessToken.getRemainedExpiresInAccessTokenTime());
-                    registerTokenManger(interval);
+                    registerTokenManger(getTokenCheckInterval(accessToken.getRemainedExpiresInAccessTokenTime()));
                 } else if (newState.isClosed()) {
                     deregisterTokenManger();
                 }
@@ -758,6 +992,14 @@ public class Session implements OnAuthorizationListener {
         sessionCallbackHandler.post(runCallbacks);
     }
 
+    /**
+     * 만료 직전이 아니라 refresh window에 들어가는 시점에 token을 검사하도록 주기를 계산한다.
+     */
+    private int getTokenCheckInterval(final int expiresInMillis) {
+        final int untilRefreshWindow = expiresInMillis - tokenRefreshWindowMillis;
+        return Math.max(RETRY_TOKEN_REQUEST_TIME_MILLIS, Math.min(DEFAULT_TOKEN_REQUEST_TIME_MILLIS, untilRefreshWindow));
+    }
+
     private void registerTokenManger(final int interval) {
         tokenAlarmManager.cancel(alarmIntent);
         tokenAlarmManager.setInexactRepeating(AlarmManager.ELAPSED_REALTIME, SystemClock.elapsedRealtime() + interval, interval, alarmIntent);
@@ -776,8 +1018,7 @@ public class Session implements OnAuthorizationListener {
 
             @Override
             public void onSuccess(Integer expiresInMillis) {
-                final int interval = Math.min(DEFAULT_TOKEN_REQUEST_TIME_MILLIS, expiresInMillis);
-                registerTokenManger(interval);
+                registerTokenManger(getTokenCheckInterval(expiresInMillis));
             }
 
             @Override
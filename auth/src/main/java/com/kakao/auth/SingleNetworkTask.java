@@ -24,23 +24,27 @@ import android.os.Handler;
 import android.os.Looper;
 
 import com.kakao.auth.AuthService.AgeAuthStatus;
-import com.kakao.auth.Session.RequestType;
 import com.kakao.auth.api.AuthApi;
 import com.kakao.auth.authorization.AuthorizationResult;
 import com.kakao.auth.authorization.Authorizer.OnAuthorizationListener;
 import com.kakao.auth.authorization.authcode.AuthCodeRequest;
 import com.kakao.auth.authorization.authcode.AuthorizationCode;
 import com.kakao.auth.authorization.authcode.GetterAuthCode;
+import com.kakao.auth.network.response.ApiResponse.BlankApiResponse;
 import com.kakao.auth.network.response.ApiResponse.InsufficientScopeException;
 import com.kakao.auth.network.response.ApiResponse.SessionClosedException;
 import com.kakao.network.INetwork;
 import com.kakao.network.IRequest;
-import com.kakao.network.KakaoNetworkImpl;
 import com.kakao.network.NetworkTask;
+import com.kakao.network.response.ParsedResponseData;
 import com.kakao.network.response.ResponseBody;
 import com.kakao.network.response.ResponseBody.ResponseBodyException;
 import com.kakao.network.response.ResponseData;
+import com.kakao.network.response.ResponseParser;
 import com.kakao.util.helper.log.Logger;
+import com.kakao.util.helper.log.LoggerConfig;
+import com.kakao.util.helper.metrics.Counter;
+import com.kakao.util.helper.metrics.MetricsRegistry;
 
 import java.net.HttpURLConnection;
 import java.util.Collections;
@@ -52,14 +56,14 @@ import java.util.concurrent.atomic.AtomicReference;
  * @author leo.shin
  */
 public class SingleNetworkTask extends NetworkTask {
-    final private INetwork network;
+    private static final Counter retryCounter = MetricsRegistry.getInstance().counter("api.retry");
 
     public SingleNetworkTask() {
-        this.network = new KakaoNetworkImpl();
+        super();
     }
 
     public SingleNetworkTask(INetwork network) {
-        this.network = network;
+        super(network);
     }
 
     private static AuthCodeRequest createAuthCodeRequest(Context context, String appKey, String redirectUri, String refreshToken, String scopeParam) {
@@ -75,7 +79,15 @@ public class SingleNetworkTask extends NetworkTask {
      */
     private static boolean checkApiSession() {
         Session session = Session.getCurrentSession();
-        // 1. session check.
+        // 1. session check. access token이 아직 유효하면 진행 중인 background 갱신을 기다리지 않고 그대로 보낸다.
+        if (session.isOpened()) {
+            // 만료가 가까우면 현재 요청은 그대로 보내고 background에서 미리 갱신한다.
+            session.refreshAccessTokenIfExpiring();
+            return true;
+        }
+
+        // 1-1. access token을 사용할 수 없으면 다른 요청에 의해 진행 중인 token 갱신이 끝날 때까지 기다린다.
+        session.awaitAccessTokenRequest();
         if (session.isOpened()) {
             return true;
         }
@@ -84,8 +96,7 @@ public class SingleNetworkTask extends NetworkTask {
         // 3. update original request authorization accessToken value on header.
         if (session.isAvailableOpenByRefreshToken()) {
             try {
-                AuthorizationResult result = session.requestAccessToken(RequestType.REFRESHING_ACCESS_TOKEN).get();
-                return result.isSuccess();
+                return session.refreshExpiredAccessToken();
             } catch (Exception e) {
                 return false;
             }
@@ -214,18 +225,13 @@ public class SingleNetworkTask extends NetworkTask {
         return topActivity;
     }
 
-    private boolean handleApiError(ResponseData result) {
+    private boolean handleApiError(ResponseData result, String requestedAccessToken) {
         boolean retry = false;
         try {
             ResponseBody errResponseBody = new ResponseBody(result.getHttpStatusCode(), result.getData());
             if (getErrorCode(errResponseBody) == ErrorCode.INVALID_TOKEN_CODE) {
-                Session session = Session.getCurrentSession();
-                session.removeAccessToken();
-
-                if (session.isAvailableOpenByRefreshToken()) {
-                    AuthorizationResult refreshAccessTokenResult = session.requestAccessToken(RequestType.REFRESHING_ACCESS_TOKEN).get();
-                    retry = refreshAccessTokenResult.isSuccess();
-                }
+                // 동시에 거절된 요청들은 하나의 갱신 결과를 함께 기다린다.
+                retry = Session.getCurrentSession().refreshRejectedAccessToken(requestedAccessToken);
             } else if (getErrorCode(errResponseBody) == ErrorCode.INVALID_SCOPE_CODE) {
                 Activity topActivity = getTopActivity();
                 if (topActivity != null) {
@@ -256,34 +262,75 @@ public class SingleNetworkTask extends NetworkTask {
      * 3. AuthCode요청 후 accessToken갱신.
      *
      * Backgound Thread
-     * 1. 갱신된 accessToken을 가지고 다시 retry.
+     * 1. 갱신된 accessToken을 가지고 한번만 다시 retry.
+     *
+     * 하나의 instance를 여러 thread에서 동시에 사용할 수 있다.
      *
      * @param request API 요청.
      * @return request에 대한 responseBody
      * @throws Exception
      */
-    public synchronized ResponseData requestApi(final IRequest request) throws Exception {
+    public ResponseData requestApi(final IRequest request) throws Exception {
+        return executeApi(request, null);
+    }
+
+    /**
+     * {@link #requestApi(IRequest)}와 같은 동작을 수행하며, 성공한 응답은 byte array로 모으지 않고 parser로 바로 변환한다.
+     * 친구 목록과 같이 응답이 큰 API에 사용한다.
+     * @param request API 요청.
+     * @param parser 성공한 응답을 model로 변환할 parser.
+     * @return 변환된 model
+     * @throws Exception 요청이 실패한 경우 {@link com.kakao.auth.network.response.ApiResponse.ApiResponseStatusError}
+     */
+    public <T> T requestApi(final IRequest request, final ResponseParser<T> parser) throws Exception {
+        ResponseData result = executeApi(request, parser);
+        if (result instanceof ParsedResponseData) {
+            return getParsedResult(result);
+        }
+
+        // 실패한 응답은 다른 API와 같은 error로 전달한다.
+        new BlankApiResponse(result);
+        throw new ResponseBodyException("response is not parsed. status = " + result.getHttpStatusCode());
+    }
+
+    /**
+     * parser로 변환한 결과를 꺼낸다. {@link NetworkTask#request(IRequest, ResponseParser)}는 넘겨받은 parser의 결과만 담아서 돌려주므로 T로 cast해도 안전하다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T getParsedResult(final ResponseData result) {
+        return ((ParsedResponseData<T>) result).getResult();
+    }
+
+    private <T> ResponseData executeApi(final IRequest request, final ResponseParser<T> parser) throws Exception {
         // 1. accessToken 유효한지 체크 후 유효하지 않다면 refreshToken으로 accessToken갱신.
         if (!checkApiSession()) {
             throw new SessionClosedException("Application Session is Closed.");
         }
 
         // 2. 요청한 API 호출.
-        ResponseData result = request(request);
-        Logger.d("++ [%s]response : %s", result.getHttpStatusCode(), result.getStringData());
-        if (result.getHttpStatusCode() != HttpURLConnection.HTTP_OK) {
-            if (handleApiError(result)) {
-                // 갱신된 accessToken을 가지고 다시 retry.
-                return requestApi(request);
+        final String requestedAccessToken = Session.getCurrentSession().getAccessToken();
+        ResponseData result = parser == null ? request(request) : request(request, parser);
+        if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+            // 응답 body 전체를 문자열로 바꾸므로 출력할 때만 만든다.
+            Logger.d("++ [%s]response : %s", result.getHttpStatusCode(), result.getStringData());
+        }
+        if (result.getHttpStatusCode() != HttpURLConnection.HTTP_OK && handleApiError(result, requestedAccessToken)) {
+            // 갱신된 accessToken을 가지고 한번만 다시 retry.
+            retryCounter.increment();
+            result = parser == null ? request(request) : request(request, parser);
+            if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+                Logger.d("++ [%s]retry response : %s", result.getHttpStatusCode(), result.getStringData());
             }
         }
 
         return result;
     }
 
-    public synchronized ResponseBody requestAuth(IRequest request) throws Exception {
+    public ResponseBody requestAuth(IRequest request) throws Exception {
         ResponseData result = request(request);
-        Logger.d("++ [%s]response : %s", result.getHttpStatusCode(), result.getStringData());
+        if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+            Logger.d("++ [%s]response : %s", result.getHttpStatusCode(), result.getStringData());
+        }
         return new ResponseBody(result.getHttpStatusCode(), result.getData());
     }
 }
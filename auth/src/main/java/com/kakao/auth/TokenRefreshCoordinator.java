@@ -0,0 +1,132 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.auth;
+
+import com.kakao.auth.Session.RequestType;
+import com.kakao.auth.authorization.AuthorizationResult;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * access token 요청을 한번에 하나만 수행하도록 묶어주는 역할을 한다.
+ * 같은 종류({@link RequestType})의 요청이 진행 중인 동안 들어온 요청은 새로 서버에 보내지 않고 진행 중인 요청의 결과를 함께 기다린다.
+ * 종류가 다른 요청은 합류하지 않고 진행 중인 요청이 끝난 뒤에 수행된다.
+ * 요청은 session마다 하나의 thread에서 순서대로 수행된다.
+ */
+final class TokenRefreshCoordinator {
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final ExecutorService executor;
+    private final AtomicInteger requestedCount = new AtomicInteger();
+    private final AtomicInteger joinedCount = new AtomicInteger();
+
+    // 아래 값은 lock의 보호를 받는다.
+    private final Object lock = new Object();
+    private final Map<RequestType, Future<AuthorizationResult>> inFlight = new EnumMap<RequestType, Future<AuthorizationResult>>(RequestType.class);
+
+    TokenRefreshCoordinator() {
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "KakaoTokenRefresh");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        threadPool.allowCoreThreadTimeOut(true);
+        this.executor = threadPool;
+    }
+
+    /**
+     * 같은 종류의 진행 중인 요청이 없을 때만 request를 수행하고, 있다면 그 요청의 Future를 돌려준다.
+     * @param requestType 요청 종류
+     * @param request access token 요청
+     * @return 요청 결과를 받을 수 있는 Future
+     */
+    Future<AuthorizationResult> submit(final RequestType requestType, final Callable<AuthorizationResult> request) {
+        synchronized (lock) {
+            final Future<AuthorizationResult> running = getInFlightLocked(requestType);
+            if (running != null) {
+                joinedCount.incrementAndGet();
+                return running;
+            }
+            requestedCount.incrementAndGet();
+            final Future<AuthorizationResult> submitted = executor.submit(request);
+            inFlight.put(requestType, submitted);
+            return submitted;
+        }
+    }
+
+    /**
+     * @param requestType 요청 종류
+     * @return 해당 종류의 진행 중인 요청의 Future. 진행 중인 요청이 없다면 null.
+     */
+    Future<AuthorizationResult> getInFlight(final RequestType requestType) {
+        synchronized (lock) {
+            return getInFlightLocked(requestType);
+        }
+    }
+
+    /**
+     * @return 종류에 관계없이 진행 중인 요청의 Future. 진행 중인 요청이 없다면 null.
+     */
+    Future<AuthorizationResult> getInFlight() {
+        synchronized (lock) {
+            for (RequestType requestType : RequestType.values()) {
+                final Future<AuthorizationResult> running = getInFlightLocked(requestType);
+                if (running != null) {
+                    return running;
+                }
+            }
+            return null;
+        }
+    }
+
+    private Future<AuthorizationResult> getInFlightLocked(final RequestType requestType) {
+        final Future<AuthorizationResult> running = inFlight.get(requestType);
+        if (running != null && running.isDone()) {
+            inFlight.remove(requestType);
+            return null;
+        }
+        return running;
+    }
+
+    /**
+     * @return 실제로 서버에 보낸 access token 요청 수
+     */
+    int getRequestedCount() {
+        return requestedCount.get();
+    }
+
+    /**
+     * @return 진행 중인 요청에 합류하여 서버 요청을 생략한 수
+     */
+    int getJoinedCount() {
+        return joinedCount.get();
+    }
+}
@@ -94,6 +94,7 @@ public class AccessToken extends AuthResponse {
         keysToRemove.add(CACHE_ACCESS_TOKEN);
         keysToRemove.add(CACHE_ACCESS_TOKEN_EXPIRES_AT);
         cache.clear(keysToRemove);
+        cache.commit();
     }
 
     public void clearRefreshToken(final SharedPreferencesCache cache) {
@@ -103,6 +104,7 @@ public class AccessToken extends AuthResponse {
         keysToRemove.add(CACHE_REFRESH_TOKEN);
         keysToRemove.add(CACHE_REFRESH_TOKEN_EXPIRES_AT);
         cache.clear(keysToRemove);
+        cache.commit();
     }
 
     public void removeAccessTokenToCache(final SharedPreferencesCache cache) {
@@ -110,6 +112,7 @@ public class AccessToken extends AuthResponse {
         keysToRemove.add(CACHE_ACCESS_TOKEN);
         keysToRemove.add(CACHE_ACCESS_TOKEN_EXPIRES_AT);
         cache.clear(keysToRemove);
+        cache.commit();
     }
 
     public void saveAccessTokenToCache(final SharedPreferencesCache cache) {
@@ -120,6 +123,8 @@ public class AccessToken extends AuthResponse {
         bundle.putLong(CACHE_ACCESS_TOKEN_EXPIRES_AT, accessTokenExpiresAt.getTime());
         bundle.putLong(CACHE_REFRESH_TOKEN_EXPIRES_AT, refreshTokenExpiresAt.getTime());
         cache.save(bundle);
+        // token은 앞서 저장된 값들과 함께 바로 disk에 쓴다.
+        cache.commit();
     }
 
     // access token 갱신시에는 refresh token이 내려오지 않을 수도 있다.
@@ -0,0 +1,40 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.auth.common;
+
+import java.util.List;
+
+/**
+ * {@link PagedLoader}가 한 페이지씩 읽어올 대상.
+ * 다음 페이지의 위치는 이전 응답에 담겨 오므로 {@link #requestPage()}는 순서대로 한번에 하나씩만 불린다.
+ * @param <T> 페이지에 담긴 항목의 type
+ */
+public interface IPageSource<T> {
+    /**
+     * 다음 페이지를 요청한다. 처음 불릴 때는 첫 페이지를 요청한다.
+     * @return 페이지에 담긴 항목
+     * @throws Exception 요청 실패에 대한 exception
+     */
+    List<T> requestPage() throws Exception;
+
+    /**
+     * 마지막으로 받은 페이지 다음에 더 읽을 페이지가 있는지 여부.
+     * @return 다음 페이지가 있으면 true
+     */
+    boolean hasNextPage();
+}
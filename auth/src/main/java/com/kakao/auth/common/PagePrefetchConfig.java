@@ -0,0 +1,85 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.auth.common;
+
+import com.kakao.network.tasks.TaskPriority;
+
+/**
+ * {@link PagedLoader}가 미리 읽어둘 페이지 수와 요청을 실행할 lane 설정.
+ */
+public class PagePrefetchConfig {
+    private static final int DEFAULT_PREFETCH_DEPTH = 2;
+    private static final int MAX_PREFETCH_DEPTH = 10;
+
+    private int prefetchDepth;
+    private TaskPriority priority;
+
+    private PagePrefetchConfig() {
+    }
+
+    /**
+     * 소비되지 않은 채로 미리 받아둘 수 있는 최대 페이지 수.
+     * @return 미리 받아둘 페이지 수
+     */
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * 페이지 요청을 실행할 lane.
+     * @return 페이지 요청의 {@link TaskPriority}
+     */
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public static PagePrefetchConfig createDefault() {
+        return new Builder().build();
+    }
+
+    /**
+     * 기본값은 2페이지를 미리 받아두고 요청은 BACKGROUND lane에서 실행한다.
+     */
+    public static class Builder {
+        private int prefetchDepth = DEFAULT_PREFETCH_DEPTH;
+        private TaskPriority priority = TaskPriority.BACKGROUND;
+
+        public Builder setPrefetchDepth(int prefetchDepth) {
+            if (prefetchDepth <= 0 || prefetchDepth > MAX_PREFETCH_DEPTH) {
+                throw new IllegalArgumentException("prefetchDepth must be between 1 and " + MAX_PREFETCH_DEPTH);
+            }
+            this.prefetchDepth = prefetchDepth;
+            return this;
+        }
+
+        public Builder setPriority(TaskPriority priority) {
+            if (priority == null) {
+                throw new IllegalArgumentException("priority must not be null");
+            }
+            this.priority = priority;
+            return this;
+        }
+
+        public PagePrefetchConfig build() {
+            PagePrefetchConfig config = new PagePrefetchConfig();
+            config.prefetchDepth = prefetchDepth;
+            config.priority = priority;
+            return config;
+        }
+    }
+}
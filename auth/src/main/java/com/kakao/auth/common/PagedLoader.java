@@ -0,0 +1,254 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.auth.common;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.kakao.network.ErrorResult;
+import com.kakao.network.callback.ResponseCallback;
+import com.kakao.network.exception.ResponseStatusError;
+import com.kakao.network.tasks.KakaoResultTask;
+import com.kakao.network.tasks.KakaoResultTask.DispatchMode;
+import com.kakao.network.tasks.KakaoTaskQueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link IPageSource}의 페이지를 미리 받아두면서 항목을 순서대로 전달한다.
+ * 현재 페이지를 소비하는 동안 다음 페이지들을 {@link PagePrefetchConfig#getPrefetchDepth()}만큼 받아두므로
+ * 페이지 경계마다 응답을 기다리며 멈추지 않는다.
+ *
+ * 항목은 background thread에서 {@link #hasNext()}/{@link #next()}로 하나씩 꺼내거나
+ * {@link #requestNextPage(ResponseCallback)}로 main thread에서 한 페이지씩 받을 수 있다.
+ * 요청이 실패하면 더 이상 페이지를 받지 않으며, 이후 호출은 모두 같은 실패를 전달한다.
+ * @param <T> 전달할 항목의 type
+ */
+public class PagedLoader<T> {
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final IPageSource<T> source;
+    private final PagePrefetchConfig config;
+
+    private final Object lock = new Object();
+    private final LinkedList<List<T>> readyPages = new LinkedList<List<T>>();
+    private Iterator<T> currentPage = Collections.<T>emptyList().iterator();
+    private ResponseCallback<List<T>> pendingCallback;
+    private Exception error;
+    private boolean loading;
+    private boolean exhausted;
+    private boolean closed;
+    private int loadedPageCount;
+
+    private PagedLoader(IPageSource<T> source, PagePrefetchConfig config) {
+        this.source = source;
+        this.config = config;
+    }
+
+    /**
+     * 첫 페이지 요청을 시작한 loader를 만든다.
+     * @param source 페이지를 읽어올 대상
+     * @param config 미리 받아둘 페이지 수와 요청 lane 설정
+     * @param <T> 전달할 항목의 type
+     * @return 첫 페이지를 받고 있는 loader
+     */
+    public static <T> PagedLoader<T> start(IPageSource<T> source, PagePrefetchConfig config) {
+        if (source == null || config == null) {
+            throw new IllegalArgumentException("source and config must not be null");
+        }
+        PagedLoader<T> loader = new PagedLoader<T>(source, config);
+        synchronized (loader.lock) {
+            loader.prefetch();
+        }
+        return loader;
+    }
+
+    /**
+     * 다음 항목이 있는지 확인한다. 받아둔 항목이 없으면 다음 페이지가 도착할 때까지 기다리므로 main thread에서 부르면 안 된다.
+     * @return 다음 항목이 있으면 true
+     * @throws Exception 페이지 요청 실패에 대한 exception
+     */
+    public boolean hasNext() throws Exception {
+        synchronized (lock) {
+            while (!currentPage.hasNext()) {
+                if (!readyPages.isEmpty()) {
+                    currentPage = readyPages.poll().iterator();
+                    prefetch();
+                    continue;
+                }
+                if (error != null) {
+                    throw error;
+                }
+                if (closed || (exhausted && !loading)) {
+                    return false;
+                }
+                lock.wait();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 다음 항목을 꺼낸다. {@link #hasNext()}와 같이 필요하면 다음 페이지가 도착할 때까지 기다린다.
+     * @return 다음 항목
+     * @throws Exception 페이지 요청 실패에 대한 exception
+     */
+    public T next() throws Exception {
+        synchronized (lock) {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentPage.next();
+        }
+    }
+
+    /**
+     * 아직 전달하지 않은 다음 페이지를 main thread의 callback으로 전달한다.
+     * 미리 받아둔 페이지가 있으면 바로 전달되고, 더 이상 항목이 없으면 빈 list가 전달된다.
+     * @param callback 페이지를 받을 callback. 이전 요청의 callback이 불리기 전에는 다시 요청할 수 없다.
+     */
+    public void requestNextPage(ResponseCallback<List<T>> callback) {
+        synchronized (lock) {
+            if (pendingCallback != null) {
+                throw new IllegalStateException("previous page request is not finished yet");
+            }
+            pendingCallback = callback;
+            dispatchPendingCallback();
+        }
+    }
+
+    /**
+     * 더 이상 페이지를 받지 않는다. 받아둔 페이지는 버려지고 대기 중인 callback은 불리지 않는다.
+     */
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            readyPages.clear();
+            currentPage = Collections.<T>emptyList().iterator();
+            pendingCallback = null;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * 지금까지 받은 페이지 수.
+     * @return 받은 페이지 수
+     */
+    public int getLoadedPageCount() {
+        synchronized (lock) {
+            return loadedPageCount;
+        }
+    }
+
+    /**
+     * 다음 페이지가 남아있다면 받아둔 페이지가 prefetchDepth보다 적은 동안 다음 페이지를 요청한다.
+     * 다음 페이지의 위치는 직전 응답으로 정해지므로 요청은 한번에 하나씩만 보낸다.
+     */
+    private void prefetch() {
+        if (loading || exhausted || closed || error != null || readyPages.size() >= config.getPrefetchDepth()) {
+            return;
+        }
+
+        loading = true;
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<Void>(null, DispatchMode.NON_BLOCKING) {
+            @Override
+            public Void call() throws Exception {
+                loadPage();
+                return null;
+            }
+        }, config.getPriority());
+    }
+
+    private void loadPage() {
+        List<T> page = null;
+        boolean hasNextPage = false;
+        Exception exception = null;
+        try {
+            page = source.requestPage();
+            hasNextPage = source.hasNextPage();
+        } catch (Exception e) {
+            exception = e;
+        }
+
+        synchronized (lock) {
+            loading = false;
+            if (closed) {
+                return;
+            }
+
+            if (exception != null) {
+                error = exception;
+            } else {
+                loadedPageCount++;
+                exhausted = !hasNextPage;
+                if (page != null && !page.isEmpty()) {
+                    readyPages.add(page);
+                }
+            }
+
+            lock.notifyAll();
+            dispatchPendingCallback();
+            prefetch();
+        }
+    }
+
+    private void dispatchPendingCallback() {
+        if (pendingCallback == null) {
+            return;
+        }
+
+        final List<T> page;
+        if (currentPage.hasNext()) {
+            page = new ArrayList<T>();
+            while (currentPage.hasNext()) {
+                page.add(currentPage.next());
+            }
+        } else if (!readyPages.isEmpty()) {
+            page = readyPages.poll();
+            prefetch();
+        } else if (error != null) {
+            page = null;
+        } else if (closed || (exhausted && !loading)) {
+            page = Collections.emptyList();
+        } else {
+            // 요청 중인 페이지가 도착하면 다시 불린다.
+            return;
+        }
+
+        final ResponseCallback<List<T>> callback = pendingCallback;
+        final Exception exception = error;
+        pendingCallback = null;
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (page != null) {
+                    callback.onSuccessForUiThread(page);
+                } else if (exception instanceof ResponseStatusError) {
+                    callback.onFailureForUiThread(new ErrorResult((ResponseStatusError) exception));
+                } else {
+                    callback.onFailureForUiThread(new ErrorResult(exception));
+                }
+            }
+        });
+    }
+}
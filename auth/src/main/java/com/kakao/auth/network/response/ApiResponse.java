@@ -31,7 +31,7 @@ import java.net.HttpURLConnection;
  * @author leo.shin
  */
 public class ApiResponse {
-    private ApiResponse() {
+    protected ApiResponse() {
     }
 
     protected ApiResponse(ResponseData responseData) throws ResponseBodyException, ApiResponseStatusError {
@@ -17,7 +17,7 @@
  */
 package com.kakao.auth.network.response;
 
-
+import com.kakao.network.NetworkEventTracker;
 import com.kakao.network.response.ResponseBody.ResponseBodyException;
 import com.kakao.network.response.ResponseBodyArray;
 import com.kakao.network.response.ResponseData;
@@ -27,8 +27,19 @@ import com.kakao.network.response.ResponseData;
  */
 public class JSONArrayResponse extends ApiResponse {
     protected final ResponseBodyArray bodyArray;
+
+    /**
+     * {@link com.kakao.network.response.ResponseParser}로 이미 변환된 응답에서 사용한다. bodyArray는 null이다.
+     */
+    protected JSONArrayResponse() {
+        super();
+        bodyArray = null;
+    }
+
     protected JSONArrayResponse(ResponseData responseData) throws ResponseBodyException, ApiResponseStatusError {
         super(responseData);
+        final long parseStartedAt = System.nanoTime();
         bodyArray = new ResponseBodyArray(responseData.getHttpStatusCode(), responseData.getData());
+        NetworkEventTracker.parseFinished(System.nanoTime() - parseStartedAt);
     }
 }
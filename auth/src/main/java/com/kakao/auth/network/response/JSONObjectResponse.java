@@ -17,6 +17,7 @@
  */
 package com.kakao.auth.network.response;
 
+import com.kakao.network.NetworkEventTracker;
 import com.kakao.network.response.ResponseBody;
 import com.kakao.network.response.ResponseBody.ResponseBodyException;
 import com.kakao.network.response.ResponseData;
@@ -26,8 +27,19 @@ import com.kakao.network.response.ResponseData;
  */
 public class JSONObjectResponse extends ApiResponse {
     protected final ResponseBody body;
+
+    /**
+     * {@link com.kakao.network.response.ResponseParser}로 이미 변환된 응답에서 사용한다. body는 null이다.
+     */
+    protected JSONObjectResponse() {
+        super();
+        body = null;
+    }
+
     protected JSONObjectResponse(ResponseData responseData) throws ResponseBodyException, ApiResponseStatusError {
         super(responseData);
+        final long parseStartedAt = System.nanoTime();
         body = new ResponseBody(responseData.getHttpStatusCode(), responseData.getData());
+        NetworkEventTracker.parseFinished(System.nanoTime() - parseStartedAt);
     }
 }
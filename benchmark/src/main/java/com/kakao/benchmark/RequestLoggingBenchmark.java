@@ -0,0 +1,195 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.benchmark;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Bundle;
+
+import com.kakao.auth.IApplicationConfig;
+import com.kakao.auth.KakaoAdapter;
+import com.kakao.auth.KakaoSDK;
+import com.kakao.auth.SingleNetworkTask;
+import com.kakao.auth.authorization.accesstoken.AccessToken;
+import com.kakao.network.KakaoNetworkImpl;
+import com.kakao.network.NetworkTask;
+import com.kakao.network.ResponseCacheConfig;
+import com.kakao.network.response.ResponseBody;
+import com.kakao.network.response.ResponseData;
+import com.kakao.testsupport.Payloads;
+import com.kakao.usermgmt.request.MeRequest;
+import com.kakao.util.BuildConfig;
+import com.kakao.util.helper.BinaryCacheStorage;
+import com.kakao.util.helper.CommonProtocol;
+import com.kakao.util.helper.SharedPreferencesCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로의 debug log 비용.
+ * {@link NetworkTask}, {@link KakaoNetworkImpl#create}, {@link SingleNetworkTask}의 log 호출을 그대로 거치도록
+ * 서버와의 연결만 memory의 응답으로 바꾼 {@link KakaoNetworkImpl}로 요청한다.
+ * release 설정(-PshowLogs=false, WARN level)과 debug level을 서로 다른 fork에서 실행하므로
+ * -prof gc의 gc.alloc.rate.norm 차이가 log message를 만드는 할당량이다. release 쪽에는 debug log로 인한 할당이 없어야 하므로
+ * 남은 할당은 URL, HttpURLConnection 생성 등 요청 자체의 것이다.
+ * 실행: ./gradlew :benchmark:jmh -PjmhArgs='RequestLogging -prof gc'
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RequestLoggingBenchmark {
+    private static final String RELEASE_LOG_LEVEL = "-D" + BuildConfig.SHOW_LOGS_PROPERTY + "=false";
+    private static final String APP_KEY = "benchmark";
+    // benchmark 중에 token 갱신이 일어나지 않도록 충분히 길게 둔다.
+    private static final int ACCESS_TOKEN_EXPIRES_IN_SECONDS = 24 * 60 * 60;
+
+    private File dataDir;
+    private MeRequest request;
+    private NetworkTask networkTask;
+    private SingleNetworkTask singleNetworkTask;
+
+    @Setup
+    public void setUp() throws Exception {
+        dataDir = File.createTempFile("kakao-benchmark", "");
+        if (!dataDir.delete() || !dataDir.mkdirs()) {
+            throw new IOException("cannot create " + dataDir);
+        }
+
+        final Bundle metaData = new Bundle();
+        metaData.putString(CommonProtocol.APP_KEY_PROPERTY, APP_KEY);
+        final Context context = new Context(dataDir, metaData);
+        final AccessToken accessToken = new AccessToken(new ResponseBody(HttpURLConnection.HTTP_OK,
+                Payloads.token("benchmark-access-token", "benchmark-refresh-token", ACCESS_TOKEN_EXPIRES_IN_SECONDS)));
+        accessToken.saveAccessTokenToCache(new SharedPreferencesCache(BinaryCacheStorage.open(context, APP_KEY), 0));
+
+        KakaoSDK.init(new KakaoAdapter() {
+            @Override
+            public IApplicationConfig getApplicationConfig() {
+                return new IApplicationConfig() {
+                    @Override
+                    public Activity getTopActivity() {
+                        return null;
+                    }
+
+                    @Override
+                    public Context getApplicationContext() {
+                        return context;
+                    }
+                };
+            }
+
+            @Override
+            public ResponseCacheConfig getResponseCacheConfig() {
+                return null;
+            }
+        });
+
+        final byte[] body = Payloads.me(1234L);
+        request = new MeRequest(null, false);
+        networkTask = new NetworkTask(new InMemoryNetwork(body));
+        singleNetworkTask = new SingleNetworkTask(new InMemoryNetwork(body));
+    }
+
+    @TearDown
+    public void tearDown() {
+        deleteRecursively(dataDir);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = RELEASE_LOG_LEVEL)
+    public ResponseData networkTaskRelease() throws Exception {
+        return networkTask.request(request);
+    }
+
+    @Benchmark
+    public ResponseData networkTaskDebug() throws Exception {
+        return networkTask.request(request);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = RELEASE_LOG_LEVEL)
+    public ResponseData singleNetworkTaskRelease() throws Exception {
+        return singleNetworkTask.requestApi(request);
+    }
+
+    @Benchmark
+    public ResponseData singleNetworkTaskDebug() throws Exception {
+        return singleNetworkTask.requestApi(request);
+    }
+
+    private static void deleteRecursively(final File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    /**
+     * {@link KakaoNetworkImpl#create}까지는 그대로 수행하고, 실제 연결 대신 고정된 응답을 돌려준다.
+     */
+    private static class InMemoryNetwork extends KakaoNetworkImpl {
+        private final byte[] body;
+
+        InMemoryNetwork(final byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public void configure() {
+        }
+
+        @Override
+        public void connect() {
+        }
+
+        @Override
+        public void disconnect() {
+        }
+
+        @Override
+        public int getStatusCode() {
+            return HttpURLConnection.HTTP_OK;
+        }
+
+        @Override
+        public byte[] readFully() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.benchmark;
+
+import com.kakao.friends.response.FriendsResponse;
+import com.kakao.kakaostory.response.GetMyStoryListResponse;
+import com.kakao.kakaotalk.response.ChatListResponse;
+import com.kakao.network.response.JsonPullParser;
+import com.kakao.network.response.ResponseBody;
+import com.kakao.network.response.ResponseBodyArray;
+import com.kakao.network.response.ResponseData;
+import com.kakao.testsupport.Payloads;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 친구, 채팅방, 스토리 목록 응답의 변환 비용.
+ * ResponseBody/ResponseBodyArray로 전체 응답을 만든 뒤 변환하는 방식과 {@link JsonPullParser}로 stream에서 바로 변환하는 방식을 비교한다.
+ * 할당량은 -prof gc로 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ResponseParsingBenchmark {
+    @Param({"100", "3000"})
+    public int count;
+
+    private byte[] friends;
+    private byte[] chats;
+    private byte[] stories;
+
+    @Setup
+    public void setUp() {
+        friends = Payloads.friends(count);
+        chats = Payloads.chats(count);
+        stories = Payloads.stories(count / 10);
+    }
+
+    @Benchmark
+    public ResponseBody friendsResponseBody() throws Exception {
+        return new ResponseBody(HttpURLConnection.HTTP_OK, friends);
+    }
+
+    @Benchmark
+    public FriendsResponse friendsConverted() throws Exception {
+        return new FriendsResponse(new ResponseData(HttpURLConnection.HTTP_OK, friends));
+    }
+
+    @Benchmark
+    public FriendsResponse friendsStreamed() throws Exception {
+        return FriendsResponse.PARSER.parse(HttpURLConnection.HTTP_OK, parser(friends));
+    }
+
+    @Benchmark
+    public ChatListResponse chatsConverted() throws Exception {
+        return new ChatListResponse(new ResponseData(HttpURLConnection.HTTP_OK, chats));
+    }
+
+    @Benchmark
+    public ChatListResponse chatsStreamed() throws Exception {
+        return ChatListResponse.PARSER.parse(HttpURLConnection.HTTP_OK, parser(chats));
+    }
+
+    @Benchmark
+    public ResponseBodyArray storiesResponseBodyArray() throws Exception {
+        return new ResponseBodyArray(HttpURLConnection.HTTP_OK, stories);
+    }
+
+    @Benchmark
+    public GetMyStoryListResponse storiesConverted() throws Exception {
+        return new GetMyStoryListResponse(new ResponseData(HttpURLConnection.HTTP_OK, stories));
+    }
+
+    @Benchmark
+    public GetMyStoryListResponse storiesStreamed() throws Exception {
+        return GetMyStoryListResponse.PARSER.parse(HttpURLConnection.HTTP_OK, parser(stories));
+    }
+
+    private static JsonPullParser parser(byte[] payload) throws IOException {
+        return new JsonPullParser(new ByteArrayInputStream(payload));
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.friends;
+
+import com.kakao.testsupport.Payloads;
+import com.kakao.friends.response.model.FriendInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 친구 10,000명에 대한 {@link FriendSearchIndex}의 색인 생성과 검색 비용.
+ * 검색어를 한 글자씩 입력할 때마다 불리는 경우를 가정하여 화면에 보일 만큼만 결과를 받는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class FriendSearchIndexBenchmark {
+    private static final int FRIEND_COUNT = 10000;
+    private static final int RESULT_LIMIT = 50;
+
+    @Param({"ㄱ", "김", "기", "ㄱㅁㅈ", "민준", "Tom"})
+    public String query;
+
+    private final List<FriendInfo> friendInfoList = new ArrayList<FriendInfo>(FRIEND_COUNT);
+    private final List<FriendInfo> result = new ArrayList<FriendInfo>(RESULT_LIMIT);
+    private final FriendSearchIndex index = new FriendSearchIndex();
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(FRIEND_COUNT);
+        for (int i = 0; i < FRIEND_COUNT; i++) {
+            friendInfoList.add(new FriendInfo(Payloads.uuid(random), 10000000L + i, 20000000L + i, random.nextBoolean(),
+                    Payloads.nickname(random), Payloads.imageUrl(random), "android", true, null));
+        }
+        index.addAll(friendInfoList);
+    }
+
+    @Benchmark
+    public FriendSearchIndex addAll() {
+        FriendSearchIndex newIndex = new FriendSearchIndex();
+        newIndex.addAll(friendInfoList);
+        return newIndex;
+    }
+
+    @Benchmark
+    public int search() {
+        result.clear();
+        return index.search(query, result, RESULT_LIMIT);
+    }
+
+    /**
+     * 색인 없이 닉네임에 검색어가 포함된 친구를 찾는 경우. 초성 검색은 일치하지 않으므로 비교 기준으로만 사용한다.
+     */
+    @Benchmark
+    public int linearScan() {
+        result.clear();
+        for (FriendInfo friend : friendInfoList) {
+            if (friend.getProfileNickname().contains(query)) {
+                result.add(friend);
+                if (result.size() == RESULT_LIMIT) {
+                    break;
+                }
+            }
+        }
+        return result.size();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.kakaolink;
+
+import com.kakao.util.KakaoParameterException;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오링크 메시지 URL을 만드는 비용. 텍스트, 이미지, 앱 버튼, 웹 링크를 모두 담은 메시지를 사용한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class KakaoTalkLinkMessageBuilderBenchmark {
+    private static final String APP_KEY = "4f6a8a0ec3e2b9f1d9b33c4a5e5c1b2d";
+    private static final String APP_VER = "1.0.3";
+
+    private KakaoTalkLinkMessageBuilder builder;
+
+    @Setup
+    public void setUp() throws Exception {
+        builder = compose();
+    }
+
+    /**
+     * 구성이 끝난 메시지로 URL만 만든다.
+     */
+    @Benchmark
+    public String build() throws KakaoParameterException {
+        return builder.build();
+    }
+
+    /**
+     * 메시지 구성부터 URL 생성까지. 공유 버튼을 누를 때마다 일어나는 일이다.
+     */
+    @Benchmark
+    public String composeAndBuild() throws Exception {
+        return compose().build();
+    }
+
+    private static KakaoTalkLinkMessageBuilder compose() throws KakaoParameterException, JSONException {
+        JSONObject extra = new JSONObject();
+        extra.put("KA", "sdk/1.1.7 os/android-23 lang/ko-KR device/Nexus_5X origin/aGVsbG8ga2FrYW8");
+        extra.put("appPkg", "com.kakao.sample.kakaolink");
+        extra.put("keyHash", "aGVsbG8ga2FrYW8gbGluaw");
+
+        return new KakaoTalkLinkMessageBuilder(APP_KEY, APP_VER, extra)
+                .addText("카카오링크 메시지입니다. 링크를 누르면 앱으로 이동합니다.")
+                .addImage("http://mud-kage.kakao.co.kr/14/dn/btqcmCm7hJ6/Wt6gz6OFT1X8UYkAs2qoHK/o.jpg", 320, 240)
+                .addAppButton("앱으로 이동", new AppActionBuilder()
+                        .addActionInfo(AppActionInfoBuilder.createAndroidActionInfoBuilder().setExecuteParam("execparamkey1=1111").setMarketParam("referrer=kakaotalklink").build())
+                        .addActionInfo(AppActionInfoBuilder.createiOSActionInfoBuilder().setExecuteParam("execparamkey1=1111").build())
+                        .setUrl("http://www.kakao.com")
+                        .build())
+                .addWebLink("카카오 홈페이지", "http://www.kakao.com/services/8")
+                .addExtra("campaign", "benchmark");
+    }
+}
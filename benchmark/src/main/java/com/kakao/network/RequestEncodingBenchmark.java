@@ -0,0 +1,75 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+import com.kakao.network.helper.QueryString;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UnsupportedEncodingException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 parameter를 url query와 form body로 encoding하는 비용.
+ * 스토리 포스팅처럼 한글 본문과 url이 섞인 parameter를 사용한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RequestEncodingBenchmark {
+    private final Map<String, String> params = new LinkedHashMap<String, String>();
+
+    @Setup
+    public void setUp() {
+        params.put("content", "오늘 다녀온 곳 사진입니다. 같이 가요! #카카오 #여행");
+        params.put("permission", "A");
+        params.put("enable_share", "true");
+        params.put("android_exec_param", "cafe_id=1234&post_id=5678");
+        params.put("ios_exec_param", "cafe_id=1234&post_id=5678");
+        params.put("android_market_param", "referrer=kakaostory");
+        params.put("image_url_list", "[\"/dn/bDfPVh/hy5Nf0PdZl/img.jpg\",\"/dn/cZ8sVa/q6ERD0YbMb/img.jpg\"]");
+    }
+
+    @Benchmark
+    public String queryString() {
+        QueryString queryString = new QueryString();
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            queryString.add(entry.getKey(), entry.getValue());
+        }
+        return queryString.toString();
+    }
+
+    @Benchmark
+    public String postDataString() throws UnsupportedEncodingException {
+        return KakaoNetworkImpl.getPostDataString(params, "UTF-8");
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.multipart;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스토리 사진 업로드 요청의 multipart body 길이 계산과 쓰기 비용.
+ * 임시 file로 만든 사진을 {@link FilePart}로 보내며, 쓰기는 버리는 stream에 하므로 network 비용은 포함되지 않는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MultipartRequestEntityBenchmark {
+    @Param({"1", "5"})
+    public int fileCount;
+
+    @Param({"524288"})
+    public int fileSize;
+
+    private final List<File> files = new ArrayList<File>();
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+    private MultipartRequestEntity entity;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final byte[] content = new byte[fileSize];
+        new Random(fileSize).nextBytes(content);
+        for (int i = 0; i < fileCount; i++) {
+            File file = File.createTempFile("story_" + i + "_", ".jpg");
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(content);
+            } finally {
+                out.close();
+            }
+            files.add(file);
+        }
+        entity = new MultipartRequestEntity(parts());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (File file : files) {
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * part 구성과 Content-Length 계산. 요청을 보내기 전에 매번 일어난다.
+     */
+    @Benchmark
+    public long contentLength() {
+        return new MultipartRequestEntity(parts()).getContentLength();
+    }
+
+    @Benchmark
+    public MultipartRequestEntity writeRequest() throws IOException {
+        entity.writeRequest(sink);
+        return entity;
+    }
+
+    private List<Part> parts() {
+        List<Part> parts = new ArrayList<Part>(files.size());
+        for (File file : files) {
+            parts.add(new FilePart("file", file));
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util;
+
+/**
+ * util module의 BuildConfig. deploy phase는 release이며 나머지 값은 util/build.gradle의 기본값과 같다.
+ * SHOW_LOGS는 fork의 {@link #SHOW_LOGS_PROPERTY} system property로 바꿀 수 있어서 -PshowLogs=false로 build한 release의 log level(WARN)을 재현한다.
+ */
+public final class BuildConfig {
+    public static final boolean DEBUG = false;
+    public static final String DEPLOY_PHASE = "Release";
+    public static final String SHOW_LOGS_PROPERTY = "com.kakao.benchmark.showLogs";
+    public static final boolean SHOW_LOGS = Boolean.parseBoolean(System.getProperty(SHOW_LOGS_PROPERTY, "true"));
+    public static final boolean STRIP_DEBUG_LOGS = false;
+    public static final String SDK_VERSION = "benchmark";
+
+    private BuildConfig() {
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper;
+
+import android.content.Context;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SharedPreferencesCache}의 저장(serialize)과 읽기(deserialize) 비용을 storage별로 비교한다.
+ * xml은 JSON 변환 비용만 측정된다. stub SharedPreferences는 memory에만 저장하므로 XML file I/O는 포함되지 않는다.
+ * binary는 임시 file에 실제로 쓰고 읽는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SharedPreferencesCacheBenchmark {
+    private static final String CACHE_NAME = "benchmark";
+
+    @Param({"xml", "binary"})
+    public String storageType;
+
+    @Param({"16", "256"})
+    public int entryCount;
+
+    private final Context context = new Context();
+    private File file;
+    private Map<String, Object> values;
+    private SharedPreferencesCache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("kakao_cache_", ".bin");
+        values = CacheValues.create(entryCount);
+        cache = new SharedPreferencesCache(openStorage(), 0);
+        writeAll(cache);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * 모든 값을 바꾸고 disk에 쓴다. 로그인 직후 token과 사용자 정보를 한번에 저장하는 경우이다.
+     */
+    @Benchmark
+    public boolean saveAll() {
+        return writeAll(cache);
+    }
+
+    /**
+     * 값 하나를 바꾸고 disk에 쓴다. token 갱신처럼 일부만 바뀌는 경우이다.
+     */
+    @Benchmark
+    public boolean saveOne() {
+        cache.put(CacheValues.TOKEN_KEY, Long.toString(System.nanoTime()));
+        return cache.commit();
+    }
+
+    /**
+     * storage를 새로 열어 모든 값을 읽는다. app 시작시 session을 복원하는 경우이다.
+     */
+    @Benchmark
+    public Map<String, String> reloadAll() throws IOException {
+        SharedPreferencesCache reloaded = new SharedPreferencesCache(openStorage(), 0);
+        reloaded.reloadAll();
+        return reloaded.getStringMap(CacheValues.KEY_PREFIX);
+    }
+
+    private ICacheStorage openStorage() throws IOException {
+        return "binary".equals(storageType) ? new BinaryCacheStorage(file) : new XmlCacheStorage(context, CACHE_NAME);
+    }
+
+    private boolean writeAll(SharedPreferencesCache target) {
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            target.put(entry.getKey(), entry.getValue());
+        }
+        return target.commit();
+    }
+
+    /**
+     * session cache에 저장되는 것과 비슷한 구성의 값.
+     */
+    static final class CacheValues {
+        static final String KEY_PREFIX = "com.kakao.";
+        static final String TOKEN_KEY = KEY_PREFIX + "token.AccessToken";
+
+        private CacheValues() {
+        }
+
+        static Map<String, Object> create(int count) {
+            Map<String, Object> values = new HashMap<String, Object>();
+            values.put(TOKEN_KEY, "zYc3bXh2oCV0rBW7ZkeC0rhk5oUFDZHx4D7pBAopdkgAAAFSc1qNOA");
+            values.put(KEY_PREFIX + "token.RefreshToken", "ML6eFSmZbXzUlAnbHu9lGW4hnoeq5HqgsL3yVwopdkgAAAFSc1qNNw");
+            values.put(KEY_PREFIX + "token.AccessTokenExpiresAt", System.currentTimeMillis() + 43199000L);
+            values.put(KEY_PREFIX + "token.Scopes", Arrays.asList("profile", "friends", "talk_message", "story_publish"));
+            for (int i = values.size(); i < count; i++) {
+                switch (i % 4) {
+                    case 0:
+                        values.put(KEY_PREFIX + "property." + i, "value of property " + i);
+                        break;
+                    case 1:
+                        values.put(KEY_PREFIX + "long." + i, 1450000000000L + i);
+                        break;
+                    case 2:
+                        values.put(KEY_PREFIX + "flag." + i, i % 3 == 0);
+                        break;
+                    default:
+                        values.put(KEY_PREFIX + "ids." + i, new int[] {i, i + 1, i + 2, i + 3});
+                        break;
+                }
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 thread가 {@link SharedPreferencesCache}를 읽는 동안 한 thread가 계속 값을 바꿀 때의 읽기/쓰기 latency.
+ * 읽기는 lock 없이 snapshot에서 이루어지므로 writer가 있어도 reader의 latency가 크게 늘지 않아야 한다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SharedPreferencesCacheContentionBenchmark {
+    private File file;
+    private SharedPreferencesCache cache;
+    private long version;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = File.createTempFile("kakao_cache_", ".bin");
+        cache = new SharedPreferencesCache(new BinaryCacheStorage(file), SharedPreferencesCache.DEFAULT_WRITE_BEHIND_DELAY_MILLIS);
+        for (Map.Entry<String, Object> entry : SharedPreferencesCacheBenchmark.CacheValues.create(64).entrySet()) {
+            cache.put(entry.getKey(), entry.getValue());
+        }
+        cache.commit();
+        cache.reloadAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.commit();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public String read() {
+        return cache.getString(SharedPreferencesCacheBenchmark.CacheValues.TOKEN_KEY);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void write() {
+        cache.put(SharedPreferencesCacheBenchmark.CacheValues.TOKEN_KEY, "token-" + version++);
+    }
+}
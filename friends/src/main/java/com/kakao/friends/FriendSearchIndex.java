@@ -0,0 +1,386 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.friends;
+
+import com.kakao.friends.response.model.FriendInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 친구의 닉네임으로 검색하기 위한 memory index.
+ * 닉네임 또는 닉네임 안의 단어의 앞부분이 검색어와 같은 친구를 찾으며, 검색어의 초성(ㄱ, ㄴ, ...)은 한글 음절의 초성과도 일치한다.
+ * 입력 중인 마지막 글자는 받침이 없어도 일치하므로 '기'로 '김'을 찾을 수 있다.
+ *
+ * 닉네임의 초성 key를 정렬해두고 검색어로 범위를 이분 탐색하므로 검색할 때 친구 전체를 훑지 않으며,
+ * {@link #search(CharSequence, List, int)}는 결과 list 외에 새 객체를 만들지 않는다.
+ * 페이지를 받을 때마다 {@link #addAll(List)}로 추가할 수 있다.
+ * 같은 친구를 다시 추가해 지워진 자리가 친구 수의 절반을 넘으면 배열을 압축하므로 index는 살아있는 친구 수에 비례한다.
+ */
+public class FriendSearchIndex {
+    private static final char HANGUL_SYLLABLE_BEGIN = '가';
+    private static final char HANGUL_SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private FriendInfo[] friends = new FriendInfo[16];
+    private char[][] names = new char[16][];
+    private char[][] initials = new char[16][];
+    private boolean[] removed = new boolean[16];
+    private int[] searchStamps = new int[16];
+    private int friendCount;
+    private int removedCount;
+    private final Map<String, Integer> positionByUuid = new HashMap<String, Integer>();
+
+    // (친구 index << 32 | 닉네임 안의 offset)을 초성 key 순서로 정렬한 배열
+    private long[] keys = new long[16];
+    private int keyCount;
+
+    private int[] matchBuffer = new int[16];
+    private int searchStamp;
+
+    /**
+     * 친구를 index에 추가한다. 이미 추가된 uuid의 친구는 새 정보로 바뀐다.
+     * @param friendInfoList 추가할 친구 목록
+     */
+    public synchronized void addAll(List<FriendInfo> friendInfoList) {
+        final int firstNewKey = keyCount;
+        for (FriendInfo friend : friendInfoList) {
+            Integer previous = friend.getUUID() != null ? positionByUuid.get(friend.getUUID()) : null;
+            if (previous != null && !removed[previous]) {
+                removed[previous] = true;
+                removedCount++;
+            }
+
+            final int position = friendCount++;
+            ensureFriendCapacity(friendCount);
+            final char[] name = normalize(friend.getProfileNickname());
+            friends[position] = friend;
+            names[position] = name;
+            initials[position] = toInitials(name);
+            if (friend.getUUID() != null) {
+                positionByUuid.put(friend.getUUID(), position);
+            }
+
+            for (int offset = 0; offset < name.length; offset++) {
+                if (!Character.isWhitespace(name[offset]) && (offset == 0 || Character.isWhitespace(name[offset - 1]))) {
+                    ensureKeyCapacity(keyCount + 1);
+                    keys[keyCount++] = ((long) position << 32) | offset;
+                }
+            }
+        }
+
+        if (keyCount > firstNewKey) {
+            long[] buffer = new long[keyCount];
+            sortKeys(keys, buffer, firstNewKey, keyCount);
+            mergeKeys(keys, buffer, 0, firstNewKey, keyCount);
+        }
+
+        if (removedCount * 2 > friendCount) {
+            compact();
+        }
+    }
+
+    /**
+     * 지워진 친구를 배열에서 빼고 남은 친구를 앞으로 당긴다. 추가된 순서와 초성 key의 정렬 순서는 그대로 유지된다.
+     */
+    private void compact() {
+        final int[] newPositions = new int[friendCount];
+        int liveCount = 0;
+        for (int i = 0; i < friendCount; i++) {
+            if (removed[i]) {
+                newPositions[i] = -1;
+                continue;
+            }
+            newPositions[i] = liveCount;
+            friends[liveCount] = friends[i];
+            names[liveCount] = names[i];
+            initials[liveCount] = initials[i];
+            if (friends[liveCount].getUUID() != null) {
+                positionByUuid.put(friends[liveCount].getUUID(), liveCount);
+            }
+            liveCount++;
+        }
+        Arrays.fill(friends, liveCount, friendCount, null);
+        Arrays.fill(names, liveCount, friendCount, null);
+        Arrays.fill(initials, liveCount, friendCount, null);
+        Arrays.fill(removed, 0, friendCount, false);
+
+        int liveKeyCount = 0;
+        for (int i = 0; i < keyCount; i++) {
+            final int newPosition = newPositions[(int) (keys[i] >>> 32)];
+            if (newPosition >= 0) {
+                keys[liveKeyCount++] = ((long) newPosition << 32) | (keys[i] & 0xffffffffL);
+            }
+        }
+
+        friendCount = liveCount;
+        removedCount = 0;
+        keyCount = liveKeyCount;
+    }
+
+    /**
+     * index를 비운다.
+     */
+    public synchronized void clear() {
+        Arrays.fill(friends, 0, friendCount, null);
+        Arrays.fill(names, 0, friendCount, null);
+        Arrays.fill(initials, 0, friendCount, null);
+        Arrays.fill(removed, 0, friendCount, false);
+        positionByUuid.clear();
+        friendCount = 0;
+        removedCount = 0;
+        keyCount = 0;
+    }
+
+    /**
+     * index에 있는 친구 수.
+     * @return 친구 수
+     */
+    public synchronized int size() {
+        return friendCount - removedCount;
+    }
+
+    /**
+     * 검색어와 일치하는 친구를 추가된 순서대로 돌려준다.
+     * @param query 검색어. 비어있으면 모든 친구가 일치한다.
+     * @return 일치하는 친구 목록
+     */
+    public List<FriendInfo> search(CharSequence query) {
+        List<FriendInfo> result = new ArrayList<FriendInfo>();
+        search(query, result, Integer.MAX_VALUE);
+        return result;
+    }
+
+    /**
+     * 검색어와 일치하는 친구를 추가된 순서대로 result에 더한다.
+     * @param query 검색어. 비어있으면 모든 친구가 일치한다.
+     * @param result 일치하는 친구를 더할 list
+     * @param limit 더할 최대 친구 수
+     * @return result에 더한 친구 수
+     */
+    public synchronized int search(CharSequence query, List<FriendInfo> result, int limit) {
+        int matchCount = 0;
+        if (query == null || query.length() == 0) {
+            for (int i = 0; i < friendCount && matchCount < limit; i++) {
+                if (!removed[i]) {
+                    result.add(friends[i]);
+                    matchCount++;
+                }
+            }
+            return matchCount;
+        }
+
+        if (++searchStamp == 0) {
+            Arrays.fill(searchStamps, 0);
+            searchStamp = 1;
+        }
+
+        for (int i = lowerBound(query); i < keyCount; i++) {
+            final int position = (int) (keys[i] >>> 32);
+            final int offset = (int) keys[i];
+            if (compareInitials(initials[position], offset, query) != 0) {
+                break;
+            }
+            if (removed[position] || searchStamps[position] == searchStamp || !matches(names[position], offset, query)) {
+                continue;
+            }
+            searchStamps[position] = searchStamp;
+            if (matchCount == matchBuffer.length) {
+                matchBuffer = Arrays.copyOf(matchBuffer, matchCount * 2);
+            }
+            matchBuffer[matchCount++] = position;
+        }
+
+        Arrays.sort(matchBuffer, 0, matchCount);
+        final int count = Math.min(matchCount, limit);
+        for (int i = 0; i < count; i++) {
+            result.add(friends[matchBuffer[i]]);
+        }
+        return count;
+    }
+
+    /**
+     * 초성 key가 검색어의 초성보다 작지 않은 첫 key의 위치.
+     */
+    private int lowerBound(CharSequence query) {
+        int low = 0;
+        int high = keyCount;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            final long key = keys[mid];
+            if (compareInitials(initials[(int) (key >>> 32)], (int) key, query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * offset부터의 초성 key 앞부분을 검색어의 초성과 비교한다. key가 검색어의 초성으로 시작하면 0.
+     */
+    private static int compareInitials(char[] initials, int offset, CharSequence query) {
+        final int length = query.length();
+        for (int i = 0; i < length; i++) {
+            if (offset + i >= initials.length) {
+                return -1;
+            }
+            final char q = toInitial(Character.toLowerCase(query.charAt(i)));
+            final char c = initials[offset + i];
+            if (c != q) {
+                return c < q ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 초성 key가 일치하는 후보가 실제로 검색어와 일치하는지 글자 단위로 확인한다.
+     */
+    private static boolean matches(char[] name, int offset, CharSequence query) {
+        final int length = query.length();
+        for (int i = 0; i < length; i++) {
+            final char q = Character.toLowerCase(query.charAt(i));
+            final char c = name[offset + i];
+            if (q == c) {
+                continue;
+            }
+            if (isChoseong(q)) {
+                // 초성 key가 같으므로 검색어의 초성은 이미 일치한다.
+                continue;
+            }
+            if (i == length - 1 && isHangulSyllable(q) && isHangulSyllable(c)
+                    && (q - HANGUL_SYLLABLE_BEGIN) % JONGSEONG_COUNT == 0
+                    && c - (c - HANGUL_SYLLABLE_BEGIN) % JONGSEONG_COUNT == q) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static char[] normalize(String nickname) {
+        if (nickname == null) {
+            return new char[0];
+        }
+        char[] name = nickname.toCharArray();
+        for (int i = 0; i < name.length; i++) {
+            name[i] = Character.toLowerCase(name[i]);
+        }
+        return name;
+    }
+
+    private static char[] toInitials(char[] name) {
+        char[] initials = new char[name.length];
+        for (int i = 0; i < name.length; i++) {
+            initials[i] = toInitial(name[i]);
+        }
+        return initials;
+    }
+
+    private static char toInitial(char c) {
+        if (isHangulSyllable(c)) {
+            return CHOSEONG[(c - HANGUL_SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)];
+        }
+        return c;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_SYLLABLE_BEGIN && c <= HANGUL_SYLLABLE_END;
+    }
+
+    private static boolean isChoseong(char c) {
+        for (char choseong : CHOSEONG) {
+            if (c == choseong) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int compareKeys(long a, long b) {
+        final char[] left = initials[(int) (a >>> 32)];
+        final char[] right = initials[(int) (b >>> 32)];
+        int i = (int) a;
+        int j = (int) b;
+        while (i < left.length && j < right.length) {
+            if (left[i] != right[j]) {
+                return left[i] < right[j] ? -1 : 1;
+            }
+            i++;
+            j++;
+        }
+        return (left.length - i) - (right.length - j);
+    }
+
+    private void sortKeys(long[] array, long[] buffer, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        sortKeys(array, buffer, from, mid);
+        sortKeys(array, buffer, mid, to);
+        mergeKeys(array, buffer, from, mid, to);
+    }
+
+    private void mergeKeys(long[] array, long[] buffer, int from, int mid, int to) {
+        if (from == mid || mid == to || compareKeys(array[mid - 1], array[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(array, from, buffer, from, to - from);
+        int i = from;
+        int j = mid;
+        int k = from;
+        while (i < mid && j < to) {
+            array[k++] = compareKeys(buffer[i], buffer[j]) <= 0 ? buffer[i++] : buffer[j++];
+        }
+        while (i < mid) {
+            array[k++] = buffer[i++];
+        }
+        while (j < to) {
+            array[k++] = buffer[j++];
+        }
+    }
+
+    private void ensureFriendCapacity(int capacity) {
+        if (capacity <= friends.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, friends.length * 2);
+        friends = Arrays.copyOf(friends, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+        initials = Arrays.copyOf(initials, newCapacity);
+        removed = Arrays.copyOf(removed, newCapacity);
+        searchStamps = Arrays.copyOf(searchStamps, newCapacity);
+    }
+
+    private void ensureKeyCapacity(int capacity) {
+        if (capacity > keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(capacity, keys.length * 2));
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.friends;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+import com.kakao.auth.ISessionCloseListener;
+import com.kakao.auth.Session;
+import com.kakao.friends.request.FriendsRequest.FriendFilter;
+import com.kakao.friends.request.FriendsRequest.FriendOrder;
+import com.kakao.friends.request.FriendsRequest.FriendType;
+import com.kakao.friends.response.model.FriendInfo;
+import com.kakao.friends.response.model.FriendInfo.FriendRelation;
+import com.kakao.usermgmt.response.model.UserProfile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버에서 받은 친구 목록을 친구 타입별로 SQLite에 저장해두고 조회한다.
+ * 친구는 uuid로 구분되어 동기화할 때마다 병합되며, 마지막 동기화에서 내려오지 않은 친구는 동기화가 끝날 때 지워진다.
+ * 한번 조회한 목록은 다음 동기화 전까지 memory에 유지되므로 같은 조회는 database를 읽지 않는다.
+ * 저장된 목록은 로그인한 사용자의 것이므로 세션이 닫히거나 다른 사용자가 로그인하면 모두 지워진다.
+ * 사용자 정보({@link UserProfile})가 cache에 없으면 목록을 읽거나 저장하지 않는다.
+ */
+public class FriendStore {
+    private static final String DATABASE_NAME = "kakao_friends.db";
+    private static final int DATABASE_VERSION = 1;
+
+    private static final String TABLE_FRIENDS = "friends";
+    private static final String TABLE_SYNC_STATE = "sync_state";
+
+    private static final String COLUMN_POSITION = "position";
+    private static final String COLUMN_GENERATION = "generation";
+    private static final String COLUMN_OWNER_ID = "owner_id";
+    private static final String COLUMN_SYNCED_AT = "synced_at";
+    private static final String COLUMN_SYNC_ORDER = "sync_order";
+
+    private static final long UNKNOWN_OWNER_ID = 0;
+
+    private static FriendStore instance;
+
+    private final DatabaseHelper helper;
+    private final Map<String, List<FriendInfo>> queryCache = new HashMap<String, List<FriendInfo>>();
+    private long syncOwnerId = UNKNOWN_OWNER_ID;
+
+    private FriendStore(Context context) {
+        this.helper = new DatabaseHelper(context);
+    }
+
+    public static synchronized FriendStore getInstance() {
+        if (instance == null) {
+            instance = new FriendStore(Session.getCurrentSession().getContext());
+            Session.addSessionCloseListener(new ISessionCloseListener() {
+                @Override
+                public void onSessionClosed() {
+                    instance.clear();
+                }
+            });
+        }
+        return instance;
+    }
+
+    /**
+     * @return 사용자 정보가 cache에 있어서 목록을 읽고 저장할 수 있으면 true
+     */
+    public boolean isAvailable() {
+        return getOwnerId() != UNKNOWN_OWNER_ID;
+    }
+
+    /**
+     * 친구 타입의 목록을 마지막으로 동기화 완료한 시각.
+     * @param friendType 조회할 친구 타입
+     * @return 마지막 동기화 시각 (ms). 현재 사용자의 목록을 동기화한 적이 없으면 0
+     */
+    public synchronized long getLastSyncedTime(FriendType friendType) {
+        SyncState state = readSyncState(friendType);
+        return state != null ? state.syncedAt : 0;
+    }
+
+    /**
+     * 마지막 동기화 후 syncInterval이 지나서 다시 동기화해야 하는지 여부.
+     * @param friendType 조회할 친구 타입
+     * @param syncInterval 동기화 주기 (ms)
+     * @return 동기화가 필요하면 true
+     */
+    public boolean isSyncNeeded(FriendType friendType, long syncInterval) {
+        long lastSyncedTime = getLastSyncedTime(friendType);
+        if (lastSyncedTime == 0) {
+            return true;
+        }
+        long elapsed = System.currentTimeMillis() - lastSyncedTime;
+        return elapsed < 0 || elapsed >= syncInterval;
+    }
+
+    /**
+     * 저장된 친구 목록을 조회한다.
+     * 정렬은 {@link FriendOrder#NICKNAME}과 마지막으로 동기화할 때 요청한 순서만 가능하며, {@link FriendOrder#UNDEFINED}는 동기화한 순서를 따른다.
+     * @param friendType 조회할 친구 타입
+     * @param friendFilter 조회할 친구 필터
+     * @param friendOrder 정렬 대상
+     * @return 친구 목록. 동기화한 적이 없거나 저장된 목록으로 요청한 순서를 만들 수 없으면 null
+     */
+    public synchronized List<FriendInfo> getFriends(FriendType friendType, FriendFilter friendFilter, FriendOrder friendOrder) {
+        // memory에 있는 목록은 동기화나 사용자가 바뀔 때 지워지므로 database를 읽기 전에 먼저 찾는다.
+        final String key = friendType.name() + "|" + friendFilter.name() + "|" + friendOrder.name();
+        List<FriendInfo> cached = queryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        SyncState state = readSyncState(friendType);
+        if (state == null) {
+            return null;
+        }
+        if (friendOrder != FriendOrder.NICKNAME && friendOrder != FriendOrder.UNDEFINED && friendOrder != state.syncOrder) {
+            return null;
+        }
+
+        String selection = StringSet.friend_type + " = ?";
+        if (friendFilter == FriendFilter.REGISTERED) {
+            selection += " AND " + StringSet.app_registered + " = 1";
+        } else if (friendFilter == FriendFilter.INVITABLE) {
+            selection += " AND " + StringSet.app_registered + " = 0";
+        }
+        String orderBy = friendOrder == FriendOrder.NICKNAME
+                ? StringSet.profile_nickname + " COLLATE LOCALIZED, " + COLUMN_POSITION
+                : COLUMN_POSITION;
+
+        List<FriendInfo> friends = new ArrayList<FriendInfo>();
+        Cursor cursor = helper.getReadableDatabase().query(TABLE_FRIENDS, null, selection, new String[]{friendType.name()}, null, null, orderBy);
+        try {
+            while (cursor.moveToNext()) {
+                friends.add(readFriend(cursor));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        friends = Collections.unmodifiableList(friends);
+        queryCache.put(key, friends);
+        return friends;
+    }
+
+    /**
+     * 저장된 친구 한명을 조회한다.
+     * @param friendType 조회할 친구 타입
+     * @param uuid 친구의 uuid
+     * @return 친구 정보. 저장되어 있지 않으면 null
+     */
+    public synchronized FriendInfo getFriend(FriendType friendType, String uuid) {
+        if (readSyncState(friendType) == null) {
+            return null;
+        }
+        Cursor cursor = helper.getReadableDatabase().query(TABLE_FRIENDS, null,
+                StringSet.friend_type + " = ? AND " + StringSet.uuid + " = ?", new String[]{friendType.name(), uuid}, null, null, null);
+        try {
+            return cursor.moveToFirst() ? readFriend(cursor) : null;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * 동기화를 시작한다. 다른 사용자의 목록이 저장되어 있으면 모두 지운다.
+     * @param friendType 동기화할 친구 타입
+     * @return 이번 동기화에서 저장하는 친구를 구분할 값. {@link #putFriends}와 {@link #finishSync}에 넘긴다.
+     * @throws IllegalStateException 사용자 정보가 cache에 없는 경우
+     */
+    public synchronized long beginSync(FriendType friendType) {
+        final long ownerId = getOwnerId();
+        if (ownerId == UNKNOWN_OWNER_ID) {
+            throw new IllegalStateException("user profile is not cached. friends can not be stored.");
+        }
+        syncOwnerId = ownerId;
+
+        SQLiteDatabase db = helper.getWritableDatabase();
+        Cursor cursor = db.query(TABLE_SYNC_STATE, new String[]{COLUMN_OWNER_ID}, COLUMN_OWNER_ID + " <> ?",
+                new String[]{String.valueOf(ownerId)}, null, null, null);
+        try {
+            if (cursor.moveToFirst()) {
+                clearDatabase(db);
+            }
+        } finally {
+            cursor.close();
+        }
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * 동기화 중 받은 한 페이지의 친구를 저장한다. 이미 저장된 친구는 새 정보로 바뀐다.
+     * @param friendType 동기화 중인 친구 타입
+     * @param generation {@link #beginSync}가 돌려준 값
+     * @param startPosition 페이지의 첫 친구가 전체 목록에서 몇번째인지
+     * @param friends 페이지에 담긴 친구 목록
+     * @throws IllegalStateException 동기화를 시작한 뒤 세션이 닫혔거나 사용자가 바뀐 경우
+     */
+    public synchronized void putFriends(FriendType friendType, long generation, int startPosition, List<FriendInfo> friends) {
+        checkSyncOwner();
+        SQLiteDatabase db = helper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            int position = startPosition;
+            for (FriendInfo friend : friends) {
+                if (friend.getUUID() == null) {
+                    continue;
+                }
+                ContentValues values = new ContentValues();
+                values.put(StringSet.friend_type, friendType.name());
+                values.put(StringSet.uuid, friend.getUUID());
+                values.put(StringSet.id, friend.getId());
+                values.put(StringSet.service_user_id, friend.getServiceUserId());
+                values.put(StringSet.app_registered, friend.isAppRegistered() ? 1 : 0);
+                values.put(StringSet.profile_nickname, friend.getProfileNickname());
+                values.put(StringSet.profile_thumbnail_image, friend.getProfileThumbnailImage());
+                values.put(StringSet.talk_os, friend.getTalkOs());
+                values.put(StringSet.allowed_msg, friend.isAllowedMsg() ? 1 : 0);
+                FriendRelation relation = friend.getRelation();
+                values.put(StringSet.talk, relation != null ? relation.getTalk() : null);
+                values.put(StringSet.story, relation != null ? relation.getStory() : null);
+                values.put(COLUMN_POSITION, position++);
+                values.put(COLUMN_GENERATION, generation);
+                db.insertWithOnConflict(TABLE_FRIENDS, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        queryCache.clear();
+    }
+
+    /**
+     * 동기화를 마친다. 이번 동기화에서 받지 못한 친구는 지워진다.
+     * @param friendType 동기화한 친구 타입
+     * @param generation {@link #beginSync}가 돌려준 값
+     * @param syncOrder 동기화할 때 요청한 정렬 대상
+     * @return 지워진 친구 수
+     * @throws IllegalStateException 동기화를 시작한 뒤 세션이 닫혔거나 사용자가 바뀐 경우
+     */
+    public synchronized int finishSync(FriendType friendType, long generation, FriendOrder syncOrder) {
+        checkSyncOwner();
+        SQLiteDatabase db = helper.getWritableDatabase();
+        int removed;
+        db.beginTransaction();
+        try {
+            removed = db.delete(TABLE_FRIENDS, StringSet.friend_type + " = ? AND " + COLUMN_GENERATION + " <> ?",
+                    new String[]{friendType.name(), String.valueOf(generation)});
+
+            ContentValues values = new ContentValues();
+            values.put(StringSet.friend_type, friendType.name());
+            values.put(COLUMN_OWNER_ID, syncOwnerId);
+            values.put(COLUMN_SYNCED_AT, System.currentTimeMillis());
+            values.put(COLUMN_SYNC_ORDER, syncOrder.name());
+            db.insertWithOnConflict(TABLE_SYNC_STATE, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        queryCache.clear();
+        return removed;
+    }
+
+    /**
+     * 저장된 모든 친구 목록을 지운다. 세션이 닫히면 불린다.
+     */
+    public synchronized void clear() {
+        clearDatabase(helper.getWritableDatabase());
+        // 진행 중인 동기화는 더 이상 저장하지 못한다.
+        syncOwnerId = UNKNOWN_OWNER_ID;
+    }
+
+    private void checkSyncOwner() {
+        if (syncOwnerId == UNKNOWN_OWNER_ID || syncOwnerId != getOwnerId()) {
+            throw new IllegalStateException("owner of friends has changed during sync.");
+        }
+    }
+
+    private void clearDatabase(SQLiteDatabase db) {
+        db.beginTransaction();
+        try {
+            db.delete(TABLE_FRIENDS, null, null);
+            db.delete(TABLE_SYNC_STATE, null, null);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        queryCache.clear();
+    }
+
+    private SyncState readSyncState(FriendType friendType) {
+        final long ownerId = getOwnerId();
+        if (ownerId == UNKNOWN_OWNER_ID) {
+            return null;
+        }
+        Cursor cursor = helper.getReadableDatabase().query(TABLE_SYNC_STATE, null, StringSet.friend_type + " = ?",
+                new String[]{friendType.name()}, null, null, null);
+        try {
+            if (!cursor.moveToFirst() || cursor.getLong(cursor.getColumnIndex(COLUMN_OWNER_ID)) != ownerId) {
+                return null;
+            }
+            SyncState state = new SyncState();
+            state.syncedAt = cursor.getLong(cursor.getColumnIndex(COLUMN_SYNCED_AT));
+            try {
+                state.syncOrder = FriendOrder.valueOf(cursor.getString(cursor.getColumnIndex(COLUMN_SYNC_ORDER)));
+            } catch (IllegalArgumentException e) {
+                state.syncOrder = FriendOrder.UNDEFINED;
+            }
+            return state;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static FriendInfo readFriend(Cursor cursor) {
+        String talk = cursor.getString(cursor.getColumnIndex(StringSet.talk));
+        String story = cursor.getString(cursor.getColumnIndex(StringSet.story));
+        return new FriendInfo(cursor.getString(cursor.getColumnIndex(StringSet.uuid)),
+                cursor.getLong(cursor.getColumnIndex(StringSet.id)),
+                cursor.getLong(cursor.getColumnIndex(StringSet.service_user_id)),
+                cursor.getInt(cursor.getColumnIndex(StringSet.app_registered)) != 0,
+                cursor.getString(cursor.getColumnIndex(StringSet.profile_nickname)),
+                cursor.getString(cursor.getColumnIndex(StringSet.profile_thumbnail_image)),
+                cursor.getString(cursor.getColumnIndex(StringSet.talk_os)),
+                cursor.getInt(cursor.getColumnIndex(StringSet.allowed_msg)) != 0,
+                talk != null || story != null ? new FriendRelation(talk, story) : null);
+    }
+
+    private static long getOwnerId() {
+        UserProfile profile = UserProfile.loadFromCache();
+        return profile != null ? profile.getId() : UNKNOWN_OWNER_ID;
+    }
+
+    private static class SyncState {
+        long syncedAt;
+        FriendOrder syncOrder;
+    }
+
+    private static class DatabaseHelper extends SQLiteOpenHelper {
+        DatabaseHelper(Context context) {
+            super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        }
+
+        @Override
+        public void onCreate(SQLiteDatabase db) {
+            db.execSQL("CREATE TABLE " + TABLE_FRIENDS + " ("
+                    + StringSet.friend_type + " TEXT NOT NULL, "
+                    + StringSet.uuid + " TEXT NOT NULL, "
+                    + StringSet.id + " INTEGER, "
+                    + StringSet.service_user_id + " INTEGER, "
+                    + StringSet.app_registered + " INTEGER, "
+                    + StringSet.profile_nickname + " TEXT, "
+                    + StringSet.profile_thumbnail_image + " TEXT, "
+                    + StringSet.talk_os + " TEXT, "
+                    + StringSet.allowed_msg + " INTEGER, "
+                    + StringSet.talk + " TEXT, "
+                    + StringSet.story + " TEXT, "
+                    + COLUMN_POSITION + " INTEGER, "
+                    + COLUMN_GENERATION + " INTEGER, "
+                    + "PRIMARY KEY (" + StringSet.friend_type + ", " + StringSet.uuid + "))");
+            db.execSQL("CREATE INDEX " + TABLE_FRIENDS + "_" + COLUMN_POSITION + " ON " + TABLE_FRIENDS
+                    + " (" + StringSet.friend_type + ", " + COLUMN_POSITION + ")");
+            db.execSQL("CREATE TABLE " + TABLE_SYNC_STATE + " ("
+                    + StringSet.friend_type + " TEXT PRIMARY KEY, "
+                    + COLUMN_OWNER_ID + " INTEGER, "
+                    + COLUMN_SYNCED_AT + " INTEGER, "
+                    + COLUMN_SYNC_ORDER + " TEXT)");
+        }
+
+        @Override
+        public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_FRIENDS);
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_SYNC_STATE);
+            onCreate(db);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.friends;
+
+import com.kakao.friends.request.FriendsRequest.FriendOrder;
+
+/**
+ * {@link FriendStore}를 서버와 동기화하는 주기와 방법에 대한 설정.
+ */
+public class FriendStoreConfig {
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 30 * 60 * 1000L;
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    private long syncInterval;
+    private int pageSize;
+    private FriendOrder syncOrder;
+    private boolean secureResource;
+
+    private FriendStoreConfig() {
+    }
+
+    /**
+     * 마지막 동기화 후 이 시간이 지나기 전에는 서버에서 친구 목록을 다시 받지 않는다.
+     * @return 동기화 주기 (ms)
+     */
+    public long getSyncInterval() {
+        return syncInterval;
+    }
+
+    /**
+     * 동기화할 때 한 페이지에 받을 친구 수.
+     * @return 페이지 크기
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 동기화할 때 서버에 요청할 정렬 대상. 저장된 목록은 이 순서와 닉네임 순서로 조회할 수 있다.
+     * @return 동기화할 때의 {@link FriendOrder}
+     */
+    public FriendOrder getSyncOrder() {
+        return syncOrder;
+    }
+
+    /**
+     * 썸네일 이미지 url을 https로 받을지 여부.
+     * @return https로 받으면 true
+     */
+    public boolean isSecureResource() {
+        return secureResource;
+    }
+
+    public static FriendStoreConfig createDefault() {
+        return new Builder().build();
+    }
+
+    /**
+     * 기본값은 30분 주기로 친밀도 순서의 목록을 500명씩 받아 동기화한다.
+     */
+    public static class Builder {
+        private long syncInterval = DEFAULT_SYNC_INTERVAL_MILLIS;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+        private FriendOrder syncOrder = FriendOrder.AFFINITY;
+        private boolean secureResource;
+
+        public Builder setSyncInterval(long syncInterval) {
+            if (syncInterval < 0) {
+                throw new IllegalArgumentException("syncInterval must not be negative");
+            }
+            this.syncInterval = syncInterval;
+            return this;
+        }
+
+        public Builder setPageSize(int pageSize) {
+            if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public Builder setSyncOrder(FriendOrder syncOrder) {
+            if (syncOrder == null) {
+                throw new IllegalArgumentException("syncOrder must not be null");
+            }
+            this.syncOrder = syncOrder;
+            return this;
+        }
+
+        public Builder setSecureResource(boolean secureResource) {
+            this.secureResource = secureResource;
+            return this;
+        }
+
+        public FriendStoreConfig build() {
+            FriendStoreConfig config = new FriendStoreConfig();
+            config.syncInterval = syncInterval;
+            config.pageSize = pageSize;
+            config.syncOrder = syncOrder;
+            config.secureResource = secureResource;
+            return config;
+        }
+    }
+}
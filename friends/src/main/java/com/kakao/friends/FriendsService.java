@@ -18,11 +18,20 @@
 package com.kakao.friends;
 
 import com.kakao.auth.SingleNetworkTask;
+import com.kakao.auth.common.PagePrefetchConfig;
+import com.kakao.auth.common.PagedLoader;
 import com.kakao.friends.api.FriendsApi;
+import com.kakao.friends.request.FriendsRequest.FriendFilter;
+import com.kakao.friends.request.FriendsRequest.FriendOrder;
+import com.kakao.friends.request.FriendsRequest.FriendType;
 import com.kakao.network.callback.ResponseCallback;
 import com.kakao.network.tasks.KakaoResultTask;
 import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.network.tasks.TaskPriority;
 import com.kakao.friends.response.FriendsResponse;
+import com.kakao.friends.response.model.FriendInfo;
+
+import java.util.List;
 
 /**
  * 유저의 친구 리스트와 각 친구의 정보를 얻어오는 API
@@ -46,6 +55,75 @@ public class FriendsService {
         });
     }
 
+    /**
+     * 친구 리스트를 페이지 단위로 받는다. 현재 페이지를 보여주는 동안 다음 페이지를 미리 받아두므로
+     * 목록을 스크롤할 때 {@link PagedLoader#requestNextPage(ResponseCallback)}로 다음 페이지를 바로 얻을 수 있다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param context {@link FriendContext} 친구리스트 요청정보를 담고있는 context
+     * @return 첫 페이지를 받고 있는 loader. 목록을 더 이상 보여주지 않으면 {@link PagedLoader#close()}를 불러야 한다.
+     */
+    public static PagedLoader<FriendInfo> requestFriendsPaged(final FriendContext context) {
+        return requestFriendsPaged(context, PagePrefetchConfig.createDefault());
+    }
+
+    /**
+     * 친구 리스트를 페이지 단위로 받는다. 현재 페이지를 보여주는 동안 다음 페이지를 config에 지정한 수만큼 미리 받아둔다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param context {@link FriendContext} 친구리스트 요청정보를 담고있는 context
+     * @param config 미리 받아둘 페이지 수와 요청 lane 설정
+     * @return 첫 페이지를 받고 있는 loader. 목록을 더 이상 보여주지 않으면 {@link PagedLoader#close()}를 불러야 한다.
+     */
+    public static PagedLoader<FriendInfo> requestFriendsPaged(final FriendContext context, final PagePrefetchConfig config) {
+        return FriendsApi.requestFriendsPaged(context, config);
+    }
+
+    /**
+     * 기기에 저장된 친구 목록을 조회한다. 기본 설정으로 30분이 지났으면 저장된 목록을 바로 돌려주고 background에서 서버와 동기화한다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param callback 친구 목록을 받을 callback
+     * @param friendType 조회할 친구 타입
+     * @param friendFilter 조회할 친구 필터
+     * @param friendOrder 정렬 대상
+     */
+    public static void requestLocalFriends(final ResponseCallback<List<FriendInfo>> callback, final FriendType friendType, final FriendFilter friendFilter, final FriendOrder friendOrder) {
+        requestLocalFriends(callback, friendType, friendFilter, friendOrder, FriendStoreConfig.createDefault());
+    }
+
+    /**
+     * 기기에 저장된 친구 목록을 조회한다. 마지막 동기화 후 config의 동기화 주기가 지났으면 저장된 목록을 바로 돌려주고
+     * {@link TaskPriority#BACKGROUND} lane에서 서버와 동기화한다. 동기화된 목록은 다음 조회부터 반영된다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param callback 친구 목록을 받을 callback
+     * @param friendType 조회할 친구 타입
+     * @param friendFilter 조회할 친구 필터
+     * @param friendOrder 정렬 대상
+     * @param config 동기화 설정
+     */
+    public static void requestLocalFriends(final ResponseCallback<List<FriendInfo>> callback, final FriendType friendType, final FriendFilter friendFilter, final FriendOrder friendOrder, final FriendStoreConfig config) {
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<List<FriendInfo>>(callback) {
+            @Override
+            public List<FriendInfo> call() throws Exception {
+                return FriendsApi.requestLocalFriends(friendType, friendFilter, friendOrder, config);
+            }
+        });
+    }
+
+    /**
+     * 동기화 주기와 관계없이 친구 목록을 서버와 동기화한다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param callback 동기화한 친구 수를 받을 callback
+     * @param friendType 동기화할 친구 타입
+     * @param config 동기화 설정
+     */
+    public static void requestSyncFriends(final ResponseCallback<Integer> callback, final FriendType friendType, final FriendStoreConfig config) {
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<Integer>(callback) {
+            @Override
+            public Integer call() throws Exception {
+                return FriendsApi.requestSyncFriends(friendType, config);
+            }
+        }, TaskPriority.BACKGROUND);
+    }
+
     /**
      * 친구 정보요청을 통해 얻은 데이터를 토대로 Operation을 수행할 수 있다.
      * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.friends.api;
+
+/**
+ * 친구의 사용자 ID를 boxing 없이 담는 open addressing set.
+ * 0은 빈 칸을 나타내므로 담을 수 없다.
+ */
+class FriendIdSet {
+    private long[] table;
+    private int size;
+
+    FriendIdSet(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        table = new long[capacity];
+    }
+
+    /**
+     * @param id 담을 사용자 ID. 0이 아니어야 한다.
+     * @return 새로 담았으면 true, 이미 있으면 false
+     */
+    boolean add(long id) {
+        if (id == 0) {
+            throw new IllegalArgumentException("id must not be 0");
+        }
+        if ((size + 1) * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        int index = indexOf(table, id);
+        if (table[index] == id) {
+            return false;
+        }
+        table[index] = id;
+        size++;
+        return true;
+    }
+
+    boolean contains(long id) {
+        return id != 0 && table[indexOf(table, id)] == id;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void rehash(int capacity) {
+        long[] newTable = new long[capacity];
+        for (long id : table) {
+            if (id != 0) {
+                newTable[indexOf(newTable, id)] = id;
+            }
+        }
+        table = newTable;
+    }
+
+    /**
+     * id가 있는 칸, 없으면 id가 들어갈 빈 칸의 위치.
+     */
+    private static int indexOf(long[] table, long id) {
+        final int mask = table.length - 1;
+        int index = mix(id) & mask;
+        while (table[index] != 0 && table[index] != id) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int mix(long id) {
+        int hash = (int) (id ^ (id >>> 32));
+        return hash * 0x9E3779B9 ^ (hash >>> 16);
+    }
+}
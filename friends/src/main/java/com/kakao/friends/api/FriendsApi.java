@@ -17,13 +17,32 @@
  */
 package com.kakao.friends.api;
 
+import com.kakao.auth.ISessionCloseListener;
+import com.kakao.auth.Session;
 import com.kakao.auth.SingleNetworkTask;
+import com.kakao.auth.common.IPageSource;
+import com.kakao.auth.common.PagePrefetchConfig;
+import com.kakao.auth.common.PagedLoader;
 import com.kakao.friends.FriendContext;
 import com.kakao.friends.FriendOperationContext;
+import com.kakao.friends.FriendStore;
+import com.kakao.friends.FriendStoreConfig;
 import com.kakao.friends.request.FriendsOperationRequest;
 import com.kakao.friends.request.FriendsRequest;
+import com.kakao.friends.request.FriendsRequest.FriendFilter;
+import com.kakao.friends.request.FriendsRequest.FriendOrder;
+import com.kakao.friends.request.FriendsRequest.FriendType;
 import com.kakao.friends.response.FriendsResponse;
-import com.kakao.network.response.ResponseData;
+import com.kakao.friends.response.model.FriendInfo;
+import com.kakao.network.tasks.KakaoResultTask;
+import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.network.tasks.TaskPriority;
+import com.kakao.util.helper.log.Logger;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * 친구 요청정보를 담고있는 context를 받아 친구정보를 요청한다.
@@ -31,6 +50,20 @@ import com.kakao.network.response.ResponseData;
  * @author leoshin, created at 15. 8. 5..
  */
 public class FriendsApi {
+    private static final Object SYNC_LOCK = new Object();
+    // background lane에 예약되었지만 아직 끝나지 않은 동기화. SYNC_LOCK이 아니라 자신으로 보호한다.
+    private static final Set<FriendType> scheduledSyncs = EnumSet.noneOf(FriendType.class);
+    private static final LoadedFriendLists loadedFriendLists = new LoadedFriendLists();
+
+    static {
+        Session.addSessionCloseListener(new ISessionCloseListener() {
+            @Override
+            public void onSessionClosed() {
+                loadedFriendLists.clear();
+            }
+        });
+    }
+
     /**
      * 친구의 리스트를 얻어온다.
      * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
@@ -39,8 +72,8 @@ public class FriendsApi {
      */
     public static FriendsResponse requestFriends(FriendContext context) throws Exception {
         SingleNetworkTask networkTask = new SingleNetworkTask();
-        ResponseData result = networkTask.requestApi(new FriendsRequest(context));
-        FriendsResponse response = new FriendsResponse(result);
+        FriendsResponse response = networkTask.requestApi(new FriendsRequest(context), FriendsResponse.PARSER);
+        loadedFriendLists.onPageLoaded(context, response);
 
         context.setBeforeUrl(response.getBeforeUrl());
         context.setAfterUrl(response.getAfterUrl());
@@ -49,16 +82,132 @@ public class FriendsApi {
         return response;
     }
 
+    /**
+     * 친구 리스트를 다음 페이지를 미리 받아두면서 한명씩 전달하는 {@link PagedLoader}를 만든다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * context의 다음 페이지 url은 페이지를 받을 때마다 갱신되므로 요청이 실패한 뒤 같은 context로 다시 시작하면 이어서 받는다.
+     * @param context {@link FriendContext} 친구리스트 요청정보를 담고있는 context
+     * @param config 미리 받아둘 페이지 수와 요청 lane 설정
+     * @return 첫 페이지를 받고 있는 loader
+     */
+    public static PagedLoader<FriendInfo> requestFriendsPaged(final FriendContext context, final PagePrefetchConfig config) {
+        return PagedLoader.start(new IPageSource<FriendInfo>() {
+            @Override
+            public List<FriendInfo> requestPage() throws Exception {
+                return requestFriends(context).getFriendInfoList();
+            }
+
+            @Override
+            public boolean hasNextPage() {
+                return context.hasNext();
+            }
+        }, config);
+    }
+
+    /**
+     * 친구 타입의 전체 목록을 서버에서 받아 {@link FriendStore}에 병합한다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param friendType 동기화할 친구 타입
+     * @param config 동기화 설정
+     * @return 동기화한 친구 수
+     * @throws Exception 요청 실패에 대한 exception. 실패하기 전에 받은 페이지는 저장되어 있다.
+     *                   사용자 정보가 cache에 없거나 동기화 중에 세션이 닫히면 IllegalStateException.
+     */
+    public static int requestSyncFriends(FriendType friendType, FriendStoreConfig config) throws Exception {
+        synchronized (SYNC_LOCK) {
+            return syncFriends(FriendStore.getInstance(), friendType, config);
+        }
+    }
+
+    /**
+     * {@link FriendStore}에 저장된 친구 목록을 조회한다. 마지막 동기화 후 {@link FriendStoreConfig#getSyncInterval()}이 지났으면
+     * 저장된 목록을 바로 돌려주고 동기화는 {@link TaskPriority#BACKGROUND} lane에서 진행한다. 동기화된 목록은 다음 조회부터 반영된다.
+     * 저장된 목록이 없거나 저장된 목록으로 만들 수 없는 정렬 순서를 요청하거나 사용자 정보가 cache에 없으면 서버에서 전체 목록을 받는다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param friendType 조회할 친구 타입
+     * @param friendFilter 조회할 친구 필터
+     * @param friendOrder 정렬 대상
+     * @param config 동기화 설정
+     * @return 친구 목록
+     * @throws Exception 요청 실패에 대한 exception
+     */
+    public static List<FriendInfo> requestLocalFriends(FriendType friendType, FriendFilter friendFilter, FriendOrder friendOrder, FriendStoreConfig config) throws Exception {
+        final FriendStore store = FriendStore.getInstance();
+        if (store.isAvailable() && store.isSyncNeeded(friendType, config.getSyncInterval())) {
+            scheduleSync(store, friendType, config);
+        }
+
+        List<FriendInfo> friends = store.getFriends(friendType, friendFilter, friendOrder);
+        if (friends != null) {
+            return friends;
+        }
+
+        FriendContext context = FriendContext.createContext(friendType, friendFilter, friendOrder, config.isSecureResource(), 0, config.getPageSize(), "asc");
+        friends = new ArrayList<FriendInfo>();
+        do {
+            friends.addAll(requestFriends(context).getFriendInfoList());
+        } while (context.hasNext());
+        return friends;
+    }
+
+    /**
+     * 친구 타입별로 하나의 동기화만 background lane에 예약한다. 실패하면 다음 조회에서 다시 예약된다.
+     */
+    private static void scheduleSync(final FriendStore store, final FriendType friendType, final FriendStoreConfig config) {
+        synchronized (scheduledSyncs) {
+            if (!scheduledSyncs.add(friendType)) {
+                return;
+            }
+        }
+
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                try {
+                    synchronized (SYNC_LOCK) {
+                        if (store.isAvailable() && store.isSyncNeeded(friendType, config.getSyncInterval())) {
+                            return syncFriends(store, friendType, config);
+                        }
+                    }
+                    return 0;
+                } catch (Exception e) {
+                    Logger.w("FriendsApi : failed to sync " + friendType + " friends, e = " + e);
+                    throw e;
+                } finally {
+                    synchronized (scheduledSyncs) {
+                        scheduledSyncs.remove(friendType);
+                    }
+                }
+            }
+        }, TaskPriority.BACKGROUND);
+    }
+
+    private static int syncFriends(FriendStore store, FriendType friendType, FriendStoreConfig config) throws Exception {
+        final long generation = store.beginSync(friendType);
+        FriendContext context = FriendContext.createContext(friendType, FriendFilter.NONE, config.getSyncOrder(), config.isSecureResource(), 0, config.getPageSize(), "asc");
+        int position = 0;
+        do {
+            List<FriendInfo> page = requestFriends(context).getFriendInfoList();
+            store.putFriends(friendType, generation, position, page);
+            position += page.size();
+        } while (context.hasNext());
+        store.finishSync(friendType, generation, config.getSyncOrder());
+        return position;
+    }
+
     /**
      * 친구 정보요청을 통해 얻은 데이터를 토대로 Operation을 수행할 수 있다.
+     * 두 친구 목록을 {@link #requestFriends(FriendContext)}로 첫 페이지부터 끝까지 받아두었으면 서버에 요청하지 않고 계산한다.
      * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
      * @param context Operation에 필요한 데이터를 담은 Context.
      * @throws Exception 요청 실패에 대한 exception
      */
     public static FriendsResponse requestFriendsOperation(FriendOperationContext context) throws Exception {
-        SingleNetworkTask networkTask = new SingleNetworkTask();
-        ResponseData result = networkTask.requestApi(new FriendsOperationRequest(context));
-        FriendsResponse response = new FriendsResponse(result);
+        FriendsResponse response = loadedFriendLists.operate(context);
+        if (response == null) {
+            SingleNetworkTask networkTask = new SingleNetworkTask();
+            response = networkTask.requestApi(new FriendsOperationRequest(context), FriendsResponse.PARSER);
+        }
         context.setBeforeUrl(response.getBeforeUrl());
         context.setAfterUrl(response.getAfterUrl());
         return response;
@@ -0,0 +1,185 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.friends.api;
+
+import com.kakao.friends.FriendContext;
+import com.kakao.friends.FriendOperationContext;
+import com.kakao.friends.request.FriendsOperationRequest;
+import com.kakao.friends.request.FriendsOperationRequest.Operation;
+import com.kakao.friends.response.FriendsResponse;
+import com.kakao.friends.response.model.FriendInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 첫 페이지부터 끝까지 받은 친구 목록을 서버의 목록 id별로 보관하여
+ * 두 목록이 모두 있으면 {@link FriendOperationContext}의 집합 연산을 서버 요청 없이 계산한다.
+ * 최근에 받은 {@link #MAX_LIST_COUNT}개의 목록만 보관하며, 세션이 닫히면 {@link #clear()}로 모두 지운다.
+ */
+class LoadedFriendLists {
+    private static final int MAX_LIST_COUNT = 4;
+    private static final String OFFSET_PARAMETER = "offset=";
+    private static final String DESCENDING_ORDER = "desc";
+
+    private final Map<String, FriendList> lists = new LinkedHashMap<String, FriendList>(MAX_LIST_COUNT, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, FriendList> eldest) {
+            return size() > MAX_LIST_COUNT;
+        }
+    };
+
+    /**
+     * 친구 목록 한 페이지를 받은 뒤 불린다. 첫 페이지부터 이어서 받은 페이지만 보관된다.
+     * @param context 페이지를 요청한 context. 응답으로 갱신되기 전의 상태여야 한다.
+     * @param response 받은 페이지
+     */
+    synchronized void onPageLoaded(FriendContext context, FriendsResponse response) {
+        final String id = response.getId();
+        if (id == null) {
+            return;
+        }
+
+        FriendList list;
+        if (context.getAfterUrl() == null) {
+            if (context.getOffset() != 0) {
+                return;
+            }
+            list = new FriendList(context.isSecureResource());
+            lists.put(id, list);
+        } else {
+            list = lists.get(id);
+            if (list == null || list.complete) {
+                return;
+            }
+        }
+
+        for (FriendInfo friend : response.getFriendInfoList()) {
+            if (friend.getId() == 0) {
+                // 사용자 ID가 없는 친구가 있으면 서버와 같은 결과를 만들 수 없다.
+                lists.remove(id);
+                return;
+            }
+            if (list.ids.add(friend.getId())) {
+                list.friends.add(friend);
+            }
+        }
+        list.complete = response.getAfterUrl() == null;
+    }
+
+    /**
+     * 보관한 목록을 모두 지운다. 다른 사용자로 로그인했을 때 이전 사용자의 친구 목록으로 계산하지 않게 한다.
+     */
+    synchronized void clear() {
+        lists.clear();
+    }
+
+    /**
+     * 두 목록을 모두 받아두었으면 집합 연산 결과의 context가 가리키는 페이지를 만든다.
+     * 다음, 이전 페이지의 url은 서버에 요청할 때와 같은 형식이므로 그 사이에 목록이 사라지면 서버에 요청하게 된다.
+     * @param context 집합 연산 정보와 다음 요청 url을 담은 context
+     * @return 계산한 페이지. 목록이 없거나 이 기기에서 계산할 수 없는 요청이면 null
+     */
+    synchronized FriendsResponse operate(FriendOperationContext context) {
+        final FriendList first = lists.get(context.getFirstId());
+        final FriendList second = lists.get(context.getSecondId());
+        if (first == null || !first.complete || first.secureResource != context.isSecureResource()
+                || second == null || !second.complete || second.secureResource != context.isSecureResource()) {
+            return null;
+        }
+
+        final int offset = parseOffset(context.getAfterUrl(), context.getOffset());
+        if (offset < 0) {
+            return null;
+        }
+
+        List<FriendInfo> result = new ArrayList<FriendInfo>();
+        final Operation operation = context.getOperation();
+        if (operation == Operation.INTERSECTION) {
+            for (FriendInfo friend : first.friends) {
+                if (second.ids.contains(friend.getId())) {
+                    result.add(friend);
+                }
+            }
+        } else if (operation == Operation.UNION) {
+            result.addAll(first.friends);
+            for (FriendInfo friend : second.friends) {
+                if (!first.ids.contains(friend.getId())) {
+                    result.add(friend);
+                }
+            }
+        } else if (operation == Operation.SUBTRACTION) {
+            for (FriendInfo friend : first.friends) {
+                if (!second.ids.contains(friend.getId())) {
+                    result.add(friend);
+                }
+            }
+        } else {
+            return null;
+        }
+        if (DESCENDING_ORDER.equalsIgnoreCase(context.getOrder())) {
+            Collections.reverse(result);
+        }
+
+        final int totalCount = result.size();
+        final int limit = context.getLimit() > 0 ? context.getLimit() : totalCount;
+        final int from = Math.min(offset, totalCount);
+        final int to = (int) Math.min((long) offset + limit, totalCount);
+        final String beforeUrl = from > 0 ? new FriendsOperationRequest(context, Math.max(0, from - limit)).getUrl() : null;
+        final String afterUrl = to < totalCount ? new FriendsOperationRequest(context, to).getUrl() : null;
+        return new FriendsResponse(new ArrayList<FriendInfo>(result.subList(from, to)), totalCount, beforeUrl, afterUrl, null);
+    }
+
+    /**
+     * 다음 요청 url의 offset. url이 없으면 defaultOffset, url에서 offset을 찾을 수 없으면 -1.
+     */
+    private static int parseOffset(String url, int defaultOffset) {
+        if (url == null || url.length() == 0) {
+            return defaultOffset;
+        }
+
+        int start = url.indexOf("?" + OFFSET_PARAMETER);
+        if (start < 0) {
+            start = url.indexOf("&" + OFFSET_PARAMETER);
+        }
+        if (start < 0) {
+            return -1;
+        }
+        start += OFFSET_PARAMETER.length() + 1;
+        int end = url.indexOf('&', start);
+        try {
+            return Integer.parseInt(end < 0 ? url.substring(start) : url.substring(start, end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static class FriendList {
+        final boolean secureResource;
+        final List<FriendInfo> friends = new ArrayList<FriendInfo>();
+        final FriendIdSet ids = new FriendIdSet(256);
+        boolean complete;
+
+        FriendList(boolean secureResource) {
+            this.secureResource = secureResource;
+        }
+    }
+}
@@ -51,14 +51,27 @@ public class FriendsOperationRequest extends ApiRequest {
     private String url;
 
     public FriendsOperationRequest(FriendOperationContext context) {
+        this(context, context.getOffset(), context.getAfterUrl());
+    }
+
+    /**
+     * context의 다음 요청 url 대신 지정한 offset부터 요청한다.
+     * @param context Operation에 필요한 데이터를 담은 Context.
+     * @param offset 가져올 결과의 시작 offset
+     */
+    public FriendsOperationRequest(FriendOperationContext context, int offset) {
+        this(context, offset, null);
+    }
+
+    private FriendsOperationRequest(FriendOperationContext context, int offset, String url) {
         this.firstId = context.getFirstId();
         this.secondId = context.getSecondId();
         this.operation = context.getOperation();
         this.secureResource = context.isSecureResource();
-        this.offset = context.getOffset();
+        this.offset = offset;
         this.limit = context.getLimit();
         this.order = context.getOrder();
-        this.url = context.getAfterUrl();
+        this.url = url;
     }
 
     @Override
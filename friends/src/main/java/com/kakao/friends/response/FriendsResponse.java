@@ -20,9 +20,12 @@ package com.kakao.friends.response;
 import com.kakao.auth.network.response.JSONObjectResponse;
 import com.kakao.friends.StringSet;
 import com.kakao.friends.response.model.FriendInfo;
+import com.kakao.network.response.JsonPullParser;
 import com.kakao.network.response.ResponseBody.ResponseBodyException;
 import com.kakao.network.response.ResponseData;
+import com.kakao.network.response.ResponseParser;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
@@ -45,6 +48,18 @@ public class FriendsResponse extends JSONObjectResponse {
         this.id = body.optString(StringSet.id, null);
     }
 
+    /**
+     * 서버 응답 없이 만든 친구 목록 응답.
+     */
+    public FriendsResponse(List<FriendInfo> friendInfoList, int totalCount, String beforeUrl, String afterUrl, String id) {
+        super();
+        this.friendInfoList = friendInfoList;
+        this.totalCount = totalCount;
+        this.beforeUrl = beforeUrl;
+        this.afterUrl = afterUrl;
+        this.id = id;
+    }
+
     public List<FriendInfo> getFriendInfoList() {
         return friendInfoList;
     }
@@ -81,4 +96,43 @@ public class FriendsResponse extends JSONObjectResponse {
 
         return builder.toString();
     }
+
+    /**
+     * 친구 목록 응답을 stream에서 바로 변환한다. 친구 정보는 한명씩 변환되므로 전체 응답이 memory에 올라가지 않는다.
+     */
+    public static final ResponseParser<FriendsResponse> PARSER = new ResponseParser<FriendsResponse>() {
+        @Override
+        public FriendsResponse parse(int statusCode, JsonPullParser parser) throws IOException, ResponseBodyException {
+            List<FriendInfo> friendInfoList = Collections.emptyList();
+            int totalCount = 0;
+            String beforeUrl = null;
+            String afterUrl = null;
+            String id = null;
+
+            parser.beginObject();
+            while (parser.hasNext()) {
+                final String name = parser.nextName();
+                if (StringSet.elements.equals(name)) {
+                    friendInfoList = parser.readConvertedList(statusCode, FriendInfo.CONVERTER);
+                } else if (StringSet.total_count.equals(name)) {
+                    // ResponseBody.optInt(total_count, 0)와 같이 null이면 0으로 둔다.
+                    if (parser.peek() == JsonPullParser.Token.NULL) {
+                        parser.nextNull();
+                    } else {
+                        totalCount = parser.nextInt();
+                    }
+                } else if (StringSet.before_url.equals(name)) {
+                    beforeUrl = parser.nextString();
+                } else if (StringSet.after_url.equals(name)) {
+                    afterUrl = parser.nextString();
+                } else if (StringSet.id.equals(name)) {
+                    id = parser.nextString();
+                } else {
+                    parser.skipValue();
+                }
+            }
+            parser.endObject();
+            return new FriendsResponse(friendInfoList, totalCount, beforeUrl, afterUrl, id);
+        }
+    };
 }
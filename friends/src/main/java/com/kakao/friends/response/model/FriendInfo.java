@@ -57,8 +57,32 @@ public class FriendInfo implements MessageSendable, User {
         private final Relation story;
 
         public FriendRelation(ResponseBody body) {
-            this.talk = Relation.convert(body.optString(StringSet.talk, null));
-            this.story = Relation.convert(body.optString(StringSet.story, null));
+            this(body.optString(StringSet.talk, null), body.optString(StringSet.story, null));
+        }
+
+        /**
+         * @param talk {@link #getTalk()}로 얻은 톡 관계 값
+         * @param story {@link #getStory()}로 얻은 스토리 관계 값
+         */
+        public FriendRelation(String talk, String story) {
+            this.talk = Relation.convert(talk);
+            this.story = Relation.convert(story);
+        }
+
+        /**
+         * 친구와 나의 톡 관계를 프로토콜 값 그대로 돌려준다.
+         * @return 톡 관계 값. FRIEND, NO_FRIEND, N/A 중 하나
+         */
+        public String getTalk() {
+            return talk.name;
+        }
+
+        /**
+         * 친구와 나의 스토리 관계를 프로토콜 값 그대로 돌려준다.
+         * @return 스토리 관계 값. FRIEND, NO_FRIEND, N/A 중 하나
+         */
+        public String getStory() {
+            return story.name;
         }
 
         /**
@@ -123,6 +147,22 @@ public class FriendInfo implements MessageSendable, User {
         this.relation = body.optConverted(StringSet.relation, FriendRelation.CONVERTER, null);
     }
 
+    /**
+     * 저장해둔 친구 정보로부터 만든다.
+     */
+    public FriendInfo(String uuid, long userId, long serviceUserId, boolean isAppRegistered, String profileNickname,
+                      String profileThumbnailImage, String talkOs, boolean isAllowedMsg, FriendRelation relation) {
+        this.uuid = uuid;
+        this.userId = userId;
+        this.serviceUserId = serviceUserId;
+        this.isAppRegistered = isAppRegistered;
+        this.profileNickname = profileNickname;
+        this.profileThumbnailImage = profileThumbnailImage;
+        this.talkOs = talkOs;
+        this.isAllowedMsg = isAllowedMsg;
+        this.relation = relation;
+    }
+
     /**
      * 메세지를 전송할 대상에 대한 ID.
      * @return 메세지를 전송할 대상에 대한 ID
@@ -224,6 +264,14 @@ public class FriendInfo implements MessageSendable, User {
         return relation != null ? relation.isStoryFriend() : false;
     }
 
+    /**
+     * 친구와 나의 톡, 스토리 내에서의 관계.
+     * @return 관계 정보. 응답에 포함되지 않았으면 null
+     */
+    public FriendRelation getRelation() {
+        return relation;
+    }
+
     @Override
     public String toString() {
         return new StringBuilder().append("++ uuid : ").append(uuid)
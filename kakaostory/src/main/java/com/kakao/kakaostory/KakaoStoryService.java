@@ -17,10 +17,14 @@
  */
 package com.kakao.kakaostory;
 
+import android.net.Uri;
+
 import com.kakao.kakaostory.api.KakaoStoryApi;
 import com.kakao.network.ServerProtocol;
+import com.kakao.network.multipart.UploadProgressListener;
 import com.kakao.network.tasks.KakaoResultTask;
 import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.network.tasks.TaskPriority;
 import com.kakao.friends.FriendContext;
 import com.kakao.friends.response.FriendsResponse;
 import com.kakao.kakaostory.callback.StoryResponseCallback;
@@ -31,6 +35,7 @@ import com.kakao.kakaostory.response.StoryPostResponse;
 import com.kakao.kakaostory.response.model.MyStoryInfo;
 import com.kakao.util.KakaoParameterException;
 import com.kakao.util.KakaoParameterException.ERROR_CODE;
+import com.kakao.util.helper.ImageResizeConfig;
 
 import java.io.File;
 import java.util.List;
@@ -146,15 +151,72 @@ public class KakaoStoryService {
     public static void requestPostPhoto(final StoryResponseCallback<MyStoryInfo> callback,
                                         final List<File> fileList,
                                         final String content ) {
+        requestPostPhoto(callback, fileList, content, null);
+    }
+
+    /**
+     * 카카오스토리에 이미지 포스팅 요청.
+     * @param callback 포스팅 요청 결과에 대한 callback
+     * @param fileList 요청할 이미지 경로.
+     * @param content 카카오 스토리에 포스팅할 본문 내용. 2048자 제한
+     * @param progressListener 이미지 upload 진행 상황을 받을 listener. background thread에서 호출되며 {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     */
+    public static void requestPostPhoto(final StoryResponseCallback<MyStoryInfo> callback,
+                                        final List<File> fileList,
+                                        final String content,
+                                        final UploadProgressListener progressListener) {
+
+        requestPostPhoto(callback, fileList, content, progressListener, false);
+    }
+
+    /**
+     * 카카오스토리에 이미지 포스팅 요청. 모든 이미지의 upload가 끝난 뒤에 포스팅한다.
+     * @param callback 포스팅 요청 결과에 대한 callback
+     * @param fileList 요청할 이미지 경로.
+     * @param content 카카오 스토리에 포스팅할 본문 내용. 2048자 제한
+     * @param progressListener 이미지 upload 진행 상황을 받을 listener. background thread에서 호출되며 {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @param parallelUpload true이면 파일마다 별도의 요청으로 동시에 upload하고 실패한 파일만 다시 시도한다.
+     */
+    public static void requestPostPhoto(final StoryResponseCallback<MyStoryInfo> callback,
+                                        final List<File> fileList,
+                                        final String content,
+                                        final UploadProgressListener progressListener,
+                                        final boolean parallelUpload) {
 
         KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<MyStoryInfo>(callback) {
             @Override
             public MyStoryInfo call() throws Exception {
                 // post photo
-                StoryPostResponse result = KakaoStoryApi.requestPostPhoto(fileList, content, StoryPermission.PUBLIC, true, null, null, null, null);
+                StoryPostResponse result = KakaoStoryApi.requestPostPhoto(fileList, content, StoryPermission.PUBLIC, true, null, null, null, null, progressListener, parallelUpload);
                 return result.getMyStoryInfo();
             }
-        });
+        }, TaskPriority.BULK_UPLOAD);
+    }
+
+    /**
+     * 카카오스토리에 이미지 포스팅 요청. 이미지들을 설정된 크기 이하로 줄이고 JPEG으로 다시 encoding해서 upload한 뒤에 포스팅한다.
+     * @param callback 포스팅 요청 결과에 대한 callback
+     * @param imageUriList 요청할 이미지의 file 또는 content scheme uri
+     * @param resizeConfig 줄일 크기와 품질
+     * @param content 카카오 스토리에 포스팅할 본문 내용. 2048자 제한
+     * @param progressListener 이미지 upload 진행 상황을 받을 listener. background thread에서 호출되며 {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @param parallelUpload true이면 이미지마다 별도의 요청으로 동시에 upload하고 실패한 이미지만 다시 시도한다.
+     */
+    public static void requestPostPhoto(final StoryResponseCallback<MyStoryInfo> callback,
+                                        final List<Uri> imageUriList,
+                                        final ImageResizeConfig resizeConfig,
+                                        final String content,
+                                        final UploadProgressListener progressListener,
+                                        final boolean parallelUpload) {
+
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<MyStoryInfo>(callback) {
+            @Override
+            public MyStoryInfo call() throws Exception {
+                // post photo
+                StoryPostResponse result = KakaoStoryApi.requestPostPhoto(imageUriList, resizeConfig, content, StoryPermission.PUBLIC, true, null, null, null, null, progressListener, parallelUpload);
+                return result.getMyStoryInfo();
+            }
+        }, TaskPriority.BULK_UPLOAD);
     }
 
     /**
@@ -192,7 +254,7 @@ public class KakaoStoryService {
                 StoryPostResponse result = KakaoStoryApi.requestPostPhoto(fileList, content, permission, enableShare, androidExecParam, iosExecParam, androidMarketParam, iosMarketParam);
                 return result.getMyStoryInfo();
             }
-        });
+        }, TaskPriority.BULK_UPLOAD);
     }
 
     /**
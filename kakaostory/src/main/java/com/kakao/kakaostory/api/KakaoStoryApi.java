@@ -17,6 +17,9 @@
  */
 package com.kakao.kakaostory.api;
 
+import android.net.Uri;
+
+import com.kakao.auth.Session;
 import com.kakao.auth.SingleNetworkTask;
 import com.kakao.auth.network.response.ApiResponse.BlankApiResponse;
 import com.kakao.friends.FriendContext;
@@ -38,10 +41,18 @@ import com.kakao.kakaostory.response.LinkInfoResponse;
 import com.kakao.kakaostory.response.MultiUploadResponse;
 import com.kakao.kakaostory.response.ProfileResponse;
 import com.kakao.kakaostory.response.StoryPostResponse;
+import com.kakao.network.multipart.UploadProgressListener;
 import com.kakao.network.response.ResponseData;
+import com.kakao.util.helper.ImagePreprocessor;
+import com.kakao.util.helper.ImageResizeConfig;
+import com.kakao.util.helper.ProcessedImage;
 
 import java.io.File;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * 카카오스토리 API 요청을 담당한다.
@@ -88,11 +99,63 @@ public class KakaoStoryApi {
     }
 
     public static MultiUploadResponse requestMultiUpload(List<File> fileList) throws Exception {
+        return requestMultiUpload(fileList, null);
+    }
+
+    /**
+     * 이미지들을 fileList의 순서대로 upload한다.
+     * @param fileList upload할 이미지 경로.
+     * @param progressListener upload 진행 상황을 받을 listener. {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @return upload된 이미지 url 정보
+     * @throws Exception
+     */
+    public static MultiUploadResponse requestMultiUpload(List<File> fileList, UploadProgressListener progressListener) throws Exception {
+        SingleNetworkTask networkTask = new SingleNetworkTask();
+        ResponseData result = networkTask.requestApi(new MultiUploadRequest(fileList, progressListener));
+        return new MultiUploadResponse(result);
+    }
+
+    /**
+     * 이미지들을 파일마다 별도의 요청으로 동시에 upload한다.
+     * 한 파일이 느려도 다른 파일을 기다리게 하지 않으며, 실패한 파일만 다시 시도한다.
+     * @param fileList upload할 이미지 경로.
+     * @param progressListener 전체 upload 진행 상황을 받을 listener. part index는 fileList의 index이며 {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @return fileList와 같은 순서의 upload된 이미지 url
+     * @throws Exception 다시 시도해도 실패한 파일이 있는 경우의 Exception
+     */
+    public static List<String> requestParallelMultiUpload(List<File> fileList, UploadProgressListener progressListener) throws Exception {
+        return ParallelPhotoUploader.upload(fileList, progressListener);
+    }
+
+    /**
+     * 이미지들을 설정된 크기 이하로 줄이고 JPEG으로 다시 encoding해서 imageUriList의 순서대로 upload한다.
+     * 결과는 임시 파일 없이 memory에서 바로 multipart로 전송되며 EXIF 등의 metadata는 전송되지 않는다.
+     * @param imageUriList upload할 이미지의 file 또는 content scheme uri
+     * @param resizeConfig 줄일 크기와 품질
+     * @param progressListener upload 진행 상황을 받을 listener. {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @return upload된 이미지 url 정보
+     * @throws Exception
+     */
+    public static MultiUploadResponse requestMultiUpload(List<Uri> imageUriList, ImageResizeConfig resizeConfig, UploadProgressListener progressListener) throws Exception {
+        List<ProcessedImage> imageList = preprocess(imageUriList, resizeConfig);
         SingleNetworkTask networkTask = new SingleNetworkTask();
-        ResponseData result = networkTask.requestApi(new MultiUploadRequest(fileList));
+        ResponseData result = networkTask.requestApi(MultiUploadRequest.createProcessedImageRequest(imageList, progressListener));
         return new MultiUploadResponse(result);
     }
 
+    /**
+     * 이미지들을 설정된 크기 이하로 줄인 뒤 이미지마다 별도의 요청으로 동시에 upload한다.
+     * @param imageUriList upload할 이미지의 file 또는 content scheme uri
+     * @param resizeConfig 줄일 크기와 품질
+     * @param progressListener 전체 upload 진행 상황을 받을 listener. part index는 imageUriList의 index이며 {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @return imageUriList와 같은 순서의 upload된 이미지 url
+     * @throws Exception 다시 시도해도 실패한 이미지가 있는 경우의 Exception
+     * @see #requestParallelMultiUpload(List, UploadProgressListener)
+     */
+    public static List<String> requestParallelMultiUpload(List<Uri> imageUriList, ImageResizeConfig resizeConfig, UploadProgressListener progressListener) throws Exception {
+        return ParallelPhotoUploader.uploadProcessed(preprocess(imageUriList, resizeConfig), progressListener);
+    }
+
     /**
      * 카카오스토리에 이미지 포스팅 요청.
      * @param fileList 요청할 이미지 경로.
@@ -112,11 +175,81 @@ public class KakaoStoryApi {
                                         String iosExecParam,
                                         String androidMarketParam,
                                         String iosMarketParam) throws Exception {
+        return requestPostPhoto(fileList, content, permission, enableShare, androidExecParma, iosExecParam, androidMarketParam, iosMarketParam, null);
+    }
+
+    /**
+     * 카카오스토리에 이미지 포스팅 요청. 이미지 upload 진행 상황을 progressListener로 받는다.
+     * @param progressListener 이미지 upload 진행 상황을 받을 listener. {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @see #requestPostPhoto(List, String, StoryPermission, boolean, String, String, String, String)
+     */
+    public static StoryPostResponse requestPostPhoto(List<File> fileList,
+                                        String content,
+                                        StoryPermission permission,
+                                        boolean enableShare,
+                                        String androidExecParma,
+                                        String iosExecParam,
+                                        String androidMarketParam,
+                                        String iosMarketParam,
+                                        UploadProgressListener progressListener) throws Exception {
+        return requestPostPhoto(fileList, content, permission, enableShare, androidExecParma, iosExecParam, androidMarketParam, iosMarketParam, progressListener, false);
+    }
+
+    /**
+     * 카카오스토리에 이미지 포스팅 요청. 모든 이미지의 upload가 끝난 뒤에 포스팅한다.
+     * @param progressListener 이미지 upload 진행 상황을 받을 listener. {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @param parallelUpload true이면 {@link #requestParallelMultiUpload(List, UploadProgressListener)}로 파일마다 동시에 upload한다.
+     * @see #requestPostPhoto(List, String, StoryPermission, boolean, String, String, String, String)
+     */
+    public static StoryPostResponse requestPostPhoto(List<File> fileList,
+                                        String content,
+                                        StoryPermission permission,
+                                        boolean enableShare,
+                                        String androidExecParma,
+                                        String iosExecParam,
+                                        String androidMarketParam,
+                                        String iosMarketParam,
+                                        UploadProgressListener progressListener,
+                                        boolean parallelUpload) throws Exception {
+
+        SingleNetworkTask networkTask = new SingleNetworkTask();
+
+        // upload photo
+        List<String> imageUrlList = parallelUpload
+                ? requestParallelMultiUpload(fileList, progressListener)
+                : requestMultiUpload(fileList, progressListener).getImageUrlList();
+
+        // post photo
+        ResponseData result = networkTask.requestApi(new PostPhotoRequest(imageUrlList, content, permission, enableShare, androidExecParma, iosExecParam, androidMarketParam, iosMarketParam));
+        return new StoryPostResponse(result);
+    }
+
+    /**
+     * 카카오스토리에 이미지 포스팅 요청. 이미지들을 설정된 크기 이하로 줄여서 upload한 뒤에 포스팅한다.
+     * @param imageUriList 요청할 이미지의 file 또는 content scheme uri
+     * @param resizeConfig 줄일 크기와 품질
+     * @param progressListener 이미지 upload 진행 상황을 받을 listener. {@link UploadProgressListener#cancel()}로 upload를 중단할 수 있다.
+     * @param parallelUpload true이면 이미지마다 별도의 요청으로 동시에 upload한다.
+     * @see #requestPostPhoto(List, String, StoryPermission, boolean, String, String, String, String)
+     */
+    public static StoryPostResponse requestPostPhoto(List<Uri> imageUriList,
+                                        ImageResizeConfig resizeConfig,
+                                        String content,
+                                        StoryPermission permission,
+                                        boolean enableShare,
+                                        String androidExecParma,
+                                        String iosExecParam,
+                                        String androidMarketParam,
+                                        String iosMarketParam,
+                                        UploadProgressListener progressListener,
+                                        boolean parallelUpload) throws Exception {
 
         SingleNetworkTask networkTask = new SingleNetworkTask();
 
         // upload photo
-        List<String> imageUrlList = requestMultiUpload(fileList).getImageUrlList();
+        List<String> imageUrlList = parallelUpload
+                ? requestParallelMultiUpload(imageUriList, resizeConfig, progressListener)
+                : requestMultiUpload(imageUriList, resizeConfig, progressListener).getImageUrlList();
 
         // post photo
         ResponseData result = networkTask.requestApi(new PostPhotoRequest(imageUrlList, content, permission, enableShare, androidExecParma, iosExecParam, androidMarketParam, iosMarketParam));
@@ -201,7 +334,45 @@ public class KakaoStoryApi {
      */
     public static GetMyStoryListResponse requestGetMyStories(String lastMyStoryId) throws Exception {
         SingleNetworkTask networkTask = new SingleNetworkTask();
-        ResponseData result = networkTask.requestApi(new GetMyStoryListRequest(lastMyStoryId));
-        return new GetMyStoryListResponse(result);
+        return networkTask.requestApi(new GetMyStoryListRequest(lastMyStoryId), GetMyStoryListResponse.PARSER);
+    }
+
+    /**
+     * 이미지들을 {@link ImagePreprocessor}에 한꺼번에 요청하고 imageUriList의 순서대로 결과를 모은다.
+     * 하나라도 실패하면 아직 끝나지 않은 처리는 취소한다.
+     */
+    private static List<ProcessedImage> preprocess(List<Uri> imageUriList, ImageResizeConfig resizeConfig) throws Exception {
+        List<ProcessedImage> imageList = new ArrayList<ProcessedImage>();
+        if (imageUriList == null || imageUriList.isEmpty()) {
+            return imageList;
+        }
+
+        List<Future<ProcessedImage>> futures = new ArrayList<Future<ProcessedImage>>(imageUriList.size());
+        for (Uri imageUri : imageUriList) {
+            futures.add(ImagePreprocessor.submit(Session.getCurrentSession().getContext(), imageUri, resizeConfig));
+        }
+        try {
+            for (Future<ProcessedImage> future : futures) {
+                imageList.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while processing images.");
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+        return imageList;
+    }
+
+    private static void cancelAll(List<Future<ProcessedImage>> futures) {
+        for (Future<ProcessedImage> future : futures) {
+            future.cancel(true);
+        }
     }
 }
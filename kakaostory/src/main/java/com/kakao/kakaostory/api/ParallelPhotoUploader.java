@@ -0,0 +1,280 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.kakaostory.api;
+
+import com.kakao.auth.SingleNetworkTask;
+import com.kakao.kakaostory.request.MultiUploadRequest;
+import com.kakao.kakaostory.response.MultiUploadResponse;
+import com.kakao.network.multipart.UploadCanceledException;
+import com.kakao.network.multipart.UploadProgressListener;
+import com.kakao.network.response.ResponseBody.ResponseBodyException;
+import com.kakao.network.response.ResponseData;
+import com.kakao.util.helper.ProcessedImage;
+import com.kakao.util.helper.log.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지들을 파일마다 별도의 요청(connection)으로 동시에 upload한다.
+ * 한 파일이 느려도 다른 파일의 전송을 막지 않으며, 실패한 파일만 다시 시도한다.
+ * 요청을 호출한 thread는 모든 url이 모일 때까지 기다린다.
+ */
+class ParallelPhotoUploader {
+    /**
+     * 동시에 upload할 수 있는 파일의 최대 개수. 모든 요청이 이 개수를 나누어 쓴다.
+     */
+    static final int MAX_PARALLEL_UPLOADS = 4;
+    /**
+     * 파일 하나를 전송하는 최대 시도 횟수.
+     */
+    static final int MAX_FILE_ATTEMPTS = 3;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 500L;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static final ThreadPoolExecutor executor;
+
+    static {
+        executor = new ThreadPoolExecutor(MAX_PARALLEL_UPLOADS, MAX_PARALLEL_UPLOADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "KakaoStoryUpload #" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @param fileList upload할 이미지
+     * @param progressListener 전체 진행 상황을 받을 listener. 여러 upload thread에서 호출되지만 호출은 서로 겹치지 않는다.
+     * @return fileList와 같은 순서의 이미지 url
+     * @throws Exception 다시 시도해도 실패한 파일이 있는 경우 그 파일의 Exception. 나머지 파일의 upload는 취소된다.
+     */
+    static List<String> upload(final List<File> fileList, final UploadProgressListener progressListener) throws Exception {
+        if (fileList == null || fileList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<UploadImage> imageList = new ArrayList<UploadImage>(fileList.size());
+        for (final File file : fileList) {
+            imageList.add(new UploadImage(file.getName(), file.length()) {
+                @Override
+                MultiUploadRequest createRequest(final UploadProgressListener listener) {
+                    return new MultiUploadRequest(Collections.singletonList(file), listener);
+                }
+            });
+        }
+        return uploadAll(imageList, progressListener);
+    }
+
+    /**
+     * @param processedImageList {@link com.kakao.util.helper.ImagePreprocessor}로 처리한 이미지
+     * @param progressListener 전체 진행 상황을 받을 listener. 여러 upload thread에서 호출되지만 호출은 서로 겹치지 않는다.
+     * @return processedImageList와 같은 순서의 이미지 url
+     * @throws Exception 다시 시도해도 실패한 이미지가 있는 경우 그 이미지의 Exception. 나머지 이미지의 upload는 취소된다.
+     */
+    static List<String> uploadProcessed(final List<ProcessedImage> processedImageList, final UploadProgressListener progressListener) throws Exception {
+        if (processedImageList == null || processedImageList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<UploadImage> imageList = new ArrayList<UploadImage>(processedImageList.size());
+        for (final ProcessedImage image : processedImageList) {
+            imageList.add(new UploadImage(image.getFileName(), image.getData().length) {
+                @Override
+                MultiUploadRequest createRequest(final UploadProgressListener listener) {
+                    return MultiUploadRequest.createProcessedImageRequest(Collections.singletonList(image), listener);
+                }
+            });
+        }
+        return uploadAll(imageList, progressListener);
+    }
+
+    private static List<String> uploadAll(final List<UploadImage> imageList, final UploadProgressListener progressListener) throws Exception {
+        final AggregateProgress progress = progressListener == null ? null : new AggregateProgress(progressListener, imageList);
+        final CompletionService<IndexedUrl> completionService = new ExecutorCompletionService<IndexedUrl>(executor);
+        final List<Future<IndexedUrl>> futures = new ArrayList<Future<IndexedUrl>>(imageList.size());
+        for (int i = 0; i < imageList.size(); i++) {
+            final int index = i;
+            futures.add(completionService.submit(new Callable<IndexedUrl>() {
+                @Override
+                public IndexedUrl call() throws Exception {
+                    return new IndexedUrl(index, uploadImage(imageList.get(index), index, progress));
+                }
+            }));
+        }
+
+        final String[] urls = new String[imageList.size()];
+        try {
+            for (int i = 0; i < imageList.size(); i++) {
+                final IndexedUrl result = completionService.take().get();
+                urls[result.index] = result.url;
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while uploading photos.");
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+        return Arrays.asList(urls);
+    }
+
+    private static String uploadImage(final UploadImage image, final int index, final AggregateProgress progress) throws Exception {
+        final UploadProgressListener fileListener = progress == null ? null : progress.createFileListener(index);
+        long retryDelay = INITIAL_RETRY_DELAY_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                SingleNetworkTask networkTask = new SingleNetworkTask();
+                ResponseData result = networkTask.requestApi(image.createRequest(fileListener));
+                List<String> imageUrlList = new MultiUploadResponse(result).getImageUrlList();
+                if (imageUrlList.isEmpty()) {
+                    throw new ResponseBodyException("image url is empty. file = " + image.getName());
+                }
+                return imageUrlList.get(0);
+            } catch (IOException e) {
+                final boolean canceled = e instanceof UploadCanceledException || Thread.currentThread().isInterrupted()
+                        || (progress != null && progress.isCanceled());
+                if (canceled || attempt >= MAX_FILE_ATTEMPTS) {
+                    throw e;
+                }
+                Logger.w("ParallelPhotoUploader : retry " + image.getName() + " after " + retryDelay + "ms, e = " + e);
+                if (progress != null) {
+                    progress.reset(index);
+                }
+                Thread.sleep(retryDelay);
+                retryDelay *= 2;
+            }
+        }
+    }
+
+    private static void cancelAll(final List<Future<IndexedUrl>> futures) {
+        for (Future<IndexedUrl> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * upload할 이미지 하나. 원본 파일이거나 memory에서 다시 encoding한 이미지이다.
+     */
+    private abstract static class UploadImage {
+        final String name;
+        final long length;
+
+        UploadImage(final String name, final long length) {
+            this.name = name;
+            this.length = length;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        abstract MultiUploadRequest createRequest(final UploadProgressListener listener);
+    }
+
+    private static class IndexedUrl {
+        final int index;
+        final String url;
+
+        IndexedUrl(final int index, final String url) {
+            this.index = index;
+            this.url = url;
+        }
+    }
+
+    /**
+     * 파일별 upload 진행 상황을 하나의 listener로 모은다. part index는 fileList의 index이다.
+     */
+    private static class AggregateProgress {
+        private final UploadProgressListener listener;
+        private final long[] fileLengths;
+        private final long[] fileBytesSent;
+        private final long totalBytes;
+        private long bytesSent = 0;
+
+        AggregateProgress(final UploadProgressListener listener, final List<UploadImage> imageList) {
+            this.listener = listener;
+            this.fileLengths = new long[imageList.size()];
+            this.fileBytesSent = new long[imageList.size()];
+            long total = 0;
+            for (int i = 0; i < imageList.size(); i++) {
+                fileLengths[i] = imageList.get(i).length;
+                total += fileLengths[i];
+            }
+            this.totalBytes = total;
+        }
+
+        UploadProgressListener createFileListener(final int index) {
+            return new UploadProgressListener() {
+                @Override
+                public void onProgress(long bytesSent, long totalBytes) {
+                    update(index, bytesSent);
+                }
+
+                @Override
+                public void cancel() {
+                    listener.cancel();
+                }
+
+                @Override
+                public boolean isCanceled() {
+                    return listener.isCanceled();
+                }
+            };
+        }
+
+        boolean isCanceled() {
+            return listener.isCanceled();
+        }
+
+        void reset(final int index) {
+            update(index, 0);
+        }
+
+        private synchronized void update(final int index, final long fileSent) {
+            bytesSent += fileSent - fileBytesSent[index];
+            fileBytesSent[index] = fileSent;
+            listener.onPartProgress(index, fileSent, fileLengths[index]);
+            listener.onProgress(bytesSent, totalBytes);
+        }
+    }
+}
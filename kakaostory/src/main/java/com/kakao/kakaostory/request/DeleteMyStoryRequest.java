@@ -17,15 +17,19 @@
  */
 package com.kakao.kakaostory.request;
 
+import com.kakao.network.ICacheInvalidatingRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.auth.network.request.ApiRequest;
 import com.kakao.kakaostory.StringSet;
 import com.kakao.network.helper.QueryString;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author leoshin, created at 15. 8. 4..
  */
-public class DeleteMyStoryRequest extends ApiRequest {
+public class DeleteMyStoryRequest extends ApiRequest implements ICacheInvalidatingRequest {
 
     private final String id;
     public DeleteMyStoryRequest(String id) {
@@ -43,4 +47,9 @@ public class DeleteMyStoryRequest extends ApiRequest {
         qs.add(StringSet.id, id);
         return baseUrl + "?" + qs.toString();
     }
+
+    @Override
+    public List<String> getInvalidatedCacheGroups() {
+        return Collections.singletonList(ServerProtocol.STORY_ACTIVITIES_PATH);
+    }
 }
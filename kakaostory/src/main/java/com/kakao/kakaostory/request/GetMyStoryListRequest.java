@@ -17,6 +17,7 @@
  */
 package com.kakao.kakaostory.request;
 
+import com.kakao.network.ICacheableRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.auth.network.request.ApiRequest;
 import com.kakao.kakaostory.StringSet;
@@ -25,7 +26,7 @@ import com.kakao.network.helper.QueryString;
 /**
  * @author leoshin, created at 15. 8. 3..
  */
-public class GetMyStoryListRequest extends ApiRequest {
+public class GetMyStoryListRequest extends ApiRequest implements ICacheableRequest {
     private final String lastId;
 
     public GetMyStoryListRequest(String lastId) {
@@ -44,4 +45,9 @@ public class GetMyStoryListRequest extends ApiRequest {
         qs.add(StringSet.last_id, lastId);
         return baseUrl + "?" + qs.toString();
     }
+
+    @Override
+    public String getCacheGroup() {
+        return ServerProtocol.STORY_ACTIVITIES_PATH;
+    }
 }
@@ -20,8 +20,12 @@ package com.kakao.kakaostory.request;
 import com.kakao.auth.StringSet;
 import com.kakao.network.ServerProtocol;
 import com.kakao.auth.network.request.ApiRequest;
+import com.kakao.network.IUploadRequest;
+import com.kakao.network.multipart.ByteArrayPart;
 import com.kakao.network.multipart.FilePart;
 import com.kakao.network.multipart.Part;
+import com.kakao.network.multipart.UploadProgressListener;
+import com.kakao.util.helper.ProcessedImage;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -32,10 +36,16 @@ import java.util.Map;
 /**
  * @author leoshin, created at 15. 7. 30..
  */
-public class MultiUploadRequest extends ApiRequest {
+public class MultiUploadRequest extends ApiRequest implements IUploadRequest {
     private final List<Part> partList;
+    private final UploadProgressListener progressListener;
 
     public MultiUploadRequest(List<File> fileList) {
+        this(fileList, null);
+    }
+
+    public MultiUploadRequest(List<File> fileList, UploadProgressListener progressListener) {
+        this.progressListener = progressListener;
         this.partList = new ArrayList<Part>();
         if (fileList != null) {
             for (int i = 0; i < fileList.size(); i++) {
@@ -45,6 +55,28 @@ public class MultiUploadRequest extends ApiRequest {
 
     }
 
+    private MultiUploadRequest(UploadProgressListener progressListener, List<Part> partList) {
+        this.progressListener = progressListener;
+        this.partList = partList;
+    }
+
+    /**
+     * 임시 파일 없이 memory에서 다시 encoding한 이미지들을 imageList의 순서대로 전송하는 요청을 만든다.
+     * @param imageList {@link com.kakao.util.helper.ImagePreprocessor}로 처리한 이미지
+     * @param progressListener upload 진행 상황을 받을 listener
+     * @return upload 요청
+     */
+    public static MultiUploadRequest createProcessedImageRequest(List<ProcessedImage> imageList, UploadProgressListener progressListener) {
+        final List<Part> partList = new ArrayList<Part>();
+        if (imageList != null) {
+            for (int i = 0; i < imageList.size(); i++) {
+                final ProcessedImage image = imageList.get(i);
+                partList.add(new ByteArrayPart(StringSet.file + "_" + String.valueOf(i + 1), image.getFileName(), image.getData()));
+            }
+        }
+        return new MultiUploadRequest(progressListener, partList);
+    }
+
     @Override
     public String getMethod() {
         return POST;
@@ -64,4 +96,9 @@ public class MultiUploadRequest extends ApiRequest {
     public List<Part> getMultiPartList() {
         return partList;
     }
+
+    @Override
+    public UploadProgressListener getUploadProgressListener() {
+        return progressListener;
+    }
 }
@@ -18,16 +18,20 @@
 package com.kakao.kakaostory.request;
 
 import com.kakao.auth.network.request.ApiRequest;
+import com.kakao.network.ICacheInvalidatingRequest;
+import com.kakao.network.ServerProtocol;
 import com.kakao.kakaostory.StringSet;
 import com.kakao.util.exception.ParameterMissingException;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * @author leoshin, created at 15. 7. 31..
  */
-public abstract class PostRequest extends ApiRequest {
+public abstract class PostRequest extends ApiRequest implements ICacheInvalidatingRequest {
     /**
      * 공개 범위 값
      */
@@ -123,4 +127,9 @@ public abstract class PostRequest extends ApiRequest {
 
         return params;
     }
+
+    @Override
+    public List<String> getInvalidatedCacheGroups() {
+        return Collections.singletonList(ServerProtocol.STORY_ACTIVITIES_PATH);
+    }
 }
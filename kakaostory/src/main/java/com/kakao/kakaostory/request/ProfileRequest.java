@@ -17,6 +17,7 @@
  */
 package com.kakao.kakaostory.request;
 
+import com.kakao.network.ICacheableRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.auth.network.request.ApiRequest;
 import com.kakao.kakaostory.StringSet;
@@ -25,7 +26,7 @@ import com.kakao.network.helper.QueryString;
 /**
  * @author leoshin, created at 15. 8. 4..
  */
-public class ProfileRequest extends ApiRequest {
+public class ProfileRequest extends ApiRequest implements ICacheableRequest {
     private final boolean secureResource;
 
     public ProfileRequest() {
@@ -47,4 +48,9 @@ public class ProfileRequest extends ApiRequest {
         qs.add(StringSet.secure_resource, String.valueOf(secureResource));
         return baseUrl + "?" + qs.toString();
     }
+
+    @Override
+    public String getCacheGroup() {
+        return ServerProtocol.STORY_PROFILE_PATH;
+    }
 }
@@ -19,15 +19,18 @@ package com.kakao.kakaostory.response;
 
 import com.kakao.auth.network.response.JSONArrayResponse;
 import com.kakao.kakaostory.response.model.MyStoryInfo;
+import com.kakao.network.response.JsonPullParser;
 import com.kakao.network.response.ResponseBody;
 import com.kakao.network.response.ResponseBody.ResponseBodyException;
 import com.kakao.network.response.ResponseBodyArray;
 import com.kakao.network.response.ResponseData;
+import com.kakao.network.response.ResponseParser;
 
 import org.apache.http.HttpStatus;
 import org.json.JSONArray;
 import org.json.JSONException;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -41,6 +44,11 @@ public class GetMyStoryListResponse extends JSONArrayResponse {
         this.myStoryInfoList = bodyArray.getConvertedList(ARRAY_CONVERTER);
     }
 
+    private GetMyStoryListResponse(List<MyStoryInfo> myStoryInfoList) {
+        super();
+        this.myStoryInfoList = myStoryInfoList;
+    }
+
     public List<MyStoryInfo> getMyStoryInfoList() {
         return myStoryInfoList;
     }
@@ -60,4 +68,14 @@ public class GetMyStoryListResponse extends JSONArrayResponse {
             return new MyStoryInfo(o);
         }
     };
+
+    /**
+     * 내스토리 목록 응답을 stream에서 바로 변환한다.
+     */
+    public static final ResponseParser<GetMyStoryListResponse> PARSER = new ResponseParser<GetMyStoryListResponse>() {
+        @Override
+        public GetMyStoryListResponse parse(int statusCode, JsonPullParser parser) throws IOException, ResponseBodyException {
+            return new GetMyStoryListResponse(parser.readConvertedList(statusCode, MyStoryInfo.CONVERTER));
+        }
+    };
 }
@@ -18,6 +18,8 @@
 package com.kakao.kakaotalk;
 
 import com.kakao.auth.common.MessageSendable;
+import com.kakao.auth.common.PagePrefetchConfig;
+import com.kakao.auth.common.PagedLoader;
 import com.kakao.kakaotalk.api.KakaoTalkApi;
 import com.kakao.network.tasks.KakaoResultTask;
 import com.kakao.network.tasks.KakaoTaskQueue;
@@ -27,6 +29,7 @@ import com.kakao.friends.response.FriendsResponse;
 import com.kakao.kakaotalk.callback.TalkResponseCallback;
 import com.kakao.kakaotalk.response.ChatListResponse;
 import com.kakao.kakaotalk.response.KakaoTalkProfile;
+import com.kakao.kakaotalk.response.model.ChatInfo;
 
 import java.util.Map;
 
@@ -141,4 +144,23 @@ public class KakaoTalkService {
             }
         });
     }
+
+    /**
+     * 채팅방 리스트를 페이지 단위로 받는다. 현재 페이지를 보여주는 동안 다음 페이지를 미리 받아둔다.
+     * @param context 채팅방 리스트 요청정보를 담고있는 context
+     * @return 첫 페이지를 받고 있는 loader. 목록을 더 이상 보여주지 않으면 {@link PagedLoader#close()}를 불러야 한다.
+     */
+    public static PagedLoader<ChatInfo> requestChatListPaged(final ChatListContext context) {
+        return requestChatListPaged(context, PagePrefetchConfig.createDefault());
+    }
+
+    /**
+     * 채팅방 리스트를 페이지 단위로 받는다. 현재 페이지를 보여주는 동안 다음 페이지를 config에 지정한 수만큼 미리 받아둔다.
+     * @param context 채팅방 리스트 요청정보를 담고있는 context
+     * @param config 미리 받아둘 페이지 수와 요청 lane 설정
+     * @return 첫 페이지를 받고 있는 loader. 목록을 더 이상 보여주지 않으면 {@link PagedLoader#close()}를 불러야 한다.
+     */
+    public static PagedLoader<ChatInfo> requestChatListPaged(final ChatListContext context, final PagePrefetchConfig config) {
+        return KakaoTalkApi.requestChatListPaged(context, config);
+    }
 }
@@ -19,6 +19,9 @@ package com.kakao.kakaotalk.api;
 
 import com.kakao.auth.common.MessageSendable;
 import com.kakao.auth.SingleNetworkTask;
+import com.kakao.auth.common.IPageSource;
+import com.kakao.auth.common.PagePrefetchConfig;
+import com.kakao.auth.common.PagedLoader;
 import com.kakao.auth.network.response.ApiResponse.BlankApiResponse;
 import com.kakao.kakaotalk.ChatListContext;
 import com.kakao.kakaotalk.request.ChatListRequest;
@@ -27,8 +30,10 @@ import com.kakao.kakaotalk.request.TalkProfileRequest;
 import com.kakao.kakaotalk.response.KakaoTalkProfile;
 import com.kakao.kakaotalk.response.ChatListResponse;
 import com.kakao.kakaotalk.response.TalkProfileResponse;
+import com.kakao.kakaotalk.response.model.ChatInfo;
 import com.kakao.network.response.ResponseData;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -77,10 +82,29 @@ public class KakaoTalkApi {
      */
     public static ChatListResponse requestChatList(ChatListContext context) throws Exception {
         SingleNetworkTask networkTask = new SingleNetworkTask();
-        ResponseData result = networkTask.requestApi(new ChatListRequest(context));
-        ChatListResponse response = new ChatListResponse(result);
+        ChatListResponse response = networkTask.requestApi(new ChatListRequest(context), ChatListResponse.PARSER);
         context.setAfterUrl(response.getAfterUrl());
         context.setBeforeUrl(response.getBeforeUrl());
         return response;
     }
+
+    /**
+     * 채팅방 리스트를 다음 페이지를 미리 받아두면서 하나씩 전달하는 {@link PagedLoader}를 만든다.
+     * @param context 채팅방 리스트 요청정보를 담고있는 context
+     * @param config 미리 받아둘 페이지 수와 요청 lane 설정
+     * @return 첫 페이지를 받고 있는 loader
+     */
+    public static PagedLoader<ChatInfo> requestChatListPaged(final ChatListContext context, final PagePrefetchConfig config) {
+        return PagedLoader.start(new IPageSource<ChatInfo>() {
+            @Override
+            public List<ChatInfo> requestPage() throws Exception {
+                return requestChatList(context).getChatInfoList();
+            }
+
+            @Override
+            public boolean hasNextPage() {
+                return context.hasNext();
+            }
+        }, config);
+    }
 }
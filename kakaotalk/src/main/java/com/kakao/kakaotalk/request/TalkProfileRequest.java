@@ -19,13 +19,14 @@ package com.kakao.kakaotalk.request;
 
 import com.kakao.auth.network.request.ApiRequest;
 import com.kakao.kakaotalk.StringSet;
+import com.kakao.network.ICacheableRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.network.helper.QueryString;
 
 /**
  * @author leoshin, created at 15. 7. 27..
  */
-public class TalkProfileRequest extends ApiRequest {
+public class TalkProfileRequest extends ApiRequest implements ICacheableRequest {
 
     private final boolean secureResource;
     public TalkProfileRequest() {
@@ -51,4 +52,9 @@ public class TalkProfileRequest extends ApiRequest {
         }
         return url;
     }
+
+    @Override
+    public String getCacheGroup() {
+        return ServerProtocol.TALK_PROFILE_PATH;
+    }
 }
@@ -20,9 +20,12 @@ package com.kakao.kakaotalk.response;
 import com.kakao.auth.network.response.JSONObjectResponse;
 import com.kakao.friends.StringSet;
 import com.kakao.kakaotalk.response.model.ChatInfo;
+import com.kakao.network.response.JsonPullParser;
 import com.kakao.network.response.ResponseBody.ResponseBodyException;
 import com.kakao.network.response.ResponseData;
+import com.kakao.network.response.ResponseParser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,6 +46,14 @@ public class ChatListResponse extends JSONObjectResponse {
         this.afterUrl = body.optString(StringSet.after_url, null);
     }
 
+    private ChatListResponse(List<ChatInfo> chatInfoList, int totalCount, String beforeUrl, String afterUrl) {
+        super();
+        this.chatInfoList = chatInfoList;
+        this.totalCount = totalCount;
+        this.beforeUrl = beforeUrl;
+        this.afterUrl = afterUrl;
+    }
+
     /**
      * paging된 chat list정보를 모은다.
      * @param response 기존에 paging되어 받아온 response에 merge시킬 ChatList 정보.
@@ -84,4 +95,40 @@ public class ChatListResponse extends JSONObjectResponse {
 
         return builder.toString();
     }
+
+    /**
+     * 챗방 목록 응답을 stream에서 바로 변환한다. 챗방 정보는 하나씩 변환되므로 전체 응답이 memory에 올라가지 않는다.
+     */
+    public static final ResponseParser<ChatListResponse> PARSER = new ResponseParser<ChatListResponse>() {
+        @Override
+        public ChatListResponse parse(int statusCode, JsonPullParser parser) throws IOException, ResponseBodyException {
+            List<ChatInfo> chatInfoList = new ArrayList<ChatInfo>();
+            int totalCount = 0;
+            String beforeUrl = null;
+            String afterUrl = null;
+
+            parser.beginObject();
+            while (parser.hasNext()) {
+                final String name = parser.nextName();
+                if (StringSet.elements.equals(name)) {
+                    chatInfoList = parser.readConvertedList(statusCode, ChatInfo.CONVERTER);
+                } else if (StringSet.total_count.equals(name)) {
+                    // ResponseBody.optInt(total_count, 0)와 같이 null이면 0으로 둔다.
+                    if (parser.peek() == JsonPullParser.Token.NULL) {
+                        parser.nextNull();
+                    } else {
+                        totalCount = parser.nextInt();
+                    }
+                } else if (StringSet.before_url.equals(name)) {
+                    beforeUrl = parser.nextString();
+                } else if (StringSet.after_url.equals(name)) {
+                    afterUrl = parser.nextString();
+                } else {
+                    parser.skipValue();
+                }
+            }
+            parser.endObject();
+            return new ChatListResponse(chatInfoList, totalCount, beforeUrl, afterUrl);
+        }
+    };
 }
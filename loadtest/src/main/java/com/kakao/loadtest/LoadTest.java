@@ -0,0 +1,412 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.loadtest;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.Bundle;
+
+import com.kakao.auth.IApplicationConfig;
+import com.kakao.auth.KakaoAdapter;
+import com.kakao.auth.KakaoSDK;
+import com.kakao.auth.SingleNetworkTask;
+import com.kakao.auth.authorization.accesstoken.AccessToken;
+import com.kakao.friends.FriendContext;
+import com.kakao.friends.api.FriendsApi;
+import com.kakao.friends.request.FriendsRequest.FriendFilter;
+import com.kakao.friends.request.FriendsRequest.FriendOrder;
+import com.kakao.friends.request.FriendsRequest.FriendType;
+import com.kakao.kakaostory.api.KakaoStoryApi;
+import com.kakao.kakaotalk.ChatListContext;
+import com.kakao.kakaotalk.KakaoTalkService.ChatType;
+import com.kakao.kakaotalk.api.KakaoTalkApi;
+import com.kakao.network.ErrorResult;
+import com.kakao.network.ResponseCacheConfig;
+import com.kakao.network.ServerProtocol;
+import com.kakao.network.callback.ResponseCallback;
+import com.kakao.network.multipart.UploadProgressListener;
+import com.kakao.network.response.ResponseBody;
+import com.kakao.network.tasks.KakaoResultTask;
+import com.kakao.network.tasks.KakaoResultTask.DispatchMode;
+import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.storage.api.StorageApi;
+import com.kakao.testsupport.Payloads;
+import com.kakao.testsupport.StubServer;
+import com.kakao.testsupport.StubServerConfig;
+import com.kakao.usermgmt.api.UserApi;
+import com.kakao.usermgmt.request.MeRequest;
+import com.kakao.util.helper.BinaryCacheStorage;
+import com.kakao.util.helper.CommonProtocol;
+import com.kakao.util.helper.SharedPreferencesCache;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * device와 실제 서버 없이 {@link StubServer}에 SDK 요청을 대량으로 보내 처리량, latency, thread 수와 할당량을 잰다.
+ * 요청은 앱과 같은 경로인 {@link KakaoTaskQueue}와 {@link SingleNetworkTask}를 거치며, session은 미리 저장해둔
+ * refresh token으로 열리므로 첫 요청부터 token 갱신과 401 처리가 실제와 같이 동작한다.
+ *
+ * 실행: ./gradlew :loadtest:run -PloadtestArgs='--scenario=FRIENDS --requests=10000 --latency=20 --jitter=30'
+ * option은 --name=value 형식이며 {@link #usage()}에 목록이 있다.
+ */
+public class LoadTest {
+    private static final String APP_KEY = "loadtest";
+    private static final Scenario[] MIXED_SCENARIOS = {Scenario.ME, Scenario.FRIENDS, Scenario.CHAT_LIST};
+
+    private final LoadTestConfig config;
+    private final StubServer server;
+    private final File dataDir;
+    private final List<File> uploadFiles = new ArrayList<File>();
+    private final AtomicInteger resumableFileIndex = new AtomicInteger();
+    private final byte[] fileContent;
+    private SingleNetworkTask sharedTask;
+    private LoadTestReport report;
+
+    private LoadTest(final LoadTestConfig config, final StubServer server, final File dataDir) {
+        this.config = config;
+        this.server = server;
+        this.dataDir = dataDir;
+        this.fileContent = new byte[config.getFileSize()];
+        new Random(config.getFileSize()).nextBytes(fileContent);
+    }
+
+    public static void main(String[] args) throws Exception {
+        final LoadTestConfig config;
+        try {
+            config = parseArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(usage());
+            System.exit(2);
+            return;
+        }
+
+        final StubServer server = StubServer.start(config.getServerConfig());
+        final File dataDir = createTempDirectory();
+        try {
+            new LoadTest(config, server, dataDir).run();
+        } finally {
+            server.stop();
+            deleteRecursively(dataDir);
+        }
+        // SDK의 worker thread는 daemon이 아니므로 직접 종료한다.
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        KakaoResultTask.setDefaultDispatchMode(config.getDispatchMode());
+        initSdk(server, dataDir, config.isResponseCacheEnabled());
+        sharedTask = new SingleNetworkTask();
+        createUploadFiles();
+
+        report = new LoadTestReport(config, server);
+        runRequests(config.getWarmupCount(), false);
+
+        final ScheduledExecutorService tokenStorm = startTokenStorm();
+        report.start();
+        runRequests(config.getRequestCount(), true);
+        report.finish();
+        if (tokenStorm != null) {
+            tokenStorm.shutdownNow();
+        }
+        report.print(System.out);
+    }
+
+    /**
+     * SDK가 server로 접속하고 dataDir에 cache를 저장하도록 초기화한다. process마다 한번만 부를 수 있다.
+     * @param server 요청을 받을 stub server
+     * @param dataDir context의 files, cache directory를 만들 directory
+     * @param responseCacheEnabled SDK의 http response cache 사용 여부
+     */
+    static void initSdk(final StubServer server, final File dataDir, final boolean responseCacheEnabled) throws Exception {
+        // ServerProtocol이 load되기 전에 지정해야 Local phase의 서버 주소로 사용된다.
+        System.setProperty(ServerProtocol.LOCAL_AUTHORITY_PROPERTY, server.getAuthority());
+
+        final Bundle metaData = new Bundle();
+        metaData.putString(CommonProtocol.APP_KEY_PROPERTY, APP_KEY);
+        final Context context = new Context(dataDir, metaData);
+        seedAccessToken(server, context);
+
+        KakaoSDK.init(new KakaoAdapter() {
+            @Override
+            public IApplicationConfig getApplicationConfig() {
+                return new IApplicationConfig() {
+                    @Override
+                    public Activity getTopActivity() {
+                        return null;
+                    }
+
+                    @Override
+                    public Context getApplicationContext() {
+                        return context;
+                    }
+                };
+            }
+
+            @Override
+            public ResponseCacheConfig getResponseCacheConfig() {
+                return responseCacheEnabled ? super.getResponseCacheConfig() : null;
+            }
+        });
+    }
+
+    /**
+     * 로그인한 것처럼 stub server가 발급한 refresh token을 SDK의 token cache에 저장한다.
+     * access token은 이미 만료된 것으로 저장하여 첫 요청이 refresh token으로 access token을 받게 한다.
+     */
+    private static void seedAccessToken(final StubServer server, final Context context) throws Exception {
+        final AccessToken accessToken = new AccessToken(new ResponseBody(200, Payloads.token("seed", server.issueRefreshToken(), 0)));
+        accessToken.saveAccessTokenToCache(new SharedPreferencesCache(BinaryCacheStorage.open(context, APP_KEY), 0));
+    }
+
+    private ScheduledExecutorService startTokenStorm() {
+        if (config.getTokenStormIntervalMillis() == 0) {
+            return null;
+        }
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "LoadTestTokenStorm");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                server.expireAllTokens();
+            }
+        }, config.getTokenStormIntervalMillis(), config.getTokenStormIntervalMillis(), TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    /**
+     * 요청을 KakaoTaskQueue에 넣고 모두 끝날 때까지 기다린다.
+     * concurrency가 지정되면 진행 중인 요청이 그보다 많아지지 않도록 결과를 받은 만큼만 더 넣는다.
+     */
+    private void runRequests(final int count, final boolean measured) throws InterruptedException {
+        final Semaphore inFlight = config.getConcurrency() > 0 ? new Semaphore(config.getConcurrency()) : null;
+        final CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            if (inFlight != null) {
+                inFlight.acquire();
+            }
+            final Scenario scenario = config.getScenario() == Scenario.MIXED ? MIXED_SCENARIOS[i % MIXED_SCENARIOS.length] : config.getScenario();
+            final long enqueuedAt = System.nanoTime();
+            final ResponseCallback<Object> callback = new ResponseCallback<Object>() {
+                @Override
+                public void onFailure(ErrorResult errorResult) {
+                    if (measured) {
+                        report.failed(errorResult);
+                    }
+                }
+
+                @Override
+                public void onSuccess(Object result) {
+                    if (measured) {
+                        report.succeeded(enqueuedAt);
+                    }
+                }
+
+                @Override
+                public void onDidEnd() {
+                    if (inFlight != null) {
+                        inFlight.release();
+                    }
+                    done.countDown();
+                }
+            };
+            KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<Object>(callback) {
+                @Override
+                public Object call() throws Exception {
+                    return execute(scenario, measured);
+                }
+            }, scenario.getPriority());
+        }
+        done.await();
+    }
+
+    private Object execute(final Scenario scenario, final boolean measured) throws Exception {
+        switch (scenario) {
+            case ME:
+                return UserApi.requestMe(null, false);
+            case FRIENDS:
+                return FriendsApi.requestFriends(FriendContext.createContext(FriendType.KAKAO_TALK, FriendFilter.NONE, FriendOrder.NICKNAME, false, 0, 100, "asc"));
+            case CHAT_LIST:
+                return KakaoTalkApi.requestChatList(ChatListContext.createContext(ChatType.ALL, 0, 30, "asc"));
+            case STORY_UPLOAD:
+                return KakaoStoryApi.requestMultiUpload(uploadFiles, createFileSentListener(measured));
+            case PARALLEL_STORY_UPLOAD:
+                return KakaoStoryApi.requestParallelMultiUpload(uploadFiles, createFileSentListener(measured));
+            case RESUMABLE_UPLOAD:
+                // 완료된 파일은 journal에 저장된 응답을 돌려주므로 요청마다 새 파일을 올린다.
+                final File file = writeFile(new File(dataDir, "resumable_" + resumableFileIndex.getAndIncrement() + ".jpg"));
+                try {
+                    return StorageApi.requestResumableImageUpload(file, false, createFileSentListener(measured));
+                } finally {
+                    file.delete();
+                }
+            case SHARED_TASK:
+                return sharedTask.requestApi(new MeRequest(null, false));
+            default:
+                throw new IllegalStateException("unexpected scenario : " + scenario);
+        }
+    }
+
+    private UploadProgressListener createFileSentListener(final boolean measured) {
+        final long startedAt = System.nanoTime();
+        return new UploadProgressListener() {
+            @Override
+            public void onProgress(long bytesSent, long totalBytes) {
+            }
+
+            @Override
+            public void onPartProgress(int partIndex, long partBytesSent, long partLength) {
+                if (measured && partBytesSent == partLength) {
+                    report.fileSent(startedAt);
+                }
+            }
+        };
+    }
+
+    private void createUploadFiles() throws IOException {
+        if (!config.getScenario().isUpload()) {
+            return;
+        }
+        for (int i = 0; i < config.getFileCount(); i++) {
+            uploadFiles.add(writeFile(new File(dataDir, "photo_" + i + ".jpg")));
+        }
+    }
+
+    private File writeFile(final File file) throws IOException {
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(fileContent);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    static LoadTestConfig parseArgs(final String[] args) {
+        final LoadTestConfig.Builder builder = new LoadTestConfig.Builder();
+        final StubServerConfig.Builder serverBuilder = new StubServerConfig.Builder();
+        long latency = 0;
+        long jitter = 0;
+        for (String arg : args) {
+            final int index = arg.indexOf('=');
+            if (!arg.startsWith("--") || index < 0) {
+                throw new IllegalArgumentException("invalid option : " + arg);
+            }
+            final String name = arg.substring(2, index);
+            final String value = arg.substring(index + 1);
+            try {
+                if ("scenario".equals(name)) {
+                    builder.setScenario(Scenario.valueOf(value.toUpperCase()));
+                } else if ("requests".equals(name)) {
+                    builder.setRequestCount(Integer.parseInt(value));
+                } else if ("warmup".equals(name)) {
+                    builder.setWarmupCount(Integer.parseInt(value));
+                } else if ("concurrency".equals(name)) {
+                    builder.setConcurrency(Integer.parseInt(value));
+                } else if ("files".equals(name)) {
+                    builder.setFileCount(Integer.parseInt(value));
+                } else if ("file-size".equals(name)) {
+                    builder.setFileSize(Integer.parseInt(value));
+                } else if ("token-storm".equals(name)) {
+                    builder.setTokenStormInterval(Long.parseLong(value));
+                } else if ("dispatch".equals(name)) {
+                    builder.setDispatchMode(DispatchMode.valueOf(value.toUpperCase()));
+                } else if ("response-cache".equals(name)) {
+                    builder.setResponseCacheEnabled(Boolean.parseBoolean(value));
+                } else if ("latency".equals(name)) {
+                    latency = Long.parseLong(value);
+                } else if ("jitter".equals(name)) {
+                    jitter = Long.parseLong(value);
+                } else if ("bandwidth".equals(name)) {
+                    serverBuilder.setBandwidth(Long.parseLong(value));
+                } else if ("error-rate".equals(name)) {
+                    serverBuilder.setErrorRate(Double.parseDouble(value));
+                } else if ("drop-rate".equals(name)) {
+                    serverBuilder.setDropRate(Double.parseDouble(value));
+                } else if ("token-lifetime".equals(name)) {
+                    serverBuilder.setAccessTokenLifetime(Integer.parseInt(value));
+                } else if ("friends".equals(name)) {
+                    serverBuilder.setFriendCount(Integer.parseInt(value));
+                } else if ("chats".equals(name)) {
+                    serverBuilder.setChatCount(Integer.parseInt(value));
+                } else if ("server-threads".equals(name)) {
+                    serverBuilder.setThreadCount(Integer.parseInt(value));
+                } else {
+                    throw new IllegalArgumentException("unknown option : " + name);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid value of " + name + " : " + value);
+            }
+        }
+        serverBuilder.setLatency(latency, jitter);
+        return builder.setServerConfig(serverBuilder.build()).build();
+    }
+
+    static String usage() {
+        return "options:\n"
+                + "  --scenario=ME|FRIENDS|CHAT_LIST|STORY_UPLOAD|PARALLEL_STORY_UPLOAD|RESUMABLE_UPLOAD|SHARED_TASK|MIXED\n"
+                + "  --requests=N          측정할 요청 수\n"
+                + "  --warmup=N            측정 전에 보내는 요청 수\n"
+                + "  --concurrency=N       동시에 진행할 요청 수. 0이면 모두 한번에 넣는다.\n"
+                + "  --files=N             upload 요청 하나의 파일 수\n"
+                + "  --file-size=BYTES     upload 파일 크기\n"
+                + "  --token-storm=MS      access token을 모두 무효화하는 주기\n"
+                + "  --dispatch=BLOCKING|NON_BLOCKING\n"
+                + "  --response-cache=true|false\n"
+                + "  --latency=MS --jitter=MS --bandwidth=BYTES_PER_SEC\n"
+                + "  --error-rate=0..1 --drop-rate=0..1 --token-lifetime=SEC\n"
+                + "  --friends=N --chats=N --server-threads=N";
+    }
+
+    private static File createTempDirectory() throws IOException {
+        final File dir = File.createTempFile("kakao-loadtest", "");
+        if (!dir.delete() || !dir.mkdirs()) {
+            throw new IOException("cannot create " + dir);
+        }
+        return dir;
+    }
+
+    private static void deleteRecursively(final File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.loadtest;
+
+import com.kakao.network.tasks.KakaoResultTask.DispatchMode;
+import com.kakao.testsupport.StubServerConfig;
+
+/**
+ * {@link LoadTest}의 설정값. 요청 종류와 개수, 동시에 진행할 요청 수, upload 파일 크기와 401 storm 주기를 정한다.
+ */
+public class LoadTestConfig {
+    private static final int DEFAULT_REQUEST_COUNT = 5000;
+    private static final int DEFAULT_WARMUP_COUNT = 500;
+    private static final int DEFAULT_CONCURRENCY = 64;
+    private static final int DEFAULT_FILE_COUNT = 4;
+    private static final int DEFAULT_FILE_SIZE = 128 * 1024;
+    private static final long DEFAULT_SAMPLE_INTERVAL_MILLIS = 50;
+
+    private Scenario scenario;
+    private int requestCount;
+    private int warmupCount;
+    private int concurrency;
+    private int fileCount;
+    private int fileSize;
+    private long tokenStormIntervalMillis;
+    private long sampleIntervalMillis;
+    private DispatchMode dispatchMode;
+    private boolean responseCacheEnabled;
+    private StubServerConfig serverConfig;
+
+    private LoadTestConfig() {
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * @return 측정할 요청 수
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return 측정 전에 JIT와 connection pool을 데우기 위해 보내는 요청 수
+     */
+    public int getWarmupCount() {
+        return warmupCount;
+    }
+
+    /**
+     * 결과를 받기 전에 더 보내지 않고 기다리는 진행 중 요청 수의 상한.
+     * @return 동시에 진행할 요청 수. 0이면 모든 요청을 한번에 KakaoTaskQueue에 넣는다.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return upload 요청 하나에 담는 파일 수. {@link Scenario#RESUMABLE_UPLOAD}는 항상 1개이다.
+     */
+    public int getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * @return upload할 파일 하나의 크기 (byte)
+     */
+    public int getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * 이 주기마다 server의 access token을 모두 무효화하여 진행 중인 요청들이 한꺼번에 401을 받고 token을 갱신하게 한다.
+     * @return 401 storm 주기 (ms). 0이면 무효화하지 않는다.
+     */
+    public long getTokenStormIntervalMillis() {
+        return tokenStormIntervalMillis;
+    }
+
+    /**
+     * @return thread 수와 할당량을 측정하는 주기 (ms)
+     */
+    public long getSampleIntervalMillis() {
+        return sampleIntervalMillis;
+    }
+
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    /**
+     * 사용하면 cache 가능한 /v1/user/me 응답은 server까지 가지 않을 수 있다.
+     * @return SDK의 HttpResponseCache를 사용하면 true
+     */
+    public boolean isResponseCacheEnabled() {
+        return responseCacheEnabled;
+    }
+
+    public StubServerConfig getServerConfig() {
+        return serverConfig;
+    }
+
+    public static LoadTestConfig createDefault() {
+        return new Builder().build();
+    }
+
+    /**
+     * 기본값은 {@link Scenario#MIXED} 5000회 (warm-up 500회), 동시 요청 64개, 128KB 파일 4개, 401 storm 없음,
+     * {@link DispatchMode#BLOCKING}, response cache 사용 안함, 기본 {@link StubServerConfig}이다.
+     */
+    public static class Builder {
+        private Scenario scenario = Scenario.MIXED;
+        private int requestCount = DEFAULT_REQUEST_COUNT;
+        private int warmupCount = DEFAULT_WARMUP_COUNT;
+        private int concurrency = DEFAULT_CONCURRENCY;
+        private int fileCount = DEFAULT_FILE_COUNT;
+        private int fileSize = DEFAULT_FILE_SIZE;
+        private long tokenStormIntervalMillis;
+        private long sampleIntervalMillis = DEFAULT_SAMPLE_INTERVAL_MILLIS;
+        private DispatchMode dispatchMode = DispatchMode.BLOCKING;
+        private boolean responseCacheEnabled;
+        private StubServerConfig serverConfig = StubServerConfig.createDefault();
+
+        public Builder setScenario(Scenario scenario) {
+            if (scenario == null) {
+                throw new IllegalArgumentException("scenario may not be null");
+            }
+            this.scenario = scenario;
+            return this;
+        }
+
+        public Builder setRequestCount(int requestCount) {
+            if (requestCount <= 0) {
+                throw new IllegalArgumentException("requestCount must be positive");
+            }
+            this.requestCount = requestCount;
+            return this;
+        }
+
+        public Builder setWarmupCount(int warmupCount) {
+            if (warmupCount < 0) {
+                throw new IllegalArgumentException("warmupCount must not be negative");
+            }
+            this.warmupCount = warmupCount;
+            return this;
+        }
+
+        public Builder setConcurrency(int concurrency) {
+            if (concurrency < 0) {
+                throw new IllegalArgumentException("concurrency must not be negative");
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder setFileCount(int fileCount) {
+            if (fileCount <= 0) {
+                throw new IllegalArgumentException("fileCount must be positive");
+            }
+            this.fileCount = fileCount;
+            return this;
+        }
+
+        public Builder setFileSize(int fileSize) {
+            if (fileSize <= 0) {
+                throw new IllegalArgumentException("fileSize must be positive");
+            }
+            this.fileSize = fileSize;
+            return this;
+        }
+
+        public Builder setTokenStormInterval(long intervalMillis) {
+            if (intervalMillis < 0) {
+                throw new IllegalArgumentException("token storm interval must not be negative");
+            }
+            this.tokenStormIntervalMillis = intervalMillis;
+            return this;
+        }
+
+        public Builder setSampleInterval(long intervalMillis) {
+            if (intervalMillis <= 0) {
+                throw new IllegalArgumentException("sample interval must be positive");
+            }
+            this.sampleIntervalMillis = intervalMillis;
+            return this;
+        }
+
+        public Builder setDispatchMode(DispatchMode dispatchMode) {
+            if (dispatchMode == null) {
+                throw new IllegalArgumentException("dispatchMode may not be null");
+            }
+            this.dispatchMode = dispatchMode;
+            return this;
+        }
+
+        public Builder setResponseCacheEnabled(boolean responseCacheEnabled) {
+            this.responseCacheEnabled = responseCacheEnabled;
+            return this;
+        }
+
+        public Builder setServerConfig(StubServerConfig serverConfig) {
+            if (serverConfig == null) {
+                throw new IllegalArgumentException("serverConfig may not be null");
+            }
+            if (!serverConfig.isSecure()) {
+                throw new IllegalArgumentException("SDK always requests over https");
+            }
+            this.serverConfig = serverConfig;
+            return this;
+        }
+
+        public LoadTestConfig build() {
+            LoadTestConfig config = new LoadTestConfig();
+            config.scenario = scenario;
+            config.requestCount = requestCount;
+            config.warmupCount = warmupCount;
+            config.concurrency = concurrency;
+            config.fileCount = fileCount;
+            config.fileSize = fileSize;
+            config.tokenStormIntervalMillis = tokenStormIntervalMillis;
+            config.sampleIntervalMillis = sampleIntervalMillis;
+            config.dispatchMode = dispatchMode;
+            config.responseCacheEnabled = responseCacheEnabled;
+            config.serverConfig = serverConfig;
+            return config;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.loadtest;
+
+import com.kakao.network.ErrorResult;
+import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.network.tasks.TaskPriority;
+import com.kakao.testsupport.StubServer;
+import com.kakao.util.helper.metrics.Counter;
+import com.kakao.util.helper.metrics.Histogram;
+import com.kakao.util.helper.metrics.HistogramSnapshot;
+import com.kakao.util.helper.metrics.MetricsRegistry;
+
+import org.json.JSONException;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * load test 한번의 측정값을 모아 출력한다.
+ * 요청 latency는 KakaoTaskQueue에 넣은 때부터 callback을 받을 때까지이며, thread 수와 할당량은 주기적으로 sampling 한다.
+ * 할당량은 thread별 누적 할당량의 차이로 구하므로 sampling 간격 안에 생겼다 끝난 thread의 할당은 빠질 수 있다.
+ */
+class LoadTestReport {
+    private static final String SDK_THREAD_PREFIX = "Kakao";
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LoadTestConfig config;
+    private final StubServer server;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "LoadTestSampler");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final Histogram latency = MetricsRegistry.getInstance().histogram("loadtest.latency_ns");
+    private final Histogram fileSent = MetricsRegistry.getInstance().histogram("loadtest.file_sent_ns");
+    private final Counter succeeded = MetricsRegistry.getInstance().counter("loadtest.success");
+    private final Counter failed = MetricsRegistry.getInstance().counter("loadtest.failure");
+    private final ConcurrentMap<String, AtomicLong> failures = new ConcurrentHashMap<String, AtomicLong>();
+
+    // sampler thread에서만 접근한다. thread id -> 측정 시작 시점의 누적 할당량, 마지막으로 본 누적 할당량
+    private final Map<Long, Long> allocatedAtStart = new HashMap<Long, Long>();
+    private final Map<Long, Long> allocatedLast = new HashMap<Long, Long>();
+    private volatile int peakSdkThreadCount;
+    private volatile int peakQueuedCount;
+
+    private long startedAt;
+    private long finishedAt;
+    private long gcCountAtStart;
+    private long gcTimeAtStart;
+    private long serverRequestsAtStart;
+    private long serverTokenRequestsAtStart;
+    private long serverUnauthorizedAtStart;
+    private long serverErrorsAtStart;
+    private long serverDroppedAtStart;
+    private long serverBytesReceivedAtStart;
+    private long serverBytesSentAtStart;
+
+    LoadTestReport(final LoadTestConfig config, final StubServer server) {
+        this.config = config;
+        this.server = server;
+    }
+
+    /**
+     * warm-up이 끝난 뒤 측정을 시작한다. 그 전까지 기록된 SDK metric은 지운다.
+     */
+    void start() {
+        MetricsRegistry.getInstance().reset();
+        failures.clear();
+        threadBean.resetPeakThreadCount();
+        gcCountAtStart = getGcCount();
+        gcTimeAtStart = getGcTimeMillis();
+        serverRequestsAtStart = server.getRequestCount();
+        serverTokenRequestsAtStart = server.getTokenRequestCount();
+        serverUnauthorizedAtStart = server.getUnauthorizedCount();
+        serverErrorsAtStart = server.getInjectedErrorCount();
+        serverDroppedAtStart = server.getDroppedCount();
+        serverBytesReceivedAtStart = server.getBytesReceived();
+        serverBytesSentAtStart = server.getBytesSent();
+
+        // 시작 시점의 할당량을 먼저 기록한 뒤 측정 시간을 잰다.
+        sampler.submit(new Runnable() {
+            @Override
+            public void run() {
+                sample(true);
+            }
+        });
+        sampler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                sample(false);
+            }
+        }, config.getSampleIntervalMillis(), config.getSampleIntervalMillis(), TimeUnit.MILLISECONDS);
+        startedAt = System.nanoTime();
+    }
+
+    void finish() throws InterruptedException {
+        finishedAt = System.nanoTime();
+        sampler.shutdown();
+        sampler.awaitTermination(1, TimeUnit.SECONDS);
+        sample(false);
+    }
+
+    void succeeded(final long enqueuedAt) {
+        succeeded.increment();
+        latency.recordSince(enqueuedAt);
+    }
+
+    void failed(final ErrorResult errorResult) {
+        failed.increment();
+        final String key = "http " + errorResult.getHttpStatus() + ", code " + errorResult.getErrorCode();
+        AtomicLong count = failures.get(key);
+        if (count == null) {
+            final AtomicLong newCount = new AtomicLong();
+            count = failures.putIfAbsent(key, newCount);
+            if (count == null) {
+                count = newCount;
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * upload 요청에서 SDK가 파일 하나의 마지막 byte를 연결에 쓴 시간을 기록한다.
+     * 한 요청으로 보내는 upload는 뒤의 파일일수록 늦어지며, 응답은 모든 파일을 보낸 뒤에 받는다.
+     * @param requestStartedAt upload 요청을 시작한 System.nanoTime()
+     */
+    void fileSent(final long requestStartedAt) {
+        fileSent.recordSince(requestStartedAt);
+    }
+
+    private synchronized void sample(final boolean baseline) {
+        int sdkThreadCount = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(SDK_THREAD_PREFIX)) {
+                sdkThreadCount++;
+            }
+        }
+        peakSdkThreadCount = Math.max(peakSdkThreadCount, sdkThreadCount);
+
+        int queuedCount = 0;
+        for (TaskPriority priority : TaskPriority.values()) {
+            queuedCount += KakaoTaskQueue.getInstance().getQueuedCount(priority);
+        }
+        peakQueuedCount = Math.max(peakQueuedCount, queuedCount);
+
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+        final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+        final long[] threadIds = allocationBean.getAllThreadIds();
+        final long[] allocated = allocationBean.getThreadAllocatedBytes(threadIds);
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocated[i] < 0) {
+                continue;
+            }
+            if (baseline) {
+                allocatedAtStart.put(threadIds[i], allocated[i]);
+            } else if (!allocatedAtStart.containsKey(threadIds[i])) {
+                // 측정 중에 생긴 thread는 처음부터 센다.
+                allocatedAtStart.put(threadIds[i], 0L);
+            }
+            allocatedLast.put(threadIds[i], allocated[i]);
+        }
+    }
+
+    private synchronized long getAllocatedBytes() {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : allocatedLast.entrySet()) {
+            total += entry.getValue() - allocatedAtStart.get(entry.getKey());
+        }
+        return total;
+    }
+
+    private static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(bean.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long getGcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(bean.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    void print(final PrintStream out) throws JSONException {
+        final double seconds = (finishedAt - startedAt) / 1e9;
+        final long completed = succeeded.getCount() + failed.getCount();
+        final long allocatedBytes = getAllocatedBytes();
+
+        out.println("== " + config.getScenario() + " : " + config.getRequestCount() + " requests, concurrency "
+                + (config.getConcurrency() == 0 ? "unbounded" : String.valueOf(config.getConcurrency()))
+                + ", " + config.getDispatchMode());
+        out.printf("elapsed        %.2f s%n", seconds);
+        out.printf("throughput     %.1f req/s%n", completed / seconds);
+        out.println("succeeded      " + succeeded.getCount());
+        out.println("failed         " + failed.getCount() + (failures.isEmpty() ? "" : " " + new TreeMap<String, AtomicLong>(failures)));
+        printLatency(out, "latency", latency.snapshot());
+        if (config.getScenario().isUpload()) {
+            printLatency(out, "file sent", fileSent.snapshot());
+        }
+        out.println("threads        peak " + threadBean.getPeakThreadCount() + ", SDK peak " + peakSdkThreadCount
+                + ", started " + threadBean.getTotalStartedThreadCount());
+        out.println("task queue     peak queued " + peakQueuedCount);
+        out.printf("allocation     %.1f MB/s, %.1f KB/req%n",
+                allocatedBytes / seconds / (1024 * 1024), completed == 0 ? 0.0 : allocatedBytes / 1024.0 / completed);
+        out.println("gc             " + (getGcCount() - gcCountAtStart) + " collections, " + (getGcTimeMillis() - gcTimeAtStart) + " ms");
+        out.println("server         " + (server.getRequestCount() - serverRequestsAtStart) + " requests, "
+                + (server.getTokenRequestCount() - serverTokenRequestsAtStart) + " token, "
+                + (server.getUnauthorizedCount() - serverUnauthorizedAtStart) + " unauthorized, "
+                + (server.getInjectedErrorCount() - serverErrorsAtStart) + " injected errors, "
+                + (server.getDroppedCount() - serverDroppedAtStart) + " dropped");
+        out.printf("server bytes   %.1f MB in, %.1f MB out%n",
+                (server.getBytesReceived() - serverBytesReceivedAtStart) / (1024.0 * 1024),
+                (server.getBytesSent() - serverBytesSentAtStart) / (1024.0 * 1024));
+        out.println("metrics        " + MetricsRegistry.getInstance().snapshot().toJSONObject().toString());
+    }
+
+    private static void printLatency(final PrintStream out, final String name, final HistogramSnapshot snapshot) {
+        out.printf("%-14s p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms (n=%d)%n", name,
+                toMillis(snapshot.getValueAtPercentile(50)), toMillis(snapshot.getValueAtPercentile(90)),
+                toMillis(snapshot.getValueAtPercentile(99)), toMillis(snapshot.getCount() == 0 ? 0 : snapshot.getMax()),
+                snapshot.getCount());
+    }
+
+    private static double toMillis(final long nanos) {
+        return (double) nanos / NANOS_PER_MILLI;
+    }
+}
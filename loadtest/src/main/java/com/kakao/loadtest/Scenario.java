@@ -0,0 +1,83 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.loadtest;
+
+import com.kakao.network.tasks.TaskPriority;
+
+/**
+ * load test 한번에 반복해서 보내는 요청의 종류.
+ */
+public enum Scenario {
+    /**
+     * UserApi.requestMe. /v1/user/me
+     */
+    ME(TaskPriority.INTERACTIVE),
+
+    /**
+     * FriendsApi.requestFriends. /v1/friends
+     */
+    FRIENDS(TaskPriority.INTERACTIVE),
+
+    /**
+     * KakaoTalkApi.requestChatList. /v1/api/talk/chats
+     */
+    CHAT_LIST(TaskPriority.INTERACTIVE),
+
+    /**
+     * 여러 파일을 한 multipart 요청으로 보내는 KakaoStoryApi.requestMultiUpload.
+     */
+    STORY_UPLOAD(TaskPriority.BULK_UPLOAD),
+
+    /**
+     * 파일마다 별도의 요청으로 동시에 보내는 KakaoStoryApi.requestParallelMultiUpload.
+     * {@link #STORY_UPLOAD}와 파일별 전송 완료 시간을 비교한다.
+     */
+    PARALLEL_STORY_UPLOAD(TaskPriority.BULK_UPLOAD),
+
+    /**
+     * 끊긴 연결을 이어서 다시 시도하는 StorageApi.requestResumableImageUpload. server의 drop rate와 함께 사용한다.
+     */
+    RESUMABLE_UPLOAD(TaskPriority.BULK_UPLOAD),
+
+    /**
+     * 하나의 SingleNetworkTask를 모든 worker thread가 함께 사용해 /v1/user/me를 요청한다.
+     */
+    SHARED_TASK(TaskPriority.INTERACTIVE),
+
+    /**
+     * {@link #ME}, {@link #FRIENDS}, {@link #CHAT_LIST}를 번갈아 요청한다.
+     */
+    MIXED(TaskPriority.INTERACTIVE);
+
+    private final TaskPriority priority;
+
+    Scenario(final TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * @return 요청을 넣을 KakaoTaskQueue의 lane
+     */
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public boolean isUpload() {
+        return priority == TaskPriority.BULK_UPLOAD;
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util;
+
+/**
+ * util module의 BuildConfig. deploy phase는 local이며 나머지 값은 util/build.gradle의 기본값과 같다.
+ * Local phase의 서버 주소는 {@link com.kakao.network.ServerProtocol#LOCAL_AUTHORITY_PROPERTY}로 지정한 stub server가 된다.
+ */
+public final class BuildConfig {
+    public static final boolean DEBUG = false;
+    public static final String DEPLOY_PHASE = "local";
+    public static final boolean SHOW_LOGS = true;
+    public static final boolean STRIP_DEBUG_LOGS = false;
+    public static final String SDK_VERSION = "loadtest";
+
+    private BuildConfig() {
+    }
+}
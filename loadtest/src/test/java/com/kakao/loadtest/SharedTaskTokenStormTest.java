@@ -0,0 +1,119 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.loadtest;
+
+import com.kakao.auth.SingleNetworkTask;
+import com.kakao.network.ErrorResult;
+import com.kakao.network.callback.ResponseCallback;
+import com.kakao.network.tasks.KakaoResultTask;
+import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.testsupport.StubServer;
+import com.kakao.testsupport.StubServerConfig;
+import com.kakao.usermgmt.request.MeRequest;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link Scenario#SHARED_TASK}와 같이 하나의 {@link SingleNetworkTask}를 여러 worker thread가 함께 쓸 때
+ * 모든 access token이 무효화되어도 요청이 실패하지 않고 token은 한번만 갱신되는지 확인한다.
+ * storm은 진행 중인 요청이 없을 때 일으키므로 storm마다 갱신 횟수를 정확히 셀 수 있다.
+ */
+public class SharedTaskTokenStormTest {
+    private static final int STORM_COUNT = 20;
+    private static final int REQUESTS_PER_STORM = 32;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @ClassRule
+    public static final TemporaryFolder folder = new TemporaryFolder();
+
+    private static StubServer server;
+    private static SingleNetworkTask sharedTask;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        server = StubServer.start(new StubServerConfig.Builder().setLatency(5, 5).build());
+        LoadTest.initSdk(server, folder.newFolder("data"), false);
+        sharedTask = new SingleNetworkTask();
+
+        // 저장해둔 access token은 만료되어 있으므로 storm 전에 한번 갱신해둔다.
+        assertEquals("[]", runRequests(1).toString());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void refreshesOncePerTokenStorm() throws Exception {
+        for (int storm = 1; storm <= STORM_COUNT; storm++) {
+            server.expireAllTokens();
+            final long tokenRequests = server.getTokenRequestCount();
+
+            assertEquals("failures in storm " + storm, "[]", runRequests(REQUESTS_PER_STORM).toString());
+            assertEquals("token refreshes in storm " + storm, 1, server.getTokenRequestCount() - tokenRequests);
+        }
+    }
+
+    /**
+     * 공유 task로 /v1/user/me를 동시에 요청하고 모두 끝날 때까지 기다린다.
+     * @return 실패한 요청의 error
+     */
+    private static List<ErrorResult> runRequests(final int count) throws InterruptedException {
+        final List<ErrorResult> failures = new CopyOnWriteArrayList<ErrorResult>();
+        final CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<Object>(new ResponseCallback<Object>() {
+                @Override
+                public void onFailure(ErrorResult errorResult) {
+                    failures.add(errorResult);
+                }
+
+                @Override
+                public void onSuccess(Object result) {
+                }
+
+                @Override
+                public void onDidEnd() {
+                    done.countDown();
+                }
+            }) {
+                @Override
+                public Object call() throws Exception {
+                    return sharedTask.requestApi(new MeRequest(null, false));
+                }
+            }, Scenario.SHARED_TASK.getPriority());
+        }
+        assertTrue("requests did not finish in " + TIMEOUT_SECONDS + "s", done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        return failures;
+    }
+}
@@ -0,0 +1,309 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.response;
+
+import com.kakao.friends.response.FriendsResponse;
+import com.kakao.kakaotalk.response.ChatListResponse;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link JsonPullParser}가 org.json과 같은 값을 읽고, 잘못되거나 잘린 입력에서는 IOException을 던지는지 확인한다.
+ * 응답 stream은 조각나서 도착하므로 대부분의 입력을 한 글자씩 돌려주는 reader로도 읽어본다.
+ */
+public class JsonPullParserTest {
+    @Test
+    public void readsSimpleEscapes() throws IOException {
+        for (JsonPullParser parser : parsers("\"q\\\" s\\\\ sl\\/ b\\b f\\f n\\n r\\r t\\t\"")) {
+            assertEquals("q\" s\\ sl/ b\b f\f n\n r\r t\t", parser.nextString());
+            assertEquals(JsonPullParser.Token.END_DOCUMENT, parser.peek());
+        }
+    }
+
+    @Test
+    public void readsUnicodeEscapes() throws IOException {
+        for (JsonPullParser parser : parsers("[\"\\u00e9\\uAC00\\u0000\", \"\\u002f\"]")) {
+            parser.beginArray();
+            assertEquals("\u00e9\uAC00\u0000", parser.nextString());
+            assertEquals("/", parser.nextString());
+            parser.endArray();
+        }
+    }
+
+    @Test
+    public void readsSurrogatePairEscapes() throws IOException {
+        final String emoji = new String(Character.toChars(0x1F600));
+        for (JsonPullParser parser : parsers("{\"nickname\":\"a\\uD83D\\uDE00b\", \"raw\":\"" + emoji + "\"}")) {
+            parser.beginObject();
+            assertEquals("nickname", parser.nextName());
+            final String nickname = parser.nextString();
+            assertEquals("a" + emoji + "b", nickname);
+            assertEquals(4, nickname.length());
+            assertEquals(3, nickname.codePointCount(0, nickname.length()));
+            assertEquals("raw", parser.nextName());
+            assertEquals(emoji, parser.nextString());
+            parser.endObject();
+        }
+    }
+
+    @Test
+    public void readsStringLongerThanBuffer() throws IOException {
+        final StringBuilder expected = new StringBuilder();
+        final StringBuilder json = new StringBuilder("\"");
+        for (int i = 0; i < 3000; i++) {
+            expected.append(i % 10 == 0 ? "\n" : "가");
+            json.append(i % 10 == 0 ? "\\n" : "\\uac00");
+        }
+        json.append('"');
+
+        assertEquals(expected.toString(), new JsonPullParser(new StringReader(json.toString())).nextString());
+    }
+
+    @Test
+    public void skipsNestedValues() throws IOException {
+        final String json = "{\"skip\":{\"a\":[1,{\"b\":[[],{},[null,true]]},\"x\\\"]}\"],\"c\":null},"
+                + "\"array\":[[1,[2,[3]]],{\"d\":{}}],\"string\":\"}]\",\"keep\":7}";
+        for (JsonPullParser parser : parsers(json)) {
+            parser.beginObject();
+            assertEquals("skip", parser.nextName());
+            parser.skipValue();
+            assertEquals("array", parser.nextName());
+            parser.skipValue();
+            assertEquals("string", parser.nextName());
+            parser.skipValue();
+            assertEquals("keep", parser.nextName());
+            assertEquals(7, parser.nextInt());
+            assertFalse(parser.hasNext());
+            parser.endObject();
+            assertEquals(JsonPullParser.Token.END_DOCUMENT, parser.peek());
+        }
+    }
+
+    @Test
+    public void skipsDeeplyNestedValue() throws IOException {
+        final int depth = 200;
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < depth; i++) {
+            json.append("{\"a\":[");
+        }
+        for (int i = 0; i < depth; i++) {
+            json.append("]}");
+        }
+        json.append(",\"after\"]");
+
+        final JsonPullParser parser = new JsonPullParser(new StringReader(json.toString()));
+        parser.beginArray();
+        parser.skipValue();
+        assertEquals("after", parser.nextString());
+        parser.endArray();
+        assertEquals(JsonPullParser.Token.END_DOCUMENT, parser.peek());
+    }
+
+    @Test
+    public void readsNumbersLikeJsonObject() throws IOException {
+        final String json = "[0, -0, -1, 2147483647, -2147483648, 2147483648, -9223372036854775808, 1.5, -2.5E-3, 1e3]";
+        for (JsonPullParser parser : parsers(json)) {
+            final JSONArray array = (JSONArray) parser.readValue();
+            assertEquals(Integer.valueOf(0), array.opt(0));
+            assertEquals(Integer.valueOf(0), array.opt(1));
+            assertEquals(Integer.valueOf(-1), array.opt(2));
+            assertEquals(Integer.valueOf(Integer.MAX_VALUE), array.opt(3));
+            assertEquals(Integer.valueOf(Integer.MIN_VALUE), array.opt(4));
+            assertEquals(Long.valueOf(2147483648L), array.opt(5));
+            assertEquals(Long.valueOf(Long.MIN_VALUE), array.opt(6));
+            assertEquals(Double.valueOf(1.5), array.opt(7));
+            assertEquals(Double.valueOf(-0.0025), array.opt(8));
+            assertEquals(Double.valueOf(1000), array.opt(9));
+        }
+    }
+
+    @Test
+    public void readsIntegerBoundaries() throws IOException {
+        final JsonPullParser parser = new JsonPullParser(new StringReader(
+                "[2147483647, -2147483648, 9223372036854775807, \"42\"]"));
+        parser.beginArray();
+        assertEquals(Integer.MAX_VALUE, parser.nextInt());
+        assertEquals(Integer.MIN_VALUE, parser.nextInt());
+        assertEquals(Long.MAX_VALUE, parser.nextLong());
+        assertEquals(42, parser.nextInt());
+        parser.endArray();
+    }
+
+    @Test
+    public void rejectsNumbersOutOfRange() throws IOException {
+        assertNextIntFails("2147483648");
+        assertNextIntFails("-2147483649");
+        assertNextIntFails("1.5");
+        assertNextIntFails("1e3");
+        assertNextIntFails("9223372036854775808");
+        assertNextIntFails("true");
+        assertNextIntFails("null");
+    }
+
+    @Test
+    public void readsNullValues() throws Exception {
+        final JsonPullParser parser = new JsonPullParser(new StringReader("{\"s\":null,\"list\":null,\"o\":null}"));
+        parser.beginObject();
+        assertEquals("s", parser.nextName());
+        assertNull(parser.nextString());
+        assertEquals("list", parser.nextName());
+        assertTrue(parser.readConvertedList(200, new ResponseBody.BodyConverter<String>() {
+            @Override
+            public String convert(ResponseBody body) {
+                return body.toString();
+            }
+        }).isEmpty());
+        assertEquals("o", parser.nextName());
+        assertEquals(JSONObject.NULL, parser.readValue());
+        parser.endObject();
+    }
+
+    @Test
+    public void treatsNullTotalCountAsZero() throws Exception {
+        final String json = "{\"elements\":[],\"total_count\":null,\"before_url\":null,\"after_url\":null,\"unknown\":{\"a\":[1]}}";
+        for (JsonPullParser parser : parsers(json)) {
+            final FriendsResponse response = FriendsResponse.PARSER.parse(200, parser);
+            assertEquals(0, response.getTotalCount());
+            assertTrue(response.getFriendInfoList().isEmpty());
+            assertNull(response.getAfterUrl());
+        }
+        for (JsonPullParser parser : parsers(json)) {
+            final ChatListResponse response = ChatListResponse.PARSER.parse(200, parser);
+            assertEquals(0, response.getTotalCount());
+            assertTrue(response.getChatInfoList().isEmpty());
+        }
+    }
+
+    @Test
+    public void readsTotalCount() throws Exception {
+        final FriendsResponse response = FriendsResponse.PARSER.parse(200,
+                new JsonPullParser(new StringReader("{\"total_count\":12,\"elements\":[]}")));
+        assertEquals(12, response.getTotalCount());
+    }
+
+    @Test
+    public void rejectsTruncatedInput() {
+        assertMalformed("");
+        assertMalformed("   ");
+        assertMalformed("{");
+        assertMalformed("{\"a\"");
+        assertMalformed("{\"a\":");
+        assertMalformed("{\"a\":1");
+        assertMalformed("{\"a\":1,");
+        assertMalformed("[1, 2");
+        assertMalformed("[\"abc");
+        assertMalformed("\"abc\\");
+        assertMalformed("\"\\u12");
+        assertMalformed("{\"elements\":[{\"id\":1},");
+    }
+
+    @Test
+    public void rejectsMalformedInput() {
+        assertMalformed("[1 2]");
+        assertMalformed("[1,]");
+        assertMalformed("[,]");
+        assertMalformed("{\"a\" 1}");
+        assertMalformed("{a:1}");
+        assertMalformed("{\"a\":1,}");
+        assertMalformed("{\"a\":1]");
+        assertMalformed("tru");
+        assertMalformed("nul");
+        assertMalformed("-");
+        assertMalformed("\"\\uZZZZ\"");
+        assertMalformed("{} {}");
+        assertMalformed("[] x");
+    }
+
+    @Test
+    public void rejectsSkipPastEndOfDocument() throws IOException {
+        final JsonPullParser parser = new JsonPullParser(new StringReader("[1]"));
+        parser.skipValue();
+        try {
+            parser.skipValue();
+            fail("skipValue at the end of document");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static void assertNextIntFails(String literal) {
+        try {
+            new JsonPullParser(new StringReader(literal)).nextInt();
+            fail("nextInt accepted " + literal);
+        } catch (IOException expected) {
+        }
+    }
+
+    /**
+     * 문서 전체를 읽었을 때 IOException이 나야 한다.
+     */
+    private static void assertMalformed(String json) {
+        for (JsonPullParser parser : parsers(json)) {
+            try {
+                parser.readValue();
+                if (parser.peek() == JsonPullParser.Token.END_DOCUMENT) {
+                    fail("accepted malformed input : " + json);
+                }
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    /**
+     * 같은 입력을 한번에 읽는 parser와 한 글자씩 읽는 parser.
+     */
+    private static JsonPullParser[] parsers(String json) {
+        return new JsonPullParser[]{
+                new JsonPullParser(new StringReader(json)),
+                new JsonPullParser(new TrickleReader(json))
+        };
+    }
+
+    private static class TrickleReader extends Reader {
+        private final String source;
+        private int pos;
+
+        TrickleReader(String source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (pos == source.length()) {
+                return -1;
+            }
+            buffer[offset] = source.charAt(pos++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper;
+
+import android.content.Context;
+import android.os.Bundle;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link BinaryCacheStorage}의 파일을 자르거나 깨뜨린 뒤 다시 열어 마지막으로 온전히 쓰여진 상태가 복구되는지 확인한다.
+ */
+public class BinaryCacheStorageTest {
+    private static final String CACHE_NAME = "test";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = new File(folder.newFolder("storage"), "cache.bin");
+    }
+
+    @Test
+    public void roundTripsSupportedTypes() throws IOException {
+        final Map<String, Object> values = new HashMap<String, Object>();
+        values.put("boolean", true);
+        values.put("byte", (byte) -3);
+        values.put("short", (short) 1234);
+        values.put("int", Integer.MIN_VALUE);
+        values.put("long", Long.MAX_VALUE);
+        values.put("float", 1.5f);
+        values.put("double", -0.25);
+        values.put("char", '가');
+        values.put("string", "access token \u0000 토큰");
+        values.put("enum", TimeUnit.SECONDS);
+        values.put("bytes", new byte[]{1, 2, 3});
+        values.put("ints", new int[]{-1, 0, 1});
+        values.put("longs", new long[]{Long.MIN_VALUE});
+        values.put("chars", new char[]{'a', '가'});
+        values.put("booleans", new boolean[]{true, false});
+        values.put("strings", Arrays.asList("a", "", "나"));
+        assertTrue(new BinaryCacheStorage(file).write(false, values, true));
+
+        final Map<String, Object> loaded = new BinaryCacheStorage(file).loadAll();
+        assertEquals(values.size(), loaded.size());
+        assertEquals(true, loaded.get("boolean"));
+        assertEquals((byte) -3, loaded.get("byte"));
+        assertEquals((short) 1234, loaded.get("short"));
+        assertEquals(Integer.MIN_VALUE, loaded.get("int"));
+        assertEquals(Long.MAX_VALUE, loaded.get("long"));
+        assertEquals(1.5f, loaded.get("float"));
+        assertEquals(-0.25, loaded.get("double"));
+        assertEquals('가', loaded.get("char"));
+        assertEquals("access token \u0000 토큰", loaded.get("string"));
+        assertEquals(TimeUnit.SECONDS, loaded.get("enum"));
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) loaded.get("bytes"));
+        assertArrayEquals(new int[]{-1, 0, 1}, (int[]) loaded.get("ints"));
+        assertArrayEquals(new long[]{Long.MIN_VALUE}, (long[]) loaded.get("longs"));
+        assertArrayEquals(new char[]{'a', '가'}, (char[]) loaded.get("chars"));
+        assertTrue(Arrays.equals(new boolean[]{true, false}, (boolean[]) loaded.get("booleans")));
+        assertEquals(Arrays.asList("a", "", "나"), loaded.get("strings"));
+    }
+
+    @Test
+    public void replaysRemoveAndClear() throws IOException {
+        BinaryCacheStorage storage = new BinaryCacheStorage(file);
+        storage.write(false, values("a", 1, "b", 2, "c", 3), false);
+        storage.write(false, values("b", null), false);
+        storage.write(true, values("d", 4), false);
+        storage.write(false, values("e", 5, "d", null), true);
+
+        assertEquals(values("e", 5), new BinaryCacheStorage(file).loadAll());
+    }
+
+    @Test
+    public void truncatesTornTail() throws IOException {
+        BinaryCacheStorage storage = new BinaryCacheStorage(file);
+        storage.write(false, values("a", "first", "b", 1L), true);
+        storage.write(false, values("a", "second"), true);
+        final long goodLength = file.length();
+        final Map<String, Object> goodState = storage.loadAll();
+        final Map<String, Object> tornBatch = values("a", "torn", "c", new int[]{1, 2, 3});
+        storage.write(false, tornBatch, true);
+        final long fullLength = file.length();
+
+        // 마지막 batch가 어느 위치에서 끊겨도 그 앞의 상태로 돌아간다.
+        for (long length = goodLength + 1; length < fullLength; length++) {
+            setLength(length);
+            storage = new BinaryCacheStorage(file);
+            assertEquals("cut at " + length, goodState, storage.loadAll());
+            assertEquals("cut at " + length, goodLength, file.length());
+
+            storage.write(false, tornBatch, true);
+            assertEquals(fullLength, file.length());
+        }
+    }
+
+    @Test
+    public void appendsAfterRecoveredTail() throws IOException {
+        BinaryCacheStorage storage = new BinaryCacheStorage(file);
+        storage.write(false, values("a", 1), true);
+        final long goodLength = file.length();
+        storage.write(false, values("b", 2), true);
+        setLength(file.length() - 3);
+
+        storage = new BinaryCacheStorage(file);
+        assertEquals(goodLength, file.length());
+        storage.write(false, values("c", 3), true);
+
+        assertEquals(values("a", 1, "c", 3), new BinaryCacheStorage(file).loadAll());
+    }
+
+    @Test
+    public void rejectsBatchWithBadCrc() throws IOException {
+        BinaryCacheStorage storage = new BinaryCacheStorage(file);
+        storage.write(false, values("a", 1), true);
+        final long firstLength = file.length();
+        storage.write(false, values("a", 2, "b", "two"), true);
+        storage.write(false, values("c", 3), true);
+
+        // 두번째 batch의 내용을 바꾸면 CRC가 맞지 않아 그 batch부터 버린다.
+        flipByte(firstLength + 6);
+        storage = new BinaryCacheStorage(file);
+        assertEquals(values("a", 1), storage.loadAll());
+        assertEquals(firstLength, file.length());
+
+        // CRC 자체가 깨진 경우도 같다.
+        storage.write(false, values("d", 4), true);
+        flipByte(file.length() - 1);
+        assertEquals(values("a", 1), new BinaryCacheStorage(file).loadAll());
+    }
+
+    @Test
+    public void rejectsImpossibleBatchLength() throws IOException {
+        BinaryCacheStorage storage = new BinaryCacheStorage(file);
+        storage.write(false, values("a", 1), true);
+        final long goodLength = file.length();
+        storage.write(false, values("b", 2), true);
+
+        writeIntAt(goodLength, Integer.MAX_VALUE);
+        assertEquals(values("a", 1), new BinaryCacheStorage(file).loadAll());
+
+        storage = new BinaryCacheStorage(file);
+        storage.write(false, values("b", 2), true);
+        writeIntAt(goodLength, -1);
+        assertEquals(values("a", 1), new BinaryCacheStorage(file).loadAll());
+        assertEquals(goodLength, file.length());
+    }
+
+    @Test
+    public void startsEmptyWithBadHeader() throws IOException {
+        new BinaryCacheStorage(file).write(false, values("a", 1), true);
+        flipByte(0);
+
+        BinaryCacheStorage storage = new BinaryCacheStorage(file);
+        assertTrue(storage.loadAll().isEmpty());
+        storage.write(false, values("b", 2), true);
+        assertEquals(values("b", 2), new BinaryCacheStorage(file).loadAll());
+    }
+
+    @Test
+    public void compactsRepeatedWrites() throws IOException {
+        BinaryCacheStorage storage = new BinaryCacheStorage(file);
+        storage.write(false, values("kept", "value", "counter", 0), false);
+        final long lengthBefore = file.length();
+        storage.write(false, values("counter", 1), false);
+        final long recordLength = file.length() - lengthBefore;
+
+        for (int i = 2; i <= 1000; i++) {
+            storage.write(false, values("counter", i), false);
+            // 값이 2개뿐이므로 record가 64개를 넘으면 현재 값만 옮겨 쓴다.
+            assertTrue("length " + file.length() + " after " + i + " writes", file.length() < 70 * recordLength);
+        }
+
+        assertEquals(values("kept", "value", "counter", 1000), new BinaryCacheStorage(file).loadAll());
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test
+    public void migratesSharedPreferencesOnce() throws Exception {
+        final Context context = new Context(folder.newFolder("data"), new Bundle());
+        final XmlCacheStorage xmlStorage = new XmlCacheStorage(context, CACHE_NAME);
+        xmlStorage.write(false, values("token", "xml", "expires", 10L), true);
+
+        ICacheStorage storage = BinaryCacheStorage.open(context, CACHE_NAME);
+        assertTrue(storage instanceof BinaryCacheStorage);
+        assertEquals(values("token", "xml", "expires", 10L), storage.loadAll());
+        assertTrue(xmlStorage.loadAll().isEmpty());
+        storage.write(false, values("token", "binary"), true);
+
+        // 옮겨온 뒤에 SharedPreferences에 남은 값은 다시 옮겨오지 않는다.
+        xmlStorage.write(false, values("token", "stale", "other", 1), true);
+        storage = BinaryCacheStorage.open(context, CACHE_NAME);
+        assertTrue(storage instanceof BinaryCacheStorage);
+        assertEquals(values("token", "binary", "expires", 10L), storage.loadAll());
+        assertEquals(values("token", "stale", "other", 1), xmlStorage.loadAll());
+    }
+
+    @Test
+    public void migratesEmptySharedPreferences() throws Exception {
+        final Context context = new Context(folder.newFolder("data"), new Bundle());
+        ICacheStorage storage = BinaryCacheStorage.open(context, CACHE_NAME);
+        assertTrue(storage.loadAll().isEmpty());
+        assertTrue(new File(context.getFilesDir(), "kakao_cache_" + CACHE_NAME + ".bin").exists());
+        assertNull(storage.load("token"));
+    }
+
+    private void setLength(long length) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(length);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private void flipByte(long position) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(position);
+            final int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xff);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private void writeIntAt(long position, int value) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(position);
+            raf.writeInt(value);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static Map<String, Object> values(Object... keyValues) {
+        final Map<String, Object> values = new HashMap<String, Object>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            values.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,425 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+import com.kakao.util.helper.log.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ICacheableRequest}의 응답을 disk에 저장하는 cache.
+ * url, param과 access token으로 구분하여 저장하며, 저장된 응답은 ETag/Last-Modified로 재검증한다.
+ * 서버가 Cache-Control max-age를 준 경우에만 그 시간 동안 요청 없이 저장된 응답을 사용한다.
+ * 크기가 {@link ResponseCacheConfig#getMaxSize()}를 넘으면 가장 오래 사용하지 않은 응답부터 지운다.
+ * disk index는 첫 사용 시점에 읽으므로 main thread에서 설치해도 된다.
+ */
+public class HttpResponseCache {
+    public static final String DIRECTORY_NAME = "kakao_http_cache";
+
+    private static final int ENTRY_VERSION = 1;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private static volatile HttpResponseCache installed;
+
+    private final File directory;
+    private final long maxSize;
+    // file 이름 -> byte 수. 접근 순서로 정렬된다.
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<String, Long>(16, 0.75f, true);
+    private long size = 0;
+    private boolean loaded = false;
+
+    private final AtomicInteger hitCount = new AtomicInteger();
+    private final AtomicInteger revalidationCount = new AtomicInteger();
+    private final AtomicInteger missCount = new AtomicInteger();
+
+    /**
+     * {@link NetworkTask}가 사용할 cache를 설치한다. 이미 설치된 cache는 대체된다.
+     * @param directory 응답을 저장할 directory
+     * @param config cache 설정
+     * @return 설치된 cache
+     */
+    public static synchronized HttpResponseCache install(File directory, ResponseCacheConfig config) {
+        if (directory == null || config == null) {
+            throw new IllegalArgumentException("directory and config may not be null");
+        }
+        installed = new HttpResponseCache(directory, config.getMaxSize());
+        return installed;
+    }
+
+    /**
+     * @return 설치된 cache. 설치되지 않았으면 null
+     */
+    public static HttpResponseCache getInstalled() {
+        return installed;
+    }
+
+    /**
+     * 설치된 cache를 해제한다. 저장된 응답은 지우지 않는다.
+     */
+    public static synchronized void uninstall() {
+        installed = null;
+    }
+
+    HttpResponseCache(File directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return 요청 없이 저장된 응답을 사용한 횟수
+     */
+    public int getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return 서버가 304로 저장된 응답이 유효함을 알려준 횟수
+     */
+    public int getRevalidationCount() {
+        return revalidationCount.get();
+    }
+
+    /**
+     * @return cache 대상 요청이 전체 응답을 받아온 횟수
+     */
+    public int getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return 저장된 응답의 byte 수
+     */
+    public synchronized long getSize() {
+        ensureLoaded();
+        return size;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * group에 속한 응답을 모두 지운다.
+     * @param group 지울 {@link ICacheableRequest#getCacheGroup()}
+     */
+    public synchronized void invalidate(String group) {
+        ensureLoaded();
+        final String prefix = toFileNamePrefix(group);
+        final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, Long> entry = iterator.next();
+            if (entry.getKey().startsWith(prefix)) {
+                deleteFile(entry.getKey());
+                size -= entry.getValue();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 저장된 응답을 모두 지운다. 로그아웃 등으로 session이 닫힐 때 호출된다.
+     */
+    public synchronized void clear() {
+        ensureLoaded();
+        for (String fileName : entries.keySet()) {
+            deleteFile(fileName);
+        }
+        entries.clear();
+        size = 0;
+    }
+
+    synchronized Entry get(String key) {
+        ensureLoaded();
+        if (entries.get(key) == null) {
+            return null;
+        }
+
+        final File file = new File(directory, key);
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != ENTRY_VERSION) {
+                throw new IOException("unknown cache entry version");
+            }
+            final String etag = emptyToNull(in.readUTF());
+            final String lastModified = emptyToNull(in.readUTF());
+            final long expiresAt = in.readLong();
+            final byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            file.setLastModified(System.currentTimeMillis());
+            return new Entry(etag, lastModified, expiresAt, body);
+        } catch (IOException e) {
+            Logger.w("HttpResponseCache : cannot read " + key + ", e = " + e);
+            remove(key);
+            return null;
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    synchronized void put(String key, Entry entry) {
+        ensureLoaded();
+        final File temp = new File(directory, key + TEMP_SUFFIX);
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(ENTRY_VERSION);
+            out.writeUTF(entry.etag != null ? entry.etag : "");
+            out.writeUTF(entry.lastModified != null ? entry.lastModified : "");
+            out.writeLong(entry.expiresAt);
+            out.writeInt(entry.body.length);
+            out.write(entry.body);
+            out.close();
+            out = null;
+
+            remove(key);
+            final File file = new File(directory, key);
+            if (!temp.renameTo(file)) {
+                throw new IOException("cannot rename " + temp);
+            }
+            entries.put(key, file.length());
+            size += file.length();
+            trimToSize();
+        } catch (IOException e) {
+            Logger.w("HttpResponseCache : cannot write " + key + ", e = " + e);
+            temp.delete();
+        } finally {
+            closeQuietly(out);
+        }
+    }
+
+    synchronized void remove(String key) {
+        final Long length = entries.remove(key);
+        if (length != null) {
+            size -= length;
+            deleteFile(key);
+        }
+    }
+
+    void recordHit() {
+        hitCount.incrementAndGet();
+    }
+
+    void recordRevalidation() {
+        revalidationCount.incrementAndGet();
+    }
+
+    void recordMiss() {
+        missCount.incrementAndGet();
+    }
+
+    /**
+     * 요청의 cache key. access token이 다르면 다른 응답으로 저장되며, token 자체는 hash로만 남는다.
+     */
+    static String createKey(ICacheableRequest request) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(request.getMethod()).append('\n').append(request.getUrl()).append('\n');
+        final String authorization = request.getHeaders().get(ServerProtocol.AUTHORIZATION_HEADER_KEY);
+        if (authorization != null) {
+            builder.append(authorization);
+        }
+        builder.append('\n').append(new TreeMap<String, String>(request.getParams()));
+        return toFileNamePrefix(request.getCacheGroup()) + sha1(builder.toString());
+    }
+
+    /**
+     * 응답 header를 보고 저장할 entry를 만든다.
+     * @return 저장하면 안되거나 재검증할 수 없는 응답이면 null
+     */
+    static Entry createEntry(KakaoNetworkImpl network, byte[] body) {
+        final long maxAge = parseMaxAge(network.getResponseHeader(HEADER_CACHE_CONTROL));
+        final String etag = network.getResponseHeader(HEADER_ETAG);
+        final String lastModified = network.getResponseHeader(HEADER_LAST_MODIFIED);
+        if (maxAge < 0 || (etag == null && lastModified == null && maxAge == 0)) {
+            return null;
+        }
+        return new Entry(etag, lastModified, System.currentTimeMillis() + maxAge * 1000, body);
+    }
+
+    /**
+     * @return Cache-Control의 max-age(초). 없거나 no-cache이면 0, no-store이면 -1
+     */
+    static long parseMaxAge(String cacheControl) {
+        if (cacheControl == null) {
+            return 0;
+        }
+
+        long maxAge = 0;
+        for (String directive : cacheControl.split(",")) {
+            final String value = directive.trim().toLowerCase();
+            if (value.equals("no-store")) {
+                return -1;
+            } else if (value.equals("no-cache")) {
+                return 0;
+            } else if (value.startsWith("max-age=")) {
+                try {
+                    maxAge = Math.max(0, Long.parseLong(value.substring("max-age=".length())));
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        }
+        return maxAge;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            Logger.w("HttpResponseCache : cannot create " + directory);
+            return;
+        }
+
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        // 마지막으로 읽거나 쓴 시각을 접근 순서로 사용한다.
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File lhs, File rhs) {
+                final long l = lhs.lastModified();
+                final long r = rhs.lastModified();
+                return l < r ? -1 : (l == r ? 0 : 1);
+            }
+        });
+        for (File file : files) {
+            if (file.getName().endsWith(TEMP_SUFFIX)) {
+                file.delete();
+                continue;
+            }
+            entries.put(file.getName(), file.length());
+            size += file.length();
+        }
+        trimToSize();
+    }
+
+    private void trimToSize() {
+        final List<String> evicted = new ArrayList<String>();
+        final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            final Map.Entry<String, Long> entry = iterator.next();
+            size -= entry.getValue();
+            evicted.add(entry.getKey());
+            iterator.remove();
+        }
+        for (String fileName : evicted) {
+            deleteFile(fileName);
+        }
+    }
+
+    private void deleteFile(String fileName) {
+        final File file = new File(directory, fileName);
+        if (file.exists() && !file.delete()) {
+            Logger.w("HttpResponseCache : cannot delete " + file);
+        }
+    }
+
+    private static String toFileNamePrefix(String group) {
+        return (group != null ? group : "").replaceAll("[^A-Za-z0-9]", "_") + ".";
+    }
+
+    private static String sha1(String value) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            final byte[] hash = digest.digest(value.getBytes("UTF-8"));
+            final StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.length() == 0 ? null : value;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    /**
+     * 저장된 하나의 성공(200) 응답.
+     */
+    static class Entry {
+        final String etag;
+        final String lastModified;
+        final long expiresAt;
+        final byte[] body;
+
+        Entry(String etag, String lastModified, long expiresAt, byte[] body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAt = expiresAt;
+            this.body = body;
+        }
+
+        boolean isFresh() {
+            return expiresAt > System.currentTimeMillis();
+        }
+
+        /**
+         * 304 응답의 header로 검증 정보와 유효 시간을 갱신한다.
+         */
+        Entry revalidate(KakaoNetworkImpl network) {
+            final String newEtag = network.getResponseHeader(HEADER_ETAG);
+            final String newLastModified = network.getResponseHeader(HEADER_LAST_MODIFIED);
+            final long maxAge = Math.max(0, parseMaxAge(network.getResponseHeader(HEADER_CACHE_CONTROL)));
+            return new Entry(newEtag != null ? newEtag : etag,
+                    newLastModified != null ? newLastModified : lastModified,
+                    System.currentTimeMillis() + maxAge * 1000, body);
+        }
+    }
+}
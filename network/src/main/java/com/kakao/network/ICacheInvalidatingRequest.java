@@ -0,0 +1,30 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+import java.util.List;
+
+/**
+ * 성공하면 {@link HttpResponseCache}에 저장된 응답을 무효화하는 쓰기 요청.
+ */
+public interface ICacheInvalidatingRequest extends IRequest {
+    /**
+     * @return 요청이 성공했을 때 지울 {@link ICacheableRequest#getCacheGroup()} 목록
+     */
+    List<String> getInvalidatedCacheGroups();
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+/**
+ * 응답을 {@link HttpResponseCache}에 저장하고 ETag/Last-Modified로 재검증할 수 있는 GET 요청.
+ */
+public interface ICacheableRequest extends IRequest {
+    /**
+     * @return 응답이 속한 cache group. 같은 group을 지우는 {@link ICacheInvalidatingRequest}가 성공하면 함께 지워진다.
+     */
+    String getCacheGroup();
+}
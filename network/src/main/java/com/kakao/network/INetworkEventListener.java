@@ -0,0 +1,31 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+/**
+ * API 요청의 구간별 소요 시간을 받는 listener. {@link NetworkEventTracker#setListener(INetworkEventListener)}로 등록한다.
+ */
+public interface INetworkEventListener {
+    /**
+     * 요청 하나가 끝났을 때 불린다.
+     * {@link com.kakao.network.tasks.KakaoResultTask}에서 수행된 요청은 결과가 UI thread로 전달된 뒤 main thread에서,
+     * 그 외의 요청은 요청한 thread에서 불리므로 오래 걸리는 작업을 하지 않는다.
+     * @param timings 요청의 구간별 소요 시간
+     */
+    void onRequestFinished(RequestTimings timings);
+}
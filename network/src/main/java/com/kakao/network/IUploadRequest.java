@@ -0,0 +1,30 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+import com.kakao.network.multipart.UploadProgressListener;
+
+/**
+ * multipart upload 진행 상황을 받거나 upload를 취소할 수 있는 요청.
+ */
+public interface IUploadRequest extends IRequest {
+    /**
+     * @return upload 진행 상황을 받을 listener. null이면 진행 상황을 알리지 않는다.
+     */
+    UploadProgressListener getUploadProgressListener();
+}
@@ -21,7 +21,12 @@ import android.util.Base64;
 
 import com.kakao.network.multipart.MultipartRequestEntity;
 import com.kakao.network.multipart.Part;
+import com.kakao.network.multipart.UploadProgressListener;
+import com.kakao.network.response.JsonPullParser;
+import com.kakao.network.response.ResponseBody.ResponseBodyException;
+import com.kakao.network.response.ResponseParser;
 import com.kakao.util.helper.log.Logger;
+import com.kakao.util.helper.log.LoggerConfig;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -29,38 +34,30 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
-import java.net.Proxy;
-import java.net.URL;
 import java.net.URLEncoder;
-import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
 
 /**
  * INetwork를 구현한 구현체.
  * google android에서 제공하는 HttpURLConnection을 기준으로 만들어졌다.
  * Kakao Api를 요청하기위한 하나의 Connection의 용도로 사용되며, Thread Safe 하지 않음.
+ * 실제 socket과 TLS session은 {@link KakaoTransport}를 통해 다른 요청과 공유된다.
  * @author leo.shin
  */
 public class KakaoNetworkImpl implements INetwork {
     private HttpURLConnection urlConnection = null;
     private String charset = "ISO-8859-1";
-    private final Set<Part> partSet = new HashSet<Part>();
+    private final List<Part> partList = new ArrayList<Part>();
     private final Map<String, String> params = new HashMap<String, String>();
     private final Map<String, String> header = new HashMap<String, String>();
-    private static final int DEFAULT_CONNECTION_TO_IN_MS = 5000;
-    private static final int DEFAULT_REQUEST_TO_IN_MS = 30 * 1000;
 
     private int statusCode = -1;
+    private boolean responseConsumed = false;
+    private UploadProgressListener uploadProgressListener = null;
+    private RequestTimings timings = null;
 
     /**
      * HttpUrlConnection 을 생성하며, property설정을 한다.
@@ -70,33 +67,18 @@ public class KakaoNetworkImpl implements INetwork {
      */
     @Override
     public void create(String url, String method, String charset) throws IOException {
-        Logger.d("++ url : " + url);
-        Logger.d("++ method : " + method);
-        this.charset = charset;
-        this.urlConnection = (HttpURLConnection) new URL(url).openConnection(Proxy.NO_PROXY);
-        if (url.startsWith("https")) {
-
-            HttpsURLConnection secure = (HttpsURLConnection) urlConnection;
-
-            SSLContext sslContext = null;
-            try {
-                sslContext = SSLContext.getInstance("TLS");
-                sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-            } catch (GeneralSecurityException e) {
-                throw new IOException(e.getMessage());
-            }
-
-            secure.setSSLSocketFactory(sslContext.getSocketFactory());
-            secure.setHostnameVerifier(DO_NOT_VERIFY);
+        if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+            Logger.d("++ url : " + url);
+            Logger.d("++ method : " + method);
         }
-        urlConnection.setRequestMethod(method);
+        this.charset = charset;
+        this.responseConsumed = false;
+        this.urlConnection = KakaoTransport.getInstance().openConnection(url, method);
     }
 
     @Override
     public void configure() throws IOException {
         urlConnection.setDoInput(true);
-        urlConnection.setConnectTimeout(DEFAULT_CONNECTION_TO_IN_MS);
-        urlConnection.setReadTimeout(DEFAULT_REQUEST_TO_IN_MS);
         urlConnection.setInstanceFollowRedirects(false);
         urlConnection.setRequestProperty("Connection", "keep-alive");
 
@@ -107,17 +89,17 @@ public class KakaoNetworkImpl implements INetwork {
         }
 
         String reqType = urlConnection.getRequestMethod();
+        String postParamString = "";
+        MultipartRequestEntity mre = null;
         if ("POST".equals(reqType) || "PUT".equals(reqType)) {
             urlConnection.setRequestProperty("Content-Length", "0");
             urlConnection.setDoOutput(true);
             int contentLength = 0;
-            String postParamString = "";
-            MultipartRequestEntity mre = null;
             if (params != null && params.size() > 0) {
-                postParamString = getPostDataString(params);
+                postParamString = getPostDataString(params, charset);
                 contentLength += postParamString.length();
-            } else  if (partSet.size() > 0) {
-                mre = new MultipartRequestEntity(partSet);
+            } else  if (partList.size() > 0) {
+                mre = new MultipartRequestEntity(partList, uploadProgressListener);
                 contentLength += mre.getContentLength();
                 urlConnection.setRequestProperty("Content-Type", mre.getContentType());
             }
@@ -126,14 +108,25 @@ public class KakaoNetworkImpl implements INetwork {
                 urlConnection.setFixedLengthStreamingMode(contentLength);
                 urlConnection.setRequestProperty("Content-Length", String.valueOf(contentLength));
             }
+        }
 
-            if (postParamString != null && postParamString.length() > 0) {
-                urlConnection.getOutputStream().write(postParamString.getBytes(charset));
-            }
+        // 연결과 요청 body 전송 시간을 나누어 측정할 수 있도록 body를 쓰기 전에 먼저 연결한다.
+        final long connectStartedAt = System.nanoTime();
+        urlConnection.connect();
+        final long writeStartedAt = System.nanoTime();
 
-            if (mre != null) {
-                mre.writeRequest(urlConnection.getOutputStream());
-            }
+        if (postParamString != null && postParamString.length() > 0) {
+            urlConnection.getOutputStream().write(postParamString.getBytes(charset));
+        }
+
+        if (mre != null) {
+            mre.writeRequest(urlConnection.getOutputStream());
+        }
+
+        if (timings != null) {
+            timings.connectNanos = writeStartedAt - connectStartedAt;
+            timings.requestSentAt = System.nanoTime();
+            timings.requestWriteNanos = timings.requestSentAt - writeStartedAt;
         }
     }
 
@@ -144,6 +137,10 @@ public class KakaoNetworkImpl implements INetwork {
         } catch (IOException e) {
             statusCode = urlConnection.getResponseCode();
         }
+
+        if (timings != null) {
+            timings.firstByteNanos = System.nanoTime() - timings.requestSentAt;
+        }
     }
 
     @Override
@@ -151,11 +148,16 @@ public class KakaoNetworkImpl implements INetwork {
         // todo variable clear
         params.clear();
         header.clear();
-        partSet.clear();
+        partList.clear();
+        uploadProgressListener = null;
+        timings = null;
 
-        if (urlConnection != null) {
+        // 응답을 끝까지 읽은 connection은 이미 keep-alive pool로 반환되었으므로 socket을 닫지 않는다.
+        if (urlConnection != null && !responseConsumed) {
             urlConnection.disconnect();
         }
+        urlConnection = null;
+        responseConsumed = false;
         statusCode = HttpURLConnection.HTTP_OK;
     }
 
@@ -164,6 +166,14 @@ public class KakaoNetworkImpl implements INetwork {
         return statusCode;
     }
 
+    /**
+     * @param name 응답 header 이름
+     * @return 응답 header 값. 없으면 null
+     */
+    public String getResponseHeader(String name) {
+        return urlConnection != null ? urlConnection.getHeaderField(name) : null;
+    }
+
     @Override
     public void addHeader(String key, String value) {
         header.put(key, value);
@@ -176,6 +186,7 @@ public class KakaoNetworkImpl implements INetwork {
 
     @Override
     public byte[] readFully() throws IOException {
+        final long readStartedAt = System.nanoTime();
         InputStream is = getInputStream(urlConnection);
 
         try {
@@ -185,6 +196,10 @@ public class KakaoNetworkImpl implements INetwork {
             while((nLength = is.read(byteBuffer, 0, byteBuffer.length)) != -1) {
                 baos.write(byteBuffer, 0, nLength);
             }
+            responseConsumed = true;
+            if (timings != null) {
+                timings.bodyReadNanos = System.nanoTime() - readStartedAt;
+            }
             return baos.toByteArray();
         } finally {
             try {
@@ -196,39 +211,68 @@ public class KakaoNetworkImpl implements INetwork {
         }
     }
 
-    @Override
-    public void addPart(Part part) {
-        partSet.add(part);
-    }
+    /**
+     * 응답을 byte array로 모으지 않고 connection의 stream에서 바로 parser로 변환한다.
+     * parser가 읽고 남은 응답은 connection 재사용을 위해 끝까지 읽어서 버린다.
+     * @param parser 응답을 model로 변환할 parser
+     * @return 변환된 model
+     * @throws IOException
+     * @throws ResponseBodyException 프로토콜과 맞지 않는 응답이 왔을때 던지는 에러.
+     */
+    public <T> T readFully(ResponseParser<T> parser) throws IOException, ResponseBodyException {
+        InputStream is = getInputStream(urlConnection);
+        JsonPullParser jsonParser = new JsonPullParser(is);
 
-    final private static TrustManager[] trustAllCerts = new TrustManager[] { new X509TrustManager() {
-        public java.security.cert.X509Certificate[] getAcceptedIssuers() {
-            return new java.security.cert.X509Certificate[] {};
+        try {
+            final long parseStartedAt = System.nanoTime();
+            T result = parser.parse(getStatusCode(), jsonParser);
+            final long drainStartedAt = System.nanoTime();
+            byte[] byteBuffer = new byte[1024];
+            while (is.read(byteBuffer, 0, byteBuffer.length) != -1) {
+                // drain
+            }
+            responseConsumed = true;
+            if (timings != null) {
+                timings.parseNanos = drainStartedAt - parseStartedAt;
+                timings.bodyReadNanos = System.nanoTime() - drainStartedAt;
+            }
+            return result;
+        } finally {
+            try {
+                jsonParser.close();
+            } catch (IOException ignor) {
+            }
         }
+    }
 
-        @Override
-        public void checkClientTrusted(
-                java.security.cert.X509Certificate[] chain,
-                String authType)
-                throws java.security.cert.CertificateException {
-        }
+    /**
+     * multipart 요청의 upload 진행 상황을 받을 listener를 설정한다. {@link #disconnect()}시 해제된다.
+     * @param listener upload 진행 상황을 받을 listener.
+     */
+    public void setUploadProgressListener(UploadProgressListener listener) {
+        this.uploadProgressListener = listener;
+    }
 
-        @Override
-        public void checkServerTrusted(
-                java.security.cert.X509Certificate[] chain,
-                String authType)
-                throws java.security.cert.CertificateException {
-        }
-    }};
+    /**
+     * 요청의 구간별 소요 시간을 기록할 곳을 설정한다. {@link #disconnect()}시 해제된다.
+     * @param timings 시간을 기록할 {@link RequestTimings}. null이면 기록하지 않는다.
+     */
+    void setRequestTimings(RequestTimings timings) {
+        this.timings = timings;
+    }
 
-    final static HostnameVerifier DO_NOT_VERIFY = new HostnameVerifier() {
-        @Override
-        public boolean verify(String hostname, SSLSession session) {
-            return true;
-        }
-    };
+    @Override
+    public void addPart(Part part) {
+        partList.add(part);
+    }
 
-    private String getPostDataString(Map<String, String> params) throws UnsupportedEncodingException{
+    /**
+     * form parameter를 x-www-form-urlencoded 문자열로 만든다.
+     * @param params 보낼 parameter
+     * @param charset parameter를 encoding할 charset
+     * @return name=value를 &로 이은 문자열
+     */
+    static String getPostDataString(Map<String, String> params, String charset) throws UnsupportedEncodingException{
         StringBuilder result = new StringBuilder();
         for(Map.Entry<String, String> entry : params.entrySet()){
             if (result.length() > 0) {
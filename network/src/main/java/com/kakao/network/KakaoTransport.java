@@ -0,0 +1,190 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+import com.kakao.util.helper.log.Logger;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.Proxy;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * process 전체에서 공유하는 http transport.
+ * SSLSocketFactory를 한번만 생성하여 TLS session을 재사용하고,
+ * 같은 factory를 사용하는 connection 끼리 authority별 keep-alive pool을 공유하도록 한다.
+ * 요청마다 SSLContext를 새로 만들면 pool의 key가 달라져 매번 새로 handshake를 하게 된다.
+ */
+public class KakaoTransport {
+    private static volatile KakaoTransport instance;
+
+    private volatile TransportConfig config = TransportConfig.createDefault();
+    private volatile SSLSocketFactory sslSocketFactory;
+    private volatile boolean poolConfigured = false;
+
+    public static KakaoTransport getInstance() {
+        if (instance == null) {
+            synchronized (KakaoTransport.class) {
+                if (instance == null) {
+                    instance = new KakaoTransport();
+                }
+            }
+        }
+
+        return instance;
+    }
+
+    private KakaoTransport() {
+    }
+
+    /**
+     * transport 설정을 변경한다.
+     * keep-alive pool 설정은 platform의 connection pool이 처음 사용되기 전에만 반영되므로 첫 요청전에 호출해야 한다.
+     * timeout 설정은 이후에 생성되는 connection부터 적용된다.
+     * @param config 적용할 {@link TransportConfig}
+     */
+    public synchronized void setConfig(TransportConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config may not be null");
+        }
+        this.config = config;
+        this.poolConfigured = false;
+        this.sslSocketFactory = null;
+    }
+
+    public TransportConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * url에 대한 connection을 생성한다.
+     * https인 경우 공유된 SSLSocketFactory를 사용한다.
+     * @param url 연결될 url.
+     * @param method 연결 메소드
+     * @return timeout까지 설정된 HttpURLConnection
+     * @throws IOException
+     */
+    public HttpURLConnection openConnection(String url, String method) throws IOException {
+        configurePoolIfNeeded();
+
+        TransportConfig currentConfig = config;
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection(Proxy.NO_PROXY);
+        if (connection instanceof HttpsURLConnection) {
+            HttpsURLConnection secure = (HttpsURLConnection) connection;
+            secure.setSSLSocketFactory(getSSLSocketFactory());
+            secure.setHostnameVerifier(DO_NOT_VERIFY);
+        }
+
+        connection.setConnectTimeout(currentConfig.getConnectTimeout());
+        connection.setReadTimeout(currentConfig.getReadTimeout());
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    SSLSocketFactory getSSLSocketFactory() throws IOException {
+        SSLSocketFactory factory = sslSocketFactory;
+        if (factory != null) {
+            return factory;
+        }
+
+        synchronized (this) {
+            if (sslSocketFactory == null) {
+                sslSocketFactory = createSSLSocketFactory(config);
+            }
+            return sslSocketFactory;
+        }
+    }
+
+    private static SSLSocketFactory createSSLSocketFactory(TransportConfig config) throws IOException {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
+
+            SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+            if (sessionContext != null) {
+                sessionContext.setSessionCacheSize(config.getSslSessionCacheSize());
+                sessionContext.setSessionTimeout(config.getSslSessionTimeout());
+            }
+            return sslContext.getSocketFactory();
+        } catch (GeneralSecurityException e) {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * HttpURLConnection의 keep-alive pool은 system property로만 설정이 가능하다.
+     */
+    private void configurePoolIfNeeded() {
+        if (poolConfigured) {
+            return;
+        }
+
+        synchronized (this) {
+            if (poolConfigured) {
+                return;
+            }
+
+            TransportConfig currentConfig = config;
+            try {
+                System.setProperty("http.keepAlive", "true");
+                System.setProperty("http.maxConnections", String.valueOf(currentConfig.getMaxIdleConnections()));
+                System.setProperty("http.keepAliveDuration", String.valueOf(currentConfig.getKeepAliveDuration()));
+            } catch (SecurityException e) {
+                Logger.w(e);
+            }
+            poolConfigured = true;
+        }
+    }
+
+    final private static TrustManager[] trustAllCerts = new TrustManager[] { new X509TrustManager() {
+        public java.security.cert.X509Certificate[] getAcceptedIssuers() {
+            return new java.security.cert.X509Certificate[] {};
+        }
+
+        @Override
+        public void checkClientTrusted(
+                java.security.cert.X509Certificate[] chain,
+                String authType)
+                throws java.security.cert.CertificateException {
+        }
+
+        @Override
+        public void checkServerTrusted(
+                java.security.cert.X509Certificate[] chain,
+                String authType)
+                throws java.security.cert.CertificateException {
+        }
+    }};
+
+    final static HostnameVerifier DO_NOT_VERIFY = new HostnameVerifier() {
+        @Override
+        public boolean verify(String hostname, SSLSession session) {
+            return true;
+        }
+    };
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+import com.kakao.util.helper.log.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 등록된 {@link INetworkEventListener}로 API 요청의 구간별 소요 시간을 전달한다.
+ * listener가 없으면 시간을 측정하지 않는다.
+ * {@link com.kakao.network.tasks.KakaoResultTask}에서 수행된 요청은 Task가 끝날 때까지 모아두었다가
+ * 대기 시간과 UI 전달 시간을 채워서 전달한다.
+ */
+public final class NetworkEventTracker {
+    private static volatile INetworkEventListener listener;
+    private static final ThreadLocal<TaskTrace> currentTask = new ThreadLocal<TaskTrace>();
+
+    private NetworkEventTracker() {
+    }
+
+    /**
+     * 요청 시간을 받을 listener를 등록한다.
+     * @param eventListener 등록할 listener. null이면 측정을 멈춘다.
+     */
+    public static void setListener(INetworkEventListener eventListener) {
+        listener = eventListener;
+    }
+
+    public static INetworkEventListener getListener() {
+        return listener;
+    }
+
+    public static boolean isEnabled() {
+        return listener != null;
+    }
+
+    /**
+     * 현재 thread에서 Task의 실행을 시작한다. SDK 내부에서 사용한다.
+     * @param enqueuedAt Task가 대기열에 추가된 {@link System#nanoTime()}. 모르면 0
+     * @return Task에서 수행된 요청을 모을 trace. 측정하지 않으면 null
+     */
+    public static TaskTrace beginTask(long enqueuedAt) {
+        if (!isEnabled()) {
+            return null;
+        }
+        TaskTrace trace = new TaskTrace(enqueuedAt == 0 ? -1 : System.nanoTime() - enqueuedAt);
+        currentTask.set(trace);
+        return trace;
+    }
+
+    /**
+     * 현재 thread에서 Task의 실행을 끝낸다. SDK 내부에서 사용한다.
+     * @param trace {@link #beginTask(long)}가 반환한 trace
+     */
+    public static void endTask(TaskTrace trace) {
+        if (trace != null) {
+            currentTask.remove();
+        }
+    }
+
+    /**
+     * 현재 thread에서 마지막으로 끝난 요청의 응답을 변환하는데 걸린 시간을 기록한다.
+     * @param parseNanos 변환에 걸린 시간
+     */
+    public static void parseFinished(long parseNanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        TaskTrace trace = currentTask.get();
+        if (trace == null || trace.requests.isEmpty()) {
+            return;
+        }
+        RequestTimings last = trace.requests.get(trace.requests.size() - 1);
+        if (last.parseNanos == -1) {
+            last.parseNanos = parseNanos;
+        }
+    }
+
+    static RequestTimings startRequest(IRequest request) {
+        return isEnabled() ? new RequestTimings(request.getClass()) : null;
+    }
+
+    static void requestFinished(RequestTimings timings) {
+        if (timings == null) {
+            return;
+        }
+        TaskTrace trace = currentTask.get();
+        if (trace != null) {
+            timings.queueWaitNanos = trace.queueWaitNanos;
+            trace.requests.add(timings);
+        } else {
+            notifyListener(timings);
+        }
+    }
+
+    private static void notifyListener(RequestTimings timings) {
+        INetworkEventListener eventListener = listener;
+        if (eventListener == null) {
+            return;
+        }
+        try {
+            eventListener.onRequestFinished(timings);
+        } catch (RuntimeException e) {
+            Logger.w("NetworkEventTracker : listener failed, e = " + e);
+        }
+    }
+
+    /**
+     * Task 하나에서 수행된 요청들.
+     */
+    public static final class TaskTrace {
+        private final long queueWaitNanos;
+        private final List<RequestTimings> requests = new ArrayList<RequestTimings>(2);
+
+        private TaskTrace(long queueWaitNanos) {
+            this.queueWaitNanos = queueWaitNanos;
+        }
+
+        /**
+         * 결과가 UI thread로 전달된 뒤 모아둔 요청을 listener로 전달한다. SDK 내부에서 사용한다.
+         * @param dispatchNanos 결과를 main thread로 보낸 뒤 UI callback이 불리기까지 걸린 시간
+         */
+        public void dispatched(long dispatchNanos) {
+            for (RequestTimings timings : requests) {
+                timings.dispatchNanos = dispatchNanos;
+                notifyListener(timings);
+            }
+            requests.clear();
+        }
+    }
+}
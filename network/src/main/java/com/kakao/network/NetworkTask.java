@@ -18,24 +18,36 @@
 package com.kakao.network;
 
 import com.kakao.network.multipart.Part;
+import com.kakao.network.response.JsonPullParser;
+import com.kakao.network.response.ParsedResponseData;
+import com.kakao.network.response.ResponseBody.ResponseBodyException;
 import com.kakao.network.response.ResponseData;
+import com.kakao.network.response.ResponseParser;
 import com.kakao.util.helper.log.Logger;
+import com.kakao.util.helper.log.LoggerConfig;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Http요청을 수행하는 class.
  * INetwork를 구현한 class를 직접 사용할 수도 있다.
+ * 기본 생성자로 만든 경우 요청마다 새로운 {@link KakaoNetworkImpl}을 사용하므로 여러 thread에서 동시에 요청할 수 있다.
+ * INetwork를 지정한 경우 INetwork는 연결 상태를 가지고 있으므로 요청은 한번에 하나씩 수행된다.
+ * {@link HttpResponseCache}가 설치되어 있으면 {@link ICacheableRequest}의 응답은 저장된 응답으로 재검증하고,
+ * {@link ICacheInvalidatingRequest}가 성공하면 관련된 응답을 지운다.
  * @author leoshin on 15. 9. 18.
  */
 public class NetworkTask {
 
+    // null이면 요청마다 새로운 KakaoNetworkImpl을 생성한다.
     final private INetwork network;
 
     public NetworkTask() {
-        this.network = new KakaoNetworkImpl();
+        this.network = null;
     }
 
     public NetworkTask(INetwork network) {
@@ -49,41 +61,237 @@ public class NetworkTask {
      * @throws IOException
      */
     public ResponseData request(IRequest request) throws IOException {
-        Logger.d(request.getUrl());
+        final RequestTimings timings = NetworkEventTracker.startRequest(request);
+        try {
+            if (network == null) {
+                return request(new KakaoNetworkImpl(), request, timings);
+            }
 
+            synchronized (network) {
+                return request(network, request, timings);
+            }
+        } finally {
+            NetworkEventTracker.requestFinished(timings);
+        }
+    }
+
+    /**
+     * http 요청. 성공(200)한 응답은 byte array로 모으지 않고 parser로 바로 변환한다.
+     * @param request http 요청할 대상에 대한 정보.
+     * @param parser 성공한 응답을 변환할 parser.
+     * @return 성공한 경우 변환된 결과를 담은 {@link ParsedResponseData}, 그외의 경우 응답 body를 담은 {@link ResponseData}.
+     * @throws IOException
+     * @throws ResponseBodyException 프로토콜과 맞지 않는 응답이 왔을때 던지는 에러.
+     */
+    public <T> ResponseData request(IRequest request, ResponseParser<T> parser) throws IOException, ResponseBodyException {
+        final RequestTimings timings = NetworkEventTracker.startRequest(request);
         try {
-            network.create(request.getUrl(), request.getMethod(), request.getBodyEncoding());
-            // add header
-            Map<String, String> header = request.getHeaders();
-            Logger.d(header.toString());
+            if (network == null) {
+                return request(new KakaoNetworkImpl(), request, parser, timings);
+            }
 
-            for (String key : header.keySet()) {
-                if (key.equalsIgnoreCase("Expect")) {
-                    throw new IllegalStateException("Expect: 100-Continue not supported");
-                }
-                network.addHeader(key, header.get(key));
+            synchronized (network) {
+                return request(network, request, parser, timings);
             }
+        } finally {
+            NetworkEventTracker.requestFinished(timings);
+        }
+    }
 
-            // add params
-            Map<String, String> params = request.getParams();
-            for (String key : params.keySet()) {
-                network.addParam(key, params.get(key));
+    private static ResponseData request(INetwork network, IRequest request, RequestTimings timings) throws IOException {
+        HttpResponseCache cache = getResponseCache(network, request);
+        if (cache != null) {
+            return requestWithCache(cache, (KakaoNetworkImpl) network, (ICacheableRequest) request, timings);
+        }
+
+        try {
+            connect(network, request, null, timings);
+
+            int statusCode = network.getStatusCode();
+            if (timings != null) {
+                timings.statusCode = statusCode;
             }
+            if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+                Logger.d("++ httpStatus : [%s]", statusCode);
+            }
+            ResponseData result = new ResponseData(statusCode, network.readFully());
+            invalidateCache(request, statusCode);
+            return result;
+        } finally {
+            network.disconnect();
+        }
+    }
+
+    private static <T> ResponseData request(INetwork network, IRequest request, ResponseParser<T> parser, RequestTimings timings) throws IOException, ResponseBodyException {
+        HttpResponseCache cache = getResponseCache(network, request);
+        if (cache != null) {
+            // cache에 저장하기 위해 응답을 byte array로 모은 뒤 변환한다.
+            ResponseData result = requestWithCache(cache, (KakaoNetworkImpl) network, (ICacheableRequest) request, timings);
+            if (result.getHttpStatusCode() != HttpURLConnection.HTTP_OK) {
+                return result;
+            }
+            final long parseStartedAt = System.nanoTime();
+            JsonPullParser jsonParser = new JsonPullParser(new ByteArrayInputStream(result.getData()));
+            T parsed = parser.parse(HttpURLConnection.HTTP_OK, jsonParser);
+            if (timings != null) {
+                timings.parseNanos = System.nanoTime() - parseStartedAt;
+            }
+            return new ParsedResponseData<T>(HttpURLConnection.HTTP_OK, parsed);
+        }
+
+        try {
+            connect(network, request, null, timings);
+
+            int statusCode = network.getStatusCode();
+            if (timings != null) {
+                timings.statusCode = statusCode;
+            }
+            if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+                Logger.d("++ httpStatus : [%s]", statusCode);
+            }
+            if (statusCode != HttpURLConnection.HTTP_OK) {
+                return new ResponseData(statusCode, network.readFully());
+            }
+
+            ParsedResponseData<T> result;
+            if (network instanceof KakaoNetworkImpl) {
+                result = new ParsedResponseData<T>(statusCode, ((KakaoNetworkImpl) network).readFully(parser));
+            } else {
+                // 다른 INetwork 구현체는 응답 stream을 제공하지 않으므로 읽어온 byte array를 변환한다.
+                JsonPullParser jsonParser = new JsonPullParser(new ByteArrayInputStream(network.readFully()));
+                final long parseStartedAt = System.nanoTime();
+                result = new ParsedResponseData<T>(statusCode, parser.parse(statusCode, jsonParser));
+                if (timings != null) {
+                    timings.parseNanos = System.nanoTime() - parseStartedAt;
+                }
+            }
+            invalidateCache(request, statusCode);
+            return result;
+        } finally {
+            network.disconnect();
+        }
+    }
 
-            // add file list
-            List<Part> partList = request.getMultiPartList();
-            for (Part part : partList) {
-                network.addPart(part);
+    /**
+     * 저장된 응답이 아직 유효하면 요청 없이 사용하고, 그렇지 않으면 조건부 요청으로 재검증한다.
+     */
+    private static ResponseData requestWithCache(HttpResponseCache cache, KakaoNetworkImpl network, ICacheableRequest request, RequestTimings timings) throws IOException {
+        String key = HttpResponseCache.createKey(request);
+        HttpResponseCache.Entry cached = cache.get(key);
+        if (cached != null && cached.isFresh()) {
+            cache.recordHit();
+            if (timings != null) {
+                timings.fromCache = true;
+                timings.statusCode = HttpURLConnection.HTTP_OK;
+            }
+            if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+                Logger.d("++ cache hit : " + request.getUrl());
             }
+            return new ResponseData(HttpURLConnection.HTTP_OK, cached.body);
+        }
 
-            network.configure();
-            network.connect();
+        try {
+            connect(network, request, cached, timings);
 
             int statusCode = network.getStatusCode();
-            Logger.d("++ httpStatus : [%s]", statusCode);
-            return new ResponseData(statusCode, network.readFully());
+            if (timings != null) {
+                timings.statusCode = statusCode;
+            }
+            if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+                Logger.d("++ httpStatus : [%s]", statusCode);
+            }
+            byte[] body = network.readFully();
+            if (statusCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                cache.recordRevalidation();
+                cache.put(key, cached.revalidate(network));
+                return new ResponseData(HttpURLConnection.HTTP_OK, cached.body);
+            }
+
+            if (statusCode == HttpURLConnection.HTTP_OK) {
+                cache.recordMiss();
+                HttpResponseCache.Entry entry = HttpResponseCache.createEntry(network, body);
+                if (entry != null) {
+                    cache.put(key, entry);
+                } else {
+                    cache.remove(key);
+                }
+            }
+            return new ResponseData(statusCode, body);
         } finally {
             network.disconnect();
         }
     }
+
+    private static HttpResponseCache getResponseCache(INetwork network, IRequest request) {
+        HttpResponseCache cache = HttpResponseCache.getInstalled();
+        if (cache == null || !(request instanceof ICacheableRequest) || !(network instanceof KakaoNetworkImpl)) {
+            return null;
+        }
+        return "GET".equalsIgnoreCase(request.getMethod()) ? cache : null;
+    }
+
+    private static void invalidateCache(IRequest request, int statusCode) {
+        HttpResponseCache cache = HttpResponseCache.getInstalled();
+        if (cache == null || statusCode != HttpURLConnection.HTTP_OK || !(request instanceof ICacheInvalidatingRequest)) {
+            return;
+        }
+
+        for (String group : ((ICacheInvalidatingRequest) request).getInvalidatedCacheGroups()) {
+            cache.invalidate(group);
+        }
+    }
+
+    private static void connect(INetwork network, IRequest request, HttpResponseCache.Entry cached, RequestTimings timings) throws IOException {
+        final String url = request.getUrl();
+        if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+            Logger.d(url);
+        }
+
+        network.create(url, request.getMethod(), request.getBodyEncoding());
+        // add header
+        Map<String, String> header = request.getHeaders();
+        if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+            Logger.d(header.toString());
+        }
+
+        for (String key : header.keySet()) {
+            if (key.equalsIgnoreCase("Expect")) {
+                throw new IllegalStateException("Expect: 100-Continue not supported");
+            }
+            network.addHeader(key, header.get(key));
+        }
+
+        // 저장된 응답이 있으면 조건부 요청으로 보낸다.
+        if (cached != null) {
+            if (cached.etag != null) {
+                network.addHeader(HttpResponseCache.HEADER_IF_NONE_MATCH, cached.etag);
+            }
+            if (cached.lastModified != null) {
+                network.addHeader(HttpResponseCache.HEADER_IF_MODIFIED_SINCE, cached.lastModified);
+            }
+        }
+
+        // add params
+        Map<String, String> params = request.getParams();
+        for (String key : params.keySet()) {
+            network.addParam(key, params.get(key));
+        }
+
+        // add file list
+        List<Part> partList = request.getMultiPartList();
+        for (Part part : partList) {
+            network.addPart(part);
+        }
+
+        if (request instanceof IUploadRequest && network instanceof KakaoNetworkImpl) {
+            ((KakaoNetworkImpl) network).setUploadProgressListener(((IUploadRequest) request).getUploadProgressListener());
+        }
+
+        if (timings != null && network instanceof KakaoNetworkImpl) {
+            ((KakaoNetworkImpl) network).setRequestTimings(timings);
+        }
+
+        network.configure();
+        network.connect();
+    }
 }
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+/**
+ * API 요청 하나의 구간별 소요 시간. 시간은 nanosecond 단위이며 측정되지 않은 구간은 -1이다.
+ */
+public class RequestTimings {
+    private final Class<? extends IRequest> requestClass;
+
+    int statusCode = -1;
+    boolean fromCache;
+    long queueWaitNanos = -1;
+    long connectNanos = -1;
+    long requestWriteNanos = -1;
+    long firstByteNanos = -1;
+    long bodyReadNanos = -1;
+    long parseNanos = -1;
+    long dispatchNanos = -1;
+
+    // 요청 body를 다 보낸 시각. 첫 byte까지의 시간을 계산할 때 쓴다.
+    long requestSentAt;
+
+    RequestTimings(Class<? extends IRequest> requestClass) {
+        this.requestClass = requestClass;
+    }
+
+    /**
+     * @return 요청한 {@link IRequest}의 class
+     */
+    public Class<? extends IRequest> getRequestClass() {
+        return requestClass;
+    }
+
+    /**
+     * @return http status code. 응답을 받지 못했으면 -1
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return 요청 없이 {@link HttpResponseCache}에 저장된 응답을 사용하였으면 true
+     */
+    public boolean isFromCache() {
+        return fromCache;
+    }
+
+    /**
+     * @return {@link com.kakao.network.tasks.KakaoTaskQueue}에 추가된 뒤 실행되기까지 기다린 시간
+     */
+    public long getQueueWaitNanos() {
+        return queueWaitNanos;
+    }
+
+    /**
+     * @return 연결에 걸린 시간. DNS 조회와 TLS handshake를 포함하며, keep-alive connection을 재사용하면 0에 가깝다.
+     */
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    /**
+     * @return 요청 body를 보내는데 걸린 시간
+     */
+    public long getRequestWriteNanos() {
+        return requestWriteNanos;
+    }
+
+    /**
+     * @return 요청을 다 보낸 뒤 응답의 첫 byte를 받기까지 걸린 시간
+     */
+    public long getFirstByteNanos() {
+        return firstByteNanos;
+    }
+
+    /**
+     * @return 응답 body를 읽는데 걸린 시간. 응답을 stream에서 바로 변환한 경우에는 변환하고 남은 body를 읽은 시간만 포함된다.
+     */
+    public long getBodyReadNanos() {
+        return bodyReadNanos;
+    }
+
+    /**
+     * @return 응답을 {@link com.kakao.network.response.ResponseBody}나 model로 변환하는데 걸린 시간.
+     * 응답을 stream에서 바로 변환한 경우에는 body를 읽는 시간이 포함된다.
+     */
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    /**
+     * @return 결과를 main thread로 보낸 뒤 UI callback이 불리기까지 걸린 시간
+     */
+    public long getDispatchNanos() {
+        return dispatchNanos;
+    }
+}
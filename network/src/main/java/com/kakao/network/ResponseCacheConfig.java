@@ -0,0 +1,63 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+/**
+ * {@link HttpResponseCache}의 설정값.
+ */
+public class ResponseCacheConfig {
+    private static final long DEFAULT_MAX_SIZE = 1024 * 1024;
+
+    private long maxSize;
+
+    private ResponseCacheConfig() {
+    }
+
+    /**
+     * disk에 저장할 응답의 최대 byte 수. 넘으면 가장 오래 사용하지 않은 응답부터 지운다.
+     * @return cache 최대 크기 (byte)
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public static ResponseCacheConfig createDefault() {
+        return new Builder().build();
+    }
+
+    /**
+     * 기본값은 1MB이다.
+     */
+    public static class Builder {
+        private long maxSize = DEFAULT_MAX_SIZE;
+
+        public Builder setMaxSize(long maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be positive");
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public ResponseCacheConfig build() {
+            ResponseCacheConfig config = new ResponseCacheConfig();
+            config.maxSize = maxSize;
+            return config;
+        }
+    }
+}
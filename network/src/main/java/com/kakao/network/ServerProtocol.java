@@ -28,6 +28,11 @@ public final class ServerProtocol {
     public static final String AGE_AUTH_AUTHORITY = initAgeAuthAuthority();
     public static final String API_AUTHORITY = initAPIAuthority();
 
+    /**
+     * Local phase에서 접속할 서버의 host:port를 지정하는 system property. 지정하지 않으면 localhost로 접속한다.
+     */
+    public static final String LOCAL_AUTHORITY_PROPERTY = "com.kakao.sdk.local_authority";
+
     //Authorization: Bearer
     public static final String AUTHORIZATION_HEADER_KEY ="Authorization";
     public static final String AUTHORIZATION_BEARER ="Bearer";
@@ -84,7 +89,7 @@ public final class ServerProtocol {
     private static String initAuthAuthority() {
         switch (DEPLOY_PHASE) {
             case Local:
-                return "localhost:";
+                return getLocalAuthority();
             case Alpha:
                 return "alpha-kauth.kakao.com";
             case Sandbox:
@@ -101,7 +106,7 @@ public final class ServerProtocol {
     private static String initAPIAuthority() {
         switch (DEPLOY_PHASE) {
             case Local:
-                return "localhost:";
+                return getLocalAuthority();
             case Alpha:
                 return "alpha-kapi.kakao.com";
             case Sandbox:
@@ -118,7 +123,7 @@ public final class ServerProtocol {
     private static String initAgeAuthAuthority() {
         switch (DEPLOY_PHASE) {
             case Local:
-                return "localhost:";
+                return getLocalAuthority();
             case Alpha:
                 return "alpha-auth.kakao.com";
             case Sandbox:
@@ -131,4 +136,8 @@ public final class ServerProtocol {
                 return null;
         }
     }
+
+    private static String getLocalAuthority() {
+        return System.getProperty(LOCAL_AUTHORITY_PROPERTY, "localhost:");
+    }
 }
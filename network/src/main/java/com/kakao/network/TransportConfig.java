@@ -0,0 +1,143 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network;
+
+/**
+ * {@link KakaoTransport}가 사용하는 connection 관련 설정값.
+ * 최초 요청이 나가기 전에 {@link KakaoTransport#setConfig(TransportConfig)}로 지정해야 pool 관련 설정이 적용된다.
+ */
+public class TransportConfig {
+    private static final int DEFAULT_CONNECT_TIMEOUT_MS = 5000;
+    private static final int DEFAULT_READ_TIMEOUT_MS = 30 * 1000;
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    private static final long DEFAULT_KEEP_ALIVE_DURATION_MS = 5 * 60 * 1000;
+    private static final int DEFAULT_SSL_SESSION_CACHE_SIZE = 10;
+    private static final int DEFAULT_SSL_SESSION_TIMEOUT_SEC = 24 * 60 * 60;
+
+    private int connectTimeout;
+    private int readTimeout;
+    private int maxIdleConnections;
+    private long keepAliveDuration;
+    private int sslSessionCacheSize;
+    private int sslSessionTimeout;
+
+    private TransportConfig() {
+    }
+
+    /**
+     * 연결 timeout.
+     * @return connect timeout (ms)
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * 응답 read timeout.
+     * @return read timeout (ms)
+     */
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * authority(host:port)별로 유지할 keep-alive connection 의 최대 개수.
+     * @return pool size
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * 사용되지 않는 keep-alive connection 을 유지하는 시간.
+     * @return idle timeout (ms)
+     */
+    public long getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
+    /**
+     * 재사용을 위해 보관할 TLS session 의 개수.
+     * @return TLS session cache size
+     */
+    public int getSslSessionCacheSize() {
+        return sslSessionCacheSize;
+    }
+
+    /**
+     * 보관된 TLS session 의 유효시간.
+     * @return TLS session timeout (sec)
+     */
+    public int getSslSessionTimeout() {
+        return sslSessionTimeout;
+    }
+
+    public static TransportConfig createDefault() {
+        return new Builder().build();
+    }
+
+    public static class Builder {
+        private int connectTimeout = DEFAULT_CONNECT_TIMEOUT_MS;
+        private int readTimeout = DEFAULT_READ_TIMEOUT_MS;
+        private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+        private long keepAliveDuration = DEFAULT_KEEP_ALIVE_DURATION_MS;
+        private int sslSessionCacheSize = DEFAULT_SSL_SESSION_CACHE_SIZE;
+        private int sslSessionTimeout = DEFAULT_SSL_SESSION_TIMEOUT_SEC;
+
+        public Builder setConnectTimeout(int connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder setReadTimeout(int readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        public Builder setMaxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        public Builder setKeepAliveDuration(long keepAliveDuration) {
+            this.keepAliveDuration = keepAliveDuration;
+            return this;
+        }
+
+        public Builder setSslSessionCacheSize(int sslSessionCacheSize) {
+            this.sslSessionCacheSize = sslSessionCacheSize;
+            return this;
+        }
+
+        public Builder setSslSessionTimeout(int sslSessionTimeout) {
+            this.sslSessionTimeout = sslSessionTimeout;
+            return this;
+        }
+
+        public TransportConfig build() {
+            TransportConfig config = new TransportConfig();
+            config.connectTimeout = connectTimeout;
+            config.readTimeout = readTimeout;
+            config.maxIdleConnections = maxIdleConnections;
+            config.keepAliveDuration = keepAliveDuration;
+            config.sslSessionCacheSize = sslSessionCacheSize;
+            config.sslSessionTimeout = sslSessionTimeout;
+            return config;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.multipart;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * memory에 있는 data를 파일처럼 전송하는 part.
+ * 다시 encoding한 이미지처럼 임시 파일로 쓸 필요가 없는 data에 사용한다.
+ */
+public class ByteArrayPart extends Part {
+    private static final String FILE_NAME = "; filename=";
+
+    private static final byte[] FILE_NAME_BYTES = MultipartRequestEntity.getAsciiBytes(FILE_NAME);
+
+    private final String fieldName;
+    private final String fileName;
+    private final byte[] content;
+
+    public ByteArrayPart(String fieldName, String fileName, byte[] content) {
+        this.fieldName = fieldName;
+        this.fileName = fileName;
+        this.content = content;
+    }
+
+    @Override
+    protected void sendDispositionHeader(OutputStream out) throws IOException {
+        super.sendDispositionHeader(out);
+        if (fileName != null) {
+            out.write(FILE_NAME_BYTES);
+            out.write(QUOTE_BYTES);
+            out.write(MultipartRequestEntity.getAsciiBytes(fileName));
+            out.write(QUOTE_BYTES);
+        }
+    }
+
+    @Override
+    protected long dispositionHeaderLength() {
+        long length = super.dispositionHeaderLength();
+        if (fileName != null) {
+            length += FILE_NAME_BYTES.length;
+            length += QUOTE_BYTES.length;
+            length += MultipartRequestEntity.getAsciiBytes(fileName).length;
+            length += QUOTE_BYTES.length;
+        }
+        return length;
+    }
+
+    @Override
+    protected void sendData(OutputStream out) throws IOException {
+        sendData(out, new UploadProgress(null, lengthOfData()));
+    }
+
+    /**
+     * chunk 단위로 전송하면서 진행 상황을 알리고 취소 여부를 확인한다.
+     */
+    @Override
+    void sendData(OutputStream out, UploadProgress progress) throws IOException {
+        final int length = (int) lengthOfData();
+        int position = 0;
+        while (position < length) {
+            final int count = Math.min(Part.BUFFER_SIZE, length - position);
+            out.write(content, position, count);
+            position += count;
+            progress.onBytesSent(count);
+        }
+    }
+
+    @Override
+    protected String getName() {
+        return this.fieldName;
+    }
+
+    @Override
+    public String getCharSet() {
+        return "ISO-8859-1";
+    }
+
+    @Override
+    public String getTransferEncoding() {
+        return "binary";
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    @Override
+    protected long lengthOfData() {
+        if (content != null) {
+            return content.length;
+        }
+
+        return 0;
+    }
+}
@@ -17,11 +17,9 @@
  */
 package com.kakao.network.multipart;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 
 /**
@@ -69,20 +67,34 @@ public class FilePart extends Part {
 
     @Override
     protected void sendData(OutputStream out) throws IOException {
-        if (lengthOfData() == 0) {
+        sendData(out, new UploadProgress(null, lengthOfData()));
+    }
 
+    /**
+     * file을 {@link Part#BUFFER_SIZE} 크기의 buffer 하나로 읽어 전송한다.
+     * buffer 크기만큼 쓰는 write는 {@link java.io.BufferedOutputStream}에 다시 복사되지 않고 연결 stream으로 바로 전달된다.
+     * chunk마다 진행 상황을 알리고 취소 여부를 확인한다.
+     */
+    @Override
+    void sendData(OutputStream out, UploadProgress progress) throws IOException {
+        final long length = lengthOfData();
+        if (length == 0) {
             // this file contains no data, so there is nothing to send.
-            // we don't want to create a zero length buffer as this will
-            // cause an infinite loop when reading.
             return;
         }
 
-        byte[] tmp = new byte[4096];
-        InputStream instream = content != null ? new FileInputStream(content) : new ByteArrayInputStream(new byte[]{});
+        final byte[] buffer = new byte[Part.BUFFER_SIZE];
+        FileInputStream instream = new FileInputStream(content);
         try {
-            int len;
-            while ((len = instream.read(tmp)) >= 0) {
-                out.write(tmp, 0, len);
+            long position = 0;
+            while (position < length) {
+                int len = instream.read(buffer, 0, (int) Math.min(buffer.length, length - position));
+                if (len < 0) {
+                    throw new IOException("file is truncated while uploading : " + content.getName());
+                }
+                out.write(buffer, 0, len);
+                position += len;
+                progress.onBytesSent(len);
             }
         } finally {
             // we're done with the stream, close it
@@ -17,11 +17,16 @@
  */
 package com.kakao.network.multipart;
 
+import com.kakao.util.helper.metrics.Counter;
+import com.kakao.util.helper.metrics.MetricsRegistry;
+
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Random;
-import java.util.Set;
 
 /**
  * @author leoshin, created at 15. 7. 31..
@@ -29,6 +34,7 @@ import java.util.Set;
 public class MultipartRequestEntity {
     private static final String MULTIPART_FORM_CONTENT_TYPE = "multipart/form-data";
     private static final byte[] MULTIPART_CHARS = getAsciiBytes("-_1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ");
+    private static final Counter bytesSentCounter = MetricsRegistry.getInstance().counter("network.multipart.bytes_sent");
 
     public static byte[] getAsciiBytes(String data) {
         try {
@@ -61,7 +67,9 @@ public class MultipartRequestEntity {
         return bytes;
     }
 
-    private final Set<Part> partSet;
+    private final List<Part> partList;
+
+    private final UploadProgressListener progressListener;
 
     private final byte[] multipartBoundary;
 
@@ -71,13 +79,23 @@ public class MultipartRequestEntity {
 
     /**
      * Creates a new multipart entity containing the given parts.
-     * @param partSet The parts to include.
+     * @param parts The parts to include. parts are sent in iteration order.
+     */
+    public MultipartRequestEntity(Collection<Part> parts) {
+        this(parts, null);
+    }
+
+    /**
+     * Creates a new multipart entity containing the given parts.
+     * @param parts The parts to include. parts are sent in iteration order.
+     * @param progressListener upload 진행 상황을 받을 listener. null이면 진행 상황을 알리지 않는다.
      */
-    public MultipartRequestEntity(Set<Part> partSet) {
-        this.partSet = partSet;
+    public MultipartRequestEntity(Collection<Part> parts, UploadProgressListener progressListener) {
+        this.partList = new ArrayList<Part>(parts);
+        this.progressListener = progressListener;
         this.multipartBoundary = generateMultipartBoundary();
         this.contentType = computeContentType(MULTIPART_FORM_CONTENT_TYPE);
-        this.contentLength = Part.getLengthOfParts(partSet, multipartBoundary);
+        this.contentLength = Part.getLengthOfParts(partList, multipartBoundary);
     }
 
     private String computeContentType(String base) {
@@ -102,7 +120,8 @@ public class MultipartRequestEntity {
     }
 
     public void writeRequest(OutputStream out) throws IOException {
-        Part.sendParts(out, partSet, multipartBoundary);
+        Part.sendParts(out, partList, multipartBoundary, progressListener);
+        bytesSentCounter.add(contentLength);
     }
 
     public long getContentLength() {
@@ -19,9 +19,10 @@ package com.kakao.network.multipart;
 
 import com.kakao.util.helper.log.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.Set;
+import java.util.Collection;
 
 public abstract class Part {
 
@@ -34,6 +35,8 @@ public abstract class Part {
     private static final String CONTENT_DISPOSITION = "Content-Disposition: form-data; name=";
     private static final String CONTENT_TRANSFER_ENCODING = "Content-Transfer-Encoding: ";
 
+    static final int BUFFER_SIZE = 64 * 1024;
+
     protected static final byte[] CRLF_BYTES = MultipartRequestEntity.getAsciiBytes(CRLF);
     protected static final byte[] QUOTE_BYTES = MultipartRequestEntity.getAsciiBytes(QUOTE);
     protected static final byte[] EXTRA_BYTES = MultipartRequestEntity.getAsciiBytes(EXTRA);
@@ -54,6 +57,15 @@ public abstract class Part {
 
     protected abstract long lengthOfData();
 
+    /**
+     * data를 전송하면서 전송량을 progress에 알린다.
+     * 기본 구현은 {@link #sendData(OutputStream)}로 한번에 보낸 후 전체 길이를 알린다.
+     */
+    void sendData(OutputStream out, UploadProgress progress) throws IOException {
+        sendData(out);
+        progress.onBytesSent(lengthOfData());
+    }
+
     /**
      * Gets the length of the multipart message including the given parts.
      *
@@ -63,7 +75,7 @@ public abstract class Part {
      * @throws IOException If an I/O error occurs while writing the parts.
      * @since 3.0
      */
-    static long getLengthOfParts(Set<Part> parts, byte[] partBoundary) {
+    static long getLengthOfParts(Collection<Part> parts, byte[] partBoundary) {
 
         try {
             if (parts == null) {
@@ -99,27 +111,51 @@ public abstract class Part {
                 + this.endLength();
     }
 
-    public static void sendParts(OutputStream out, Set<Part> partSet, byte[] boundary) throws IOException {
+    public static void sendParts(OutputStream out, Collection<Part> parts, byte[] boundary) throws IOException {
+        sendParts(out, parts, boundary, null);
+    }
+
+    /**
+     * part들을 추가된 순서대로 전송한다.
+     * @param out 전송할 stream
+     * @param parts 전송할 part들. iteration 순서대로 전송된다.
+     * @param boundary part 구분자
+     * @param listener 전송 진행 상황을 받을 listener. null이면 진행 상황을 알리지 않는다.
+     * @throws UploadCanceledException listener를 통해 취소되거나 thread가 interrupt된 경우
+     */
+    public static void sendParts(OutputStream out, Collection<Part> parts, byte[] boundary, UploadProgressListener listener) throws IOException {
 
-        if (partSet == null || partSet.size() <= 0) {
+        if (parts == null || parts.size() <= 0) {
             throw new IllegalArgumentException("Parts may not be null");
         }
         if (boundary == null || boundary.length == 0) {
             throw new IllegalArgumentException("partBoundary may not be empty");
         }
-        for (Part part : partSet) {
-            part.sendStart(out, boundary);
-            part.sendDispositionHeader(out);
-            part.sendContentTypeHeader(out);
-            part.sendTransferEncodingHeader(out);
-            part.sendEndOfHeader(out);
-            part.sendData(out);
-            part.sendEnd(out);
+
+        long totalBytes = 0;
+        for (Part part : parts) {
+            totalBytes += part.lengthOfData();
         }
-        out.write(EXTRA_BYTES);
-        out.write(boundary);
-        out.write(EXTRA_BYTES);
-        out.write(CRLF_BYTES);
+
+        // header처럼 작은 write가 connection stream에 바로 전달되지 않도록 모아서 보낸다.
+        BufferedOutputStream bufferedOut = new BufferedOutputStream(out, BUFFER_SIZE);
+        UploadProgress progress = new UploadProgress(listener, totalBytes);
+        int partIndex = 0;
+        for (Part part : parts) {
+            progress.startPart(partIndex++, part.lengthOfData());
+            part.sendStart(bufferedOut, boundary);
+            part.sendDispositionHeader(bufferedOut);
+            part.sendContentTypeHeader(bufferedOut);
+            part.sendTransferEncodingHeader(bufferedOut);
+            part.sendEndOfHeader(bufferedOut);
+            part.sendData(bufferedOut, progress);
+            part.sendEnd(bufferedOut);
+        }
+        bufferedOut.write(EXTRA_BYTES);
+        bufferedOut.write(boundary);
+        bufferedOut.write(EXTRA_BYTES);
+        bufferedOut.write(CRLF_BYTES);
+        bufferedOut.flush();
     }
 
     protected void sendStart(OutputStream out, byte[] boundary) throws IOException {
@@ -0,0 +1,31 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.multipart;
+
+import java.io.InterruptedIOException;
+
+/**
+ * {@link UploadProgressListener#cancel()} 또는 thread interrupt로 upload가 중단된 경우 발생한다.
+ */
+public class UploadCanceledException extends InterruptedIOException {
+    private static final long serialVersionUID = -2675436374125209173L;
+
+    public UploadCanceledException(String detailMessage) {
+        super(detailMessage);
+    }
+}
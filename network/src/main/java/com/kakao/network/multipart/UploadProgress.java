@@ -0,0 +1,62 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.multipart;
+
+/**
+ * 하나의 multipart 요청에 대한 전송량을 누적하여 {@link UploadProgressListener}에 전달한다.
+ */
+class UploadProgress {
+    private final UploadProgressListener listener;
+    private final long totalBytes;
+    private long bytesSent = 0;
+
+    private int partIndex = -1;
+    private long partLength = 0;
+    private long partBytesSent = 0;
+
+    UploadProgress(UploadProgressListener listener, long totalBytes) {
+        this.listener = listener;
+        this.totalBytes = totalBytes;
+    }
+
+    void startPart(int partIndex, long partLength) throws UploadCanceledException {
+        checkCanceled();
+        this.partIndex = partIndex;
+        this.partLength = partLength;
+        this.partBytesSent = 0;
+    }
+
+    void onBytesSent(long count) throws UploadCanceledException {
+        partBytesSent += count;
+        bytesSent += count;
+        if (listener != null) {
+            listener.onPartProgress(partIndex, partBytesSent, partLength);
+            listener.onProgress(bytesSent, totalBytes);
+        }
+        checkCanceled();
+    }
+
+    void checkCanceled() throws UploadCanceledException {
+        if (listener != null && listener.isCanceled()) {
+            throw new UploadCanceledException("upload is canceled.");
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new UploadCanceledException("upload thread is interrupted.");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.multipart;
+
+/**
+ * multipart upload의 진행 상황을 받는다.
+ * callback은 upload를 수행하는 background thread에서 호출되므로 UI 갱신은 main thread로 넘겨서 해야 한다.
+ * 진행 상황은 header를 제외한 각 part의 data byte 기준이다.
+ */
+public abstract class UploadProgressListener {
+    private volatile boolean canceled = false;
+
+    /**
+     * 전체 upload 진행 상황.
+     * @param bytesSent 지금까지 전송한 byte 수
+     * @param totalBytes 전송할 전체 byte 수
+     */
+    public abstract void onProgress(long bytesSent, long totalBytes);
+
+    /**
+     * part별 upload 진행 상황.
+     * @param partIndex 요청에 추가된 순서대로의 part index
+     * @param partBytesSent 해당 part에서 지금까지 전송한 byte 수
+     * @param partLength 해당 part의 전체 byte 수
+     */
+    public void onPartProgress(int partIndex, long partBytesSent, long partLength) {
+    }
+
+    /**
+     * 전송 중인 upload를 취소한다. 다음 chunk를 보내기 전에 {@link UploadCanceledException}으로 중단된다.
+     */
+    public void cancel() {
+        canceled = true;
+    }
+
+    public boolean isCanceled() {
+        return canceled;
+    }
+}
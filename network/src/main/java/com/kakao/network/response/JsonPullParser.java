@@ -0,0 +1,485 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.response;
+
+import com.kakao.network.response.ResponseBody.BodyConverter;
+import com.kakao.network.response.ResponseBody.ResponseBodyException;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 stream을 앞에서부터 token 단위로 읽는 JSON parser.
+ * 전체 응답을 byte array, String, JSONObject로 한꺼번에 만들지 않고 필요한 값만 읽어 model로 변환할 때 사용한다.
+ * Thread Safe 하지 않음.
+ */
+public class JsonPullParser implements Closeable {
+    public enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int EMPTY_DOCUMENT = 6;
+    private static final int NONEMPTY_DOCUMENT = 7;
+
+    private final Reader reader;
+    private final char[] buffer = new char[1024];
+    private int pos = 0;
+    private int limit = 0;
+
+    private int[] stack = new int[32];
+    private int stackSize = 0;
+
+    private Token peeked;
+    // NAME, STRING, NUMBER, BOOLEAN token의 값.
+    private String peekedValue;
+
+    public JsonPullParser(InputStream in) throws IOException {
+        this(new InputStreamReader(in, ResponseData.CHARSET));
+    }
+
+    public JsonPullParser(Reader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader may not be null");
+        }
+        this.reader = reader;
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * 다음 token의 종류를 소비하지 않고 얻는다.
+     */
+    public Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+
+        final int scope = stack[stackSize - 1];
+        switch (scope) {
+            case EMPTY_ARRAY:
+            case NONEMPTY_ARRAY: {
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                int c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = Token.END_ARRAY;
+                }
+                if (scope == NONEMPTY_ARRAY) {
+                    if (c != ',') {
+                        throw syntaxError("Unterminated array");
+                    }
+                } else {
+                    pos--;
+                }
+                return peeked = readValueToken();
+            }
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT: {
+                stack[stackSize - 1] = DANGLING_NAME;
+                int c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Unterminated object");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected name");
+                }
+                peekedValue = readString();
+                return peeked = Token.NAME;
+            }
+            case DANGLING_NAME: {
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                return peeked = readValueToken();
+            }
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                return peeked = readValueToken();
+            default:
+                if (skipWhitespace() == -1) {
+                    return peeked = Token.END_DOCUMENT;
+                }
+                throw syntaxError("Expected end of document");
+        }
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        stackSize--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        stackSize--;
+    }
+
+    /**
+     * 현재 object나 array에 읽을 값이 남아있는지 여부.
+     */
+    public boolean hasNext() throws IOException {
+        final Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return peekedValue;
+    }
+
+    /**
+     * 문자열 값을 읽는다. 값이 null이면 null을 돌려준다.
+     */
+    public String nextString() throws IOException {
+        final Token token = peek();
+        if (token == Token.NULL) {
+            peeked = null;
+            return null;
+        }
+        if (token != Token.STRING && token != Token.NUMBER && token != Token.BOOLEAN) {
+            throw syntaxError("Expected string but was " + token);
+        }
+        peeked = null;
+        return peekedValue;
+    }
+
+    public long nextLong() throws IOException {
+        final Token token = peek();
+        if (token != Token.NUMBER && token != Token.STRING) {
+            throw syntaxError("Expected number but was " + token);
+        }
+        peeked = null;
+        try {
+            return Long.parseLong(peekedValue);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected long but was " + peekedValue);
+        }
+    }
+
+    public int nextInt() throws IOException {
+        final long value = nextLong();
+        if (value != (int) value) {
+            throw syntaxError("Expected int but was " + value);
+        }
+        return (int) value;
+    }
+
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        return "true".equals(peekedValue);
+    }
+
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+    }
+
+    /**
+     * 다음 값을 object나 array 전체를 포함하여 읽지 않고 건너뛴다.
+     */
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            final Token token = peek();
+            peeked = null;
+            if (token == Token.BEGIN_OBJECT) {
+                push(EMPTY_OBJECT);
+                depth++;
+            } else if (token == Token.BEGIN_ARRAY) {
+                push(EMPTY_ARRAY);
+                depth++;
+            } else if (token == Token.END_OBJECT || token == Token.END_ARRAY) {
+                stackSize--;
+                depth--;
+            } else if (token == Token.END_DOCUMENT) {
+                throw syntaxError("Unexpected end of document");
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * 다음 값을 org.json 형태로 읽는다.
+     * object는 {@link JSONObject}, array는 {@link JSONArray}, null은 {@link JSONObject#NULL}이 되며
+     * 숫자는 {@link JSONObject}와 같이 Integer, Long, Double 중 하나가 된다.
+     */
+    public Object readValue() throws IOException {
+        try {
+            switch (peek()) {
+                case BEGIN_OBJECT: {
+                    JSONObject object = new JSONObject();
+                    beginObject();
+                    while (hasNext()) {
+                        object.put(nextName(), readValue());
+                    }
+                    endObject();
+                    return object;
+                }
+                case BEGIN_ARRAY: {
+                    JSONArray array = new JSONArray();
+                    beginArray();
+                    while (hasNext()) {
+                        array.put(readValue());
+                    }
+                    endArray();
+                    return array;
+                }
+                case STRING:
+                    return nextString();
+                case NUMBER:
+                    return toNumber(nextString());
+                case BOOLEAN:
+                    return nextBoolean();
+                case NULL:
+                    nextNull();
+                    return JSONObject.NULL;
+                default:
+                    throw syntaxError("Expected value but was " + peek());
+            }
+        } catch (JSONException e) {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * object들로 이루어진 array를 읽어 converter로 변환한다.
+     * 한번에 하나의 object만 {@link ResponseBody}로 만들어 변환하므로 array 전체가 memory에 올라가지 않는다.
+     * @param statusCode 변환된 {@link ResponseBody}에 전달될 http status code
+     * @param converter object를 model로 변환할 converter
+     * @return 변환된 model list. 값이 null이면 빈 list.
+     */
+    public <T> List<T> readConvertedList(int statusCode, BodyConverter<T> converter) throws IOException, ResponseBodyException {
+        final List<T> list = new ArrayList<T>();
+        if (peek() == Token.NULL) {
+            nextNull();
+            return list;
+        }
+
+        beginArray();
+        while (hasNext()) {
+            Object value = readValue();
+            if (!(value instanceof JSONObject)) {
+                throw new ResponseBodyException("array element is not an object : " + value);
+            }
+            list.add(converter.convert(new ResponseBody(statusCode, (JSONObject) value)));
+        }
+        endArray();
+        return list;
+    }
+
+    @Override
+    public void close() throws IOException {
+        peeked = null;
+        reader.close();
+    }
+
+    private void expect(Token expected) throws IOException {
+        final Token token = peek();
+        if (token != expected) {
+            throw syntaxError("Expected " + expected + " but was " + token);
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (stackSize == stack.length) {
+            int[] newStack = new int[stackSize * 2];
+            System.arraycopy(stack, 0, newStack, 0, stackSize);
+            stack = newStack;
+        }
+        stack[stackSize++] = scope;
+    }
+
+    private Token readValueToken() throws IOException {
+        final int c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                peekedValue = readString();
+                return Token.STRING;
+            default:
+                pos--;
+                peekedValue = readLiteral();
+                if ("null".equals(peekedValue)) {
+                    return Token.NULL;
+                } else if ("true".equals(peekedValue) || "false".equals(peekedValue)) {
+                    return Token.BOOLEAN;
+                } else if (peekedValue.length() > 0 && (peekedValue.charAt(0) == '-' || Character.isDigit(peekedValue.charAt(0)))) {
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected value : " + peekedValue);
+        }
+    }
+
+    private String readString() throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        while (true) {
+            if (pos == limit && !fill()) {
+                throw syntaxError("Unterminated string");
+            }
+            final char c = buffer[pos++];
+            if (c == '"') {
+                return builder.toString();
+            } else if (c == '\\') {
+                builder.append(readEscapeCharacter());
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private char readEscapeCharacter() throws IOException {
+        if (pos == limit && !fill()) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        final char escaped = buffer[pos++];
+        switch (escaped) {
+            case 'u': {
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    if (pos == limit && !fill()) {
+                        throw syntaxError("Unterminated escape sequence");
+                    }
+                    final int digit = Character.digit(buffer[pos++], 16);
+                    if (digit < 0) {
+                        throw syntaxError("Invalid escape sequence");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            }
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            default:
+                return escaped;
+        }
+    }
+
+    private String readLiteral() throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        while (pos < limit || fill()) {
+            final char c = buffer[pos];
+            if (c == ',' || c == ':' || c == ']' || c == '}' || c == '[' || c == '{' || c == '"' || Character.isWhitespace(c)) {
+                break;
+            }
+            builder.append(c);
+            pos++;
+        }
+        return builder.toString();
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        final int c = skipWhitespace();
+        if (c == -1) {
+            throw syntaxError("Unexpected end of document");
+        }
+        pos++;
+        return c;
+    }
+
+    /**
+     * 공백을 건너뛰고 다음 문자를 소비하지 않고 돌려준다.
+     * @return 다음 문자. 더이상 읽을 문자가 없으면 -1.
+     */
+    private int skipWhitespace() throws IOException {
+        while (pos < limit || fill()) {
+            final char c = buffer[pos];
+            if (!Character.isWhitespace(c)) {
+                return c;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    private boolean fill() throws IOException {
+        pos = 0;
+        limit = 0;
+        final int count = reader.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            return false;
+        }
+        limit = count;
+        return true;
+    }
+
+    private static Number toNumber(String literal) throws IOException {
+        try {
+            if (literal.indexOf('.') >= 0 || literal.indexOf('e') >= 0 || literal.indexOf('E') >= 0) {
+                return Double.valueOf(literal);
+            }
+            final long value = Long.parseLong(literal);
+            if (value == (int) value) {
+                return (int) value;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number : " + literal);
+        }
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message);
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.response;
+
+/**
+ * {@link ResponseParser}로 응답을 바로 변환한 결과.
+ * 응답 body는 byte array로 남기지 않으므로 {@link #getData()}는 null을 돌려준다.
+ * @param <T> 변환된 model type
+ */
+public class ParsedResponseData<T> extends ResponseData {
+    private final T result;
+
+    public ParsedResponseData(int httpStatusCode, T result) {
+        super(httpStatusCode, null);
+        this.result = result;
+    }
+
+    public T getResult() {
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -59,9 +60,11 @@ public class ResponseBody {
         }
 
         try {
-            this.json = new JSONObject(new String(body));
+            this.json = new JSONObject(new String(body, ResponseData.CHARSET));
         } catch (JSONException e) {
             throw new ResponseBodyException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new ResponseBodyException(e);
         }
     }
 
@@ -23,6 +23,7 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -42,9 +43,11 @@ public class ResponseBodyArray {
         }
 
         try {
-            this.jsonArray = new JSONArray(new String(body));
+            this.jsonArray = new JSONArray(new String(body, ResponseData.CHARSET));
         } catch (JSONException e) {
            throw new ResponseBodyException(e);
+        } catch (UnsupportedEncodingException e) {
+           throw new ResponseBodyException(e);
         }
     }
 
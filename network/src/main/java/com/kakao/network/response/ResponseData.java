@@ -17,10 +17,17 @@
  */
 package com.kakao.network.response;
 
+import java.io.UnsupportedEncodingException;
+
 /**
  * @author leoshin, created at 15. 8. 3..
  */
 public class ResponseData {
+    /**
+     * Kakao API 응답 body의 charset. platform 기본 charset과 상관없이 이 값으로 decoding한다.
+     */
+    public static final String CHARSET = "UTF-8";
+
     private final int httpStatusCode;
     private final byte[] data;
 
@@ -41,6 +48,10 @@ public class ResponseData {
         if (data == null) {
             return null;
         }
-        return new String(data);
+        try {
+            return new String(data, CHARSET);
+        } catch (UnsupportedEncodingException e) {
+            return new String(data);
+        }
     }
 }
@@ -0,0 +1,38 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.response;
+
+import com.kakao.network.response.ResponseBody.ResponseBodyException;
+
+import java.io.IOException;
+
+/**
+ * 성공(200)한 응답을 {@link JsonPullParser}로 읽어 model로 바로 변환한다.
+ * 응답 전체를 {@link ResponseBody}로 만들지 않아도 되므로 큰 list 응답에서 memory 사용량을 줄일 수 있다.
+ * @param <T> 변환될 model type
+ */
+public interface ResponseParser<T> {
+    /**
+     * @param statusCode http status code
+     * @param parser 응답 body를 읽을 parser
+     * @return 변환된 model
+     * @throws IOException 응답을 읽는 중 발생한 에러 또는 JSON 형식이 잘못된 경우
+     * @throws ResponseBodyException 프로토콜과 맞지 않는 응답이 왔을때 던지는 에러.
+     */
+    T parse(int statusCode, JsonPullParser parser) throws IOException, ResponseBodyException;
+}
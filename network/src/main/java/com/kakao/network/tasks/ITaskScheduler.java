@@ -0,0 +1,54 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.tasks;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * {@link KakaoTaskQueue}가 Task를 실행할때 사용하는 scheduler.
+ * 사용자는 ITaskScheduler를 구현하여 원하는 실행 정책을 사용할 수 있다.
+ */
+public interface ITaskScheduler {
+    /**
+     * Task를 실행 대기열에 추가한다.
+     * @param callable 실행할 작업
+     * @param priority 작업의 우선순위
+     * @return 작업 결과에 대한 Future
+     */
+    <T> Future<T> submit(Callable<T> callable, TaskPriority priority);
+
+    /**
+     * 실행을 기다리고 있는 작업의 개수.
+     * @param priority 조회할 lane
+     * @return 대기중인 작업 개수
+     */
+    int getQueuedCount(TaskPriority priority);
+
+    /**
+     * 실행중인 작업의 개수.
+     * @param priority 조회할 lane
+     * @return 실행중인 작업 개수
+     */
+    int getRunningCount(TaskPriority priority);
+
+    /**
+     * 새로운 작업을 더 받지 않는다. 이미 추가된 작업은 모두 실행된다.
+     */
+    void shutdown();
+}
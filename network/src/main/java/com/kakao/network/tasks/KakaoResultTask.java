@@ -21,22 +21,81 @@ import android.os.Handler;
 import android.os.Looper;
 
 import com.kakao.network.ErrorResult;
+import com.kakao.network.NetworkEventTracker;
 import com.kakao.network.callback.ResponseCallback;
 import com.kakao.network.exception.ResponseStatusError;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 
+/**
+ * background에서 요청을 수행하고 그 결과를 main thread의 {@link ResponseCallback}으로 전달하는 Task.
+ * 결과 전달 방식은 {@link DispatchMode}로 지정한다.
+ * @param <T> 요청 결과 type
+ */
 public abstract class KakaoResultTask<T> {
+    /**
+     * main thread로 결과를 전달하는 방식.
+     */
+    public enum DispatchMode {
+        /**
+         * UI callback이 끝날때까지 worker thread가 기다린다.
+         * onDidEnd는 UI callback이 끝난 후 worker thread에서 불린다.
+         */
+        BLOCKING,
+
+        /**
+         * UI callback을 post한 뒤 worker thread는 바로 반환된다.
+         * onDidEnd는 UI callback 직후 main thread에서 이어서 불린다.
+         * Future는 UI callback이 불리기 전에 완료될 수 있다.
+         */
+        NON_BLOCKING
+    }
+
     private final static Handler mainHandler = new Handler(Looper.getMainLooper());
+    private static volatile DispatchMode defaultDispatchMode = DispatchMode.BLOCKING;
+
     final ResponseCallback<T> callback;
+    private final DispatchMode dispatchMode;
+    // KakaoTaskQueue에 추가된 System.nanoTime(). 요청 시간을 측정하지 않으면 0
+    private volatile long enqueuedAt;
 
     public KakaoResultTask() {
-        this.callback = null;
+        this(null);
     }
 
     public KakaoResultTask(ResponseCallback<T> callback) {
+        this(callback, defaultDispatchMode);
+    }
+
+    public KakaoResultTask(ResponseCallback<T> callback, DispatchMode dispatchMode) {
         this.callback = callback;
+        this.dispatchMode = dispatchMode == null ? defaultDispatchMode : dispatchMode;
+    }
+
+    /**
+     * dispatchMode를 지정하지 않고 생성되는 Task에 사용될 기본 방식을 설정한다.
+     * @param mode 기본 {@link DispatchMode}. default {@link DispatchMode#BLOCKING}
+     */
+    public static void setDefaultDispatchMode(DispatchMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode may not be null");
+        }
+        defaultDispatchMode = mode;
+    }
+
+    public static DispatchMode getDefaultDispatchMode() {
+        return defaultDispatchMode;
+    }
+
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    void markEnqueued() {
+        if (NetworkEventTracker.isEnabled()) {
+            enqueuedAt = System.nanoTime();
+        }
     }
 
     private Callable<T> task = new Callable<T>() {
@@ -45,6 +104,7 @@ public abstract class KakaoResultTask<T> {
             T result = null;
             Exception ex = null;
 
+            final NetworkEventTracker.TaskTrace trace = NetworkEventTracker.beginTask(enqueuedAt);
             try {
                 onDidStart();
 
@@ -54,49 +114,86 @@ public abstract class KakaoResultTask<T> {
                 result = KakaoResultTask.this.call();
             } catch (Exception e) {
                 ex = e;
+            } finally {
+                NetworkEventTracker.endTask(trace);
+            }
+
+            if (dispatchMode == DispatchMode.NON_BLOCKING) {
+                dispatchNonBlocking(result, ex, trace);
+            } else {
+                dispatchBlocking(result, ex, trace);
             }
 
-            final T response = result;
-            final Exception t = ex;
-
-            final CountDownLatch lock = new CountDownLatch(1);
-            mainHandler.post(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (callback == null) {
-                            return;
-                        }
-
-                        if (t != null) {
-                            ErrorResult errorResult;
-                            if (t instanceof ResponseStatusError) {
-                                ResponseStatusError err = (ResponseStatusError) t;
-                                errorResult = new ErrorResult(err);
-                            } else {
-                                errorResult = new ErrorResult(t);
-                            }
-
-                            callback.onFailureForUiThread(errorResult);
-                        } else {
-                            callback.onSuccessForUiThread(response);
-                        }
-                    } finally {
-                        lock.countDown();
+            return result;
+        }
+    };
+
+    private void dispatchBlocking(final T response, final Exception t, final NetworkEventTracker.TaskTrace trace) throws InterruptedException {
+        final CountDownLatch lock = new CountDownLatch(1);
+        final long postedAt = System.nanoTime();
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                final long dispatchNanos = System.nanoTime() - postedAt;
+                try {
+                    deliverResult(response, t);
+                } finally {
+                    lock.countDown();
+                    if (trace != null) {
+                        trace.dispatched(dispatchNanos);
                     }
                 }
-            });
+            }
+        });
 
-            lock.await();
+        lock.await();
+        finish();
+    }
 
-            if (callback != null) {
-                callback.onDidEnd();
+    private void dispatchNonBlocking(final T response, final Exception t, final NetworkEventTracker.TaskTrace trace) {
+        final long postedAt = System.nanoTime();
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                final long dispatchNanos = System.nanoTime() - postedAt;
+                try {
+                    deliverResult(response, t);
+                } finally {
+                    finish();
+                    if (trace != null) {
+                        trace.dispatched(dispatchNanos);
+                    }
+                }
             }
-            onDidEnd();
+        });
+    }
 
-            return result;
+    private void deliverResult(T response, Exception t) {
+        if (callback == null) {
+            return;
         }
-    };
+
+        if (t != null) {
+            ErrorResult errorResult;
+            if (t instanceof ResponseStatusError) {
+                ResponseStatusError err = (ResponseStatusError) t;
+                errorResult = new ErrorResult(err);
+            } else {
+                errorResult = new ErrorResult(t);
+            }
+
+            callback.onFailureForUiThread(errorResult);
+        } else {
+            callback.onSuccessForUiThread(response);
+        }
+    }
+
+    private void finish() {
+        if (callback != null) {
+            callback.onDidEnd();
+        }
+        onDidEnd();
+    }
 
     public abstract T call() throws Exception;
 
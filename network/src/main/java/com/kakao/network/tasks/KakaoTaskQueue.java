@@ -17,13 +17,19 @@
  */
 package com.kakao.network.tasks;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import com.kakao.util.helper.metrics.IGauge;
+import com.kakao.util.helper.metrics.MetricsRegistry;
+
+import java.util.Locale;
 import java.util.concurrent.Future;
 
+/**
+ * SDK의 모든 API 요청이 실행되는 대기열.
+ * 실제 실행은 {@link ITaskScheduler}가 담당하며, 기본값은 thread 개수가 제한된 {@link KakaoTaskScheduler}이다.
+ */
 public class KakaoTaskQueue {
     private static volatile KakaoTaskQueue instance;
-    private ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile ITaskScheduler scheduler = new KakaoTaskScheduler(TaskSchedulerConfig.createDefault());
 
     public static KakaoTaskQueue getInstance() {
         if (instance == null) {
@@ -38,9 +44,103 @@ public class KakaoTaskQueue {
     }
 
     private KakaoTaskQueue() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.registerGauge("task_queue.queued", new IGauge() {
+            @Override
+            public long getValue() {
+                long total = 0;
+                for (TaskPriority priority : TaskPriority.values()) {
+                    total += getQueuedCount(priority);
+                }
+                return total;
+            }
+        });
+        registry.registerGauge("task_queue.running", new IGauge() {
+            @Override
+            public long getValue() {
+                long total = 0;
+                for (TaskPriority priority : TaskPriority.values()) {
+                    total += getRunningCount(priority);
+                }
+                return total;
+            }
+        });
+        for (final TaskPriority priority : TaskPriority.values()) {
+            final String lane = priority.name().toLowerCase(Locale.US);
+            registry.registerGauge("task_queue.queued." + lane, new IGauge() {
+                @Override
+                public long getValue() {
+                    return getQueuedCount(priority);
+                }
+            });
+            registry.registerGauge("task_queue.running." + lane, new IGauge() {
+                @Override
+                public long getValue() {
+                    return getRunningCount(priority);
+                }
+            });
+        }
+    }
+
+    /**
+     * Task를 실행할 scheduler를 교체한다.
+     * 이전 scheduler에 이미 추가된 Task는 이전 scheduler에서 마저 실행된다.
+     * @param scheduler 새로 사용할 {@link ITaskScheduler}
+     */
+    public void setScheduler(ITaskScheduler scheduler) {
+        if (scheduler == null) {
+            throw new IllegalArgumentException("scheduler may not be null");
+        }
+
+        ITaskScheduler old;
+        synchronized (this) {
+            old = this.scheduler;
+            this.scheduler = scheduler;
+        }
+        if (old != scheduler) {
+            old.shutdown();
+        }
+    }
+
+    public ITaskScheduler getScheduler() {
+        return scheduler;
     }
 
+    /**
+     * {@link TaskPriority#INTERACTIVE} 우선순위로 Task를 추가한다.
+     * @param task 실행할 Task
+     * @return Task 결과에 대한 Future
+     */
     public <T> Future<T> addTask(KakaoResultTask<T> task) {
-        return executor.submit(task.getCallable());
+        return addTask(task, TaskPriority.INTERACTIVE);
+    }
+
+    /**
+     * 지정한 우선순위로 Task를 추가한다.
+     * @param task 실행할 Task
+     * @param priority Task의 우선순위
+     * @return Task 결과에 대한 Future
+     */
+    public <T> Future<T> addTask(KakaoResultTask<T> task, TaskPriority priority) {
+        task.markEnqueued();
+        return scheduler.submit(task.getCallable(), priority);
+    }
+
+    /**
+     * 실행을 기다리고 있는 Task의 개수.
+     * @param priority 조회할 lane
+     * @return 대기중인 Task 개수
+     */
+    public int getQueuedCount(TaskPriority priority) {
+        return scheduler.getQueuedCount(priority);
+    }
+
+    /**
+     * 실행중인 Task의 개수.
+     * @param priority 조회할 lane
+     * @return 실행중인 Task 개수
+     */
+    public int getRunningCount(TaskPriority priority) {
+        return scheduler.getRunningCount(priority);
     }
 }
@@ -0,0 +1,215 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.tasks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * thread 개수가 제한된 기본 {@link ITaskScheduler} 구현체.
+ * 작업은 {@link TaskPriority} lane별 대기열에 쌓이고, 빈 thread가 생기면
+ * 동시 실행 제한에 걸리지 않은 lane 중 우선순위가 가장 높은 lane의 작업부터 실행된다.
+ */
+public class KakaoTaskScheduler implements ITaskScheduler {
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final TaskSchedulerConfig config;
+    private final ExecutorService executor;
+
+    // 아래 값들은 lock의 보호를 받는다.
+    private final Object lock = new Object();
+    private final Map<TaskPriority, Deque<Runnable>> queues = new EnumMap<TaskPriority, Deque<Runnable>>(TaskPriority.class);
+    private final Map<TaskPriority, Integer> running = new EnumMap<TaskPriority, Integer>(TaskPriority.class);
+    private final Map<TaskPriority, Integer> peakQueued = new EnumMap<TaskPriority, Integer>(TaskPriority.class);
+    private int totalRunning = 0;
+    private boolean shutdown = false;
+
+    public KakaoTaskScheduler(TaskSchedulerConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("config may not be null");
+        }
+        this.config = config;
+        for (TaskPriority priority : TaskPriority.values()) {
+            queues.put(priority, new ArrayDeque<Runnable>());
+            running.put(priority, 0);
+            peakQueued.put(priority, 0);
+        }
+
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(config.getMaxThreads(), config.getMaxThreads(),
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new TaskThreadFactory());
+        threadPool.allowCoreThreadTimeOut(true);
+        this.executor = threadPool;
+    }
+
+    public TaskSchedulerConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> callable, TaskPriority priority) {
+        if (callable == null) {
+            throw new IllegalArgumentException("callable may not be null");
+        }
+        final TaskPriority lane = priority == null ? TaskPriority.INTERACTIVE : priority;
+        final FutureTask<T> future = new FutureTask<T>(callable);
+
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException("scheduler is shutdown");
+            }
+            Deque<Runnable> queue = queues.get(lane);
+            queue.addLast(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        future.run();
+                    } finally {
+                        finished(lane);
+                    }
+                }
+            });
+            if (queue.size() > peakQueued.get(lane)) {
+                peakQueued.put(lane, queue.size());
+            }
+        }
+
+        promote();
+        return future;
+    }
+
+    private void finished(TaskPriority lane) {
+        synchronized (lock) {
+            running.put(lane, running.get(lane) - 1);
+            totalRunning--;
+        }
+        promote();
+    }
+
+    /**
+     * 실행 가능한 만큼 대기열의 작업을 thread pool로 넘긴다.
+     */
+    private void promote() {
+        while (true) {
+            Runnable next = null;
+            synchronized (lock) {
+                if (totalRunning >= config.getMaxThreads()) {
+                    return;
+                }
+
+                for (TaskPriority lane : TaskPriority.values()) {
+                    Deque<Runnable> queue = queues.get(lane);
+                    if (!queue.isEmpty() && running.get(lane) < config.getLaneConcurrency(lane)) {
+                        next = queue.pollFirst();
+                        running.put(lane, running.get(lane) + 1);
+                        totalRunning++;
+                        break;
+                    }
+                }
+            }
+
+            if (next == null) {
+                return;
+            }
+            executor.execute(next);
+        }
+    }
+
+    @Override
+    public int getQueuedCount(TaskPriority priority) {
+        synchronized (lock) {
+            return queues.get(priority).size();
+        }
+    }
+
+    @Override
+    public int getRunningCount(TaskPriority priority) {
+        synchronized (lock) {
+            return running.get(priority);
+        }
+    }
+
+    /**
+     * lane의 대기열이 가장 길었을때의 작업 개수.
+     * @param priority 조회할 lane
+     * @return 최대 대기열 길이
+     */
+    public int getPeakQueuedCount(TaskPriority priority) {
+        synchronized (lock) {
+            return peakQueued.get(priority);
+        }
+    }
+
+    /**
+     * 전체 lane에서 대기중인 작업의 개수.
+     * @return 대기중인 작업 개수
+     */
+    public int getTotalQueuedCount() {
+        synchronized (lock) {
+            int total = 0;
+            for (Deque<Runnable> queue : queues.values()) {
+                total += queue.size();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 전체 lane에서 실행중인 작업의 개수.
+     * @return 실행중인 작업 개수
+     */
+    public int getTotalRunningCount() {
+        synchronized (lock) {
+            return totalRunning;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            if (totalRunning > 0 || getTotalQueuedCount() > 0) {
+                // 남은 작업은 finished()에서 계속 promote되고, 모두 끝난 뒤 thread는 keepAlive 이후 정리된다.
+                return;
+            }
+        }
+        executor.shutdown();
+    }
+
+    private static class TaskThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "KakaoTask-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
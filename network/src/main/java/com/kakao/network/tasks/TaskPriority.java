@@ -0,0 +1,39 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.tasks;
+
+/**
+ * {@link KakaoTaskQueue}에 추가되는 Task의 우선순위.
+ * 우선순위가 높은 lane의 Task가 먼저 실행되며, lane별로 동시에 실행될 수 있는 개수가 제한된다.
+ */
+public enum TaskPriority {
+    /**
+     * 사용자가 결과를 기다리고 있는 요청. (사용자 정보, 친구 목록 등)
+     */
+    INTERACTIVE,
+
+    /**
+     * 사용자가 직접 기다리지 않는 요청. (토큰 정보 확인, push token 등록 등)
+     */
+    BACKGROUND,
+
+    /**
+     * 이미지 업로드처럼 오래 걸리고 대역폭을 많이 사용하는 요청.
+     */
+    BULK_UPLOAD
+}
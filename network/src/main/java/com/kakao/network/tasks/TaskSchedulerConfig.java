@@ -0,0 +1,98 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.network.tasks;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * {@link KakaoTaskScheduler}의 thread 개수와 lane별 동시 실행 개수 설정.
+ */
+public class TaskSchedulerConfig {
+    private static final int DEFAULT_MAX_THREADS = 6;
+    private static final int DEFAULT_BACKGROUND_CONCURRENCY = 3;
+    private static final int DEFAULT_BULK_UPLOAD_CONCURRENCY = 2;
+
+    private int maxThreads;
+    private Map<TaskPriority, Integer> laneConcurrency;
+
+    private TaskSchedulerConfig() {
+    }
+
+    /**
+     * 동시에 실행될 수 있는 전체 작업(thread)의 최대 개수.
+     * @return 최대 thread 개수
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * lane에서 동시에 실행될 수 있는 작업의 최대 개수.
+     * @param priority 조회할 lane
+     * @return lane의 최대 동시 실행 개수. maxThreads를 넘지 않는다.
+     */
+    public int getLaneConcurrency(TaskPriority priority) {
+        Integer concurrency = laneConcurrency.get(priority);
+        if (concurrency == null) {
+            return maxThreads;
+        }
+        return Math.min(concurrency, maxThreads);
+    }
+
+    public static TaskSchedulerConfig createDefault() {
+        return new Builder().build();
+    }
+
+    /**
+     * 기본값은 전체 6개 thread 중 BACKGROUND 3개, BULK_UPLOAD 2개로
+     * 다른 lane이 모두 차 있어도 INTERACTIVE 작업이 실행될 thread가 남아있도록 한다.
+     */
+    public static class Builder {
+        private int maxThreads = DEFAULT_MAX_THREADS;
+        private final Map<TaskPriority, Integer> laneConcurrency = new EnumMap<TaskPriority, Integer>(TaskPriority.class);
+
+        public Builder() {
+            laneConcurrency.put(TaskPriority.BACKGROUND, DEFAULT_BACKGROUND_CONCURRENCY);
+            laneConcurrency.put(TaskPriority.BULK_UPLOAD, DEFAULT_BULK_UPLOAD_CONCURRENCY);
+        }
+
+        public Builder setMaxThreads(int maxThreads) {
+            if (maxThreads <= 0) {
+                throw new IllegalArgumentException("maxThreads must be positive");
+            }
+            this.maxThreads = maxThreads;
+            return this;
+        }
+
+        public Builder setLaneConcurrency(TaskPriority priority, int concurrency) {
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("concurrency must be positive");
+            }
+            laneConcurrency.put(priority, concurrency);
+            return this;
+        }
+
+        public TaskSchedulerConfig build() {
+            TaskSchedulerConfig config = new TaskSchedulerConfig();
+            config.maxThreads = maxThreads;
+            config.laneConcurrency = new EnumMap<TaskPriority, Integer>(laneConcurrency);
+            return config;
+        }
+    }
+}
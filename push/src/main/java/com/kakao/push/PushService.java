@@ -20,6 +20,7 @@ package com.kakao.push;
 import com.kakao.auth.ApiResponseCallback;
 import com.kakao.network.tasks.KakaoResultTask;
 import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.network.tasks.TaskPriority;
 import com.kakao.push.api.PushApi;
 import com.kakao.push.response.GetPushTokenResponse;
 import com.kakao.push.response.RegisterPushTokenResponse;
@@ -48,7 +49,7 @@ public class PushService {
                 PushToken.savePushTokenToCache(pushToken, appVer, response.getExpiredAt());
                 return response.getExpiredAt();
             }
-        });
+        }, TaskPriority.BACKGROUND);
     }
 
     /**
@@ -78,7 +79,7 @@ public class PushService {
                 PushToken.clearRegistrationId();
                 return true;
             }
-        });
+        }, TaskPriority.BACKGROUND);
     }
 
     /**
@@ -17,17 +17,20 @@
  */
 package com.kakao.push.request;
 
+import com.kakao.network.ICacheInvalidatingRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.auth.network.request.ApiRequest;
 import com.kakao.push.StringSet;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * @author leoshin, created at 15. 8. 10..
  */
-public class DeregisterPushTokenRequest extends ApiRequest {
+public class DeregisterPushTokenRequest extends ApiRequest implements ICacheInvalidatingRequest {
 
     private final String deviceId;
     public DeregisterPushTokenRequest(String deviceId) {
@@ -53,4 +56,9 @@ public class DeregisterPushTokenRequest extends ApiRequest {
         }
         return params;
     }
+
+    @Override
+    public List<String> getInvalidatedCacheGroups() {
+        return Collections.singletonList(ServerProtocol.PUSH_TOKENS_PATH);
+    }
 }
@@ -17,13 +17,14 @@
  */
 package com.kakao.push.request;
 
+import com.kakao.network.ICacheableRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.auth.network.request.ApiRequest;
 
 /**
  * @author leoshin, created at 15. 8. 10..
  */
-public class GetPushTokensRequest extends ApiRequest {
+public class GetPushTokensRequest extends ApiRequest implements ICacheableRequest {
     @Override
     public String getMethod() {
         return GET;
@@ -33,4 +34,9 @@ public class GetPushTokensRequest extends ApiRequest {
     public String getUrl() {
         return createBaseURL(ServerProtocol.API_AUTHORITY, ServerProtocol.PUSH_TOKENS_PATH);
     }
+
+    @Override
+    public String getCacheGroup() {
+        return ServerProtocol.PUSH_TOKENS_PATH;
+    }
 }
@@ -17,13 +17,19 @@
  */
 package com.kakao.storage;
 
+import android.net.Uri;
+
 import com.kakao.auth.ApiResponseCallback;
+import com.kakao.network.multipart.UploadProgressListener;
 import com.kakao.network.tasks.KakaoResultTask;
 import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.network.tasks.TaskPriority;
 import com.kakao.storage.api.StorageApi;
 import com.kakao.storage.response.ImageUploadResponse;
+import com.kakao.util.helper.ImageResizeConfig;
 
 import java.io.File;
+import java.util.List;
 
 /**
  * @author leoshin on 15. 9. 8.
@@ -54,6 +60,59 @@ public class StorageService {
             public ImageUploadResponse call() throws Exception {
                 return StorageApi.requestImageUpload(imageFile, secureResource);
             }
-        });
+        }, TaskPriority.BULK_UPLOAD);
+    }
+
+    /**
+     * 이미지를 설정된 크기 이하로 줄이고 JPEG으로 다시 encoding해서 업로드 한다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param callback 요청 결과에 대한 callback
+     * @param imageUri 업로드할 이미지의 file 또는 content scheme uri
+     * @param resizeConfig 줄일 크기와 품질
+     * @param secureResource 이미지 url을 https로 반환할지 여부.
+     * @param progressListener upload 진행 상황을 받거나 취소할 listener. null이면 진행 상황을 알리지 않는다.
+     * @see StorageApi#requestImageUpload(Uri, ImageResizeConfig, boolean, UploadProgressListener)
+     */
+    public static void requestImageUpload(final ApiResponseCallback<ImageUploadResponse> callback, final Uri imageUri, final ImageResizeConfig resizeConfig, final boolean secureResource, final UploadProgressListener progressListener) {
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<ImageUploadResponse>(callback) {
+            @Override
+            public ImageUploadResponse call() throws Exception {
+                return StorageApi.requestImageUpload(imageUri, resizeConfig, secureResource, progressListener);
+            }
+        }, TaskPriority.BULK_UPLOAD);
+    }
+
+    /**
+     * 끊긴 연결에서도 이어서 진행할 수 있도록 이미지를 업로드 한다.
+     * 이미 완료된 파일은 다시 전송하지 않으며, 일시적인 연결 오류는 제한된 횟수만큼 다시 시도한다.
+     * 5M 이하의 이미지를 업로드 할 수 있다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param callback 요청 결과에 대한 callback
+     * @param imageFile 업로드할 이미지 파일
+     * @param secureResource 이미지 url을 https로 반환할지 여부.
+     * @param progressListener upload 진행 상황을 받거나 취소할 listener. null이면 진행 상황을 알리지 않는다.
+     * @see StorageApi#requestResumableImageUpload(File, boolean, UploadProgressListener)
+     */
+    public static void requestResumableImageUpload(final ApiResponseCallback<ImageUploadResponse> callback, final File imageFile, final boolean secureResource, final UploadProgressListener progressListener) {
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<ImageUploadResponse>(callback) {
+            @Override
+            public ImageUploadResponse call() throws Exception {
+                return StorageApi.requestResumableImageUpload(imageFile, secureResource, progressListener);
+            }
+        }, TaskPriority.BULK_UPLOAD);
+    }
+
+    /**
+     * 이전 process에서 완료되지 못한 resumable upload를 이어서 진행한다.
+     * 앱 시작 후 session이 열린 뒤에 호출한다.
+     * @param callback 이번에 완료된 이미지들의 response 목록을 받을 callback
+     */
+    public static void requestPendingImageUploads(final ApiResponseCallback<List<ImageUploadResponse>> callback) {
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<List<ImageUploadResponse>>(callback) {
+            @Override
+            public List<ImageUploadResponse> call() throws Exception {
+                return StorageApi.requestPendingImageUploads();
+            }
+        }, TaskPriority.BULK_UPLOAD);
     }
 }
@@ -17,17 +17,46 @@
  */
 package com.kakao.storage.api;
 
+import android.net.Uri;
+
+import com.kakao.auth.ISessionCloseListener;
+import com.kakao.auth.Session;
 import com.kakao.auth.SingleNetworkTask;
+import com.kakao.auth.network.response.ApiResponse.ApiResponseStatusError;
+import com.kakao.network.multipart.UploadCanceledException;
+import com.kakao.network.multipart.UploadProgressListener;
 import com.kakao.network.response.ResponseData;
 import com.kakao.storage.request.ImageUploadRequest;
 import com.kakao.storage.response.ImageUploadResponse;
+import com.kakao.usermgmt.response.model.UserProfile;
+import com.kakao.util.helper.ImagePreprocessor;
+import com.kakao.util.helper.ImageResizeConfig;
+import com.kakao.util.helper.ProcessedImage;
+import com.kakao.util.helper.log.Logger;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author leoshin on 15. 9. 8.
  */
 public class StorageApi {
+    /**
+     * 재개 가능한 upload에서 한 번의 호출 안에 전송을 시도하는 최대 횟수.
+     */
+    private static final int MAX_UPLOAD_ATTEMPTS = 3;
+    /**
+     * 재개 가능한 upload에서 process 재시작과 {@link #requestPendingImageUploads()}를 포함해 한 파일에 전송을 시도하는 최대 횟수.
+     * 이 횟수를 넘으면 journal에서 지워 더 이상 이어서 진행하지 않는다.
+     */
+    private static final int MAX_JOURNAL_UPLOAD_ATTEMPTS = 3 * MAX_UPLOAD_ATTEMPTS;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1000L;
+
+    private static UploadJournal uploadJournal;
+    private static boolean sessionCloseListenerRegistered;
+
     /**
      * 이미지를 업로드 한다.
      * 5M 이하의 이미지를 업로드 할 수 있다.
@@ -42,4 +71,146 @@ public class StorageApi {
         ResponseData result = networkTask.requestApi(new ImageUploadRequest(imageFile, secureResource));
         return new ImageUploadResponse(result);
     }
+
+    /**
+     * 이미지를 설정된 크기 이하로 줄이고 JPEG으로 다시 encoding해서 업로드 한다.
+     * 원본은 sampling해서 decoding하고, 결과는 임시 파일 없이 memory에서 바로 multipart로 전송된다.
+     * EXIF 등의 metadata는 전송되지 않는다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param imageUri 업로드할 이미지의 file 또는 content scheme uri
+     * @param resizeConfig 줄일 크기와 품질
+     * @param secureResource 이미지 url을 https로 반환할지 여부.
+     * @param progressListener upload 진행 상황을 받거나 취소할 listener. null이면 진행 상황을 알리지 않는다.
+     * @return 업로드한 이미지의 사이즈별 정보를 담은 response 객체.
+     * @throws Exception 실패하였을경우의 정보를 담고있는 Exception
+     */
+    public static ImageUploadResponse requestImageUpload(Uri imageUri, ImageResizeConfig resizeConfig, boolean secureResource, UploadProgressListener progressListener) throws Exception {
+        ProcessedImage processedImage = ImagePreprocessor.process(Session.getCurrentSession().getContext(), imageUri, resizeConfig);
+        SingleNetworkTask networkTask = new SingleNetworkTask();
+        ResponseData result = networkTask.requestApi(new ImageUploadRequest(processedImage, secureResource, progressListener));
+        return new ImageUploadResponse(result);
+    }
+
+    /**
+     * 끊긴 연결에서도 이어서 진행할 수 있도록 이미지를 업로드 한다.
+     * upload 상태를 journal에 기록해 두어 이미 완료된 파일은 다시 전송하지 않고 저장된 응답을 돌려주며,
+     * 연결이 끊기는 등 일시적인 IOException은 간격을 늘려가며 제한된 횟수만큼 다시 시도한다.
+     * 끝내 실패한 upload는 journal에 남아 {@link #requestPendingImageUploads()}로 이어서 진행할 수 있다.
+     * 단 이전 호출과 이전 process에서의 시도를 합쳐 정해진 횟수를 넘으면 journal에서 지우고 더 이상 이어서 진행하지 않는다.
+     * journal은 로그인한 사용자별로 남으며 세션이 닫히면 지워진다. 사용자 정보가 cache에 없으면 journal 없이 upload한다.
+     * 5M 이하의 이미지를 업로드 할 수 있다.
+     * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
+     * @param imageFile 업로드할 이미지 파일
+     * @param secureResource 이미지 url을 https로 반환할지 여부.
+     * @param progressListener upload 진행 상황을 받거나 취소할 listener. null이면 진행 상황을 알리지 않는다.
+     * @return 업로드한 이미지의 사이즈별 정보를 담은 response 객체.
+     * @throws Exception 실패하였을경우의 정보를 담고있는 Exception
+     */
+    public static ImageUploadResponse requestResumableImageUpload(File imageFile, boolean secureResource, UploadProgressListener progressListener) throws Exception {
+        final UploadJournal journal = getUploadJournal();
+        if (journal != null) {
+            final ResponseData completed = journal.getCompleted(imageFile, secureResource);
+            if (completed != null) {
+                return new ImageUploadResponse(completed);
+            }
+        }
+
+        long retryDelay = INITIAL_RETRY_DELAY_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            final int journalAttempts = journal != null ? journal.markStarted(imageFile, secureResource) : attempt;
+            try {
+                SingleNetworkTask networkTask = new SingleNetworkTask();
+                ResponseData result = networkTask.requestApi(new ImageUploadRequest(imageFile, secureResource, progressListener));
+                ImageUploadResponse response = new ImageUploadResponse(result);
+                if (journal != null) {
+                    journal.markCompleted(imageFile, secureResource, result);
+                }
+                return response;
+            } catch (IOException e) {
+                final boolean retryable = isRetryable(e, progressListener) && journalAttempts < MAX_JOURNAL_UPLOAD_ATTEMPTS;
+                if (!retryable && journal != null) {
+                    journal.markAbandoned(imageFile, secureResource);
+                }
+                if (!retryable || attempt >= MAX_UPLOAD_ATTEMPTS) {
+                    throw e;
+                }
+                Logger.w("StorageApi.requestResumableImageUpload : retry " + attempt + " after " + retryDelay + "ms, e = " + e);
+                Thread.sleep(retryDelay);
+                retryDelay *= 2;
+            } catch (Exception e) {
+                if (journal != null) {
+                    journal.markAbandoned(imageFile, secureResource);
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 이전 process에서 완료되지 못한 {@link #requestResumableImageUpload(File, boolean, UploadProgressListener)} 요청들을 이어서 업로드 한다.
+     * 한 파일이 실패해도 나머지 파일을 계속 진행하며, 연결 문제로 실패한 파일은 journal에 남아 다음에 다시 시도된다.
+     * @return 이번에 완료된 이미지들의 response 목록.
+     * @throws Exception session이 닫힌 경우 등 더 진행할 수 없는 경우의 Exception
+     */
+    public static List<ImageUploadResponse> requestPendingImageUploads() throws Exception {
+        final List<ImageUploadResponse> responses = new ArrayList<ImageUploadResponse>();
+        final UploadJournal journal = getUploadJournal();
+        if (journal == null) {
+            return responses;
+        }
+        for (UploadJournal.PendingUpload pendingUpload : journal.getPendingUploads()) {
+            if (pendingUpload.attempts >= MAX_JOURNAL_UPLOAD_ATTEMPTS) {
+                Logger.w("StorageApi.requestPendingImageUploads : give up " + pendingUpload.file + " after " + pendingUpload.attempts + " attempts");
+                journal.markAbandoned(pendingUpload.file, pendingUpload.secureResource);
+                continue;
+            }
+            try {
+                responses.add(requestResumableImageUpload(pendingUpload.file, pendingUpload.secureResource, null));
+            } catch (IOException e) {
+                Logger.w("StorageApi.requestPendingImageUploads : " + pendingUpload.file + ", e = " + e);
+            } catch (ApiResponseStatusError e) {
+                Logger.w("StorageApi.requestPendingImageUploads : " + pendingUpload.file + ", e = " + e);
+            }
+        }
+        return responses;
+    }
+
+    private static boolean isRetryable(final IOException e, final UploadProgressListener progressListener) {
+        if (e instanceof UploadCanceledException || Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        return progressListener == null || !progressListener.isCanceled();
+    }
+
+    /**
+     * @return 현재 로그인한 사용자의 journal. 사용자 정보가 cache에 없으면 null.
+     */
+    private static synchronized UploadJournal getUploadJournal() {
+        if (!sessionCloseListenerRegistered) {
+            Session.addSessionCloseListener(new ISessionCloseListener() {
+                @Override
+                public void onSessionClosed() {
+                    clearUploadJournal();
+                }
+            });
+            sessionCloseListenerRegistered = true;
+        }
+
+        final UserProfile profile = UserProfile.loadFromCache();
+        final long ownerId = profile != null ? profile.getId() : 0;
+        if (ownerId == 0) {
+            return null;
+        }
+        if (uploadJournal == null || uploadJournal.getOwnerId() != ownerId) {
+            uploadJournal = new UploadJournal(Session.getCurrentSession().getContext(), ownerId);
+        }
+        return uploadJournal;
+    }
+
+    private static synchronized void clearUploadJournal() {
+        if (uploadJournal != null) {
+            uploadJournal.clear();
+            uploadJournal = null;
+        }
+    }
 }
@@ -0,0 +1,237 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.storage.api;
+
+import android.content.Context;
+
+import com.kakao.network.response.ResponseData;
+import com.kakao.util.helper.SharedPreferencesCache;
+import com.kakao.util.helper.log.Logger;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 upload 상태를 기록해 두는 journal.
+ * process가 종료되어도 남아 있도록 {@link SharedPreferencesCache}에 저장한다.
+ * 파일은 경로, 크기, 수정 시각, secure_resource 여부로 구분하며, 완료된 upload의 응답을 보관해 같은 파일을 다시 보내지 않도록 한다.
+ * 기록은 로그인한 사용자마다 따로 저장하며, 세션이 닫히면 지운다.
+ */
+class UploadJournal {
+    private static final String CACHE_NAME = "com.kakao.storage.upload_journal";
+    private static final String PENDING_PREFIX = "pending.";
+    private static final String DONE_PREFIX = "done.";
+
+    private static final String KEY_PATH = "path";
+    private static final String KEY_SECURE = "secure";
+    private static final String KEY_ATTEMPTS = "attempts";
+    private static final String KEY_BODY = "body";
+    private static final String KEY_TIME = "time";
+
+    /**
+     * 완료된 upload 응답을 보관하는 시간. 서버의 이미지 url도 영구적이지 않으므로 하루만 재사용한다.
+     */
+    static final long DONE_EXPIRE_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private final long ownerId;
+    private final SharedPreferencesCache cache;
+
+    /**
+     * @param ownerId 기록을 남기는 사용자의 id
+     */
+    UploadJournal(final Context context, final long ownerId) {
+        this.ownerId = ownerId;
+        this.cache = new SharedPreferencesCache(context, CACHE_NAME + "." + ownerId);
+        this.cache.reloadAll();
+        removeExpired();
+    }
+
+    long getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * upload 중인 것으로 기록하고 지금까지의 시도 횟수를 반환한다.
+     */
+    synchronized int markStarted(final File file, final boolean secureResource) {
+        final String key = PENDING_PREFIX + fingerprint(file, secureResource);
+        int attempts = 0;
+        final JSONObject entry = read(key);
+        if (entry != null) {
+            attempts = entry.optInt(KEY_ATTEMPTS, 0);
+        }
+
+        try {
+            final JSONObject pending = new JSONObject();
+            pending.put(KEY_PATH, file.getAbsolutePath());
+            pending.put(KEY_SECURE, secureResource);
+            pending.put(KEY_ATTEMPTS, attempts + 1);
+            pending.put(KEY_TIME, System.currentTimeMillis());
+            cache.put(key, pending.toString());
+        } catch (JSONException e) {
+            Logger.w("UploadJournal.markStarted : " + e);
+        }
+        return attempts + 1;
+    }
+
+    /**
+     * upload 완료 응답을 기록하고 진행 중 기록을 지운다.
+     */
+    synchronized void markCompleted(final File file, final boolean secureResource, final ResponseData result) {
+        final String fingerprint = fingerprint(file, secureResource);
+        try {
+            final JSONObject done = new JSONObject();
+            done.put(KEY_BODY, new String(result.getData(), ResponseData.CHARSET));
+            done.put(KEY_TIME, System.currentTimeMillis());
+            cache.put(DONE_PREFIX + fingerprint, done.toString());
+        } catch (JSONException e) {
+            Logger.w("UploadJournal.markCompleted : " + e);
+        } catch (UnsupportedEncodingException e) {
+            Logger.w("UploadJournal.markCompleted : " + e);
+        }
+        cache.remove(PENDING_PREFIX + fingerprint);
+    }
+
+    /**
+     * 다시 시도하지 않을 upload의 진행 중 기록을 지운다.
+     */
+    synchronized void markAbandoned(final File file, final boolean secureResource) {
+        cache.remove(PENDING_PREFIX + fingerprint(file, secureResource));
+    }
+
+    /**
+     * @return 만료되지 않은 완료 응답. 없으면 null.
+     */
+    synchronized ResponseData getCompleted(final File file, final boolean secureResource) {
+        final String key = DONE_PREFIX + fingerprint(file, secureResource);
+        final JSONObject entry = read(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            cache.remove(key);
+            return null;
+        }
+
+        try {
+            return new ResponseData(200, entry.getString(KEY_BODY).getBytes(ResponseData.CHARSET));
+        } catch (JSONException e) {
+            cache.remove(key);
+        } catch (UnsupportedEncodingException e) {
+            cache.remove(key);
+        }
+        return null;
+    }
+
+    /**
+     * @return 완료되지 않은 채 남아 있는 upload 목록. 그 사이 파일이 지워지거나 바뀐 기록은 버린다.
+     */
+    synchronized List<PendingUpload> getPendingUploads() {
+        final List<PendingUpload> pendingUploads = new ArrayList<PendingUpload>();
+        final List<String> staleKeys = new ArrayList<String>();
+        for (Map.Entry<String, String> entry : cache.getStringMap(PENDING_PREFIX).entrySet()) {
+            try {
+                final JSONObject pending = new JSONObject(entry.getValue());
+                final File file = new File(pending.getString(KEY_PATH));
+                final boolean secureResource = pending.optBoolean(KEY_SECURE, false);
+                if (file.exists() && entry.getKey().equals(fingerprint(file, secureResource))) {
+                    pendingUploads.add(new PendingUpload(file, secureResource, pending.optInt(KEY_ATTEMPTS, 0)));
+                    continue;
+                }
+            } catch (JSONException e) {
+                Logger.w("UploadJournal.getPendingUploads : " + e);
+            }
+            staleKeys.add(PENDING_PREFIX + entry.getKey());
+        }
+
+        if (!staleKeys.isEmpty()) {
+            cache.clear(staleKeys);
+        }
+        return pendingUploads;
+    }
+
+    /**
+     * 모든 기록을 지운다.
+     */
+    synchronized void clear() {
+        cache.clearAll();
+        cache.commit();
+    }
+
+    private void removeExpired() {
+        final List<String> expiredKeys = new ArrayList<String>();
+        for (Map.Entry<String, String> entry : cache.getStringMap(DONE_PREFIX).entrySet()) {
+            try {
+                if (isExpired(new JSONObject(entry.getValue()))) {
+                    expiredKeys.add(DONE_PREFIX + entry.getKey());
+                }
+            } catch (JSONException e) {
+                expiredKeys.add(DONE_PREFIX + entry.getKey());
+            }
+        }
+
+        if (!expiredKeys.isEmpty()) {
+            cache.clear(expiredKeys);
+        }
+    }
+
+    private JSONObject read(final String key) {
+        final String value = cache.getString(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new JSONObject(value);
+        } catch (JSONException e) {
+            cache.remove(key);
+            return null;
+        }
+    }
+
+    private static boolean isExpired(final JSONObject entry) {
+        return System.currentTimeMillis() - entry.optLong(KEY_TIME, 0L) > DONE_EXPIRE_MILLIS;
+    }
+
+    private static String fingerprint(final File file, final boolean secureResource) {
+        return new StringBuilder().append(file.getAbsolutePath())
+                .append('|').append(file.length())
+                .append('|').append(file.lastModified())
+                .append('|').append(secureResource).toString();
+    }
+
+    /**
+     * 완료되지 않은 upload 기록.
+     */
+    static class PendingUpload {
+        final File file;
+        final boolean secureResource;
+        final int attempts;
+
+        PendingUpload(final File file, final boolean secureResource, final int attempts) {
+            this.file = file;
+            this.secureResource = secureResource;
+            this.attempts = attempts;
+        }
+    }
+}
@@ -18,11 +18,15 @@
 package com.kakao.storage.request;
 
 import com.kakao.auth.network.request.ApiRequest;
+import com.kakao.network.IUploadRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.network.helper.QueryString;
+import com.kakao.network.multipart.ByteArrayPart;
 import com.kakao.network.multipart.FilePart;
 import com.kakao.network.multipart.Part;
+import com.kakao.network.multipart.UploadProgressListener;
 import com.kakao.storage.StringSet;
+import com.kakao.util.helper.ProcessedImage;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -31,13 +35,31 @@ import java.util.List;
 /**
  * @author leoshin on 15. 9. 8.
  */
-public class ImageUploadRequest extends ApiRequest {
+public class ImageUploadRequest extends ApiRequest implements IUploadRequest {
     private final File imageFile;
+    private final ProcessedImage processedImage;
     private final boolean secureResource;
+    private final UploadProgressListener progressListener;
 
     public ImageUploadRequest(File imageFile, boolean secureResource) {
+        this(imageFile, secureResource, null);
+    }
+
+    public ImageUploadRequest(File imageFile, boolean secureResource, UploadProgressListener progressListener) {
         this.imageFile = imageFile;
+        this.processedImage = null;
+        this.secureResource = secureResource;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * 임시 파일 없이 memory에서 다시 encoding한 이미지를 그대로 전송한다.
+     */
+    public ImageUploadRequest(ProcessedImage processedImage, boolean secureResource, UploadProgressListener progressListener) {
+        this.imageFile = null;
+        this.processedImage = processedImage;
         this.secureResource = secureResource;
+        this.progressListener = progressListener;
     }
 
     @Override
@@ -59,9 +81,16 @@ public class ImageUploadRequest extends ApiRequest {
     @Override
     public List<Part> getMultiPartList() {
         List<Part> filePart = new ArrayList<Part>();
-        if (imageFile != null && imageFile.exists()) {
+        if (processedImage != null) {
+            filePart.add(new ByteArrayPart(StringSet.file, processedImage.getFileName(), processedImage.getData()));
+        } else if (imageFile != null && imageFile.exists()) {
             filePart.add(new FilePart(StringSet.file, imageFile));
         }
         return filePart;
     }
+
+    @Override
+    public UploadProgressListener getUploadProgressListener() {
+        return progressListener;
+    }
 }
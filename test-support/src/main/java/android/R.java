@@ -0,0 +1,32 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android;
+
+/**
+ * SDK가 참조하는 framework resource id. plain JVM에서는 resource를 읽을 수 없으므로 id만 가지고 있다.
+ */
+public final class R {
+    public static final class string {
+        public static final int cancel = 0x01040000;
+        public static final int ok = 0x0104000a;
+    }
+
+    public static final class style {
+        public static final int Theme_NoTitleBar = 0x01030006;
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.app;
+
+/**
+ * alarm을 등록하지 않는 AlarmManager. token 갱신 alarm은 plain JVM에서 울리지 않는다.
+ */
+public class AlarmManager {
+    public static final int ELAPSED_REALTIME = 3;
+
+    public void setInexactRepeating(int type, long triggerAtMillis, long intervalMillis, PendingIntent operation) {
+    }
+
+    public void cancel(PendingIntent operation) {
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.app;
+
+import android.content.Context;
+import android.content.DialogInterface;
+import android.os.Bundle;
+import android.view.KeyEvent;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.Window;
+
+public class Dialog implements DialogInterface {
+    private final Context context;
+
+    public Dialog(Context context) {
+        this(context, 0);
+    }
+
+    public Dialog(Context context, int theme) {
+        this.context = context;
+    }
+
+    public final Context getContext() {
+        return context;
+    }
+
+    protected void onCreate(Bundle savedInstanceState) {
+    }
+
+    public void onAttachedToWindow() {
+    }
+
+    public void onDetachedFromWindow() {
+    }
+
+    public void onWindowFocusChanged(boolean hasFocus) {
+    }
+
+    public boolean onKeyDown(int keyCode, KeyEvent event) {
+        return false;
+    }
+
+    public final boolean requestWindowFeature(int featureId) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public Window getWindow() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void addContentView(View view, ViewGroup.LayoutParams params) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setOnCancelListener(OnCancelListener listener) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public boolean isShowing() {
+        return false;
+    }
+
+    public void show() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    @Override
+    public void cancel() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    @Override
+    public void dismiss() {
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.content;
+
+import android.app.AlarmManager;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.content.pm.ResolveInfo;
+import android.content.pm.Signature;
+import android.content.res.Resources;
+import android.os.Bundle;
+import android.os.PowerManager;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SharedPreferences는 memory에서, files와 cache directory는 dataDir 아래에서 제공하는 context.
+ * AndroidManifest.xml의 meta-data는 생성할 때 넘긴 bundle로 대신하며, 설치된 app은 자기 자신뿐인 것으로 본다.
+ */
+public class Context {
+    public static final int MODE_PRIVATE = 0;
+    public static final String ALARM_SERVICE = "alarm";
+    public static final String POWER_SERVICE = "power";
+
+    private final File dataDir;
+    private final ApplicationInfo applicationInfo = new ApplicationInfo();
+    private final Map<String, SharedPreferences> preferences = new HashMap<String, SharedPreferences>();
+    private final AlarmManager alarmManager = new AlarmManager();
+    private final PowerManager powerManager = new PowerManager();
+
+    public Context() {
+        this(new File(System.getProperty("java.io.tmpdir")), new Bundle());
+    }
+
+    /**
+     * @param dataDir files, cache directory를 만들 directory
+     * @param metaData AndroidManifest.xml의 application meta-data
+     */
+    public Context(File dataDir, Bundle metaData) {
+        this.dataDir = dataDir;
+        this.applicationInfo.metaData = metaData;
+    }
+
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    public synchronized SharedPreferences getSharedPreferences(String name, int mode) {
+        SharedPreferences sharedPreferences = preferences.get(name);
+        if (sharedPreferences == null) {
+            sharedPreferences = new MemorySharedPreferences();
+            preferences.put(name, sharedPreferences);
+        }
+        return sharedPreferences;
+    }
+
+    public File getFilesDir() {
+        return directory("files");
+    }
+
+    public File getCacheDir() {
+        return directory("cache");
+    }
+
+    public String getPackageName() {
+        return "com.kakao.sdk.jvm";
+    }
+
+    public PackageManager getPackageManager() {
+        return new PackageManager() {
+            @Override
+            public ApplicationInfo getApplicationInfo(String packageName, int flags) throws NameNotFoundException {
+                if (!getPackageName().equals(packageName)) {
+                    throw new NameNotFoundException(packageName);
+                }
+                return applicationInfo;
+            }
+
+            @Override
+            public PackageInfo getPackageInfo(String packageName, int flags) throws NameNotFoundException {
+                if (!getPackageName().equals(packageName)) {
+                    throw new NameNotFoundException(packageName);
+                }
+                final PackageInfo packageInfo = new PackageInfo();
+                packageInfo.packageName = packageName;
+                packageInfo.versionCode = 1;
+                packageInfo.versionName = "1.0";
+                packageInfo.signatures = new Signature[]{new Signature(packageName.getBytes())};
+                return packageInfo;
+            }
+
+            @Override
+            public ResolveInfo resolveActivity(Intent intent, int flags) {
+                return null;
+            }
+        };
+    }
+
+    public Object getSystemService(String name) {
+        if (ALARM_SERVICE.equals(name)) {
+            return alarmManager;
+        } else if (POWER_SERVICE.equals(name)) {
+            return powerManager;
+        }
+        return null;
+    }
+
+    public ContentResolver getContentResolver() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public Resources getResources() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public final String getString(int resId) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void startActivity(Intent intent) {
+        throw new ActivityNotFoundException("No Activity found to handle " + intent.getAction());
+    }
+
+    public Intent registerReceiver(BroadcastReceiver receiver, IntentFilter filter) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void unregisterReceiver(BroadcastReceiver receiver) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public int checkCallingOrSelfPermission(String permission) {
+        return PackageManager.PERMISSION_GRANTED;
+    }
+
+    private File directory(String name) {
+        final File directory = new File(dataDir, name);
+        directory.mkdirs();
+        return directory;
+    }
+}
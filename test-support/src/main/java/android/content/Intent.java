@@ -0,0 +1,112 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.content;
+
+import android.net.Uri;
+import android.os.Bundle;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * action, category, extra만 담아두는 Intent. activity를 띄우거나 broadcast하지는 않는다.
+ */
+public class Intent {
+    public static final String ACTION_VIEW = "android.intent.action.VIEW";
+    public static final String ACTION_SEND = "android.intent.action.SEND";
+    public static final String CATEGORY_DEFAULT = "android.intent.category.DEFAULT";
+    public static final int FLAG_ACTIVITY_NO_ANIMATION = 0x00010000;
+
+    private String action;
+    private Uri data;
+    private int flags;
+    private final Set<String> categories = new HashSet<String>();
+    private Bundle extras;
+
+    public Intent() {
+    }
+
+    public Intent(String action, Uri uri) {
+        this.action = action;
+        this.data = uri;
+    }
+
+    public Intent(Context packageContext, Class<?> cls) {
+    }
+
+    public Intent setAction(String action) {
+        this.action = action;
+        return this;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public Uri getData() {
+        return data;
+    }
+
+    public Intent addCategory(String category) {
+        categories.add(category);
+        return this;
+    }
+
+    public Set<String> getCategories() {
+        return categories;
+    }
+
+    public Intent setFlags(int flags) {
+        this.flags = flags;
+        return this;
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public Intent putExtra(String name, int value) {
+        getOrCreateExtras().putInt(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, String value) {
+        getOrCreateExtras().putString(name, value);
+        return this;
+    }
+
+    public Intent putExtra(String name, Bundle value) {
+        getOrCreateExtras().putBundle(name, value);
+        return this;
+    }
+
+    public int getIntExtra(String name, int defaultValue) {
+        return extras == null ? defaultValue : extras.getInt(name, defaultValue);
+    }
+
+    public Bundle getExtras() {
+        return extras;
+    }
+
+    private Bundle getOrCreateExtras() {
+        if (extras == null) {
+            extras = new Bundle();
+        }
+        return extras;
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.content;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class IntentFilter {
+    private final List<String> actions = new ArrayList<String>();
+    private int priority;
+
+    public final void addAction(String action) {
+        actions.add(action);
+    }
+
+    public final void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public final int getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.content;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * memory에만 값을 저장하는 SharedPreferences. XML file I/O는 하지 않는다.
+ */
+class MemorySharedPreferences implements SharedPreferences {
+    private final Map<String, String> values = new HashMap<String, String>();
+
+    @Override
+    public synchronized Map<String, ?> getAll() {
+        return new HashMap<String, String>(values);
+    }
+
+    @Override
+    public synchronized String getString(String key, String defValue) {
+        String value = values.get(key);
+        return value != null ? value : defValue;
+    }
+
+    @Override
+    public Editor edit() {
+        return new MemoryEditor();
+    }
+
+    private class MemoryEditor implements Editor {
+        private final Map<String, String> changes = new HashMap<String, String>();
+        private boolean clear;
+
+        @Override
+        public Editor putString(String key, String value) {
+            changes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public Editor remove(String key) {
+            changes.put(key, null);
+            return this;
+        }
+
+        @Override
+        public Editor clear() {
+            clear = true;
+            return this;
+        }
+
+        @Override
+        public boolean commit() {
+            synchronized (MemorySharedPreferences.this) {
+                if (clear) {
+                    values.clear();
+                }
+                for (Map.Entry<String, String> entry : changes.entrySet()) {
+                    if (entry.getValue() == null) {
+                        values.remove(entry.getKey());
+                    } else {
+                        values.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void apply() {
+            commit();
+        }
+    }
+}
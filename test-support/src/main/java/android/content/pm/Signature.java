@@ -0,0 +1,39 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.content.pm;
+
+public class Signature {
+    private final byte[] signature;
+
+    public Signature(byte[] signature) {
+        this.signature = signature.clone();
+    }
+
+    public byte[] toByteArray() {
+        return signature.clone();
+    }
+
+    public String toCharsString() {
+        final char[] hex = new char[signature.length * 2];
+        for (int i = 0; i < signature.length; i++) {
+            hex[i * 2] = Character.forDigit((signature[i] >> 4) & 0xf, 16);
+            hex[i * 2 + 1] = Character.forDigit(signature[i] & 0xf, 16);
+        }
+        return new String(hex);
+    }
+}
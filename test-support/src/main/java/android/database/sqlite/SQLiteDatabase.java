@@ -0,0 +1,59 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.database.sqlite;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+
+public final class SQLiteDatabase {
+    public static final int CONFLICT_REPLACE = 5;
+
+    private SQLiteDatabase() {
+    }
+
+    public Cursor query(String table, String[] columns, String selection, String[] selectionArgs, String groupBy, String having, String orderBy) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public long insertWithOnConflict(String table, String nullColumnHack, ContentValues initialValues, int conflictAlgorithm) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public int delete(String table, String whereClause, String[] whereArgs) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void execSQL(String sql) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void beginTransaction() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setTransactionSuccessful() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void endTransaction() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public interface CursorFactory {
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics;
+
+import java.io.OutputStream;
+
+public final class Bitmap {
+    private Bitmap() {
+    }
+
+    public static Bitmap createScaledBitmap(Bitmap src, int dstWidth, int dstHeight, boolean filter) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public static Bitmap createBitmap(Bitmap source, int x, int y, int width, int height, Matrix m, boolean filter) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public int getWidth() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public int getHeight() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public boolean compress(CompressFormat format, int quality, OutputStream stream) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void recycle() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public enum CompressFormat {
+        JPEG,
+        PNG,
+        WEBP
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.graphics;
+
+import android.graphics.Rect;
+
+import java.io.InputStream;
+
+public class BitmapFactory {
+    public static Bitmap decodeStream(InputStream is, Rect outPadding, Options opts) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public static class Options {
+        public boolean inJustDecodeBounds;
+        public int inSampleSize;
+        public int outWidth;
+        public int outHeight;
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.net;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+
+/**
+ * 문자열로 된 hierarchical uri만 지원한다.
+ */
+public abstract class Uri {
+    public static Uri parse(String uriString) {
+        return new StringUri(uriString);
+    }
+
+    public static String encode(String s) {
+        try {
+            return URLEncoder.encode(s, "UTF-8").replace("+", "%20").replace("*", "%2A").replace("%7E", "~");
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    public String getQueryParameter(String key) {
+        final String query = toURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            final int index = pair.indexOf('=');
+            final String name = index < 0 ? pair : pair.substring(0, index);
+            if (decode(name).equals(key)) {
+                return index < 0 ? "" : decode(pair.substring(index + 1));
+            }
+        }
+        return null;
+    }
+
+    public String getScheme() {
+        return toURI().getScheme();
+    }
+
+    public String getAuthority() {
+        return toURI().getAuthority();
+    }
+
+    public String getHost() {
+        return toURI().getHost();
+    }
+
+    public String getPath() {
+        return toURI().getPath();
+    }
+
+    public String getLastPathSegment() {
+        final String path = getPath();
+        if (path == null || path.length() == 0) {
+            return null;
+        }
+        final String trimmed = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        return trimmed.substring(trimmed.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public abstract String toString();
+
+    private URI toURI() {
+        try {
+            return new URI(toString());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String decode(String s) {
+        try {
+            return URLDecoder.decode(s, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static final class StringUri extends Uri {
+        private final String uriString;
+
+        StringUri(String uriString) {
+            if (uriString == null) {
+                throw new NullPointerException("uriString");
+            }
+            this.uriString = uriString;
+        }
+
+        @Override
+        public String toString() {
+            return uriString;
+        }
+    }
+
+    public static final class Builder {
+        private String scheme;
+        private String authority;
+        private String path = "";
+        private final StringBuilder query = new StringBuilder();
+
+        public Builder scheme(String scheme) {
+            this.scheme = scheme;
+            return this;
+        }
+
+        public Builder authority(String authority) {
+            this.authority = authority;
+            return this;
+        }
+
+        public Builder path(String path) {
+            this.path = path == null ? "" : path;
+            return this;
+        }
+
+        public Builder appendQueryParameter(String key, String value) {
+            query.append(query.length() == 0 ? "" : "&").append(encode(key)).append('=').append(encode(value));
+            return this;
+        }
+
+        public Uri build() {
+            final StringBuilder builder = new StringBuilder();
+            if (scheme != null) {
+                builder.append(scheme).append(':');
+            }
+            if (authority != null) {
+                builder.append("//").append(authority);
+                // authority가 있으면 path는 항상 절대 경로가 된다.
+                if (path.length() > 0 && !path.startsWith("/")) {
+                    builder.append('/');
+                }
+            }
+            builder.append(path);
+            if (query.length() > 0) {
+                builder.append('?').append(query);
+            }
+            return new StringUri(builder.toString());
+        }
+    }
+}
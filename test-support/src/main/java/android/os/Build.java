@@ -0,0 +1,37 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.os;
+
+/**
+ * plain JVM에서 돌아가는 SDK가 보고할 device 정보. API level은 SDK의 target과 같은 23이다.
+ */
+public class Build {
+    public static final String MODEL = "JVM";
+
+    public static class VERSION {
+        public static final int SDK_INT = 23;
+    }
+
+    public static class VERSION_CODES {
+        public static final int FROYO = 8;
+        public static final int JELLY_BEAN_MR2 = 18;
+        public static final int KITKAT = 19;
+        public static final int KITKAT_WATCH = 20;
+        public static final int LOLLIPOP = 21;
+    }
+}
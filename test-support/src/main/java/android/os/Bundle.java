@@ -0,0 +1,80 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.os;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+public final class Bundle {
+    private final Map<String, Object> values = new HashMap<String, Object>();
+
+    public Set<String> keySet() {
+        return values.keySet();
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public boolean containsKey(String key) {
+        return values.containsKey(key);
+    }
+
+    public Object get(String key) {
+        return values.get(key);
+    }
+
+    public String getString(String key) {
+        Object value = values.get(key);
+        return value instanceof String ? (String) value : null;
+    }
+
+    public void putString(String key, String value) {
+        values.put(key, value);
+    }
+
+    public void putInt(String key, int value) {
+        values.put(key, value);
+    }
+
+    public void putLong(String key, long value) {
+        values.put(key, value);
+    }
+
+    public void putBundle(String key, Bundle value) {
+        values.put(key, value);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Object value = values.get(key);
+        return value instanceof Integer ? (Integer) value : defaultValue;
+    }
+
+    public void putParcelable(String key, Parcelable value) {
+        values.put(key, value);
+    }
+
+    public void putByteArray(String key, byte[] value) {
+        values.put(key, value);
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.os;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * main looper 하나만 제공한다. 처음 사용될 때 daemon thread를 만들어 post된 Runnable을 순서대로 실행한다.
+ */
+public final class Looper {
+    private static final Looper mainLooper = new Looper("main");
+
+    private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<Runnable>();
+    private final Thread thread;
+
+    private Looper(String name) {
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                loop();
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public static Looper getMainLooper() {
+        return mainLooper;
+    }
+
+    public static Looper myLooper() {
+        return Thread.currentThread() == mainLooper.thread ? mainLooper : null;
+    }
+
+    public Thread getThread() {
+        return thread;
+    }
+
+    void enqueue(Runnable runnable) {
+        queue.add(runnable);
+    }
+
+    private void loop() {
+        while (true) {
+            final Runnable runnable;
+            try {
+                runnable = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                runnable.run();
+            } catch (RuntimeException e) {
+                // main thread가 멈추면 결과를 기다리는 worker thread도 모두 멈추므로 기록만 하고 계속 진행한다.
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.os;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class Parcel {
+    private Parcel() {
+    }
+
+    public void writeInt(int value) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void writeLong(long value) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void writeString(String value) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void writeStringList(List<String> value) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void writeMap(Map value) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public int readInt() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public long readLong() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public String readString() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public ArrayList<String> createStringArrayList() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void readMap(Map outVal, ClassLoader loader) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.util;
+
+/**
+ * encoding만 지원한다. {@link #NO_WRAP}이 아니면 android와 같이 76자마다, 그리고 끝에 줄바꿈을 넣는다.
+ */
+public final class Base64 {
+    public static final int DEFAULT = 0;
+    public static final int NO_WRAP = 2;
+
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final int LINE_LENGTH = 76;
+
+    private Base64() {
+    }
+
+    public static String encodeToString(byte[] input, int flags) {
+        final boolean wrap = (flags & NO_WRAP) == 0;
+        final StringBuilder builder = new StringBuilder((input.length + 2) / 3 * 4 + 2);
+        int lineLength = 0;
+        for (int i = 0; i < input.length; i += 3) {
+            final int b0 = input[i] & 0xff;
+            final int b1 = i + 1 < input.length ? input[i + 1] & 0xff : 0;
+            final int b2 = i + 2 < input.length ? input[i + 2] & 0xff : 0;
+            builder.append(ALPHABET[b0 >> 2]);
+            builder.append(ALPHABET[((b0 & 0x3) << 4) | (b1 >> 4)]);
+            builder.append(i + 1 < input.length ? ALPHABET[((b1 & 0xf) << 2) | (b2 >> 6)] : '=');
+            builder.append(i + 2 < input.length ? ALPHABET[b2 & 0x3f] : '=');
+            lineLength += 4;
+            if (wrap && lineLength == LINE_LENGTH) {
+                builder.append('\n');
+                lineLength = 0;
+            }
+        }
+        if (wrap && lineLength > 0) {
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+}
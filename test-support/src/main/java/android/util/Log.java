@@ -0,0 +1,77 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.util;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * 측정 결과에 log 출력 비용이 섞이지 않도록 log를 버리고 쓴 길이만 돌려준다.
+ */
+public final class Log {
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+    public static final int ASSERT = 7;
+
+    private Log() {
+    }
+
+    public static int v(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int d(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int i(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int w(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int w(String tag, String msg, Throwable tr) {
+        return println(tag, msg + '\n' + getStackTraceString(tr));
+    }
+
+    public static int e(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int e(String tag, String msg, Throwable tr) {
+        return println(tag, msg + '\n' + getStackTraceString(tr));
+    }
+
+    public static String getStackTraceString(Throwable tr) {
+        if (tr == null) {
+            return "";
+        }
+        StringWriter writer = new StringWriter();
+        tr.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    private static int println(String tag, String msg) {
+        return tag.length() + msg.length();
+    }
+}
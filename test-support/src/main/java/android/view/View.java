@@ -0,0 +1,61 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.view;
+
+import android.content.Context;
+
+public class View {
+    public static final int VISIBLE = 0;
+    public static final int INVISIBLE = 4;
+
+    public View(Context context) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setVisibility(int visibility) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setLayoutParams(ViewGroup.LayoutParams params) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setPadding(int left, int top, int right, int bottom) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setBackgroundColor(int color) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setOnClickListener(OnClickListener listener) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setVerticalScrollBarEnabled(boolean enabled) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setHorizontalScrollBarEnabled(boolean enabled) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public interface OnClickListener {
+        void onClick(View v);
+    }
+}
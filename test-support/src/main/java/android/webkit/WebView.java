@@ -0,0 +1,69 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package android.webkit;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+import java.util.Map;
+
+public class WebView extends ViewGroup {
+    public WebView(Context context) {
+        super(context);
+    }
+
+    public WebSettings getSettings() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setWebViewClient(WebViewClient client) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void setWebChromeClient(WebChromeClient client) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void loadUrl(String url) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void loadUrl(String url, Map<String, String> additionalHttpHeaders) {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void stopLoading() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public boolean canGoBack() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void goBack() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void pauseTimers() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+
+    public void resumeTimers() {
+        throw new UnsupportedOperationException("not available on the JVM");
+    }
+}
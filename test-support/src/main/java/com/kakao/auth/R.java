@@ -0,0 +1,40 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.auth;
+
+/**
+ * aapt가 만드는 auth module의 R 대신 사용한다. plain JVM에서는 resource를 읽지 않으므로 id 값은 의미가 없다.
+ */
+public final class R {
+    private R() {
+    }
+
+    public static final class string {
+        public static final int core_com_kakao_sdk_loading = 0x7f060000;
+
+        private string() {
+        }
+    }
+
+    public static final class drawable {
+        public static final int kakao_close_button = 0x7f020000;
+
+        private drawable() {
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.testsupport;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Random;
+
+/**
+ * benchmark와 loadtest에서 사용할 API 응답 payload를 만든다.
+ * 실제 서버 응답과 같은 field 구성과 비슷한 길이의 값을 가지며, 같은 seed로 만들면 항상 같은 payload가 된다.
+ */
+public final class Payloads {
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "시우", "지우", "주원", "서윤", "하준", "지민",
+            "예준", "수아", "지호", "채원", "준서", "다은"};
+    private static final String[] LATIN_NAMES = {"Tom", "Jane", "Kevin", "Sophie", "Daniel", "Mina"};
+
+    private Payloads() {
+    }
+
+    /**
+     * /v1/friends 응답.
+     * @param count 친구 수
+     */
+    public static byte[] friends(int count) {
+        final Random random = new Random(count);
+        final StringBuilder builder = new StringBuilder(count * 360);
+        builder.append("{\"elements\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(10000000L + i)
+                    .append(",\"uuid\":\"").append(uuid(random)).append('"')
+                    .append(",\"service_user_id\":").append(20000000L + i)
+                    .append(",\"app_registered\":").append(random.nextBoolean())
+                    .append(",\"profile_nickname\":\"").append(nickname(random)).append('"')
+                    .append(",\"profile_thumbnail_image\":\"").append(imageUrl(random)).append('"')
+                    .append(",\"talk_os\":\"").append(random.nextBoolean() ? "android" : "ios").append('"')
+                    .append(",\"allowed_msg\":").append(random.nextInt(10) != 0)
+                    .append(",\"relation\":{\"talk\":\"FRIEND\",\"story\":\"").append(random.nextBoolean() ? "FRIEND" : "NONE").append("\"}}");
+        }
+        builder.append("],\"total_count\":").append(count)
+                .append(",\"before_url\":null")
+                .append(",\"after_url\":\"https://kapi.kakao.com/v1/friends?offset=").append(count).append("&limit=").append(count).append("\"")
+                .append(",\"id\":\"").append(uuid(random)).append("\"}");
+        return utf8(builder);
+    }
+
+    /**
+     * /v1/api/talk/chat/list 응답.
+     * @param count 채팅방 수
+     */
+    public static byte[] chats(int count) {
+        final Random random = new Random(count);
+        final StringBuilder builder = new StringBuilder(count * 480);
+        builder.append("{\"elements\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            final int memberCount = 2 + random.nextInt(30);
+            builder.append("{\"id\":").append(30000000L + i)
+                    .append(",\"title\":\"").append(nickname(random)).append(", ").append(nickname(random)).append('"')
+                    .append(",\"image_url\":\"").append(imageUrl(random)).append('"')
+                    .append(",\"member_count\":").append(memberCount)
+                    .append(",\"member_image_url_list\":[");
+            for (int j = 0; j < Math.min(memberCount, 4); j++) {
+                if (j > 0) {
+                    builder.append(',');
+                }
+                builder.append('"').append(imageUrl(random)).append('"');
+            }
+            builder.append("]}");
+        }
+        builder.append("],\"total_count\":").append(count)
+                .append(",\"before_url\":null,\"after_url\":null}");
+        return utf8(builder);
+    }
+
+    /**
+     * /v1/api/story/mystories 응답.
+     * @param count 스토리 수
+     */
+    public static byte[] stories(int count) {
+        final Random random = new Random(count);
+        final StringBuilder builder = new StringBuilder(count * 1400);
+        builder.append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            final String id = "AAAAAAA.BBBBBBBB" + i;
+            builder.append("{\"id\":\"").append(id).append('"')
+                    .append(",\"url\":\"https://story.kakao.com/_abcdef/").append(id).append('"')
+                    .append(",\"media_type\":\"PHOTO\"")
+                    .append(",\"created_at\":\"2015-12-").append(10 + random.nextInt(20)).append("T08:30:00Z\"")
+                    .append(",\"comment_count\":2,\"like_count\":2")
+                    .append(",\"content\":\"").append(nickname(random)).append("님과 함께한 오늘 하루 ").append(i).append('"')
+                    .append(",\"permission\":\"PUBLIC\"")
+                    .append(",\"media\":[");
+            for (int j = 0; j < 2; j++) {
+                if (j > 0) {
+                    builder.append(',');
+                }
+                final String image = imageUrl(random);
+                builder.append("{\"original\":\"").append(image).append("?size=original\"")
+                        .append(",\"xlarge\":\"").append(image).append("?size=xlarge\"")
+                        .append(",\"large\":\"").append(image).append("?size=large\"")
+                        .append(",\"medium\":\"").append(image).append("?size=medium\"")
+                        .append(",\"small\":\"").append(image).append("?size=small\"}");
+            }
+            builder.append("],\"comments\":[");
+            for (int j = 0; j < 2; j++) {
+                if (j > 0) {
+                    builder.append(',');
+                }
+                builder.append("{\"text\":\"좋아요 ").append(j).append("\",\"writer\":")
+                        .append(writer(random)).append('}');
+            }
+            builder.append("],\"likes\":[");
+            for (int j = 0; j < 2; j++) {
+                if (j > 0) {
+                    builder.append(',');
+                }
+                builder.append("{\"emotion\":\"LIKE\",\"actor\":").append(writer(random)).append('}');
+            }
+            builder.append("]}");
+        }
+        builder.append(']');
+        return utf8(builder);
+    }
+
+    /**
+     * /v1/user/me 응답.
+     * @param id 사용자 id
+     */
+    public static byte[] me(long id) {
+        final Random random = new Random(id);
+        final String image = imageUrl(random);
+        final StringBuilder builder = new StringBuilder(512);
+        builder.append("{\"id\":").append(id)
+                .append(",\"uuid\":\"").append(uuid(random)).append('"')
+                .append(",\"service_user_id\":").append(20000000L + id)
+                .append(",\"remaining_invite_count\":").append(random.nextInt(30))
+                .append(",\"remaining_group_msg_count\":").append(random.nextInt(30))
+                .append(",\"properties\":{\"nickname\":\"").append(nickname(random)).append('"')
+                .append(",\"thumbnail_image\":\"").append(image).append('"')
+                .append(",\"profile_image\":\"").append(image.replace("110x110c", "640x640s")).append("\"}}");
+        return utf8(builder);
+    }
+
+    /**
+     * /oauth/token 응답. refresh token으로 갱신할 때는 refreshToken 없이 내려온다.
+     * @param accessToken 발급한 access token
+     * @param refreshToken 발급한 refresh token. null이면 넣지 않는다.
+     * @param expiresIn access token 유효 시간 (초)
+     */
+    public static byte[] token(String accessToken, String refreshToken, int expiresIn) {
+        final StringBuilder builder = new StringBuilder(256);
+        builder.append("{\"access_token\":\"").append(accessToken).append('"')
+                .append(",\"token_type\":\"bearer\"");
+        if (refreshToken != null) {
+            builder.append(",\"refresh_token\":\"").append(refreshToken).append('"');
+        }
+        builder.append(",\"expires_in\":").append(expiresIn)
+                .append(",\"scope\":\"profile friends talk_chats story_publish\"}");
+        return utf8(builder);
+    }
+
+    /**
+     * /v1/api/story/upload/multi 응답. 올린 파일마다 story에 사용할 이미지 경로를 하나씩 돌려준다.
+     * @param count 올린 파일 수
+     */
+    public static byte[] storyUpload(int count) {
+        final Random random = new Random();
+        final StringBuilder builder = new StringBuilder(count * 64 + 2);
+        builder.append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("\"/dn/abcdef/").append(Long.toString(random.nextLong() & Long.MAX_VALUE, 36)).append("/img.jpg\"");
+        }
+        builder.append(']');
+        return utf8(builder);
+    }
+
+    /**
+     * /v1/storage/image/upload 응답.
+     */
+    public static byte[] imageUpload() {
+        final String image = imageUrl(new Random()).replace("_110x110c.jpg", "");
+        final StringBuilder builder = new StringBuilder(512);
+        builder.append("{\"origin_image\":\"").append(image).append(".jpg\"")
+                .append(",\"profile_image\":\"").append(image).append("_640x640s.jpg\"")
+                .append(",\"thumbnail_image\":\"").append(image).append("_110x110c.jpg\"}");
+        return utf8(builder);
+    }
+
+    /**
+     * API 실패 응답.
+     * @param code {@code com.kakao.auth.ErrorCode}의 error code
+     * @param msg error message
+     */
+    public static byte[] apiError(int code, String msg) {
+        return utf8(new StringBuilder("{\"code\":").append(code).append(",\"msg\":\"").append(msg).append("\"}"));
+    }
+
+    /**
+     * OAuth 실패 응답.
+     * @param error error 종류. (invalid_grant 등)
+     * @param description error 설명
+     */
+    public static byte[] authError(String error, String description) {
+        return utf8(new StringBuilder("{\"error\":\"").append(error).append("\",\"error_description\":\"").append(description).append("\"}"));
+    }
+
+    /**
+     * 한글 또는 영문 닉네임. 일부는 단어가 여러개이다.
+     */
+    public static String nickname(Random random) {
+        final int kind = random.nextInt(10);
+        if (kind < 7) {
+            return FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+        } else if (kind < 9) {
+            return LATIN_NAMES[random.nextInt(LATIN_NAMES.length)] + " " + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+        } else {
+            return LATIN_NAMES[random.nextInt(LATIN_NAMES.length)] + random.nextInt(100);
+        }
+    }
+
+    public static String uuid(Random random) {
+        return Long.toString(random.nextLong() & Long.MAX_VALUE, 36) + Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+    }
+
+    public static String imageUrl(Random random) {
+        return "http://th-p.talk.kakao.co.kr/th/talkp/wkcG" + Long.toString(random.nextLong() & Long.MAX_VALUE, 36) + "/profile_110x110c.jpg";
+    }
+
+    private static String writer(Random random) {
+        return "{\"display_name\":\"" + nickname(random) + "\",\"profile_thumbnail_url\":\"" + imageUrl(random) + "\"}";
+    }
+
+    private static byte[] utf8(StringBuilder builder) {
+        try {
+            return builder.toString().getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
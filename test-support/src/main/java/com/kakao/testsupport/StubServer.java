@@ -0,0 +1,444 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.testsupport;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+/**
+ * Kakao API 서버를 대신하는 local HTTP(S) server.
+ * /oauth/token, /v1/user/me, /v1/friends, /v1/api/talk/chats, /v1/api/story/upload/multi, /v1/storage/image/upload에
+ * 실제 서버와 같은 모양의 응답을 주며, {@link StubServerConfig}에 따라 응답을 늦추거나 대역폭을 제한하고 실패를 섞는다.
+ * 발급한 token만 유효하며 만료되었거나 {@link #expireAllTokens()}로 무효화된 access token에는 401 (code -401)로 응답한다.
+ * https 인증서는 시작할 때 JDK의 keytool로 만든 self-signed 인증서를 사용한다.
+ */
+public class StubServer {
+    public static final String TOKEN_PATH = "/oauth/token";
+    public static final String USER_ME_PATH = "/v1/user/me";
+    public static final String FRIENDS_PATH = "/v1/friends";
+    public static final String CHAT_LIST_PATH = "/v1/api/talk/chats";
+    public static final String STORY_MULTI_UPLOAD_PATH = "/v1/api/story/upload/multi";
+    public static final String STORAGE_UPLOAD_IMAGE_PATH = "/v1/storage/image/upload";
+
+    private static final int INVALID_TOKEN_CODE = -401;
+    private static final int INTERNAL_ERROR_CODE = -1;
+    private static final int NOT_SUPPORTED_API_CODE = -3;
+    private static final long USER_ID = 10000001L;
+    private static final int THROTTLE_CHUNK_SIZE = 4096;
+    private static final String KEY_STORE_PASSWORD = "kakao-stub";
+    private static final byte[] FILE_NAME_MARKER = ascii("filename=\"");
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    static {
+        // header와 body를 따로 보내는 작은 응답이 delayed ACK에 걸려 40ms씩 늦어지지 않도록 TCP_NODELAY를 켠다.
+        // JDK HttpServer가 처음 load될 때 읽으므로 server를 만들기 전에 지정해야 한다.
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+    }
+
+    private final StubServerConfig config;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] friends;
+    private final byte[] chats;
+
+    // access token -> 만료 시각 (ms)
+    private final ConcurrentMap<String, Long> accessTokens = new ConcurrentHashMap<String, Long>();
+    private final ConcurrentMap<String, Boolean> refreshTokens = new ConcurrentHashMap<String, Boolean>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong tokenRequestCount = new AtomicLong();
+    private final AtomicLong unauthorizedCount = new AtomicLong();
+    private final AtomicLong injectedErrorCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong uploadedFileCount = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    private StubServer(final StubServerConfig config) throws IOException {
+        this.config = config;
+        this.friends = Payloads.friends(config.getFriendCount());
+        this.chats = Payloads.chats(config.getChatCount());
+
+        final InetSocketAddress address = new InetSocketAddress(InetAddress.getByName("localhost"), 0);
+        if (config.isSecure()) {
+            HttpsServer httpsServer = HttpsServer.create(address, 0);
+            httpsServer.setHttpsConfigurator(new HttpsConfigurator(createSslContext()));
+            server = httpsServer;
+        } else {
+            server = HttpServer.create(address, 0);
+        }
+
+        executor = Executors.newFixedThreadPool(config.getThreadCount(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "StubServer #" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        server.setExecutor(executor);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                try {
+                    StubServer.this.handle(exchange);
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+    }
+
+    /**
+     * 비어있는 port로 server를 시작한다.
+     * @param config server 설정
+     * @return 시작된 server
+     * @throws IOException port를 열지 못하였거나 https 인증서를 만들지 못한 경우
+     */
+    public static StubServer start(final StubServerConfig config) throws IOException {
+        StubServer stubServer = new StubServer(config);
+        stubServer.server.start();
+        return stubServer;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return SDK의 ServerProtocol에 넘길 host:port
+     */
+    public String getAuthority() {
+        return "localhost:" + server.getAddress().getPort();
+    }
+
+    public StubServerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * 로그인을 거치지 않고 사용할 refresh token을 발급한다.
+     * @return 이 server의 /oauth/token에서 사용할 수 있는 refresh token
+     */
+    public String issueRefreshToken() {
+        final String refreshToken = newToken("rt");
+        refreshTokens.put(refreshToken, Boolean.TRUE);
+        return refreshToken;
+    }
+
+    /**
+     * 지금까지 발급한 access token을 모두 무효화한다. 이후의 API 요청은 refresh token으로 갱신할 때까지 401로 실패한다.
+     */
+    public void expireAllTokens() {
+        accessTokens.clear();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getTokenRequestCount() {
+        return tokenRequestCount.get();
+    }
+
+    public long getUnauthorizedCount() {
+        return unauthorizedCount.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrorCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return 끝까지 받아서 성공으로 응답한 upload 파일 수
+     */
+    public long getUploadedFileCount() {
+        return uploadedFileCount.get();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        sleep(config.getLatencyMillis() + (config.getLatencyJitterMillis() > 0 ? ThreadLocalRandom.current().nextLong(config.getLatencyJitterMillis() + 1) : 0));
+
+        final String path = exchange.getRequestURI().getPath();
+        if (TOKEN_PATH.equals(path)) {
+            tokenRequestCount.incrementAndGet();
+            handleToken(exchange, readBody(exchange));
+            return;
+        }
+
+        if (config.getDropRate() > 0 && ThreadLocalRandom.current().nextDouble() < config.getDropRate()) {
+            droppedCount.incrementAndGet();
+            // 응답 header를 보내지 않고 닫으면 연결이 끊어진다.
+            readPartialBody(exchange);
+            return;
+        }
+
+        final byte[] body = readBody(exchange);
+        if (!isAuthorized(exchange)) {
+            unauthorizedCount.incrementAndGet();
+            respond(exchange, 401, Payloads.apiError(INVALID_TOKEN_CODE, "this access token does not exist"));
+            return;
+        }
+        if (config.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < config.getErrorRate()) {
+            injectedErrorCount.incrementAndGet();
+            respond(exchange, 500, Payloads.apiError(INTERNAL_ERROR_CODE, "injected error"));
+            return;
+        }
+
+        if (USER_ME_PATH.equals(path)) {
+            respond(exchange, 200, Payloads.me(USER_ID));
+        } else if (FRIENDS_PATH.equals(path)) {
+            respond(exchange, 200, friends);
+        } else if (CHAT_LIST_PATH.equals(path)) {
+            respond(exchange, 200, chats);
+        } else if (STORY_MULTI_UPLOAD_PATH.equals(path)) {
+            final int fileCount = countFiles(body);
+            uploadedFileCount.addAndGet(fileCount);
+            respond(exchange, 200, Payloads.storyUpload(fileCount));
+        } else if (STORAGE_UPLOAD_IMAGE_PATH.equals(path)) {
+            uploadedFileCount.addAndGet(countFiles(body));
+            respond(exchange, 200, Payloads.imageUpload());
+        } else {
+            respond(exchange, 404, Payloads.apiError(NOT_SUPPORTED_API_CODE, "not supported api : " + path));
+        }
+    }
+
+    private void handleToken(final HttpExchange exchange, final byte[] body) throws IOException {
+        final Map<String, String> params = parseForm(body);
+        final String grantType = params.get("grant_type");
+        final int expiresIn = config.getAccessTokenLifetimeSeconds();
+        if ("refresh_token".equals(grantType)) {
+            if (!refreshTokens.containsKey(String.valueOf(params.get("refresh_token")))) {
+                respond(exchange, 401, Payloads.authError("invalid_grant", "refresh token not found"));
+                return;
+            }
+            respond(exchange, 200, Payloads.token(issueAccessToken(expiresIn), null, expiresIn));
+        } else if ("authorization_code".equals(grantType)) {
+            respond(exchange, 200, Payloads.token(issueAccessToken(expiresIn), issueRefreshToken(), expiresIn));
+        } else {
+            respond(exchange, 400, Payloads.authError("unsupported_grant_type", "grant_type = " + grantType));
+        }
+    }
+
+    private String issueAccessToken(final int expiresIn) {
+        final String accessToken = newToken("at");
+        accessTokens.put(accessToken, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(expiresIn));
+        return accessToken;
+    }
+
+    private boolean isAuthorized(final HttpExchange exchange) {
+        final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return false;
+        }
+        final Long expiresAt = accessTokens.get(authorization.substring("Bearer ".length()));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private byte[] readBody(final HttpExchange exchange) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final InputStream in = exchange.getRequestBody();
+        final byte[] buffer = new byte[THROTTLE_CHUNK_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+            bytesReceived.addAndGet(read);
+            throttle(read);
+        }
+        return out.toByteArray();
+    }
+
+    private void readPartialBody(final HttpExchange exchange) throws IOException {
+        final String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        long remaining = contentLength == null ? 0 : Long.parseLong(contentLength) / 2;
+        final InputStream in = exchange.getRequestBody();
+        final byte[] buffer = new byte[THROTTLE_CHUNK_SIZE];
+        int read;
+        while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+            remaining -= read;
+            bytesReceived.addAndGet(read);
+            throttle(read);
+        }
+    }
+
+    private void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        final OutputStream out = exchange.getResponseBody();
+        for (int offset = 0; offset < body.length; offset += THROTTLE_CHUNK_SIZE) {
+            final int length = Math.min(THROTTLE_CHUNK_SIZE, body.length - offset);
+            out.write(body, offset, length);
+            bytesSent.addAndGet(length);
+            throttle(length);
+        }
+        out.close();
+    }
+
+    private void throttle(final int bytes) {
+        if (config.getBandwidthBytesPerSecond() > 0) {
+            sleep(bytes * 1000L / config.getBandwidthBytesPerSecond());
+        }
+    }
+
+    private static void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int countFiles(final byte[] body) {
+        int count = 0;
+        outer:
+        for (int i = 0; i <= body.length - FILE_NAME_MARKER.length; i++) {
+            for (int j = 0; j < FILE_NAME_MARKER.length; j++) {
+                if (body[i + j] != FILE_NAME_MARKER[j]) {
+                    continue outer;
+                }
+            }
+            count++;
+            i += FILE_NAME_MARKER.length - 1;
+        }
+        return count;
+    }
+
+    private static Map<String, String> parseForm(final byte[] body) throws UnsupportedEncodingException {
+        final Map<String, String> params = new HashMap<String, String>();
+        for (String pair : new String(body, "UTF-8").split("&")) {
+            final int index = pair.indexOf('=');
+            if (index > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, index), "UTF-8"), URLDecoder.decode(pair.substring(index + 1), "UTF-8"));
+            }
+        }
+        return params;
+    }
+
+    private static String newToken(final String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static byte[] ascii(final String value) {
+        try {
+            return value.getBytes("US-ASCII");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static SSLContext createSslContext() throws IOException {
+        final File keyStoreFile = File.createTempFile("kakao-stub", ".jks");
+        // keytool은 이미 있는 빈 파일을 keystore로 읽으려 하므로 지운 뒤 만든다.
+        keyStoreFile.delete();
+        try {
+            final File keytool = new File(new File(System.getProperty("java.home"), "bin"), "keytool");
+            final Process process = new ProcessBuilder(keytool.getPath(), "-genkeypair", "-alias", "stub",
+                    "-keyalg", "RSA", "-keysize", "2048", "-validity", "1", "-dname", "CN=localhost",
+                    "-storetype", "JKS", "-keystore", keyStoreFile.getPath(),
+                    "-storepass", KEY_STORE_PASSWORD, "-keypass", KEY_STORE_PASSWORD)
+                    .redirectErrorStream(true)
+                    .start();
+            final String output = new String(readFully(process.getInputStream()), "UTF-8");
+            if (process.waitFor() != 0) {
+                throw new IOException("keytool failed : " + output);
+            }
+
+            final KeyStore keyStore = KeyStore.getInstance("JKS");
+            final InputStream in = new FileInputStream(keyStoreFile);
+            try {
+                keyStore.load(in, KEY_STORE_PASSWORD.toCharArray());
+            } finally {
+                in.close();
+            }
+            final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            keyManagerFactory.init(keyStore, KEY_STORE_PASSWORD.toCharArray());
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            keyStoreFile.delete();
+        }
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.testsupport;
+
+/**
+ * {@link StubServer}의 설정값. 응답 지연, 대역폭, 오류 주입과 token 유효 시간을 정한다.
+ */
+public class StubServerConfig {
+    private static final int DEFAULT_ACCESS_TOKEN_LIFETIME_SECONDS = 43199;
+    private static final int DEFAULT_FRIEND_COUNT = 100;
+    private static final int DEFAULT_CHAT_COUNT = 30;
+    private static final int DEFAULT_THREAD_COUNT = 32;
+
+    private boolean secure;
+    private long latencyMillis;
+    private long latencyJitterMillis;
+    private long bandwidthBytesPerSecond;
+    private double errorRate;
+    private double dropRate;
+    private int accessTokenLifetimeSeconds;
+    private int friendCount;
+    private int chatCount;
+    private int threadCount;
+
+    private StubServerConfig() {
+    }
+
+    /**
+     * SDK는 항상 https로 요청하므로 SDK를 붙여서 사용할 때는 true여야 한다.
+     * @return https로 응답하면 true
+     */
+    public boolean isSecure() {
+        return secure;
+    }
+
+    /**
+     * @return 모든 응답 전에 기다리는 시간 (ms)
+     */
+    public long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    /**
+     * @return latency에 더해지는 임의의 추가 지연의 최대값 (ms)
+     */
+    public long getLatencyJitterMillis() {
+        return latencyJitterMillis;
+    }
+
+    /**
+     * 연결마다 request body를 읽고 response body를 쓰는 속도의 상한.
+     * @return 초당 byte 수. 0이면 제한하지 않는다.
+     */
+    public long getBandwidthBytesPerSecond() {
+        return bandwidthBytesPerSecond;
+    }
+
+    /**
+     * @return API 요청이 500 (code -1)로 실패할 확률
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * request body를 절반만 읽고 응답 없이 연결을 끊을 확률.
+     * @return API 요청의 연결이 끊길 확률
+     */
+    public double getDropRate() {
+        return dropRate;
+    }
+
+    /**
+     * @return 발급하는 access token의 유효 시간 (초)
+     */
+    public int getAccessTokenLifetimeSeconds() {
+        return accessTokenLifetimeSeconds;
+    }
+
+    /**
+     * @return /v1/friends 응답에 담는 친구 수
+     */
+    public int getFriendCount() {
+        return friendCount;
+    }
+
+    /**
+     * @return /v1/api/talk/chats 응답에 담는 채팅방 수
+     */
+    public int getChatCount() {
+        return chatCount;
+    }
+
+    /**
+     * @return 요청을 처리하는 server thread 수
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public static StubServerConfig createDefault() {
+        return new Builder().build();
+    }
+
+    /**
+     * 기본값은 https, 지연/대역폭 제한/오류 없음, token 유효 시간 43199초, 친구 100명, 채팅방 30개, thread 32개이다.
+     */
+    public static class Builder {
+        private boolean secure = true;
+        private long latencyMillis;
+        private long latencyJitterMillis;
+        private long bandwidthBytesPerSecond;
+        private double errorRate;
+        private double dropRate;
+        private int accessTokenLifetimeSeconds = DEFAULT_ACCESS_TOKEN_LIFETIME_SECONDS;
+        private int friendCount = DEFAULT_FRIEND_COUNT;
+        private int chatCount = DEFAULT_CHAT_COUNT;
+        private int threadCount = DEFAULT_THREAD_COUNT;
+
+        public Builder setSecure(boolean secure) {
+            this.secure = secure;
+            return this;
+        }
+
+        public Builder setLatency(long latencyMillis, long jitterMillis) {
+            if (latencyMillis < 0 || jitterMillis < 0) {
+                throw new IllegalArgumentException("latency must not be negative");
+            }
+            this.latencyMillis = latencyMillis;
+            this.latencyJitterMillis = jitterMillis;
+            return this;
+        }
+
+        public Builder setBandwidth(long bytesPerSecond) {
+            if (bytesPerSecond < 0) {
+                throw new IllegalArgumentException("bandwidth must not be negative");
+            }
+            this.bandwidthBytesPerSecond = bytesPerSecond;
+            return this;
+        }
+
+        public Builder setErrorRate(double errorRate) {
+            this.errorRate = checkRate(errorRate);
+            return this;
+        }
+
+        public Builder setDropRate(double dropRate) {
+            this.dropRate = checkRate(dropRate);
+            return this;
+        }
+
+        public Builder setAccessTokenLifetime(int seconds) {
+            if (seconds <= 0) {
+                throw new IllegalArgumentException("access token lifetime must be positive");
+            }
+            this.accessTokenLifetimeSeconds = seconds;
+            return this;
+        }
+
+        public Builder setFriendCount(int friendCount) {
+            if (friendCount < 0) {
+                throw new IllegalArgumentException("friendCount must not be negative");
+            }
+            this.friendCount = friendCount;
+            return this;
+        }
+
+        public Builder setChatCount(int chatCount) {
+            if (chatCount < 0) {
+                throw new IllegalArgumentException("chatCount must not be negative");
+            }
+            this.chatCount = chatCount;
+            return this;
+        }
+
+        public Builder setThreadCount(int threadCount) {
+            if (threadCount <= 0) {
+                throw new IllegalArgumentException("threadCount must be positive");
+            }
+            this.threadCount = threadCount;
+            return this;
+        }
+
+        public StubServerConfig build() {
+            StubServerConfig config = new StubServerConfig();
+            config.secure = secure;
+            config.latencyMillis = latencyMillis;
+            config.latencyJitterMillis = latencyJitterMillis;
+            config.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+            config.errorRate = errorRate;
+            config.dropRate = dropRate;
+            config.accessTokenLifetimeSeconds = accessTokenLifetimeSeconds;
+            config.friendCount = friendCount;
+            config.chatCount = chatCount;
+            config.threadCount = threadCount;
+            return config;
+        }
+
+        private static double checkRate(double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("rate must be between 0 and 1");
+            }
+            return rate;
+        }
+    }
+}
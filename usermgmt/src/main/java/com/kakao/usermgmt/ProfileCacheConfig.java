@@ -0,0 +1,86 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.usermgmt;
+
+/**
+ * 저장된 사용자 정보를 먼저 사용하는 {@link UserManagement#requestMe(com.kakao.usermgmt.callback.CachedMeResponseCallback, ProfileCacheConfig)}의 설정값.
+ */
+public class ProfileCacheConfig {
+    private static final long DEFAULT_FRESH_DURATION_MS = 60 * 1000;
+    private static final long DEFAULT_MAX_STALE_DURATION_MS = 7 * 24 * 60 * 60 * 1000L;
+
+    private long freshDuration;
+    private long maxStaleDuration;
+
+    private ProfileCacheConfig() {
+    }
+
+    /**
+     * 저장된 지 이 시간이 지나지 않은 사용자 정보는 서버에 다시 요청하지 않는다.
+     * @return 갱신 없이 사용할 시간 (ms)
+     */
+    public long getFreshDuration() {
+        return freshDuration;
+    }
+
+    /**
+     * 저장된 지 이 시간이 지난 사용자 정보는 사용하지 않고 서버 응답을 기다린다.
+     * @return 저장된 사용자 정보를 사용할 수 있는 최대 시간 (ms)
+     */
+    public long getMaxStaleDuration() {
+        return maxStaleDuration;
+    }
+
+    public static ProfileCacheConfig createDefault() {
+        return new Builder().build();
+    }
+
+    /**
+     * 기본값은 1분 동안은 갱신하지 않고, 7일이 지난 정보는 사용하지 않는다.
+     */
+    public static class Builder {
+        private long freshDuration = DEFAULT_FRESH_DURATION_MS;
+        private long maxStaleDuration = DEFAULT_MAX_STALE_DURATION_MS;
+
+        public Builder setFreshDuration(long freshDuration) {
+            if (freshDuration < 0) {
+                throw new IllegalArgumentException("freshDuration may not be negative");
+            }
+            this.freshDuration = freshDuration;
+            return this;
+        }
+
+        public Builder setMaxStaleDuration(long maxStaleDuration) {
+            if (maxStaleDuration < 0) {
+                throw new IllegalArgumentException("maxStaleDuration may not be negative");
+            }
+            this.maxStaleDuration = maxStaleDuration;
+            return this;
+        }
+
+        public ProfileCacheConfig build() {
+            if (freshDuration > maxStaleDuration) {
+                throw new IllegalArgumentException("freshDuration may not exceed maxStaleDuration");
+            }
+            ProfileCacheConfig config = new ProfileCacheConfig();
+            config.freshDuration = freshDuration;
+            config.maxStaleDuration = maxStaleDuration;
+            return config;
+        }
+    }
+}
@@ -17,11 +17,17 @@
  */
 package com.kakao.usermgmt;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import com.kakao.auth.ApiResponseCallback;
+import com.kakao.network.ErrorResult;
 import com.kakao.network.callback.ResponseCallback;
 import com.kakao.network.tasks.KakaoResultTask;
 import com.kakao.network.tasks.KakaoTaskQueue;
+import com.kakao.network.tasks.TaskPriority;
 import com.kakao.usermgmt.api.UserApi;
+import com.kakao.usermgmt.callback.CachedMeResponseCallback;
 import com.kakao.usermgmt.callback.LogoutResponseCallback;
 import com.kakao.usermgmt.callback.MeResponseCallback;
 import com.kakao.usermgmt.callback.UnLinkResponseCallback;
@@ -37,6 +43,7 @@ import java.util.Map;
  * @author MJ
  */
 public class UserManagement {
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
 
     /**
      * 가입 요청
@@ -139,6 +146,74 @@ public class UserManagement {
         });
     }
 
+    /**
+     * 저장된 사용자정보가 있으면 바로 전달하고 background에서 갱신하는 사용자정보 요청.
+     * 갱신된 정보가 저장된 정보와 다를 때만 {@link CachedMeResponseCallback#onProfileRefreshed(UserProfile)}가 불린다.
+     * @param callback me 요청 결과에 대한 callback
+     * @param cacheConfig 저장된 정보를 사용할 기준
+     */
+    public static void requestMe(final CachedMeResponseCallback callback, final ProfileCacheConfig cacheConfig) {
+        requestMe(callback, null, false, cacheConfig);
+    }
+
+    /**
+     * 저장된 사용자정보가 있으면 바로 전달하고 background에서 갱신하는 사용자정보 요청.
+     * 저장된 정보가 없거나 {@link ProfileCacheConfig#getMaxStaleDuration()}보다 오래되었으면 일반 요청과 같이 서버 응답을 전달한다.
+     * 저장된 지 {@link ProfileCacheConfig#getFreshDuration()}이 지나지 않았으면 갱신하지 않는다.
+     * @param callback me 요청 결과에 대한 callback
+     * @param propertyKeys 사용자 정보의 키 리스트
+     * @param secureResource 이미지 url을 https로 반환할지 여부
+     * @param cacheConfig 저장된 정보를 사용할 기준
+     */
+    public static void requestMe(final CachedMeResponseCallback callback, final List<String> propertyKeys, final boolean secureResource, final ProfileCacheConfig cacheConfig) {
+        final long age = System.currentTimeMillis() - UserProfile.getCachedTime();
+        final UserProfile cachedProfile = age <= cacheConfig.getMaxStaleDuration() ? UserProfile.loadFromCache() : null;
+        if (cachedProfile == null || cachedProfile.getId() <= 0) {
+            requestMe(callback, propertyKeys, secureResource);
+            return;
+        }
+
+        // 저장된 정보는 다시 저장하지 않도록 onSuccessForUiThread를 거치지 않는다.
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                callback.onSuccess(cachedProfile);
+            }
+        });
+        if (age < cacheConfig.getFreshDuration()) {
+            return;
+        }
+
+        KakaoTaskQueue.getInstance().addTask(new KakaoResultTask<UserProfile>(new MeResponseCallback() {
+            @Override
+            public void onSuccess(UserProfile result) {
+                if (!cachedProfile.equals(result)) {
+                    callback.onProfileRefreshed(result);
+                }
+            }
+
+            @Override
+            public void onFailure(ErrorResult errorResult) {
+                callback.onRefreshFailed(errorResult);
+            }
+
+            @Override
+            public void onSessionClosed(ErrorResult errorResult) {
+                callback.onSessionClosed(errorResult);
+            }
+
+            @Override
+            public void onNotSignedUp() {
+                callback.onNotSignedUp();
+            }
+        }) {
+            @Override
+            public UserProfile call() throws Exception {
+                return UserApi.requestMe(propertyKeys, secureResource).getUserProfile();
+            }
+        }, TaskPriority.BACKGROUND);
+    }
+
     /**
      * 토큰으로 인증날짜와 CI값을 얻는다. 게임 사업부가 저장하고 있는 정보를 내려준다.
      * (제휴를 통해 권한이 부여된 특정 앱에서만 호출이 가능합니다.)
@@ -0,0 +1,46 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.usermgmt.callback;
+
+import com.kakao.network.ErrorResult;
+import com.kakao.usermgmt.response.model.UserProfile;
+import com.kakao.util.helper.log.Logger;
+
+/**
+ * 저장된 사용자 정보를 먼저 받고, background에서 갱신된 정보가 다를 때 한번 더 받는 callback.
+ * 저장된 정보가 없거나 너무 오래된 경우에는 {@link MeResponseCallback}과 같이 서버 응답을 {@link #onSuccess(Object)}로 받는다.
+ */
+public abstract class CachedMeResponseCallback extends MeResponseCallback {
+    /**
+     * background에서 받은 사용자 정보가 먼저 전달한 정보와 다를 때 불린다. 갱신된 정보는 이미 저장되어 있다.
+     * 기본 동작은 {@link #onSuccess(Object)}를 다시 호출한다.
+     * @param profile 갱신된 사용자 정보
+     */
+    public void onProfileRefreshed(UserProfile profile) {
+        onSuccess(profile);
+    }
+
+    /**
+     * 저장된 정보를 전달한 뒤 background 갱신이 실패했을 때 불린다.
+     * session이 닫히거나 가입되지 않은 사용자인 경우에는 {@link #onSessionClosed(ErrorResult)}, {@link #onNotSignedUp()}이 불린다.
+     * @param errorResult 실패한 원인
+     */
+    public void onRefreshFailed(ErrorResult errorResult) {
+        Logger.w("CachedMeResponseCallback : refresh failed. " + errorResult);
+    }
+}
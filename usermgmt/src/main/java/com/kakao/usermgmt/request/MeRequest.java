@@ -17,6 +17,7 @@
  */
 package com.kakao.usermgmt.request;
 
+import com.kakao.network.ICacheableRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.auth.network.request.ApiRequest;
 import com.kakao.network.helper.QueryString;
@@ -28,7 +29,7 @@ import java.util.List;
 /**
  * @author leoshin, created at 15. 8. 6..
  */
-public class MeRequest extends ApiRequest {
+public class MeRequest extends ApiRequest implements ICacheableRequest {
     private final String[] propertyKeys;
     private final boolean secureResource;
 
@@ -53,4 +54,9 @@ public class MeRequest extends ApiRequest {
         }
         return baseUrl + "?" + qs.toString();
     }
+
+    @Override
+    public String getCacheGroup() {
+        return ServerProtocol.USER_ME_PATH;
+    }
 }
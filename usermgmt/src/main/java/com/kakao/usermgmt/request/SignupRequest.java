@@ -17,19 +17,22 @@
  */
 package com.kakao.usermgmt.request;
 
+import com.kakao.network.ICacheInvalidatingRequest;
 import com.kakao.network.ServerProtocol;
 import com.kakao.auth.network.request.ApiRequest;
 import com.kakao.usermgmt.StringSet;
 
 import org.json.JSONObject;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * @author leoshin, created at 15. 8. 6..
  */
-public class SignupRequest extends ApiRequest {
+public class SignupRequest extends ApiRequest implements ICacheInvalidatingRequest {
     private final JSONObject properties;
 
     public SignupRequest(Map<String, String> properties) {
@@ -54,4 +57,9 @@ public class SignupRequest extends ApiRequest {
         }
         return params;
     }
+
+    @Override
+    public List<String> getInvalidatedCacheGroups() {
+        return Collections.singletonList(ServerProtocol.USER_ME_PATH);
+    }
 }
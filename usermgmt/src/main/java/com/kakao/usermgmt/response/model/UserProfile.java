@@ -44,6 +44,7 @@ public class UserProfile implements User, Parcelable {
     private static final String CACHE_SERVICE_USER_ID = "com.kakao.user.serviceuserid";
     private static final String CACHE_REMAINING_INVITE_COUNT = "com.kakao.user.remaininginvitecount";
     private static final String CACHE_REMAINING_GRUOP_MSG_COUNT = "com.kakao.user.remaininggroupmsgcount";
+    private static final String CACHE_SAVED_AT = "com.kakao.user.savedat";
 
     // predefined property를 제외한 사용자가 정의한 property
     private Map<String, String> properties = new HashMap<String, String>();
@@ -211,6 +212,19 @@ public class UserProfile implements User, Parcelable {
         return new UserProfile(cache);
     }
 
+    /**
+     * 캐시에 저장된 사용자정보가 저장된 시각.
+     * @return 저장된 시각 (ms). 저장된 정보가 없으면 0
+     */
+    public static long getCachedTime() {
+        SharedPreferencesCache cache = Session.getAppCache();
+        if(cache == null) {
+            return 0;
+        }
+        Long savedAt = cache.getLong(CACHE_SAVED_AT);
+        return savedAt != null ? savedAt : 0;
+    }
+
     /**
      * 사용자의 프로필 정보를 String으로 변환한다
      * @return 사용자의 프로필 정보를 String으로 변환힌 값
@@ -230,6 +244,7 @@ public class UserProfile implements User, Parcelable {
         bundle.putLong(CACHE_SERVICE_USER_ID, serviceUserId);
         bundle.putInt(CACHE_REMAINING_INVITE_COUNT, remainingInviteCount);
         bundle.putInt(CACHE_REMAINING_GRUOP_MSG_COUNT, remainingGroupMsgCount);
+        bundle.putLong(CACHE_SAVED_AT, System.currentTimeMillis());
 
         if(!properties.isEmpty()){
             for(String key : properties.keySet()){
@@ -287,6 +302,41 @@ public class UserProfile implements User, Parcelable {
         return sb.toString();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final UserProfile that = (UserProfile) o;
+        return id == that.id
+                && serviceUserId == that.serviceUserId
+                && remainingInviteCount == that.remainingInviteCount
+                && remainingGroupMsgCount == that.remainingGroupMsgCount
+                && equals(nickname, that.nickname)
+                && equals(thumbnailImagePath, that.thumbnailImagePath)
+                && equals(profileImagePath, that.profileImagePath)
+                && equals(uuid, that.uuid)
+                && equals(properties, that.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (id ^ (id >>> 32));
+        result = 31 * result + (nickname != null ? nickname.hashCode() : 0);
+        result = 31 * result + (thumbnailImagePath != null ? thumbnailImagePath.hashCode() : 0);
+        result = 31 * result + (profileImagePath != null ? profileImagePath.hashCode() : 0);
+        result = 31 * result + (uuid != null ? uuid.hashCode() : 0);
+        return result;
+    }
+
+    private static boolean equals(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
     @Override
     public int describeContents() {
         return 0;
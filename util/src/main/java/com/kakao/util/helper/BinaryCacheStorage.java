@@ -0,0 +1,621 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper;
+
+import android.content.Context;
+
+import com.kakao.util.helper.log.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 값을 type이 담긴 binary record로 파일 끝에 이어 쓰는 storage.
+ * 시작할 때 파일 전체를 한번에 읽어 memory에 올려두므로 key마다 XML과 JSON을 파싱하지 않는다.
+ * 쓰기는 변경된 key만 하나의 batch로 이어 쓰며, 쌓인 record가 저장된 값보다 많아지면 현재 값만 새 파일로 옮겨 쓴다.
+ * 파일 형식은 magic number 뒤에 [batch 길이][batch][CRC32]가 반복된다. 끝까지 쓰여지지 않은 batch는 읽을 때 잘라낸다.
+ */
+public class BinaryCacheStorage implements ICacheStorage {
+    private static final int MAGIC = 0x4B434331; // "KCC1"
+    private static final int HEADER_LENGTH = 4;
+    private static final int MIN_COMPACTION_RECORDS = 64;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_CLEAR = 3;
+
+    private static final byte TYPE_BOOLEAN = 1;
+    private static final byte TYPE_BOOLEAN_ARRAY = 2;
+    private static final byte TYPE_BYTE = 3;
+    private static final byte TYPE_BYTE_ARRAY = 4;
+    private static final byte TYPE_SHORT = 5;
+    private static final byte TYPE_SHORT_ARRAY = 6;
+    private static final byte TYPE_INTEGER = 7;
+    private static final byte TYPE_INTEGER_ARRAY = 8;
+    private static final byte TYPE_LONG = 9;
+    private static final byte TYPE_LONG_ARRAY = 10;
+    private static final byte TYPE_FLOAT = 11;
+    private static final byte TYPE_FLOAT_ARRAY = 12;
+    private static final byte TYPE_DOUBLE = 13;
+    private static final byte TYPE_DOUBLE_ARRAY = 14;
+    private static final byte TYPE_CHAR = 15;
+    private static final byte TYPE_CHAR_ARRAY = 16;
+    private static final byte TYPE_STRING = 17;
+    private static final byte TYPE_STRING_LIST = 18;
+    private static final byte TYPE_ENUM = 19;
+
+    private final File file;
+    private final Map<String, Object> values = new HashMap<String, Object>();
+    private long fileLength;
+    private int recordCount;
+
+    /**
+     * cacheName의 binary 파일을 연다. 파일이 없으면 같은 이름의 SharedPreferences에 저장된 값을 옮겨온 뒤 SharedPreferences를 비운다.
+     * 파일을 열 수 없으면 SharedPreferences를 그대로 사용한다.
+     * @param context application context를 얻을 context
+     * @param cacheName cache 이름
+     * @return cacheName의 값을 저장하는 storage
+     */
+    public static ICacheStorage open(Context context, final String cacheName) {
+        Utility.notNull(context, "context");
+        Utility.notNull(cacheName, "cacheName");
+
+        Context applicationContext = context.getApplicationContext();
+        context = applicationContext != null ? applicationContext : context;
+        final File file = new File(context.getFilesDir(), "kakao_cache_" + cacheName + ".bin");
+        final XmlCacheStorage xmlStorage = new XmlCacheStorage(context, cacheName);
+        try {
+            if (file.exists()) {
+                return new BinaryCacheStorage(file);
+            }
+
+            BinaryCacheStorage storage = new BinaryCacheStorage(file, xmlStorage.loadAll());
+            xmlStorage.write(true, Collections.<String, Object>emptyMap(), true);
+            Logger.d("Migrated " + storage.values.size() + " cached values of " + cacheName + " to " + file.getName());
+            return storage;
+        } catch (IOException e) {
+            Logger.w("BinaryCacheStorage.open", "Error opening " + file + ", falling back to SharedPreferences. e = " + e);
+            return xmlStorage;
+        }
+    }
+
+    /**
+     * 파일이 있으면 파일에 저장된 값을, 없으면 빈 storage를 연다.
+     * @param file 값을 저장할 파일
+     * @throws IOException 파일을 읽거나 만들 수 없는 경우
+     */
+    public BinaryCacheStorage(final File file) throws IOException {
+        Utility.notNull(file, "file");
+        this.file = file;
+        if (file.exists()) {
+            readFile();
+        } else {
+            writeSnapshot();
+        }
+    }
+
+    private BinaryCacheStorage(final File file, final Map<String, Object> initialValues) throws IOException {
+        this.file = file;
+        for (Map.Entry<String, Object> entry : initialValues.entrySet()) {
+            if (isSupported(entry.getValue())) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+        writeSnapshot();
+    }
+
+    @Override
+    public synchronized Object load(String key) {
+        return values.get(key);
+    }
+
+    @Override
+    public synchronized Map<String, Object> loadAll() {
+        return new HashMap<String, Object>(values);
+    }
+
+    @Override
+    public synchronized boolean write(boolean clearAll, Map<String, Object> changes, boolean durable) {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(batch);
+        int ops = 0;
+        try {
+            if (clearAll) {
+                out.writeByte(OP_CLEAR);
+                ops++;
+            }
+            for (Map.Entry<String, Object> entry : changes.entrySet()) {
+                Object value = entry.getValue();
+                if (value == null) {
+                    out.writeByte(OP_REMOVE);
+                    writeString(out, entry.getKey());
+                    ops++;
+                } else if (isSupported(value)) {
+                    out.writeByte(OP_PUT);
+                    writeString(out, entry.getKey());
+                    writeValue(out, value);
+                    ops++;
+                } else {
+                    Logger.w("BinaryCacheStorage.write", "Unsupported value type for key: " + entry.getKey() + ", type = " + value.getClass());
+                }
+            }
+            if (ops == 0 && !durable) {
+                return true;
+            }
+            // 변경이 없어도 durable이면 앞서 이어 쓴 record가 disk에 쓰여지도록 sync한다.
+            append(ops > 0 ? frame(batch.toByteArray()) : new byte[0], durable);
+        } catch (IOException e) {
+            Logger.w("BinaryCacheStorage.write", "Error writing " + file + ", e = " + e);
+            return false;
+        }
+
+        if (clearAll) {
+            values.clear();
+        }
+        for (Map.Entry<String, Object> entry : changes.entrySet()) {
+            if (entry.getValue() == null) {
+                values.remove(entry.getKey());
+            } else if (isSupported(entry.getValue())) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+        recordCount += ops;
+
+        if (recordCount > Math.max(MIN_COMPACTION_RECORDS, values.size() * 2)) {
+            try {
+                writeSnapshot();
+            } catch (IOException e) {
+                // 이어 쓴 파일은 그대로 유효하므로 다음 쓰기 때 다시 시도한다.
+                Logger.w("BinaryCacheStorage.compact", "Error compacting " + file + ", e = " + e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 파일 전체를 한번에 읽어 record를 순서대로 반영한다. 끝까지 쓰여지지 않았거나 깨진 batch부터는 잘라낸다.
+     */
+    private void readFile() throws IOException {
+        final byte[] data;
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            long length = raf.length();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("cache file is too large: " + length);
+            }
+            data = new byte[(int) length];
+            raf.readFully(data);
+        } finally {
+            raf.close();
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (data.length < HEADER_LENGTH || in.readInt() != MAGIC) {
+            Logger.w("BinaryCacheStorage.read", "Invalid header of " + file + ", starting empty.");
+            writeSnapshot();
+            return;
+        }
+
+        int validLength = HEADER_LENGTH;
+        CRC32 crc = new CRC32();
+        while (validLength + 4 <= data.length) {
+            int batchLength = in.readInt();
+            // 깨진 길이 값으로 int가 넘치지 않도록 남은 길이와 비교한다.
+            if (batchLength < 0 || batchLength > data.length - validLength - 8) {
+                break;
+            }
+            crc.reset();
+            crc.update(data, validLength + 4, batchLength);
+            in.skipBytes(batchLength);
+            if (in.readInt() != (int) crc.getValue()) {
+                break;
+            }
+            try {
+                recordCount += applyBatch(new DataInputStream(new ByteArrayInputStream(data, validLength + 4, batchLength)));
+            } catch (IOException e) {
+                break;
+            }
+            validLength += 4 + batchLength + 4;
+        }
+
+        fileLength = validLength;
+        if (validLength < data.length) {
+            Logger.w("BinaryCacheStorage.read", "Truncating " + (data.length - validLength) + " bytes of incomplete records from " + file);
+            truncate(validLength);
+        }
+    }
+
+    private int applyBatch(DataInputStream in) throws IOException {
+        Map<String, Object> puts = new HashMap<String, Object>();
+        List<String> removes = new ArrayList<String>();
+        boolean clearAll = false;
+        int ops = 0;
+        int op;
+        while ((op = in.read()) != -1) {
+            if (op == OP_CLEAR) {
+                clearAll = true;
+                puts.clear();
+                removes.clear();
+            } else if (op == OP_REMOVE) {
+                String key = readString(in);
+                puts.remove(key);
+                removes.add(key);
+            } else if (op == OP_PUT) {
+                String key = readString(in);
+                Object value = readValue(in, key);
+                removes.remove(key);
+                if (value != null) {
+                    puts.put(key, value);
+                }
+            } else {
+                throw new IOException("unknown op: " + op);
+            }
+            ops++;
+        }
+
+        // batch 전체를 읽은 뒤에 반영하여 batch가 부분적으로 반영되지 않도록 한다.
+        if (clearAll) {
+            values.clear();
+        }
+        for (String key : removes) {
+            values.remove(key);
+        }
+        values.putAll(puts);
+        return ops;
+    }
+
+    /**
+     * 현재 값만 담은 파일을 임시 파일에 쓴 뒤 기존 파일과 바꾼다.
+     */
+    private void writeSnapshot() throws IOException {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(batch);
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            out.writeByte(OP_PUT);
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("cannot create " + parent);
+        }
+        File tempFile = new File(file.getPath() + ".tmp");
+        FileOutputStream stream = new FileOutputStream(tempFile);
+        long length = HEADER_LENGTH;
+        try {
+            DataOutputStream fileOut = new DataOutputStream(stream);
+            fileOut.writeInt(MAGIC);
+            if (!values.isEmpty()) {
+                byte[] framed = frame(batch.toByteArray());
+                fileOut.write(framed);
+                length += framed.length;
+            }
+            fileOut.flush();
+            stream.getFD().sync();
+        } finally {
+            stream.close();
+        }
+        if (!tempFile.renameTo(file)) {
+            tempFile.delete();
+            throw new IOException("cannot rename " + tempFile + " to " + file);
+        }
+        fileLength = length;
+        recordCount = values.size();
+    }
+
+    private void append(byte[] framed, boolean durable) throws IOException {
+        FileOutputStream stream = new FileOutputStream(file, true);
+        try {
+            stream.write(framed);
+            if (durable) {
+                stream.getFD().sync();
+            }
+        } catch (IOException e) {
+            // 일부만 쓰여진 record 뒤에 이어 쓰지 않도록 쓰기 전 길이로 되돌린다.
+            truncate(fileLength);
+            throw e;
+        } finally {
+            stream.close();
+        }
+        fileLength += framed.length;
+    }
+
+    private void truncate(long length) {
+        try {
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                raf.setLength(length);
+            } finally {
+                raf.close();
+            }
+        } catch (IOException e) {
+            Logger.w("BinaryCacheStorage.truncate", "Error truncating " + file + ", e = " + e);
+        }
+    }
+
+    private static byte[] frame(byte[] batch) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(batch, 0, batch.length);
+        ByteArrayOutputStream framed = new ByteArrayOutputStream(batch.length + 8);
+        DataOutputStream out = new DataOutputStream(framed);
+        out.writeInt(batch.length);
+        out.write(batch);
+        out.writeInt((int) crc.getValue());
+        return framed.toByteArray();
+    }
+
+    private static boolean isSupported(Object value) {
+        return value instanceof Byte || value instanceof Short || value instanceof Integer
+            || value instanceof Long || value instanceof Float || value instanceof Double
+            || value instanceof Boolean || value instanceof Character || value instanceof String
+            || value instanceof Enum<?> || value instanceof byte[] || value instanceof short[]
+            || value instanceof int[] || value instanceof long[] || value instanceof float[]
+            || value instanceof double[] || value instanceof boolean[] || value instanceof char[]
+            || value instanceof List<?>;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Character) {
+            out.writeByte(TYPE_CHAR);
+            out.writeChar((Character) value);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Enum<?>) {
+            out.writeByte(TYPE_ENUM);
+            writeString(out, ((Enum<?>) value).getDeclaringClass().getName());
+            writeString(out, ((Enum<?>) value).name());
+        } else if (value instanceof byte[]) {
+            byte[] array = (byte[]) value;
+            out.writeByte(TYPE_BYTE_ARRAY);
+            out.writeInt(array.length);
+            out.write(array);
+        } else if (value instanceof short[]) {
+            short[] array = (short[]) value;
+            out.writeByte(TYPE_SHORT_ARRAY);
+            out.writeInt(array.length);
+            for (short v : array) {
+                out.writeShort(v);
+            }
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            out.writeByte(TYPE_INTEGER_ARRAY);
+            out.writeInt(array.length);
+            for (int v : array) {
+                out.writeInt(v);
+            }
+        } else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            out.writeByte(TYPE_LONG_ARRAY);
+            out.writeInt(array.length);
+            for (long v : array) {
+                out.writeLong(v);
+            }
+        } else if (value instanceof float[]) {
+            float[] array = (float[]) value;
+            out.writeByte(TYPE_FLOAT_ARRAY);
+            out.writeInt(array.length);
+            for (float v : array) {
+                out.writeFloat(v);
+            }
+        } else if (value instanceof double[]) {
+            double[] array = (double[]) value;
+            out.writeByte(TYPE_DOUBLE_ARRAY);
+            out.writeInt(array.length);
+            for (double v : array) {
+                out.writeDouble(v);
+            }
+        } else if (value instanceof boolean[]) {
+            boolean[] array = (boolean[]) value;
+            out.writeByte(TYPE_BOOLEAN_ARRAY);
+            out.writeInt(array.length);
+            for (boolean v : array) {
+                out.writeBoolean(v);
+            }
+        } else if (value instanceof char[]) {
+            char[] array = (char[]) value;
+            out.writeByte(TYPE_CHAR_ARRAY);
+            out.writeInt(array.length);
+            for (char v : array) {
+                out.writeChar(v);
+            }
+        } else if (value instanceof List<?>) {
+            List<?> list = (List<?>) value;
+            out.writeByte(TYPE_STRING_LIST);
+            out.writeInt(list.size());
+            for (Object v : list) {
+                writeString(out, (String) v);
+            }
+        } else {
+            throw new IOException("unsupported type: " + value.getClass());
+        }
+    }
+
+    /**
+     * @return 읽은 값. enum class를 찾을 수 없는 경우에는 null
+     */
+    private static Object readValue(DataInputStream in, String key) throws IOException {
+        int type = in.readByte();
+        switch (type) {
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_CHAR:
+                return in.readChar();
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_ENUM: {
+                String enumType = readString(in);
+                String name = readString(in);
+                try {
+                    @SuppressWarnings({ "unchecked", "rawtypes" })
+                    Class<? extends Enum> enumClass = (Class<? extends Enum>) Class.forName(enumType);
+                    @SuppressWarnings("unchecked")
+                    Enum<?> enumValue = Enum.valueOf(enumClass, name);
+                    return enumValue;
+                } catch (ClassNotFoundException e) {
+                    Logger.e("BinaryCacheStorage.readValue", "Error deserializing key '" + key + "' -- " + e);
+                } catch (IllegalArgumentException e) {
+                    Logger.e("BinaryCacheStorage.readValue", "Error deserializing key '" + key + "' -- " + e);
+                }
+                return null;
+            }
+            case TYPE_BYTE_ARRAY: {
+                byte[] array = new byte[readLength(in)];
+                in.readFully(array);
+                return array;
+            }
+            case TYPE_SHORT_ARRAY: {
+                short[] array = new short[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readShort();
+                }
+                return array;
+            }
+            case TYPE_INTEGER_ARRAY: {
+                int[] array = new int[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readInt();
+                }
+                return array;
+            }
+            case TYPE_LONG_ARRAY: {
+                long[] array = new long[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readLong();
+                }
+                return array;
+            }
+            case TYPE_FLOAT_ARRAY: {
+                float[] array = new float[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readFloat();
+                }
+                return array;
+            }
+            case TYPE_DOUBLE_ARRAY: {
+                double[] array = new double[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readDouble();
+                }
+                return array;
+            }
+            case TYPE_BOOLEAN_ARRAY: {
+                boolean[] array = new boolean[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readBoolean();
+                }
+                return array;
+            }
+            case TYPE_CHAR_ARRAY: {
+                char[] array = new char[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = in.readChar();
+                }
+                return array;
+            }
+            case TYPE_STRING_LIST: {
+                int size = readLength(in);
+                ArrayList<String> list = new ArrayList<String>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readString(in));
+                }
+                return list;
+            }
+            default:
+                throw new IOException("unknown type: " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes("UTF-8");
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > in.available()) {
+            throw new EOFException("invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, "UTF-8");
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new EOFException("invalid length: " + length);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper;
+
+import java.util.Map;
+
+/**
+ * {@link SharedPreferencesCache}의 값을 저장하는 곳.
+ * 값은 {@link SharedPreferencesCache}가 지원하는 type의 객체 그대로 주고 받는다.
+ */
+public interface ICacheStorage {
+    /**
+     * key에 저장된 값을 읽는다.
+     * @param key 읽을 key
+     * @return 저장된 값. 없으면 null
+     * @throws Exception 저장된 값을 읽을 수 없는 경우
+     */
+    Object load(String key) throws Exception;
+
+    /**
+     * 저장된 모든 값을 읽는다. 읽을 수 없는 값은 빠진다.
+     * @return key와 값의 map
+     */
+    Map<String, Object> loadAll();
+
+    /**
+     * 변경을 한번에 저장한다. 먼저 저장한 변경이 항상 먼저 반영된다.
+     * @param clearAll 변경을 반영하기 전에 모든 값을 지울지 여부
+     * @param changes 변경된 순서대로 담긴 key와 값. 값이 null이면 key를 지운다.
+     * @param durable disk에 쓰여질 때까지 기다릴지 여부
+     * @return 저장에 성공하였으면 true
+     */
+    boolean write(boolean clearAll, Map<String, Object> changes, boolean durable);
+}
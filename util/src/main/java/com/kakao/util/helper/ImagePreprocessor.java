@@ -0,0 +1,316 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+import android.media.ExifInterface;
+import android.net.Uri;
+import android.os.SystemClock;
+import android.provider.MediaStore;
+import android.provider.OpenableColumns;
+
+import com.kakao.util.helper.log.Logger;
+import com.kakao.util.helper.log.LoggerConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * upload 전에 이미지를 설정된 크기 이하로 줄이고 JPEG으로 다시 encoding한다.
+ * 원본은 sampling해서 decoding하므로 전체 해상도의 bitmap을 memory에 올리지 않으며,
+ * 다시 encoding하면서 EXIF 등의 metadata는 버리고 회전 정보만 pixel에 반영한다.
+ * decoding은 bitmap memory를 제한하기 위해 동시에 {@link #MAX_CONCURRENT_DECODES}개까지만 전용 thread에서 수행한다.
+ */
+public class ImagePreprocessor {
+    /**
+     * 동시에 decoding할 수 있는 이미지의 최대 개수.
+     */
+    public static final int MAX_CONCURRENT_DECODES = 2;
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    private static final String FILE_NAME_EXTENSION = ".jpg";
+
+    private static final ThreadPoolExecutor executor;
+
+    private static final AtomicInteger processedCount = new AtomicInteger();
+    private static final AtomicLong totalBytesSaved = new AtomicLong();
+    private static final AtomicLong totalElapsedMillis = new AtomicLong();
+
+    static {
+        executor = new ThreadPoolExecutor(MAX_CONCURRENT_DECODES, MAX_CONCURRENT_DECODES, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "KakaoImagePreprocessor #" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 이미지 처리를 전용 thread에 요청한다.
+     * @param context context
+     * @param imageUri file 또는 content scheme의 이미지 uri
+     * @param config 줄일 크기와 품질
+     * @return 처리 결과를 받을 future
+     */
+    public static Future<ProcessedImage> submit(final Context context, final Uri imageUri, final ImageResizeConfig config) {
+        Utility.notNull(context, "context");
+        Utility.notNull(imageUri, "imageUri");
+        Utility.notNull(config, "config");
+
+        final Context applicationContext = context.getApplicationContext() != null ? context.getApplicationContext() : context;
+        return executor.submit(new Callable<ProcessedImage>() {
+            @Override
+            public ProcessedImage call() throws Exception {
+                return processImage(applicationContext, imageUri, config);
+            }
+        });
+    }
+
+    /**
+     * 이미지 처리를 전용 thread에 요청하고 끝날 때까지 기다린다. background thread에서 호출해야 한다.
+     * @param context context
+     * @param imageUri file 또는 content scheme의 이미지 uri
+     * @param config 줄일 크기와 품질
+     * @return 처리된 이미지
+     * @throws IOException 이미지를 읽거나 decoding할 수 없는 경우. 기다리는 중 interrupt되면 {@link InterruptedIOException}
+     */
+    public static ProcessedImage process(final Context context, final Uri imageUri, final ImageResizeConfig config) throws IOException {
+        final Future<ProcessedImage> future = submit(context, imageUri, config);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while processing image : " + imageUri);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(String.valueOf(cause));
+        }
+    }
+
+    /**
+     * @return 지금까지 처리한 이미지 개수
+     */
+    public static int getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /**
+     * @return 지금까지 원본 대비 줄어든 byte 수의 합
+     */
+    public static long getTotalBytesSaved() {
+        return totalBytesSaved.get();
+    }
+
+    /**
+     * @return 지금까지 이미지 처리에 걸린 시간(ms)의 합
+     */
+    public static long getTotalElapsedMillis() {
+        return totalElapsedMillis.get();
+    }
+
+    private static ProcessedImage processImage(final Context context, final Uri imageUri, final ImageResizeConfig config) throws IOException {
+        final long startTime = SystemClock.elapsedRealtime();
+        final long originalLength;
+        final int orientation;
+        if ("file".equals(imageUri.getScheme())) {
+            final File file = new File(imageUri.getPath());
+            originalLength = file.length();
+            orientation = getFileOrientation(file);
+        } else {
+            final long[] lengthAndOrientation = queryLengthAndOrientation(context, imageUri);
+            originalLength = lengthAndOrientation[0];
+            orientation = (int) lengthAndOrientation[1];
+        }
+
+        final BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        decode(context, imageUri, options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            throw new IOException("cannot decode image bounds : " + imageUri);
+        }
+
+        // 회전된 이미지는 화면에 보이는 방향 기준으로 최대 크기를 맞춘다.
+        final boolean swap = orientation == 90 || orientation == 270;
+        final int maxWidth = swap ? config.getMaxHeight() : config.getMaxWidth();
+        final int maxHeight = swap ? config.getMaxWidth() : config.getMaxHeight();
+        final float scale = Math.min(1f, Math.min((float) maxWidth / options.outWidth, (float) maxHeight / options.outHeight));
+        final int targetWidth = Math.max(1, Math.round(options.outWidth * scale));
+        final int targetHeight = Math.max(1, Math.round(options.outHeight * scale));
+
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = calculateSampleSize(options.outWidth, options.outHeight, targetWidth, targetHeight);
+        Bitmap bitmap = decode(context, imageUri, options);
+        if (bitmap == null) {
+            throw new IOException("cannot decode image : " + imageUri);
+        }
+
+        try {
+            if (bitmap.getWidth() != targetWidth || bitmap.getHeight() != targetHeight) {
+                bitmap = replace(bitmap, Bitmap.createScaledBitmap(bitmap, targetWidth, targetHeight, true));
+            }
+            if (orientation != 0) {
+                final Matrix matrix = new Matrix();
+                matrix.postRotate(orientation);
+                bitmap = replace(bitmap, Bitmap.createBitmap(bitmap, 0, 0, bitmap.getWidth(), bitmap.getHeight(), matrix, true));
+            }
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (!bitmap.compress(Bitmap.CompressFormat.JPEG, config.getQuality(), out)) {
+                throw new IOException("cannot encode image : " + imageUri);
+            }
+
+            final ProcessedImage processedImage = new ProcessedImage(out.toByteArray(), createFileName(imageUri),
+                    bitmap.getWidth(), bitmap.getHeight(), originalLength, SystemClock.elapsedRealtime() - startTime);
+            processedCount.incrementAndGet();
+            totalBytesSaved.addAndGet(processedImage.getBytesSaved());
+            totalElapsedMillis.addAndGet(processedImage.getElapsedMillis());
+            if (Logger.DEBUG_LOGS_ENABLED && Logger.isLoggable(LoggerConfig.DEBUG)) {
+                Logger.d("ImagePreprocessor : " + processedImage);
+            }
+            return processedImage;
+        } finally {
+            bitmap.recycle();
+        }
+    }
+
+    /**
+     * sampling한 결과가 목표 크기보다 작아지지 않는 가장 큰 2의 거듭제곱.
+     */
+    static int calculateSampleSize(final int width, final int height, final int targetWidth, final int targetHeight) {
+        int sampleSize = 1;
+        while (width / (sampleSize * 2) >= targetWidth && height / (sampleSize * 2) >= targetHeight) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    private static Bitmap replace(final Bitmap oldBitmap, final Bitmap newBitmap) {
+        if (newBitmap != oldBitmap) {
+            oldBitmap.recycle();
+        }
+        return newBitmap;
+    }
+
+    private static Bitmap decode(final Context context, final Uri imageUri, final BitmapFactory.Options options) throws IOException {
+        final InputStream in = open(context, imageUri);
+        try {
+            return BitmapFactory.decodeStream(in, null, options);
+        } finally {
+            MediaUtils.closeQuietly(in);
+        }
+    }
+
+    private static InputStream open(final Context context, final Uri imageUri) throws FileNotFoundException {
+        if ("file".equals(imageUri.getScheme())) {
+            return new FileInputStream(imageUri.getPath());
+        }
+        final InputStream in = context.getContentResolver().openInputStream(imageUri);
+        if (in == null) {
+            throw new FileNotFoundException("cannot open image : " + imageUri);
+        }
+        return in;
+    }
+
+    private static int getFileOrientation(final File file) {
+        try {
+            final ExifInterface exif = new ExifInterface(file.getAbsolutePath());
+            switch (exif.getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL)) {
+                case ExifInterface.ORIENTATION_ROTATE_90:
+                    return 90;
+                case ExifInterface.ORIENTATION_ROTATE_180:
+                    return 180;
+                case ExifInterface.ORIENTATION_ROTATE_270:
+                    return 270;
+                default:
+                    return 0;
+            }
+        } catch (IOException e) {
+            Logger.w("ImagePreprocessor : cannot read exif of " + file + ", e = " + e);
+            return 0;
+        }
+    }
+
+    /**
+     * @return content uri의 원본 byte 수(모르면 -1)와 회전 각도
+     */
+    private static long[] queryLengthAndOrientation(final Context context, final Uri imageUri) {
+        final long[] result = {-1, 0};
+        Cursor cursor = null;
+        try {
+            cursor = context.getContentResolver().query(imageUri,
+                    new String[]{OpenableColumns.SIZE, MediaStore.Images.Media.ORIENTATION}, null, null, null);
+            if (cursor != null && cursor.moveToFirst()) {
+                result[0] = cursor.getLong(cursor.getColumnIndex(OpenableColumns.SIZE));
+                result[1] = cursor.getInt(cursor.getColumnIndex(MediaStore.Images.Media.ORIENTATION));
+            }
+        } catch (Exception e) {
+            // media store가 아닌 provider는 orientation column이 없을 수 있다.
+            Logger.w("ImagePreprocessor : cannot query " + imageUri + ", e = " + e);
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+        return result;
+    }
+
+    private static String createFileName(final Uri imageUri) {
+        String name = imageUri.getLastPathSegment();
+        if (name == null || name.length() == 0) {
+            name = "image";
+        }
+        final int extension = name.lastIndexOf('.');
+        if (extension > 0) {
+            name = name.substring(0, extension);
+        }
+        return FileUtils.toFileName(name, "_") + FILE_NAME_EXTENSION;
+    }
+}
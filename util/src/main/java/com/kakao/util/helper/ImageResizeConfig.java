@@ -0,0 +1,94 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper;
+
+/**
+ * upload 전에 이미지를 줄이고 다시 encoding할 때의 설정.
+ * 다시 encoding한 이미지는 JPEG으로 저장되며 EXIF 등의 metadata는 남지 않는다.
+ */
+public class ImageResizeConfig {
+    private static final int DEFAULT_MAX_WIDTH = 2048;
+    private static final int DEFAULT_MAX_HEIGHT = 2048;
+    private static final int DEFAULT_QUALITY = 85;
+
+    private int maxWidth;
+    private int maxHeight;
+    private int quality;
+
+    private ImageResizeConfig() {
+    }
+
+    /**
+     * @return 결과 이미지의 최대 가로 pixel 수
+     */
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * @return 결과 이미지의 최대 세로 pixel 수
+     */
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * @return JPEG encoding 품질. 0 ~ 100
+     */
+    public int getQuality() {
+        return quality;
+    }
+
+    public static ImageResizeConfig createDefault() {
+        return new Builder().build();
+    }
+
+    /**
+     * 기본값은 최대 2048 x 2048, 품질 85이다.
+     */
+    public static class Builder {
+        private int maxWidth = DEFAULT_MAX_WIDTH;
+        private int maxHeight = DEFAULT_MAX_HEIGHT;
+        private int quality = DEFAULT_QUALITY;
+
+        public Builder setMaxSize(int maxWidth, int maxHeight) {
+            if (maxWidth <= 0 || maxHeight <= 0) {
+                throw new IllegalArgumentException("max size must be positive");
+            }
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+            return this;
+        }
+
+        public Builder setQuality(int quality) {
+            if (quality < 0 || quality > 100) {
+                throw new IllegalArgumentException("quality must be between 0 and 100");
+            }
+            this.quality = quality;
+            return this;
+        }
+
+        public ImageResizeConfig build() {
+            ImageResizeConfig config = new ImageResizeConfig();
+            config.maxWidth = maxWidth;
+            config.maxHeight = maxHeight;
+            config.quality = quality;
+            return config;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper;
+
+/**
+ * {@link ImagePreprocessor}가 줄이고 다시 encoding한 이미지.
+ * 임시 파일 없이 memory에 있는 JPEG data를 그대로 multipart로 전송하기 위해 사용한다.
+ */
+public class ProcessedImage {
+    public static final String MIME_TYPE = "image/jpeg";
+
+    private final byte[] data;
+    private final String fileName;
+    private final int width;
+    private final int height;
+    private final long originalLength;
+    private final long elapsedMillis;
+
+    ProcessedImage(final byte[] data, final String fileName, final int width, final int height, final long originalLength, final long elapsedMillis) {
+        this.data = data;
+        this.fileName = fileName;
+        this.width = width;
+        this.height = height;
+        this.originalLength = originalLength;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return JPEG으로 encoding된 이미지 data
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * @return multipart에 사용할 파일 이름
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return 원본 이미지의 byte 수. 알 수 없으면 -1
+     */
+    public long getOriginalLength() {
+        return originalLength;
+    }
+
+    /**
+     * @return 원본 대비 줄어든 byte 수. 원본 크기를 알 수 없으면 0이고, 작은 원본은 음수일 수 있다.
+     */
+    public long getBytesSaved() {
+        return originalLength < 0 ? 0 : originalLength - data.length;
+    }
+
+    /**
+     * @return decoding부터 encoding까지 걸린 시간(ms)
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder().append("fileName : ").append(fileName)
+                .append(", size : ").append(width).append("x").append(height)
+                .append(", length : ").append(originalLength).append(" -> ").append(data.length)
+                .append(", elapsed : ").append(elapsedMillis).append("ms").toString();
+    }
+}
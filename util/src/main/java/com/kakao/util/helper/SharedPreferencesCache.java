@@ -18,412 +18,307 @@
 package com.kakao.util.helper;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.os.Bundle;
 
 import com.kakao.util.helper.log.Logger;
-
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
+import com.kakao.util.helper.metrics.Histogram;
+import com.kakao.util.helper.metrics.MetricsRegistry;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 public class SharedPreferencesCache {
-    private static final String JSON_VALUE_TYPE = "valueType";
-    private static final String JSON_VALUE = "value";
-    private static final String JSON_VALUE_ENUM_TYPE = "enumType";
-
-    private static final String TYPE_BOOLEAN = "bool";
-    private static final String TYPE_BOOLEAN_ARRAY = "bool[]";
-    private static final String TYPE_BYTE = "byte";
-    private static final String TYPE_BYTE_ARRAY = "byte[]";
-    private static final String TYPE_SHORT = "short";
-    private static final String TYPE_SHORT_ARRAY = "short[]";
-    private static final String TYPE_INTEGER = "int";
-    private static final String TYPE_INTEGER_ARRAY = "int[]";
-    private static final String TYPE_LONG = "long";
-    private static final String TYPE_LONG_ARRAY = "long[]";
-    private static final String TYPE_FLOAT = "float";
-    private static final String TYPE_FLOAT_ARRAY = "float[]";
-    private static final String TYPE_DOUBLE = "double";
-    private static final String TYPE_DOUBLE_ARRAY = "double[]";
-    private static final String TYPE_CHAR = "char";
-    private static final String TYPE_CHAR_ARRAY = "char[]";
-    private static final String TYPE_STRING = "string";
-    private static final String TYPE_STRING_LIST = "stringList";
-    private static final String TYPE_ENUM = "enum";
-
-    private final SharedPreferences file;
-    private final Bundle memory = new Bundle();
+    /**
+     * write-behind로 생성할 때 권장하는 쓰기 지연 시간 (ms).
+     */
+    public static final long DEFAULT_WRITE_BEHIND_DELAY_MILLIS = 100;
+
+    private static final Histogram readLatency = MetricsRegistry.getInstance().histogram("cache.read_ns");
+    private static final Histogram writeLatency = MetricsRegistry.getInstance().histogram("cache.write_ns");
+    private static final Histogram writeKeys = MetricsRegistry.getInstance().histogram("cache.write_keys");
+    private static final Histogram entries = MetricsRegistry.getInstance().histogram("cache.entries");
+
+    // 지워질 key를 나타내는 pendingWrites의 값
+    private static final Object REMOVED = new Object();
+
+    private static final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "KakaoCacheWriter");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final ICacheStorage storage;
+    private final long writeBehindDelay;
+
+    // 읽기용 snapshot. 변경할 때마다 복사한 새 map으로 바꾸며 publish한 map은 수정하지 않으므로 읽을 때는 lock을 잡지 않는다.
+    private volatile Map<String, Object> snapshot = Collections.emptyMap();
+    // reloadAll로 storage의 값을 모두 읽었는지 여부. 읽은 뒤에는 snapshot에 없는 key를 storage에서 다시 찾지 않는다.
+    private volatile boolean loaded;
+
+    // 아직 storage에 쓰지 않은 변경. 변경된 순서대로 담긴다.
+    private final Map<String, Object> pendingWrites = new LinkedHashMap<String, Object>();
+    private boolean pendingClearAll;
+    private boolean flushScheduled;
+
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (SharedPreferencesCache.this) {
+                flushScheduled = false;
+                writePending(false);
+            }
+        }
+    };
 
     public SharedPreferencesCache(Context context, final String cacheName) {
-        Utility.notNull(context, "context");
-        Utility.notNull(cacheName, "cacheName");
+        this(context, cacheName, 0);
+    }
+
+    /**
+     * 변경을 writeBehindDelay 동안 모아서 한번에 file에 쓰는 cache를 만든다.
+     * 변경은 memory에 바로 반영되므로 읽기에는 지연이 없으며, file에는 변경된 순서대로 쓰여진다.
+     * 지연되는 동안 process가 종료되면 그 사이의 변경은 저장되지 않으므로 유실되면 안되는 값은 저장 후 {@link #commit()}을 불러야 한다.
+     * @param context application context를 얻을 context
+     * @param cacheName SharedPreferences 이름
+     * @param writeBehindDelay 변경을 모으는 시간 (ms). 0이면 변경할 때마다 바로 쓴다.
+     */
+    public SharedPreferencesCache(Context context, final String cacheName, final long writeBehindDelay) {
+        this(new XmlCacheStorage(context, cacheName), writeBehindDelay);
+    }
 
-        Context applicationContext = context.getApplicationContext();
-        context = applicationContext != null ? applicationContext : context;
-        this.file = context.getSharedPreferences(cacheName, Context.MODE_PRIVATE);
+    /**
+     * 지정한 storage에 값을 저장하는 cache를 만든다.
+     * @param storage 값을 저장할 곳
+     * @param writeBehindDelay 변경을 모으는 시간 (ms). 0이면 변경할 때마다 바로 쓴다.
+     * @see #SharedPreferencesCache(Context, String, long)
+     */
+    public SharedPreferencesCache(final ICacheStorage storage, final long writeBehindDelay) {
+        Utility.notNull(storage, "storage");
+        if (writeBehindDelay < 0) {
+            throw new IllegalArgumentException("writeBehindDelay must not be negative");
+        }
+        this.storage = storage;
+        this.writeBehindDelay = writeBehindDelay;
     }
 
     public synchronized void reloadAll() {
-        Map<String, ?> allCachedEntries = file.getAll();
-        for (String key : allCachedEntries.keySet()) {
-            try {
-                deserializeKey(key);
-            } catch (JSONException e) {
-                Logger.w("SharedPreferences.reloadAll", "Error reading cached value for key: " + key + ", e = " + e);
+        Map<String, Object> values = new HashMap<String, Object>(snapshot);
+        for (Map.Entry<String, Object> entry : storage.loadAll().entrySet()) {
+            if (!pendingClearAll && !pendingWrites.containsKey(entry.getKey())) {
+                putValue(values, entry.getKey(), entry.getValue());
             }
         }
-   }
+        snapshot = values;
+        loaded = true;
+    }
 
     public synchronized void save(final Bundle bundle) {
         Utility.notNull(bundle, "bundle");
 
-        SharedPreferences.Editor editor = file.edit();
-        for (String key : bundle.keySet()) {
-            try {
-                serializeKey(key, bundle.get(key), editor);
-            } catch (JSONException e) {
-                Logger.w("SharedPreferences.save", "Error serializing value for key: " + key + ", e = " + e);
-                return;
-            }
-        }
-
-        editor.apply();
+        Map<String, Object> values = new HashMap<String, Object>(snapshot);
         for (String key : bundle.keySet()) {
-            try {
-                deserializeKey(key);
-            } catch (JSONException e) {
-                Logger.w("SharedPreferences.save", "Error deserializing value for key: " + key + ", e = " + e);
+            Object value = bundle.get(key);
+            if (value != null && putValue(values, key, value)) {
+                pendingWrites.put(key, values.get(key));
             }
         }
+        snapshot = values;
+        scheduleFlush();
     }
 
     public synchronized void remove(String key) {
-        SharedPreferences.Editor cacheEditor = file.edit();
-        cacheEditor.remove(key);
-        cacheEditor.apply();
-
-        memory.remove(key);
+        Map<String, Object> values = new HashMap<String, Object>(snapshot);
+        values.remove(key);
+        snapshot = values;
+        pendingWrites.put(key, REMOVED);
+        scheduleFlush();
     }
 
     public synchronized void clear(final List<String> keysToClear) {
-        SharedPreferences.Editor cacheEditor = file.edit();
-        for(String key : keysToClear){
-            cacheEditor.remove(key);
-        }
-        cacheEditor.apply();
+        Map<String, Object> values = new HashMap<String, Object>(snapshot);
         for(String key : keysToClear){
-            memory.remove(key);
+            values.remove(key);
+            pendingWrites.put(key, REMOVED);
         }
+        snapshot = values;
+        scheduleFlush();
         Logger.d("Clearing keys : " + keysToClear);
     }
 
     public synchronized void clearAll() {
-        file.edit().clear().apply();
-        memory.clear();
+        snapshot = Collections.emptyMap();
+        pendingWrites.clear();
+        pendingClearAll = true;
+        scheduleFlush();
         Logger.d("Clearing all ");
     }
 
-    public synchronized Map<String, String> getStringMap(final String keyPrefix) {
-        reloadAll();
+    /**
+     * 아직 쓰지 않은 변경을 바로 storage에 반영한다. 실제 disk 쓰기는 background에서 이루어진다.
+     */
+    public synchronized void flush() {
+        writePending(false);
+    }
+
+    /**
+     * 아직 쓰지 않은 변경을 disk에 쓰고 끝날 때까지 기다린다.
+     * 먼저 반영된 변경이 모두 쓰여진 뒤에 쓰여지므로 token처럼 저장 순서와 유실 여부가 중요한 값을 저장한 뒤 부른다.
+     * @return disk에 쓰기를 성공하였으면 true
+     */
+    public synchronized boolean commit() {
+        return writePending(true);
+    }
+
+    public Map<String, String> getStringMap(final String keyPrefix) {
+        if (!loaded) {
+            reloadAll();
+        }
         Map<String, String> properties = new HashMap<String, String>();
-        for(String key : memory.keySet()){
-            if(key.startsWith(keyPrefix)){
-                properties.put(key.substring(keyPrefix.length()), (String) memory.get(key));
+        for(Map.Entry<String, Object> entry : snapshot.entrySet()){
+            if(entry.getKey().startsWith(keyPrefix) && entry.getValue() instanceof String){
+                properties.put(entry.getKey().substring(keyPrefix.length()), (String) entry.getValue());
             }
         }
         return properties;
     }
 
     public synchronized void put(final String key, final Object value) {
-        SharedPreferences.Editor editor = file.edit();
-        try {
-            serializeKey(key, value, editor);
-        } catch (JSONException e) {
-            Logger.w("SharedPreferences.save", "Error serializing value for key: " + key + ", e = " + e);
+        if (value == null) {
             return;
         }
-
-        editor.apply();
-        try {
-            deserializeKey(key);
-        } catch (JSONException e) {
-            Logger.w("SharedPreferences.getInt", "Error reading Int value for key: " + key + ", e = " + e);
+        Map<String, Object> values = new HashMap<String, Object>(snapshot);
+        if (!putValue(values, key, value)) {
+            Logger.w("SharedPreferences.put", "Unsupported value type for key: " + key + ", type = " + value.getClass());
+            return;
         }
+        snapshot = values;
+        pendingWrites.put(key, values.get(key));
+        scheduleFlush();
     }
 
-    public synchronized String getString(final String key) {
-        String value = memory.getString(key);
-        if(value == null){
-            try {
-                deserializeKey(key);
-                value = memory.getString(key);
-            } catch (JSONException e) {
-                Logger.w("SharedPreferences.getString", "Error reading String value for key: " + key + ", e = " + e);
-            }
-        }
-        return value;
+    public String getString(final String key) {
+        Object value = get(key);
+        return (value instanceof String) ? (String) value : null;
     }
 
-    public synchronized int getInt(final String key) {
-        int value = memory.getInt(key);
-        if(value == 0){
-            try {
-                deserializeKey(key);
-                value = memory.getInt(key);
-            } catch (JSONException e) {
-                Logger.w("SharedPreferences.getInt", "Error reading Int value for key: " + key + ", e = " + e);
-            }
-        }
-        return value;
+    public int getInt(final String key) {
+        Object value = get(key);
+        return (value instanceof Integer) ? (Integer) value : 0;
     }
 
-    public synchronized Long getLong(final String key) {
-        long value = memory.getLong(key);
-        if(value == 0L) {
-            try {
-                deserializeKey(key);
-                value = memory.getLong(key);
-            } catch (JSONException e) {
-                Logger.w("SharedPreferences.getLong", "Error reading Long value for key: " + key + ", e = " + e);
-            }
-        }
-        return value;
+    public Long getLong(final String key) {
+        Object value = get(key);
+        return (value instanceof Long) ? (Long) value : 0L;
     }
 
-    public synchronized Date getDate(final String key) {
+    public Date getDate(final String key) {
         long value = getLong(key);
         return (value <= 0L) ? null : new Date(value);
     }
 
-    private void serializeKey(String key, Object value, SharedPreferences.Editor editor)
-        throws JSONException {
-        if (value == null) {
-            // Cannot serialize null values.
-            return;
+    /**
+     * snapshot에서 값을 읽는다. 없는 key는 reloadAll 전에만 storage에서 찾는다.
+     */
+    private Object get(final String key) {
+        final long startedAt = System.nanoTime();
+        Object value = snapshot.get(key);
+        if (value == null && !loaded) {
+            value = load(key);
         }
+        readLatency.recordSince(startedAt);
+        return value;
+    }
 
-        String supportedType = null;
-        JSONArray jsonArray = null;
-        JSONObject json = new JSONObject();
-
-        if (value instanceof Byte) {
-            supportedType = TYPE_BYTE;
-            json.put(JSON_VALUE, ((Byte)value).intValue());
-        } else if (value instanceof Short) {
-            supportedType = TYPE_SHORT;
-            json.put(JSON_VALUE, ((Short)value).intValue());
-        } else if (value instanceof Integer) {
-            supportedType = TYPE_INTEGER;
-            json.put(JSON_VALUE, ((Integer)value).intValue());
-        } else if (value instanceof Long) {
-            supportedType = TYPE_LONG;
-            json.put(JSON_VALUE, ((Long)value).longValue());
-        } else if (value instanceof Float) {
-            supportedType = TYPE_FLOAT;
-            json.put(JSON_VALUE, ((Float)value).doubleValue());
-        } else if (value instanceof Double) {
-            supportedType = TYPE_DOUBLE;
-            json.put(JSON_VALUE, ((Double)value).doubleValue());
-        } else if (value instanceof Boolean) {
-            supportedType = TYPE_BOOLEAN;
-            json.put(JSON_VALUE, ((Boolean)value).booleanValue());
-        } else if (value instanceof Character) {
-            supportedType = TYPE_CHAR;
-            json.put(JSON_VALUE, value.toString());
-        } else if (value instanceof String) {
-            supportedType = TYPE_STRING;
-            json.put(JSON_VALUE, value);
-        } else if (value instanceof Enum<?>) {
-            supportedType = TYPE_ENUM;
-            json.put(JSON_VALUE, value.toString());
-            json.put(JSON_VALUE_ENUM_TYPE, value.getClass().getName());
-        } else {
-            // Optimistically create a JSONArray. If not an array type, we can null
-            // it out later
-            jsonArray = new JSONArray();
-            if (value instanceof byte[]) {
-                supportedType = TYPE_BYTE_ARRAY;
-                for (byte v : (byte[])value) {
-                    jsonArray.put((int)v);
-                }
-            } else if (value instanceof short[]) {
-                supportedType = TYPE_SHORT_ARRAY;
-                for (short v : (short[])value) {
-                    jsonArray.put((int)v);
-                }
-            } else if (value instanceof int[]) {
-                supportedType = TYPE_INTEGER_ARRAY;
-                for (int v : (int[])value) {
-                    jsonArray.put(v);
-                }
-            } else if (value instanceof long[]) {
-                supportedType = TYPE_LONG_ARRAY;
-                for (long v : (long[])value) {
-                    jsonArray.put(v);
-                }
-            } else if (value instanceof float[]) {
-                supportedType = TYPE_FLOAT_ARRAY;
-                for (float v : (float[])value) {
-                    jsonArray.put((double)v);
-                }
-            } else if (value instanceof double[]) {
-                supportedType = TYPE_DOUBLE_ARRAY;
-                for (double v : (double[])value) {
-                    jsonArray.put(v);
-                }
-            } else if (value instanceof boolean[]) {
-                supportedType = TYPE_BOOLEAN_ARRAY;
-                for (boolean v : (boolean[])value) {
-                    jsonArray.put(v);
-                }
-            } else if (value instanceof char[]) {
-                supportedType = TYPE_CHAR_ARRAY;
-                for (char v : (char[])value) {
-                    jsonArray.put(String.valueOf(v));
-                }
-            } else if (value instanceof List<?>) {
-                supportedType = TYPE_STRING_LIST;
-                @SuppressWarnings("unchecked")
-                List<String> stringList = (List<String>)value;
-                for (String v : stringList) {
-                    jsonArray.put((v == null) ? JSONObject.NULL : v);
-                }
-            } else {
-                // Unsupported type. Clear out the array as a precaution even though
-                // it is redundant with the null supportedType.
-                jsonArray = null;
-            }
+    /**
+     * 아직 쓰지 않은 변경이 없는 key만 storage에서 읽어 snapshot에 넣는다.
+     */
+    private synchronized Object load(final String key) {
+        Object value = snapshot.get(key);
+        if (value != null || loaded || pendingClearAll || pendingWrites.containsKey(key)) {
+            return value;
         }
 
-        if (supportedType != null) {
-            json.put(JSON_VALUE_TYPE, supportedType);
-            if (jsonArray != null) {
-                // If we have an array, it has already been converted to JSON. So use
-                // that instead.
-                json.putOpt(JSON_VALUE, jsonArray);
-            }
+        try {
+            value = storage.load(key);
+        } catch (Exception e) {
+            Logger.w("SharedPreferences.load", "Error reading cached value for key: " + key + ", e = " + e);
+            return null;
+        }
+        if (value == null) {
+            return null;
+        }
+        Map<String, Object> values = new HashMap<String, Object>(snapshot);
+        if (!putValue(values, key, value)) {
+            return null;
+        }
+        snapshot = values;
+        return values.get(key);
+    }
 
-            String jsonString = json.toString();
-            editor.putString(key, jsonString);
+    private void scheduleFlush() {
+        if (writeBehindDelay == 0) {
+            writePending(false);
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            writer.schedule(flushTask, writeBehindDelay, TimeUnit.MILLISECONDS);
         }
     }
 
-    private void deserializeKey(String key)
-            throws JSONException {
-        String jsonString = file.getString(key, "{}");
-        JSONObject json = new JSONObject(jsonString);
+    /**
+     * 모아둔 변경을 변경된 순서대로 한번에 storage에 쓴다.
+     */
+    private boolean writePending(boolean durable) {
+        if (!pendingClearAll && pendingWrites.isEmpty() && !durable) {
+            return true;
+        }
 
-        String valueType = json.getString(JSON_VALUE_TYPE);
+        Map<String, Object> changes = new LinkedHashMap<String, Object>();
+        for (Map.Entry<String, Object> entry : pendingWrites.entrySet()) {
+            changes.put(entry.getKey(), entry.getValue() == REMOVED ? null : entry.getValue());
+        }
+        final boolean clearAll = pendingClearAll;
+        pendingWrites.clear();
+        pendingClearAll = false;
+
+        final long startedAt = System.nanoTime();
+        boolean written = storage.write(clearAll, changes, durable);
+        writeLatency.recordSince(startedAt);
+        writeKeys.record(changes.size());
+        entries.record(snapshot.size());
+        return written;
+    }
 
-        if (valueType.equals(TYPE_BOOLEAN)) {
-            memory.putBoolean(key, json.getBoolean(JSON_VALUE));
-        } else if (valueType.equals(TYPE_BOOLEAN_ARRAY)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            boolean[] array = new boolean[jsonArray.length()];
-            for (int i = 0; i < array.length; i++) {
-                array[i] = jsonArray.getBoolean(i);
-            }
-            memory.putBooleanArray(key, array);
-        } else if (valueType.equals(TYPE_BYTE)) {
-            memory.putByte(key, (byte) json.getInt(JSON_VALUE));
-        } else if (valueType.equals(TYPE_BYTE_ARRAY)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            byte[] array = new byte[jsonArray.length()];
-            for (int i = 0; i < array.length; i++) {
-                array[i] = (byte)jsonArray.getInt(i);
-            }
-            memory.putByteArray(key, array);
-        } else if (valueType.equals(TYPE_SHORT)) {
-            memory.putShort(key, (short) json.getInt(JSON_VALUE));
-        } else if (valueType.equals(TYPE_SHORT_ARRAY)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            short[] array = new short[jsonArray.length()];
-            for (int i = 0; i < array.length; i++) {
-                array[i] = (short)jsonArray.getInt(i);
-            }
-            memory.putShortArray(key, array);
-        } else if (valueType.equals(TYPE_INTEGER)) {
-            memory.putInt(key, json.getInt(JSON_VALUE));
-        } else if (valueType.equals(TYPE_INTEGER_ARRAY)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            int[] array = new int[jsonArray.length()];
-            for (int i = 0; i < array.length; i++) {
-                array[i] = jsonArray.getInt(i);
-            }
-            memory.putIntArray(key, array);
-        } else if (valueType.equals(TYPE_LONG)) {
-            memory.putLong(key, json.getLong(JSON_VALUE));
-        } else if (valueType.equals(TYPE_LONG_ARRAY)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            long[] array = new long[jsonArray.length()];
-            for (int i = 0; i < array.length; i++) {
-                array[i] = jsonArray.getLong(i);
-            }
-            memory.putLongArray(key, array);
-        } else if (valueType.equals(TYPE_FLOAT)) {
-            memory.putFloat(key, (float) json.getDouble(JSON_VALUE));
-        } else if (valueType.equals(TYPE_FLOAT_ARRAY)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            float[] array = new float[jsonArray.length()];
-            for (int i = 0; i < array.length; i++) {
-                array[i] = (float)jsonArray.getDouble(i);
-            }
-            memory.putFloatArray(key, array);
-        } else if (valueType.equals(TYPE_DOUBLE)) {
-            memory.putDouble(key, json.getDouble(JSON_VALUE));
-        } else if (valueType.equals(TYPE_DOUBLE_ARRAY)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            double[] array = new double[jsonArray.length()];
-            for (int i = 0; i < array.length; i++) {
-                array[i] = jsonArray.getDouble(i);
-            }
-            memory.putDoubleArray(key, array);
-        } else if (valueType.equals(TYPE_CHAR)) {
-            String charString = json.getString(JSON_VALUE);
-            if (charString != null && charString.length() == 1) {
-                memory.putChar(key, charString.charAt(0));
-            }
-        } else if (valueType.equals(TYPE_CHAR_ARRAY)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            char[] array = new char[jsonArray.length()];
-            for (int i = 0; i < array.length; i++) {
-                String charString = jsonArray.getString(i);
-                if (charString != null && charString.length() == 1) {
-                    array[i] = charString.charAt(0);
-                }
-            }
-            memory.putCharArray(key, array);
-        } else if (valueType.equals(TYPE_STRING)) {
-            memory.putString(key, json.getString(JSON_VALUE));
-        } else if (valueType.equals(TYPE_STRING_LIST)) {
-            JSONArray jsonArray = json.getJSONArray(JSON_VALUE);
-            int numStrings = jsonArray.length();
-            ArrayList<String> stringList = new ArrayList<String>(numStrings);
-            for (int i = 0; i < numStrings; i++) {
-                Object jsonStringValue = jsonArray.get(i);
-                stringList.add(i, jsonStringValue == JSONObject.NULL ? null : (String)jsonStringValue);
-            }
-            memory.putStringArrayList(key, stringList);
-        } else if (valueType.equals(TYPE_ENUM)) {
-            try {
-                String enumType = json.getString(JSON_VALUE_ENUM_TYPE);
-                @SuppressWarnings({ "unchecked", "rawtypes" })
-                Class<? extends Enum> enumClass = (Class<? extends Enum>) Class.forName(enumType);
-                @SuppressWarnings("unchecked")
-                Enum<?> enumValue = Enum.valueOf(enumClass, json.getString(JSON_VALUE));
-                memory.putSerializable(key, enumValue);
-            } catch (ClassNotFoundException e) {
-                Logger.e("SharedPreferences.deserializeKey", "Error deserializing key '" + key + "' -- " + e);
-            } catch (IllegalArgumentException e) {
-                Logger.e("SharedPreferences.deserializeKey", "Error deserializing key '" + key + "' -- " + e);
-            }
+    /**
+     * 지원하는 type의 값만 map에 넣는다. list는 이후의 변경이 반영되지 않도록 복사한다.
+     * @return 저장할 수 있는 type이면 true
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean putValue(Map<String, Object> values, String key, Object value) {
+        if (value instanceof List<?>) {
+            values.put(key, new ArrayList<String>((List<String>) value));
+            return true;
+        }
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer
+            || value instanceof Long || value instanceof Float || value instanceof Double
+            || value instanceof Boolean || value instanceof Character || value instanceof String
+            || value instanceof Enum<?> || value instanceof byte[] || value instanceof short[]
+            || value instanceof int[] || value instanceof long[] || value instanceof float[]
+            || value instanceof double[] || value instanceof boolean[] || value instanceof char[]) {
+            values.put(key, value);
+            return true;
         }
+        return false;
     }
 }
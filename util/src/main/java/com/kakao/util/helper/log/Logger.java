@@ -33,6 +33,12 @@ public class Logger {
     private static boolean withStack = false;
     private static final int LOG_SEGMENT_SIZE = 2000;
 
+    /**
+     * DEV, VERBOSE, DEBUG level의 log를 출력할지 여부. -PstripDebugLogs=true로 build하면 false가 된다.
+     * compile 시 상수이므로 {@code if (Logger.DEBUG_LOGS_ENABLED && ...)}로 감싼 log 호출은 class 파일에서 빠진다.
+     */
+    public static final boolean DEBUG_LOGS_ENABLED = !BuildConfig.STRIP_DEBUG_LOGS;
+
     private static LoggerConfig initLogConfig() {
         boolean showLogs = BuildConfig.SHOW_LOGS;
 
@@ -53,17 +59,24 @@ public class Logger {
         return builder.build();
     }
 
+    /**
+     * 해당 level의 log가 출력되는지 확인한다. message를 만드는 비용이 큰 경우 이 값을 먼저 확인한 뒤에 만든다.
+     * @param logLevel {@link LoggerConfig}의 log level
+     * @return 출력되면 true
+     */
+    public static boolean isLoggable(int logLevel) {
+        if (!DEBUG_LOGS_ENABLED && logLevel < LoggerConfig.INFO) {
+            return false;
+        }
+        return loggerConfig.isPrintLoggable(logLevel);
+    }
+
     private static int printLog(Tag tag, int logLevel, String msg) {
-        if (msg == null) {
+        if (msg == null || !isLoggable(logLevel)) {
             return 0;
         }
+        // stack trace를 찾는 비용이 크므로 출력할 때만 message를 만든다.
         String message = loggerConfig.getMessage(withStack, msg);
-        if (!loggerConfig.isPrintLoggable(logLevel)) {
-            return 0;
-        }
-        if (message == null) {
-            message = loggerConfig.getMessage(withStack, msg);
-        }
         if (message == null) {
             return 0;
         }
@@ -132,7 +145,7 @@ public class Logger {
 
     public static String getCallerTraceInfo(@SuppressWarnings("rawtypes")
     Class klass) {
-        if (!loggerConfig.isPrintLoggable(LoggerConfig.DEBUG)) {
+        if (!isLoggable(LoggerConfig.DEBUG)) {
             return "unknown caller";
         }
         StackTraceElement[] stacks = Thread.currentThread().getStackTrace();
@@ -167,15 +180,21 @@ public class Logger {
     }
 
     public static int vt(Tag tag, Throwable tr) {
+        if (!isLoggable(LoggerConfig.VERBOSE)) {
+            return 0;
+        }
         return vt(tag, getStackTraceString(tr));
     }
 
     public static int vt(Tag tag, String msg, Throwable tr) {
+        if (!isLoggable(LoggerConfig.VERBOSE)) {
+            return 0;
+        }
         return vt(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int vt(Tag tag, String format, Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.VERBOSE)) {
+        if (isLoggable(LoggerConfig.VERBOSE)) {
             String message = null;
             if (args != null && args.length > 0) {
                 message = String.format(format, args);
@@ -206,15 +225,21 @@ public class Logger {
     }
 
     public static int dt(Tag tag, Throwable tr) {
+        if (!isLoggable(LoggerConfig.DEBUG)) {
+            return 0;
+        }
         return dt(tag, getStackTraceString(tr));
     }
 
     public static int dt(Tag tag, String msg, Throwable tr) {
+        if (!isLoggable(LoggerConfig.DEBUG)) {
+            return 0;
+        }
         return dt(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int dt(Tag tag, String format, Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.DEBUG)) {
+        if (isLoggable(LoggerConfig.DEBUG)) {
             String message = null;
             if (args != null && args.length > 0) {
                 message = String.format(format, args);
@@ -248,15 +273,21 @@ public class Logger {
     }
 
     public static int it(Tag tag, Throwable tr) {
+        if (!isLoggable(LoggerConfig.INFO)) {
+            return 0;
+        }
         return it(tag, getStackTraceString(tr));
     }
 
     public static int it(Tag tag, String msg, Throwable tr) {
+        if (!isLoggable(LoggerConfig.INFO)) {
+            return 0;
+        }
         return it(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int it(Tag tag, String format, Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.INFO)) {
+        if (isLoggable(LoggerConfig.INFO)) {
             String message = null;
             if (args != null && args.length > 0) {
                 message = String.format(format, args);
@@ -286,16 +317,27 @@ public class Logger {
     }
 
     public static int wt(Tag tag, Throwable tr) {
+        if (!isLoggable(LoggerConfig.WARN)) {
+            return 0;
+        }
         return wt(tag, getStackTraceString(tr));
     }
 
     public static int wt(Tag tag, String msg, Throwable tr) {
+        if (!isLoggable(LoggerConfig.WARN)) {
+            return 0;
+        }
         return wt(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int wt(Tag tag, String format, Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.WARN)) {
-            String message = String.format(format, args);
+        if (isLoggable(LoggerConfig.WARN)) {
+            String message = null;
+            if (args != null && args.length > 0) {
+                message = String.format(format, args);
+            } else {
+                message = format;
+            }
             return printLog(tag, LoggerConfig.WARN, message);
         } else {
             return 0;
@@ -323,15 +365,21 @@ public class Logger {
     }
 
     public static int et(Tag tag, Throwable tr) {
+        if (!isLoggable(LoggerConfig.ERROR)) {
+            return 0;
+        }
         return et(tag, getStackTraceString(tr));
     }
 
     public static int et(Tag tag, String msg, Throwable tr) {
+        if (!isLoggable(LoggerConfig.ERROR)) {
+            return 0;
+        }
         return et(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int et(Tag tag, String format, Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.ERROR)) {
+        if (isLoggable(LoggerConfig.ERROR)) {
             String message = null;
             if (args != null && args.length > 0) {
                 message = String.format(format, args);
@@ -365,15 +413,21 @@ public class Logger {
     }
 
     public static int devt(Tag tag, Throwable tr) {
+        if (!isLoggable(LoggerConfig.DEV)) {
+            return 0;
+        }
         return devt(tag, getStackTraceString(tr));
     }
 
     public static int devt(Tag tag, String msg, Throwable tr) {
+        if (!isLoggable(LoggerConfig.DEV)) {
+            return 0;
+        }
         return devt(tag, "%s\n%s", msg, getStackTraceString(tr));
     }
 
     private static int devt(Tag tag, String format, Object... args) {
-        if (loggerConfig.isPrintLoggable(LoggerConfig.DEV)) {
+        if (isLoggable(LoggerConfig.DEV)) {
             String message = null;
             if (args != null && args.length > 0) {
                 message = String.format(format, args);
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 증가만 하는 counter. lock 없이 기록한다.
+ */
+public final class Counter {
+    private final AtomicLong count = new AtomicLong();
+
+    Counter() {
+    }
+
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    /**
+     * @param delta 더할 값
+     */
+    public void add(long delta) {
+        count.addAndGet(delta);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    void reset() {
+        count.set(0);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper.metrics;
+
+import com.kakao.util.helper.log.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * SDK 내부의 counter, gauge, histogram을 이름으로 관리한다.
+ * 기록하는 쪽은 lock을 잡지 않으므로 release build에서도 켜둘 수 있으며,
+ * {@link #snapshot()}으로 현재 값을 모아 서버로 보낼 수 있다.
+ * 시간은 nanosecond 단위로 기록하며 이름은 "_ns"로 끝난다.
+ */
+public final class MetricsRegistry {
+    private static final MetricsRegistry instance = new MetricsRegistry();
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<String, Counter>();
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<String, Histogram>();
+    private final ConcurrentMap<String, IGauge> gauges = new ConcurrentHashMap<String, IGauge>();
+
+    public static MetricsRegistry getInstance() {
+        return instance;
+    }
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * 이름에 해당하는 counter를 반환한다. 없으면 만든다.
+     * 기록할 때마다 찾지 않도록 반환된 counter를 보관해두고 사용한다.
+     * @param name counter 이름
+     * @return counter
+     */
+    public Counter counter(final String name) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            Counter created = new Counter();
+            counter = counters.putIfAbsent(name, created);
+            if (counter == null) {
+                counter = created;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * 이름에 해당하는 histogram을 반환한다. 없으면 만든다.
+     * 기록할 때마다 찾지 않도록 반환된 histogram을 보관해두고 사용한다.
+     * @param name histogram 이름
+     * @return histogram
+     */
+    public Histogram histogram(final String name) {
+        Histogram histogram = histograms.get(name);
+        if (histogram == null) {
+            Histogram created = new Histogram();
+            histogram = histograms.putIfAbsent(name, created);
+            if (histogram == null) {
+                histogram = created;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * gauge를 등록한다. 같은 이름의 gauge가 있으면 교체한다.
+     * @param name gauge 이름
+     * @param gauge snapshot을 만들 때 값을 읽을 gauge
+     */
+    public void registerGauge(final String name, final IGauge gauge) {
+        if (gauge == null) {
+            throw new IllegalArgumentException("gauge may not be null");
+        }
+        gauges.put(name, gauge);
+    }
+
+    public void removeGauge(final String name) {
+        gauges.remove(name);
+    }
+
+    /**
+     * 등록된 모든 값을 모은다. 기록 중인 값과 동시에 읽으므로 값들 사이에 약간의 오차가 있을 수 있다.
+     * @return 현재 값
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new TreeMap<String, Long>();
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            counterValues.put(entry.getKey(), entry.getValue().getCount());
+        }
+
+        Map<String, Long> gaugeValues = new TreeMap<String, Long>();
+        for (Map.Entry<String, IGauge> entry : gauges.entrySet()) {
+            try {
+                gaugeValues.put(entry.getKey(), entry.getValue().getValue());
+            } catch (RuntimeException e) {
+                Logger.w("MetricsRegistry : cannot read gauge " + entry.getKey() + ", e = " + e);
+            }
+        }
+
+        Map<String, HistogramSnapshot> histogramValues = new TreeMap<String, HistogramSnapshot>();
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            histogramValues.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return new MetricsSnapshot(System.currentTimeMillis(), counterValues, gaugeValues, histogramValues);
+    }
+
+    /**
+     * counter와 histogram을 0으로 되돌린다. 보관해둔 counter와 histogram은 계속 사용할 수 있다.
+     * 주기적으로 서버에 보낸 뒤 구간별 값을 모을 때 사용한다.
+     */
+    public void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2014 Daum Kakao Corp.
+ *
+ * Redistribution and modification in source or binary forms are not permitted without specific prior written permission. 
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.kakao.util.helper.metrics;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@link MetricsRegistry}에 등록된 모든 값의 특정 시점 값. 서버로 보낼 때는 {@link #toJSONObject()}를 사용한다.
+ */
+public final class MetricsSnapshot {
+    private final long timestamp;
+    private final Map<String, Long> counters;
+    private final Map<String, Long> gauges;
+    private final Map<String, HistogramSnapshot> histograms;
+
+    MetricsSnapshot(long timestamp, Map<String, Long> counters, Map<String, Long> gauges, Map<String, HistogramSnapshot> histograms) {
+        this.timestamp = timestamp;
+        this.counters = Collections.unmodifiableMap(counters);
+        this.gauges = Collections.unmodifiableMap(gauges);
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * @return snapshot을 만든 시각 (ms)
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public Map<String, Long> getGauges() {
+        return gauges;
+    }
+
+    public Map<String, HistogramSnapshot> getHistograms() {
+        return histograms;
+    }
+
+    public JSONObject toJSONObject() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("timestamp", timestamp);
+        json.put("counters", new JSONObject(counters));
+        json.put("gauges", new JSONObject(gauges));
+        JSONObject histogramJson = new JSONObject();
+        for (Map.Entry<String, HistogramSnapshot> entry : histograms.entrySet()) {
+            histogramJson.put(entry.getKey(), entry.getValue().toJSONObject());
+        }
+        json.put("histograms", histogramJson);
+        return json;
+    }
+}